@@ -185,7 +185,11 @@ for u in [""] + [t[0] for t in types]:
                     (line for line in method if line.startswith("    .signature ")), ""
                 )
                 if u:
-                    sig = sig.replace("<T:", "<U:").replace("TT;", "TU;")
+                    sig = (
+                        sig.replace("<T:", "<U:")
+                        .replace(";T:", ";U:")
+                        .replace("TT;", "TU;")
+                    )
                 elif not ("(TT;" in sig or ";TT;" in sig or ")TT;" in sig):
                     # Method doesn't need to be bridged
                     method = None
@@ -248,6 +252,7 @@ with open(join(*([srcpath] + cls.split("."))) + ".java", "r") as f:
 
 # Add bridge methods
 bridges = []
+emitted = set()
 for origdecl, origsig in methods:
     aidx = origdecl.find(" : (") + 4
     ridx = origdecl.rfind(")")
@@ -359,6 +364,12 @@ for origdecl, origsig in methods:
             if "<" not in sig:
                 sig = ""
 
+        # Specialized interfaces may declare identical methods (e.g.
+        # narrowToShort on both IntOption and LongOption); one impl serves all
+        if decl in emitted:
+            continue
+        emitted.add(decl)
+
         method = ["", decl]
         while True:
             argc = len(declarglist)
@@ -404,6 +415,29 @@ for origdecl, origsig in methods:
                         "    .end code ",
                     ]
                     break
+                elif declname.endswith("Iterator"):
+                    method += [
+                        "    .code stack 1 locals 1 ",
+                        "L0:     invokestatic Method me/dkleszyk/java/option/OptionIterators empty"
+                        + declname[0].upper()
+                        + declname[1:]
+                        + " ()"
+                        + declret
+                        + " ",
+                        "L3:     areturn ",
+                        "L4:     ",
+                        "        .linenumbertable ",
+                        "            L0 " + lineno + " ",
+                        "        .end linenumbertable ",
+                        "        .localvariabletable ",
+                        "            0 is this Lme/dkleszyk/java/option/None; from L0 to L4 ",
+                        "        .end localvariabletable ",
+                        "        .localvariabletypetable ",
+                        "            0 is this Lme/dkleszyk/java/option/None<TT;>; from L0 to L4 ",
+                        "        .end localvariabletypetable ",
+                        "    .end code ",
+                    ]
+                    break
                 elif declname.endswith("Stream"):
                     ret = declret[1:-1]
                     method += [
@@ -427,7 +461,11 @@ for origdecl, origsig in methods:
                         "    .end code ",
                     ]
                     break
-                elif declname == "filterToObject":
+                elif (
+                    declname == "filterToObject"
+                    or declname.startswith("narrowTo")
+                    or declname in ("log", "sqrt")
+                ):
                     ret = declret[1:-1]
                     method += [
                         "    .code stack 1 locals 1 ",
@@ -643,6 +681,36 @@ for origdecl, origsig in methods:
                         "    .end code ",
                     ]
                     break
+                elif argc == 3:
+                    method += [
+                        "    .code stack 3 locals 4 ",
+                        "L0:     aload_1 ",
+                        "L1:     aload_2 ",
+                        "L2:     aload_3 ",
+                        "L3:     invokeinterface InterfaceMethod java/util/function/BiFunction apply (Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object; 3 ",
+                        "L8:     checkcast " + bridgedtype[1:-1] + " ",
+                        "L11:    areturn ",
+                        "L12:    ",
+                        "        .linenumbertable ",
+                        "            L0 " + lineno + " ",
+                        "        .end linenumbertable ",
+                        "        .localvariabletable ",
+                        "            0 is this Lme/dkleszyk/java/option/None; from L0 to L12 ",
+                        "            1 is supplier Ljava/util/function/BiFunction; from L0 to L12 ",
+                        "            2 is arg1 Ljava/lang/Object; from L0 to L12 ",
+                        "            3 is arg2 Ljava/lang/Object; from L0 to L12 ",
+                        "        .end localvariabletable ",
+                        "        .localvariabletypetable ",
+                        "            0 is this Lme/dkleszyk/java/option/None<TT;>; from L0 to L12 ",
+                        "            1 is supplier Ljava/util/function/BiFunction<-TA;-TB;+"
+                        + bridgedtype
+                        + ">; from L0 to L12 ",
+                        "            2 is arg1 TA; from L0 to L12 ",
+                        "            3 is arg2 TB; from L0 to L12 ",
+                        "        .end localvariabletypetable ",
+                        "    .end code ",
+                    ]
+                    break
             elif declname == "filter":
                 if argc == 1:
                     ret = declret[1:-1]
@@ -694,6 +762,32 @@ for origdecl, origsig in methods:
                         "    .end code ",
                     ]
                     break
+                elif argc == 3:
+                    pred = declarglist[0][1:-1]
+                    ret = declret[1:-1]
+                    method += [
+                        "    .code stack 1 locals 4 ",
+                        "L0:     invokestatic Method me/dkleszyk/java/option/Options noneUnchecked ()Lme/dkleszyk/java/option/Option; ",
+                        "L3:     checkcast " + ret + " ",
+                        "L6:     areturn ",
+                        "L7:     ",
+                        "        .linenumbertable ",
+                        "            L0 " + lineno + " ",
+                        "        .end linenumbertable ",
+                        "        .localvariabletable ",
+                        "            0 is this Lme/dkleszyk/java/option/None; from L0 to L7 ",
+                        "            1 is predicate L" + pred + "; from L0 to L7 ",
+                        "            2 is arg1 Ljava/lang/Object; from L0 to L7 ",
+                        "            3 is arg2 Ljava/lang/Object; from L0 to L7 ",
+                        "        .end localvariabletable ",
+                        "        .localvariabletypetable ",
+                        "            0 is this Lme/dkleszyk/java/option/None<TT;>; from L0 to L7 ",
+                        "            2 is arg1 TA; from L0 to L7 ",
+                        "            3 is arg2 TB; from L0 to L7 ",
+                        "        .end localvariabletypetable ",
+                        "    .end code ",
+                    ]
+                    break
             elif declname.startswith("filter"):
                 if argc == 1:
                     pred = declarglist[0][1:-1]
@@ -717,6 +811,33 @@ for origdecl, origsig in methods:
                         "    .end code ",
                     ]
                     break
+                elif argc == 3:
+                    pred = declarglist[0][1:-1]
+                    ret = declret[1:-1]
+                    method += [
+                        "    .code stack 1 locals 4 ",
+                        "L0:     invokestatic Method me/dkleszyk/java/option/Options noneUnchecked ()Lme/dkleszyk/java/option/Option; ",
+                        "L3:     checkcast " + ret + " ",
+                        "L6:     areturn ",
+                        "L7:     ",
+                        "        .linenumbertable ",
+                        "            L0 " + lineno + " ",
+                        "        .end linenumbertable ",
+                        "        .localvariabletable ",
+                        "            0 is this Lme/dkleszyk/java/option/None; from L0 to L7 ",
+                        "            1 is predicate L" + pred + "; from L0 to L7 ",
+                        "            2 is arg1 Ljava/lang/Object; from L0 to L7 ",
+                        "            3 is arg2 Ljava/lang/Object; from L0 to L7 ",
+                        "        .end localvariabletable ",
+                        "        .localvariabletypetable ",
+                        "            0 is this Lme/dkleszyk/java/option/None<TT;>; from L0 to L7 ",
+                        "            1 is predicate L" + pred + "<-TA;-TB;>; from L0 to L7 ",
+                        "            2 is arg1 TA; from L0 to L7 ",
+                        "            3 is arg2 TB; from L0 to L7 ",
+                        "        .end localvariabletypetable ",
+                        "    .end code ",
+                    ]
+                    break
             elif declname.startswith("matches"):
                 if argc == 1:
                     pred = declarglist[0][1:-1]
@@ -1155,6 +1276,33 @@ for origdecl, origsig in methods:
                             "    .end code ",
                         ]
                         break
+                    elif argc == 3:
+                        map = declarglist[0][1:-1]
+                        ret = declret[1:-1]
+                        method += [
+                            "    .code stack 1 locals 4 ",
+                            "L0:     invokestatic Method me/dkleszyk/java/option/Options noneUnchecked ()Lme/dkleszyk/java/option/Option; ",
+                            "L3:     checkcast " + ret + " ",
+                            "L6:     areturn ",
+                            "L7:     ",
+                            "        .linenumbertable ",
+                            "            L0 " + lineno + " ",
+                            "        .end linenumbertable ",
+                            "        .localvariabletable ",
+                            "            0 is this Lme/dkleszyk/java/option/None; from L0 to L7 ",
+                            "            1 is mapper L" + map + "; from L0 to L7 ",
+                            "            2 is arg1 Ljava/lang/Object; from L0 to L7 ",
+                            "            3 is arg2 Ljava/lang/Object; from L0 to L7 ",
+                            "        .end localvariabletable ",
+                            "        .localvariabletypetable ",
+                            "            0 is this Lme/dkleszyk/java/option/None<TT;>; from L0 to L7 ",
+                            "            1 is mapper L" + map + "<-TA;-TB;>; from L0 to L7 ",
+                            "            2 is arg1 TA; from L0 to L7 ",
+                            "            3 is arg2 TB; from L0 to L7 ",
+                            "        .end localvariabletypetable ",
+                            "    .end code ",
+                        ]
+                        break
                 elif argc == 1:
                     map = declarglist[0][1:-1]
                     method += [
@@ -1176,6 +1324,31 @@ for origdecl, origsig in methods:
                         "    .end code ",
                     ]
                     break
+                elif argc == 3:
+                    map = declarglist[0][1:-1]
+                    method += [
+                        "    .code stack 1 locals 4 ",
+                        "L0:     invokestatic Method me/dkleszyk/java/option/Options noneUnchecked ()Lme/dkleszyk/java/option/Option; ",
+                        "L3:     areturn ",
+                        "L4:     ",
+                        "        .linenumbertable ",
+                        "            L0 " + lineno + " ",
+                        "        .end linenumbertable ",
+                        "        .localvariabletable ",
+                        "            0 is this Lme/dkleszyk/java/option/None; from L0 to L4 ",
+                        "            1 is mapper L" + map + "; from L0 to L4 ",
+                        "            2 is arg1 Ljava/lang/Object; from L0 to L4 ",
+                        "            3 is arg2 Ljava/lang/Object; from L0 to L4 ",
+                        "        .end localvariabletable ",
+                        "        .localvariabletypetable ",
+                        "            0 is this Lme/dkleszyk/java/option/None<TT;>; from L0 to L4 ",
+                        "            1 is mapper L" + map + "<-TA;-TB;+TU;>; from L0 to L4 ",
+                        "            2 is arg1 TA; from L0 to L4 ",
+                        "            3 is arg2 TB; from L0 to L4 ",
+                        "        .end localvariabletypetable ",
+                        "    .end code ",
+                    ]
+                    break
             elif declname.startswith("flatMap"):
                 if argc == 1:
                     map = declarglist[0][1:-1]
@@ -1200,6 +1373,85 @@ for origdecl, origsig in methods:
                         "    .end code ",
                     ]
                     break
+            elif declname in ("addExact", "floorDiv", "multiplyExact", "subtractExact"):
+                if argc == 1:
+                    c = declarglist[0]
+                    ret = declret[1:-1]
+                    method += (
+                        ["    .code stack 1 locals 3 "]
+                        if c == "D" or c == "J"
+                        else ["    .code stack 1 locals 2 "]
+                    )
+                    method += [
+                        "L0:     invokestatic Method me/dkleszyk/java/option/Options noneUnchecked ()Lme/dkleszyk/java/option/Option; ",
+                        "L3:     checkcast " + ret + " ",
+                        "L6:     areturn ",
+                        "L7:     ",
+                        "        .linenumbertable ",
+                        "            L0 " + lineno + " ",
+                        "        .end linenumbertable ",
+                        "        .localvariabletable ",
+                        "            0 is this Lme/dkleszyk/java/option/None; from L0 to L7 ",
+                        "            1 is operand " + c + " from L0 to L7 ",
+                        "        .end localvariabletable ",
+                        "        .localvariabletypetable ",
+                        "            0 is this Lme/dkleszyk/java/option/None<TT;>; from L0 to L7 ",
+                        "        .end localvariabletypetable ",
+                        "    .end code ",
+                    ]
+                    break
+            elif declname.startswith("zip"):
+                if argc == 2:
+                    other = declarglist[0][1:-1]
+                    comb = declarglist[1][1:-1]
+                    ret = declret[1:-1]
+                    method += [
+                        "    .code stack 1 locals 3 ",
+                        "L0:     invokestatic Method me/dkleszyk/java/option/Options noneUnchecked ()Lme/dkleszyk/java/option/Option; ",
+                        "L3:     checkcast " + ret + " ",
+                        "L6:     areturn ",
+                        "L7:     ",
+                        "        .linenumbertable ",
+                        "            L0 " + lineno + " ",
+                        "        .end linenumbertable ",
+                        "        .localvariabletable ",
+                        "            0 is this Lme/dkleszyk/java/option/None; from L0 to L7 ",
+                        "            1 is other L" + other + "; from L0 to L7 ",
+                        "            2 is combiner L" + comb + "; from L0 to L7 ",
+                        "        .end localvariabletable ",
+                        "        .localvariabletypetable ",
+                        "            0 is this Lme/dkleszyk/java/option/None<TT;>; from L0 to L7 ",
+                        "        .end localvariabletypetable ",
+                        "    .end code ",
+                    ]
+                    break
+                elif argc == 3:
+                    other = declarglist[0][1:-1]
+                    comb = declarglist[1][1:-1]
+                    ret = declret[1:-1]
+                    method += [
+                        "    .code stack 1 locals 4 ",
+                        "L0:     invokestatic Method me/dkleszyk/java/option/Options noneUnchecked ()Lme/dkleszyk/java/option/Option; ",
+                        "L3:     checkcast " + ret + " ",
+                        "L6:     areturn ",
+                        "L7:     ",
+                        "        .linenumbertable ",
+                        "            L0 " + lineno + " ",
+                        "        .end linenumbertable ",
+                        "        .localvariabletable ",
+                        "            0 is this Lme/dkleszyk/java/option/None; from L0 to L7 ",
+                        "            1 is other L" + other + "; from L0 to L7 ",
+                        "            2 is combiner L" + comb + "; from L0 to L7 ",
+                        "            3 is arg Ljava/lang/Object; from L0 to L7 ",
+                        "        .end localvariabletable ",
+                        "        .localvariabletypetable ",
+                        "            0 is this Lme/dkleszyk/java/option/None<TT;>; from L0 to L7 ",
+                        "            2 is combiner L" + comb + "<-TA;>; from L0 to L7 ",
+                        "            3 is arg TA; from L0 to L7 ",
+                        "        .end localvariabletypetable ",
+                        "    .end code ",
+                    ]
+                    break
             raise NameError("\n".join((origdecl, origsig, decl, sig)))
         if sig:
             method.append(sig)
@@ -0,0 +1,266 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * A base class for options whose contents are supplied on first use.
+ * <p>
+ * The supplier is invoked at most once. Threads that use the option while it
+ * is being evaluated park until evaluation completes, rather than blocking on
+ * a monitor, so waiting does not pin the carrier threads of virtual threads.
+ * If the supplier throws, the same exception is thrown to every user of the
+ * option.
+ *
+ * @param <O> The type of the supplied option.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+abstract class AbstractLazyOption<O extends Option<?>>
+{
+    private static final int EVALUATED = 2;
+
+    private static final int EVALUATING = 1;
+
+    private static final int FAILED = 3;
+
+    private static final WaitNode RELEASED = new WaitNode(null);
+
+    private static final VarHandle STATE;
+
+    private static final int UNEVALUATED = 0;
+
+    private static final VarHandle WAITERS;
+
+    static
+    {
+        try
+        {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+            STATE = lookup.findVarHandle(
+                AbstractLazyOption.class,
+                "state",
+                int.class);
+            WAITERS = lookup.findVarHandle(
+                AbstractLazyOption.class,
+                "waiters",
+                WaitNode.class);
+        }
+        catch (final ReflectiveOperationException ex)
+        {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private Thread evaluatingThread;
+
+    /**
+     * The supplied option or the exception thrown by the supplier. Published
+     * by the write of {@link #state}.
+     */
+    private Object outcome;
+
+    private volatile int state;
+
+    private Supplier<? extends O> supplier;
+
+    private volatile WaitNode waiters;
+
+    AbstractLazyOption(
+        final Supplier<? extends O> supplier)
+    {
+        this.supplier = Objects.requireNonNull(supplier);
+    }
+
+    @Override
+    public final boolean equals(
+        final Object obj)
+    {
+        return obj == this ||
+            obj instanceof AbstractLazyOption<?> other &&
+            resolve().equals(other.resolve());
+    }
+
+    @Override
+    public final int hashCode()
+    {
+        return resolve().hashCode();
+    }
+
+    /**
+     * Returns whether the supplier has been invoked and has returned an option.
+     * This method does not cause evaluation.
+     *
+     * @return {@code true} if the option has been evaluated; otherwise,
+     *         {@code false}.
+     */
+    public final boolean isEvaluated()
+    {
+        return state == EVALUATED;
+    }
+
+    /**
+     * Returns the supplied option, invoking the supplier if this is the first
+     * use of the option.
+     *
+     * @return The supplied option.
+     */
+    @SuppressWarnings("unchecked")
+    final O resolve()
+    {
+        return state == EVALUATED ?
+            (O) outcome :
+            evaluateOrAwait();
+    }
+
+    private void await()
+    {
+        if (evaluatingThread == Thread.currentThread())
+        {
+            throw new IllegalStateException(
+                "Lazy option used during its own evaluation");
+        }
+
+        boolean interrupted = false;
+        boolean queued = false;
+        WaitNode node = null;
+
+        while (state == EVALUATING)
+        {
+            if (node == null)
+            {
+                node = new WaitNode(Thread.currentThread());
+            }
+            else if (!queued)
+            {
+                final WaitNode head = waiters;
+
+                if (head == RELEASED)
+                {
+                    break;
+                }
+
+                node.next = head;
+                queued = WAITERS.compareAndSet(this, head, node);
+            }
+            else
+            {
+                LockSupport.park(this);
+
+                // Waiting is not interruptible, but the interrupt status is
+                // preserved for the caller
+                interrupted |= Thread.interrupted();
+            }
+        }
+
+        if (interrupted)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void complete(
+        final Object result,
+        final int finalState)
+    {
+        outcome = result;
+        supplier = null;
+        evaluatingThread = null;
+        state = finalState;
+
+        WaitNode node = (WaitNode) WAITERS.getAndSet(this, RELEASED);
+
+        for (; node != null; node = node.next)
+        {
+            LockSupport.unpark(node.thread);
+        }
+    }
+
+    private O evaluateOrAwait()
+    {
+        if (STATE.compareAndSet(this, UNEVALUATED, EVALUATING))
+        {
+            evaluatingThread = Thread.currentThread();
+
+            try
+            {
+                complete(
+                    Objects.requireNonNull(supplier.get(), "Supplied option"),
+                    EVALUATED);
+            }
+            catch (final Throwable ex)
+            {
+                complete(ex, FAILED);
+            }
+        }
+        else
+        {
+            await();
+        }
+
+        return report();
+    }
+
+    @SuppressWarnings("unchecked")
+    private O report()
+    {
+        if (state == EVALUATED)
+        {
+            return (O) outcome;
+        }
+
+        if (outcome instanceof RuntimeException ex)
+        {
+            throw ex;
+        }
+
+        if (outcome instanceof Error err)
+        {
+            throw err;
+        }
+
+        throw new IllegalStateException(
+            "Lazy option evaluation failed",
+            (Throwable) outcome);
+    }
+
+    private static final class WaitNode
+    {
+        WaitNode next;
+
+        final Thread thread;
+
+        WaitNode(
+            final Thread thread)
+        {
+            this.thread = thread;
+        }
+    }
+}
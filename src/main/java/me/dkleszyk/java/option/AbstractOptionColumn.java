@@ -0,0 +1,237 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * A base class for option columns stored in a {@link ByteBuffer}, which may be
+ * direct or mapped from a file, so that the column lives outside the Java
+ * heap.
+ * <p>
+ * The layout of the buffer is documented by {@link IntOptionColumn}.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+abstract class AbstractOptionColumn
+{
+    static final int HEADER_BYTES = 16;
+
+    static final int MAGIC = 0x4354_504F;
+
+    static final int TYPE_DOUBLE = 3;
+
+    static final int TYPE_INT = 1;
+
+    static final int TYPE_LONG = 2;
+
+    final ByteBuffer buffer;
+
+    final int length;
+
+    final int valuesOffset;
+
+    AbstractOptionColumn(
+        final ByteBuffer buffer,
+        final int type,
+        final int valueBytes)
+    {
+        final ByteBuffer view = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        if (view.capacity() < HEADER_BYTES
+            || view.getInt(0) != MAGIC
+            || view.getInt(4) != type
+            || view.getInt(12) != 0)
+        {
+            throw new IllegalArgumentException("Not a column of this type");
+        }
+
+        final int length = view.getInt(8);
+        if (length < 0 || view.capacity() < sizeInBytes(length, valueBytes))
+        {
+            throw new IllegalArgumentException(
+                "Truncated column of length " + length);
+        }
+
+        this.buffer = view;
+        this.length = length;
+        this.valuesOffset = HEADER_BYTES + bitmapBytes(length);
+    }
+
+    /**
+     * Returns whether the specified position holds a value.
+     *
+     * @param index The position to examine.
+     *
+     * @return {@code true} if {@code index} holds a value; otherwise,
+     *         {@code false}.
+     *
+     * @throws IndexOutOfBoundsException {@code index} is negative or not less
+     *                                   than {@link #length()}.
+     */
+    public final boolean isSome(
+        final int index)
+    {
+        Objects.checkIndex(index, length);
+        return (buffer.get(HEADER_BYTES + (index >>> 3)) & (1 << (index & 7)))
+            != 0;
+    }
+
+    /**
+     * Returns the number of positions in this column.
+     *
+     * @return The number of positions in this column.
+     */
+    public final int length()
+    {
+        return length;
+    }
+
+    /**
+     * Makes the specified position empty. Its value bytes are left as they
+     * are.
+     *
+     * @param index The position to make empty.
+     *
+     * @throws IndexOutOfBoundsException        {@code index} is negative or
+     *                                          not less than
+     *                                          {@link #length()}.
+     * @throws java.nio.ReadOnlyBufferException The column is read-only.
+     */
+    public final void setNone(
+        final int index)
+    {
+        Objects.checkIndex(index, length);
+        final int offset = HEADER_BYTES + (index >>> 3);
+        buffer.put(offset, (byte) (buffer.get(offset) & ~(1 << (index & 7))));
+    }
+
+    static ByteBuffer allocateBuffer(
+        final int type,
+        final int length,
+        final int valueBytes)
+    {
+        return format(
+            ByteBuffer.allocateDirect(sizeInBytes(length, valueBytes)),
+            type,
+            length);
+    }
+
+    static ByteBuffer createBuffer(
+        final Path path,
+        final int type,
+        final int length,
+        final int valueBytes)
+        throws IOException
+    {
+        final int size = sizeInBytes(length, valueBytes);
+        try (final FileChannel channel = FileChannel.open(
+            path,
+            StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE))
+        {
+            // The mapping remains valid after the channel is closed
+            return format(
+                channel.map(FileChannel.MapMode.READ_WRITE, 0, size),
+                type,
+                length);
+        }
+    }
+
+    static ByteBuffer mapBuffer(
+        final Path path)
+        throws IOException
+    {
+        try (final FileChannel channel = FileChannel.open(path))
+        {
+            return channel.map(
+                FileChannel.MapMode.READ_ONLY,
+                0,
+                channel.size());
+        }
+    }
+
+    final int checkedValueOffset(
+        final int index,
+        final int valueBytes)
+    {
+        Objects.checkIndex(index, length);
+        return valuesOffset + index * valueBytes;
+    }
+
+    final void setSome(
+        final int index)
+    {
+        final int offset = HEADER_BYTES + (index >>> 3);
+        buffer.put(offset, (byte) (buffer.get(offset) | (1 << (index & 7))));
+    }
+
+    private static int bitmapBytes(
+        final int length)
+    {
+        return (int) (((length + 63L) >>> 6) << 3);
+    }
+
+    private static ByteBuffer format(
+        final ByteBuffer buffer,
+        final int type,
+        final int length)
+    {
+        // Fresh direct and mapped buffers are zero-filled, so every position
+        // starts out empty
+        buffer.order(ByteOrder.LITTLE_ENDIAN)
+            .putInt(0, MAGIC)
+            .putInt(4, type)
+            .putInt(8, length)
+            .putInt(12, 0);
+        return buffer;
+    }
+
+    private static int sizeInBytes(
+        final int length,
+        final int valueBytes)
+    {
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+
+        final long size = HEADER_BYTES
+            + (((length + 63L) >>> 6) << 3)
+            + (long) length * valueBytes;
+        if (size > Integer.MAX_VALUE)
+        {
+            throw new IllegalArgumentException(
+                "Column of length " + length + " exceeds 2 GiB");
+        }
+
+        return (int) size;
+    }
+}
@@ -0,0 +1,670 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import static me.dkleszyk.java.option.Options.noneUnchecked;
+import static me.dkleszyk.java.option.Options.someNonNull;
+import static me.dkleszyk.java.option.Options.someNull;
+
+/**
+ * A column of options in the memory layout of an Apache Arrow array, so that
+ * it can be handed to Arrow-based tools without a dependency on Arrow.
+ * <p>
+ * The buffers are those of the corresponding Arrow layout, in Arrow's order:
+ * <ul>
+ * <li>for {@code int}, {@code long} and {@code double} values, a validity
+ * bitmap and a buffer of 4- or 8-byte little-endian values;</li>
+ * <li>for {@code boolean} values, a validity bitmap and a value bitmap;</li>
+ * <li>for strings, a validity bitmap, a buffer of {@code length + 1}
+ * little-endian {@code int} offsets, and a buffer of UTF-8 bytes.</li>
+ * </ul>
+ * Bitmaps are least significant bit first. The buffers created by the
+ * {@code from} methods are direct, 64-byte aligned and padded to a multiple
+ * of 64 bytes, as Arrow recommends.
+ * <p>
+ * An empty option is an invalid (null) Arrow element. Arrow cannot represent
+ * an option that contains {@code null}, so such an option is also written as
+ * invalid, and is additionally recorded in a separate bitmap, returned by
+ * {@link #someNullBitmap()}, from which the {@code to} methods restore it.
+ * Vectors of primitive values, which cannot contain {@code null}, have no
+ * such bitmap.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class ArrowOptionVector
+{
+    private static final int ALIGNMENT = 64;
+
+    private final ByteBuffer[] buffers;
+
+    private final int length;
+
+    private final int nullCount;
+
+    private final ByteBuffer someNulls;
+
+    private ArrowOptionVector(
+        final int length,
+        final int nullCount,
+        final ByteBuffer someNulls,
+        final ByteBuffer... buffers)
+    {
+        this.length = length;
+        this.nullCount = nullCount;
+        this.someNulls = someNulls;
+        this.buffers = buffers;
+    }
+
+    /**
+     * Creates a vector in the layout of an Arrow {@code Bool} array from the
+     * specified options.
+     *
+     * @param options The options to convert.
+     *
+     * @return The new vector.
+     *
+     * @throws NullPointerException {@code options} or any of its elements is
+     *                              {@code null}.
+     */
+    public static ArrowOptionVector fromBooleans(
+        final BooleanOption[] options)
+    {
+        final int length = options.length;
+        final ByteBuffer validity = allocate(bitmapBytes(length));
+        final ByteBuffer values = allocate(bitmapBytes(length));
+        int nullCount = 0;
+        long validWord = 0;
+        long valueWord = 0;
+
+        for (int i = 0; i < length; i++)
+        {
+            final BooleanOption option = options[i];
+
+            if (option.isSome())
+            {
+                validWord |= 1L << i;
+
+                if (option.getAsBoolean())
+                {
+                    valueWord |= 1L << i;
+                }
+            }
+            else
+            {
+                nullCount++;
+            }
+
+            if ((i & 63) == 63 || i == length - 1)
+            {
+                validity.putLong((i >>> 6) << 3, validWord);
+                values.putLong((i >>> 6) << 3, valueWord);
+                validWord = 0;
+                valueWord = 0;
+            }
+        }
+
+        return new ArrowOptionVector(
+            length,
+            nullCount,
+            null,
+            validity,
+            values);
+    }
+
+    /**
+     * Creates a vector in the layout of an Arrow {@code FloatingPoint(DOUBLE)}
+     * array from the specified options.
+     *
+     * @param options The options to convert.
+     *
+     * @return The new vector.
+     *
+     * @throws NullPointerException {@code options} or any of its elements is
+     *                              {@code null}.
+     */
+    public static ArrowOptionVector fromDoubles(
+        final DoubleOption[] options)
+    {
+        final int length = options.length;
+        final ByteBuffer validity = allocate(bitmapBytes(length));
+        final ByteBuffer values = allocate((long) length * Double.BYTES);
+        int nullCount = 0;
+        long word = 0;
+
+        for (int i = 0; i < length; i++)
+        {
+            final DoubleOption option = options[i];
+
+            if (option.isSome())
+            {
+                word |= 1L << i;
+                values.putDouble(i << 3, option.getAsDouble());
+            }
+            else
+            {
+                nullCount++;
+            }
+
+            if ((i & 63) == 63 || i == length - 1)
+            {
+                validity.putLong((i >>> 6) << 3, word);
+                word = 0;
+            }
+        }
+
+        return new ArrowOptionVector(
+            length,
+            nullCount,
+            null,
+            validity,
+            values);
+    }
+
+    /**
+     * Creates a vector in the layout of an Arrow {@code Int(32, true)} array
+     * from the specified options.
+     *
+     * @param options The options to convert.
+     *
+     * @return The new vector.
+     *
+     * @throws NullPointerException {@code options} or any of its elements is
+     *                              {@code null}.
+     */
+    public static ArrowOptionVector fromInts(
+        final IntOption[] options)
+    {
+        final int length = options.length;
+        final ByteBuffer validity = allocate(bitmapBytes(length));
+        final ByteBuffer values = allocate((long) length * Integer.BYTES);
+        int nullCount = 0;
+        long word = 0;
+
+        for (int i = 0; i < length; i++)
+        {
+            final IntOption option = options[i];
+
+            if (option.isSome())
+            {
+                word |= 1L << i;
+                values.putInt(i << 2, option.getAsInt());
+            }
+            else
+            {
+                nullCount++;
+            }
+
+            if ((i & 63) == 63 || i == length - 1)
+            {
+                validity.putLong((i >>> 6) << 3, word);
+                word = 0;
+            }
+        }
+
+        return new ArrowOptionVector(
+            length,
+            nullCount,
+            null,
+            validity,
+            values);
+    }
+
+    /**
+     * Creates a vector in the layout of an Arrow {@code Int(64, true)} array
+     * from the specified options.
+     *
+     * @param options The options to convert.
+     *
+     * @return The new vector.
+     *
+     * @throws NullPointerException {@code options} or any of its elements is
+     *                              {@code null}.
+     */
+    public static ArrowOptionVector fromLongs(
+        final LongOption[] options)
+    {
+        final int length = options.length;
+        final ByteBuffer validity = allocate(bitmapBytes(length));
+        final ByteBuffer values = allocate((long) length * Long.BYTES);
+        int nullCount = 0;
+        long word = 0;
+
+        for (int i = 0; i < length; i++)
+        {
+            final LongOption option = options[i];
+
+            if (option.isSome())
+            {
+                word |= 1L << i;
+                values.putLong(i << 3, option.getAsLong());
+            }
+            else
+            {
+                nullCount++;
+            }
+
+            if ((i & 63) == 63 || i == length - 1)
+            {
+                validity.putLong((i >>> 6) << 3, word);
+                word = 0;
+            }
+        }
+
+        return new ArrowOptionVector(
+            length,
+            nullCount,
+            null,
+            validity,
+            values);
+    }
+
+    /**
+     * Creates a vector in the layout of an Arrow {@code Utf8} array from the
+     * specified options.
+     *
+     * @param options The options to convert.
+     *
+     * @return The new vector.
+     *
+     * @throws NullPointerException     {@code options} or any of its elements
+     *                                  is {@code null}.
+     * @throws IllegalArgumentException The encoded strings exceed 2 GiB.
+     */
+    public static ArrowOptionVector fromStrings(
+        final Option<String>[] options)
+    {
+        final int length = options.length;
+        final byte[][] encoded = new byte[length][];
+        long dataBytes = 0;
+
+        for (int i = 0; i < length; i++)
+        {
+            final String value = options[i].orElse(null);
+
+            if (value != null)
+            {
+                encoded[i] = value.getBytes(StandardCharsets.UTF_8);
+                dataBytes += encoded[i].length;
+            }
+        }
+
+        final ByteBuffer validity = allocate(bitmapBytes(length));
+        final ByteBuffer someNulls = allocate(bitmapBytes(length));
+        final ByteBuffer offsets =
+            allocate((length + 1L) * Integer.BYTES);
+        final ByteBuffer data = allocate(dataBytes);
+        int nullCount = 0;
+        int offset = 0;
+
+        for (int i = 0; i < length; i++)
+        {
+            offsets.putInt(i << 2, offset);
+
+            if (encoded[i] != null)
+            {
+                setBit(validity, i);
+                data.put(offset, encoded[i]);
+                offset += encoded[i].length;
+            }
+            else
+            {
+                nullCount++;
+
+                if (options[i].isSome())
+                {
+                    setBit(someNulls, i);
+                }
+            }
+        }
+
+        offsets.putInt(length << 2, offset);
+
+        return new ArrowOptionVector(
+            length,
+            nullCount,
+            someNulls,
+            validity,
+            offsets,
+            data);
+    }
+
+    /**
+     * Returns a vector backed by the specified Arrow buffers, such as those
+     * exported by an Arrow implementation. The buffers are not copied, and
+     * must remain unchanged while the vector is in use.
+     *
+     * @param length    The number of elements in the vector.
+     * @param nullCount The number of invalid elements in the vector.
+     * @param someNulls A bitmap in which the bits of the invalid elements
+     *                  that represent options containing {@code null} are
+     *                  set, or {@code null} if there are none.
+     * @param buffers   The Arrow buffers of the vector, in Arrow's order.
+     *
+     * @return A vector backed by {@code buffers}.
+     *
+     * @throws NullPointerException     {@code buffers} or any of its elements
+     *                                  is {@code null}.
+     * @throws IllegalArgumentException {@code length} or {@code nullCount} is
+     *                                  negative.
+     */
+    public static ArrowOptionVector wrap(
+        final int length,
+        final int nullCount,
+        final ByteBuffer someNulls,
+        final ByteBuffer... buffers)
+    {
+        if (length < 0 || nullCount < 0)
+        {
+            throw new IllegalArgumentException(
+                "Negative length or null count");
+        }
+
+        final ByteBuffer[] views = new ByteBuffer[buffers.length];
+
+        for (int i = 0; i < buffers.length; i++)
+        {
+            views[i] = buffers[i].slice().order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        return new ArrowOptionVector(
+            length,
+            nullCount,
+            someNulls != null ?
+                someNulls.slice().order(ByteOrder.LITTLE_ENDIAN) :
+                null,
+            views);
+    }
+
+    /**
+     * Returns the specified buffer of this vector, in Arrow's order. The
+     * result is a read-only view of the buffer.
+     *
+     * @param index The index of the buffer.
+     *
+     * @return The buffer.
+     *
+     * @throws IndexOutOfBoundsException {@code index} is negative or not less
+     *                                   than {@link #bufferCount()}.
+     */
+    public ByteBuffer buffer(
+        final int index)
+    {
+        Objects.checkIndex(index, buffers.length);
+
+        return buffers[index].asReadOnlyBuffer()
+            .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Returns the number of Arrow buffers of this vector.
+     *
+     * @return The number of Arrow buffers of this vector.
+     */
+    public int bufferCount()
+    {
+        return buffers.length;
+    }
+
+    /**
+     * Returns the number of elements in this vector.
+     *
+     * @return The number of elements in this vector.
+     */
+    public int length()
+    {
+        return length;
+    }
+
+    /**
+     * Returns the number of invalid elements in this vector, which is the
+     * number of options that are empty or contain {@code null}.
+     *
+     * @return The number of invalid elements in this vector.
+     */
+    public int nullCount()
+    {
+        return nullCount;
+    }
+
+    /**
+     * Returns a read-only view of the bitmap in which the bits of the invalid
+     * elements that represent options containing {@code null} are set. This
+     * bitmap is not part of the Arrow layout, and is empty if this vector
+     * has none.
+     *
+     * @return The bitmap of options containing {@code null}.
+     */
+    public ByteBuffer someNullBitmap()
+    {
+        final ByteBuffer bitmap = someNulls != null ?
+            someNulls :
+            ByteBuffer.allocate(0);
+
+        return bitmap.asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Converts the elements of this vector, which must have the layout of an
+     * Arrow {@code Bool} array, to options.
+     *
+     * @return The options.
+     *
+     * @throws IllegalArgumentException This vector does not have two buffers
+     *                                  large enough for its length.
+     */
+    public BooleanOption[] toBooleans()
+    {
+        checkLayout(2, bitmapBytes(length), bitmapBytes(length));
+        final BooleanOption[] options = new BooleanOption[length];
+
+        for (int i = 0; i < length; i++)
+        {
+            options[i] = isValid(i) ?
+                someNonNull(getBit(buffers[1], i)) :
+                noneUnchecked();
+        }
+
+        return options;
+    }
+
+    /**
+     * Converts the elements of this vector, which must have the layout of an
+     * Arrow {@code FloatingPoint(DOUBLE)} array, to options.
+     *
+     * @return The options.
+     *
+     * @throws IllegalArgumentException This vector does not have two buffers
+     *                                  large enough for its length.
+     */
+    public DoubleOption[] toDoubles()
+    {
+        checkLayout(2, bitmapBytes(length), (long) length * Double.BYTES);
+        final DoubleOption[] options = new DoubleOption[length];
+
+        for (int i = 0; i < length; i++)
+        {
+            options[i] = isValid(i) ?
+                someNonNull(buffers[1].getDouble(i << 3)) :
+                noneUnchecked();
+        }
+
+        return options;
+    }
+
+    /**
+     * Converts the elements of this vector, which must have the layout of an
+     * Arrow {@code Int(32, true)} array, to options.
+     *
+     * @return The options.
+     *
+     * @throws IllegalArgumentException This vector does not have two buffers
+     *                                  large enough for its length.
+     */
+    public IntOption[] toInts()
+    {
+        checkLayout(2, bitmapBytes(length), (long) length * Integer.BYTES);
+        final IntOption[] options = new IntOption[length];
+
+        for (int i = 0; i < length; i++)
+        {
+            options[i] = isValid(i) ?
+                someNonNull(buffers[1].getInt(i << 2)) :
+                noneUnchecked();
+        }
+
+        return options;
+    }
+
+    /**
+     * Converts the elements of this vector, which must have the layout of an
+     * Arrow {@code Int(64, true)} array, to options.
+     *
+     * @return The options.
+     *
+     * @throws IllegalArgumentException This vector does not have two buffers
+     *                                  large enough for its length.
+     */
+    public LongOption[] toLongs()
+    {
+        checkLayout(2, bitmapBytes(length), (long) length * Long.BYTES);
+        final LongOption[] options = new LongOption[length];
+
+        for (int i = 0; i < length; i++)
+        {
+            options[i] = isValid(i) ?
+                someNonNull(buffers[1].getLong(i << 3)) :
+                noneUnchecked();
+        }
+
+        return options;
+    }
+
+    /**
+     * Converts the elements of this vector, which must have the layout of an
+     * Arrow {@code Utf8} array, to options. Invalid elements whose bits are
+     * set in {@link #someNullBitmap()} become options containing
+     * {@code null}; other invalid elements become empty options.
+     *
+     * @return The options.
+     *
+     * @throws IllegalArgumentException This vector does not have three
+     *                                  buffers large enough for its length.
+     */
+    public Option<String>[] toStrings()
+    {
+        checkLayout(3, bitmapBytes(length), (length + 1L) * Integer.BYTES);
+        @SuppressWarnings("unchecked")
+        final Option<String>[] options =
+            (Option<String>[]) new Option<?>[length];
+        final ByteBuffer data = buffers[2];
+
+        for (int i = 0; i < length; i++)
+        {
+            if (isValid(i))
+            {
+                final int start = buffers[1].getInt(i << 2);
+                final byte[] bytes =
+                    new byte[buffers[1].getInt((i + 1) << 2) - start];
+                data.get(start, bytes);
+                options[i] = someNonNull(
+                    new String(bytes, StandardCharsets.UTF_8));
+            }
+            else
+            {
+                options[i] = someNulls != null
+                    && someNulls.capacity() > (i >>> 3)
+                    && getBit(someNulls, i) ?
+                        someNull() :
+                        noneUnchecked();
+            }
+        }
+
+        return options;
+    }
+
+    private static ByteBuffer allocate(
+        final long bytes)
+    {
+        final long padded = (bytes + ALIGNMENT - 1) & -ALIGNMENT;
+
+        if (padded > Integer.MAX_VALUE - ALIGNMENT)
+        {
+            throw new IllegalArgumentException("Buffer exceeds 2 GiB");
+        }
+
+        return ByteBuffer.allocateDirect((int) padded + ALIGNMENT)
+            .alignedSlice(ALIGNMENT)
+            .slice(0, (int) padded)
+            .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static long bitmapBytes(
+        final int length)
+    {
+        return (length + 7L) >>> 3;
+    }
+
+    private static boolean getBit(
+        final ByteBuffer bitmap,
+        final int index)
+    {
+        return (bitmap.get(index >>> 3) & (1 << (index & 7))) != 0;
+    }
+
+    private static void setBit(
+        final ByteBuffer bitmap,
+        final int index)
+    {
+        bitmap.put(
+            index >>> 3,
+            (byte) (bitmap.get(index >>> 3) | (1 << (index & 7))));
+    }
+
+    private void checkLayout(
+        final int bufferCount,
+        final long validityBytes,
+        final long valueBytes)
+    {
+        if (buffers.length != bufferCount
+            || (nullCount != 0 && buffers[0].capacity() < validityBytes)
+            || buffers[1].capacity() < valueBytes)
+        {
+            throw new IllegalArgumentException(
+                "Not an Arrow array of this type and length");
+        }
+    }
+
+    private boolean isValid(
+        final int index)
+    {
+        // Arrow allows the validity bitmap to be omitted, as an empty buffer,
+        // when no element is invalid
+        return nullCount == 0 || getBit(buffers[0], index);
+    }
+}
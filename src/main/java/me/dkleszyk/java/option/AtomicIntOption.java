@@ -0,0 +1,385 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.*;
+
+import static me.dkleszyk.java.option.IntOptions.getAsInt;
+import static me.dkleszyk.java.option.IntOptions.isNone;
+import static me.dkleszyk.java.option.IntOptions.none;
+import static me.dkleszyk.java.option.IntOptions.pack;
+import static me.dkleszyk.java.option.IntOptions.some;
+import static me.dkleszyk.java.option.IntOptions.unpack;
+
+/**
+ * Holds an {@link IntOption} that may be updated atomically. The presence and
+ * value of the option are packed into a single {@code long}, so updates do not
+ * allocate, and comparisons made by
+ * {@link #compareAndSet(IntOption, IntOption)} are by value.
+ * <p>
+ * The functions provided to the update and accumulate methods may be applied
+ * more than once when updates contend, and so should be free of side effects.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class AtomicIntOption
+    implements Serializable
+{
+    private static final VarHandle BITS;
+
+    private static final long serialVersionUID = 1L;
+
+    static
+    {
+        try
+        {
+            BITS = MethodHandles.lookup().findVarHandle(
+                AtomicIntOption.class,
+                "bits",
+                long.class);
+        }
+        catch (final ReflectiveOperationException ex)
+        {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private volatile long bits;
+
+    /**
+     * Creates an instance that is initially empty.
+     */
+    public AtomicIntOption()
+    {
+        this.bits = none();
+    }
+
+    /**
+     * Creates an instance with the specified initial value.
+     *
+     * @param initialValue The initial value.
+     */
+    public AtomicIntOption(
+        final int initialValue)
+    {
+        this.bits = some(initialValue);
+    }
+
+    /**
+     * Creates an instance with the specified initial option.
+     *
+     * @param initialOption The initial option.
+     *
+     * @throws NullPointerException {@code initialOption} is {@code null}.
+     */
+    public AtomicIntOption(
+        final IntOption initialOption)
+    {
+        this.bits = pack(initialOption);
+    }
+
+    /**
+     * Atomically replaces the current value with the result of applying
+     * {@code accumulatorFunction} to the current value and {@code x}, or with
+     * {@code x} if this instance is empty, and returns the new option.
+     *
+     * @param x                   The value to accumulate.
+     * @param accumulatorFunction The function to apply.
+     *
+     * @return The new option.
+     */
+    public IntOption accumulateAndGet(
+        final int x,
+        final IntBinaryOperator accumulatorFunction)
+    {
+        long previous = bits;
+
+        while (true)
+        {
+            final long next = accumulate(previous, x, accumulatorFunction);
+
+            if (BITS.weakCompareAndSet(this, previous, next))
+            {
+                return unpack(next);
+            }
+
+            previous = bits;
+        }
+    }
+
+    /**
+     * Sets this instance to be empty.
+     */
+    public void clear()
+    {
+        bits = none();
+    }
+
+    /**
+     * Atomically sets the option to {@code newOption} if the current option is
+     * equal to {@code expectedOption}.
+     *
+     * @param expectedOption The expected option.
+     * @param newOption      The new option.
+     *
+     * @return {@code true} if the option was set; otherwise, {@code false}.
+     *
+     * @throws NullPointerException {@code expectedOption} or {@code newOption}
+     *                              is {@code null}.
+     */
+    public boolean compareAndSet(
+        final IntOption expectedOption,
+        final IntOption newOption)
+    {
+        return BITS.compareAndSet(
+            this,
+            pack(expectedOption),
+            pack(newOption));
+    }
+
+    /**
+     * Returns the current option.
+     *
+     * @return The current option.
+     */
+    public IntOption get()
+    {
+        return unpack(bits);
+    }
+
+    /**
+     * Atomically replaces the current value with the result of applying
+     * {@code accumulatorFunction} to the current value and {@code x}, or with
+     * {@code x} if this instance is empty, and returns the previous option.
+     *
+     * @param x                   The value to accumulate.
+     * @param accumulatorFunction The function to apply.
+     *
+     * @return The previous option.
+     */
+    public IntOption getAndAccumulate(
+        final int x,
+        final IntBinaryOperator accumulatorFunction)
+    {
+        long previous = bits;
+
+        while (true)
+        {
+            final long next = accumulate(previous, x, accumulatorFunction);
+
+            if (BITS.weakCompareAndSet(this, previous, next))
+            {
+                return unpack(previous);
+            }
+
+            previous = bits;
+        }
+    }
+
+    /**
+     * Atomically sets the option to {@code newOption} and returns the previous
+     * option.
+     *
+     * @param newOption The new option.
+     *
+     * @return The previous option.
+     *
+     * @throws NullPointerException {@code newOption} is {@code null}.
+     */
+    public IntOption getAndSet(
+        final IntOption newOption)
+    {
+        return unpack((long) BITS.getAndSet(this, pack(newOption)));
+    }
+
+    /**
+     * Atomically replaces the current option with the result of applying
+     * {@code updateFunction} to it, and returns the previous option.
+     *
+     * @param updateFunction The function to apply.
+     *
+     * @return The previous option.
+     *
+     * @throws NullPointerException {@code updateFunction} returns {@code null}.
+     */
+    public IntOption getAndUpdate(
+        final UnaryOperator<IntOption> updateFunction)
+    {
+        long previous = bits;
+
+        while (true)
+        {
+            final long next = pack(updateFunction.apply(unpack(previous)));
+
+            if (BITS.weakCompareAndSet(this, previous, next))
+            {
+                return unpack(previous);
+            }
+
+            previous = bits;
+        }
+    }
+
+    /**
+     * Atomically replaces the current option with the result of applying
+     * {@code function} to {@code arg} and the current option, and returns the
+     * previous option.
+     *
+     * @param <A>      The type of the additional argument provided to
+     *                 {@code function}.
+     * @param function The function to apply.
+     * @param arg      The additional argument to provide to {@code function}.
+     *
+     * @return The previous option.
+     *
+     * @throws NullPointerException {@code function} returns {@code null}.
+     */
+    public <A> IntOption getAndUpdate(
+        final BiFunction<? super A, ? super IntOption, IntOption> function,
+        final A arg)
+    {
+        long previous = bits;
+
+        while (true)
+        {
+            final long next = pack(function.apply(arg, unpack(previous)));
+
+            if (BITS.weakCompareAndSet(this, previous, next))
+            {
+                return unpack(previous);
+            }
+
+            previous = bits;
+        }
+    }
+
+    /**
+     * Sets the option to {@code newOption}.
+     *
+     * @param newOption The new option.
+     *
+     * @throws NullPointerException {@code newOption} is {@code null}.
+     */
+    public void set(
+        final IntOption newOption)
+    {
+        bits = pack(newOption);
+    }
+
+    /**
+     * Sets the option to contain {@code newValue}.
+     *
+     * @param newValue The new value.
+     */
+    public void setInt(
+        final int newValue)
+    {
+        bits = some(newValue);
+    }
+
+    /**
+     * Returns the string representation of the current option.
+     *
+     * @return The string representation of the current option.
+     */
+    @Override
+    public String toString()
+    {
+        return get().toString();
+    }
+
+    /**
+     * Atomically replaces the current option with the result of applying
+     * {@code updateFunction} to it, and returns the new option.
+     *
+     * @param updateFunction The function to apply.
+     *
+     * @return The new option.
+     *
+     * @throws NullPointerException {@code updateFunction} returns {@code null}.
+     */
+    public IntOption updateAndGet(
+        final UnaryOperator<IntOption> updateFunction)
+    {
+        long previous = bits;
+
+        while (true)
+        {
+            final IntOption next = updateFunction.apply(unpack(previous));
+
+            if (BITS.weakCompareAndSet(this, previous, pack(next)))
+            {
+                return next;
+            }
+
+            previous = bits;
+        }
+    }
+
+    /**
+     * Atomically replaces the current option with the result of applying
+     * {@code function} to {@code arg} and the current option, and returns the
+     * new option.
+     *
+     * @param <A>      The type of the additional argument provided to
+     *                 {@code function}.
+     * @param function The function to apply.
+     * @param arg      The additional argument to provide to {@code function}.
+     *
+     * @return The new option.
+     *
+     * @throws NullPointerException {@code function} returns {@code null}.
+     */
+    public <A> IntOption updateAndGet(
+        final BiFunction<? super A, ? super IntOption, IntOption> function,
+        final A arg)
+    {
+        long previous = bits;
+
+        while (true)
+        {
+            final IntOption next = function.apply(arg, unpack(previous));
+
+            if (BITS.weakCompareAndSet(this, previous, pack(next)))
+            {
+                return next;
+            }
+
+            previous = bits;
+        }
+    }
+
+    private static long accumulate(
+        final long bits,
+        final int x,
+        final IntBinaryOperator accumulatorFunction)
+    {
+        return isNone(bits) ?
+            some(x) :
+            some(accumulatorFunction.applyAsInt(getAsInt(bits), x));
+    }
+}
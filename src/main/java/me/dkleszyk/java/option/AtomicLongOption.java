@@ -0,0 +1,409 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.*;
+
+import static me.dkleszyk.java.option.Options.noneUnchecked;
+import static me.dkleszyk.java.option.Options.someNonNull;
+
+/**
+ * Holds a {@link LongOption} that may be updated atomically. Comparisons made
+ * by {@link #compareAndSet(LongOption, LongOption)} are by value.
+ * <p>
+ * Unlike {@link AtomicIntOption}, the presence and value of the option cannot
+ * be packed into a single {@code long}, so this holds a reference to an
+ * immutable option; updates to values outside of the cached range allocate.
+ * <p>
+ * The functions provided to the update and accumulate methods may be applied
+ * more than once when updates contend, and so should be free of side effects.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class AtomicLongOption
+    implements Serializable
+{
+    private static final VarHandle OPTION;
+
+    private static final long serialVersionUID = 1L;
+
+    static
+    {
+        try
+        {
+            OPTION = MethodHandles.lookup().findVarHandle(
+                AtomicLongOption.class,
+                "option",
+                LongOption.class);
+        }
+        catch (final ReflectiveOperationException ex)
+        {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private volatile LongOption option;
+
+    /**
+     * Creates an instance that is initially empty.
+     */
+    public AtomicLongOption()
+    {
+        this.option = noneUnchecked();
+    }
+
+    /**
+     * Creates an instance with the specified initial value.
+     *
+     * @param initialValue The initial value.
+     */
+    public AtomicLongOption(
+        final long initialValue)
+    {
+        this.option = someNonNull(initialValue);
+    }
+
+    /**
+     * Creates an instance with the specified initial option.
+     *
+     * @param initialOption The initial option.
+     *
+     * @throws NullPointerException {@code initialOption} is {@code null}.
+     */
+    public AtomicLongOption(
+        final LongOption initialOption)
+    {
+        this.option = Objects.requireNonNull(initialOption);
+    }
+
+    /**
+     * Atomically replaces the current value with the result of applying
+     * {@code accumulatorFunction} to the current value and {@code x}, or with
+     * {@code x} if this instance is empty, and returns the new option.
+     *
+     * @param x                   The value to accumulate.
+     * @param accumulatorFunction The function to apply.
+     *
+     * @return The new option.
+     */
+    public LongOption accumulateAndGet(
+        final long x,
+        final LongBinaryOperator accumulatorFunction)
+    {
+        LongOption previous = option;
+
+        while (true)
+        {
+            final LongOption next =
+                accumulate(previous, x, accumulatorFunction);
+
+            if (OPTION.weakCompareAndSet(this, previous, next))
+            {
+                return next;
+            }
+
+            previous = option;
+        }
+    }
+
+    /**
+     * Sets this instance to be empty.
+     */
+    public void clear()
+    {
+        option = noneUnchecked();
+    }
+
+    /**
+     * Atomically sets the option to {@code newOption} if the current option is
+     * equal to {@code expectedOption}.
+     *
+     * @param expectedOption The expected option.
+     * @param newOption      The new option.
+     *
+     * @return {@code true} if the option was set; otherwise, {@code false}.
+     *
+     * @throws NullPointerException {@code expectedOption} or {@code newOption}
+     *                              is {@code null}.
+     */
+    public boolean compareAndSet(
+        final LongOption expectedOption,
+        final LongOption newOption)
+    {
+        Objects.requireNonNull(expectedOption);
+        Objects.requireNonNull(newOption);
+
+        while (true)
+        {
+            final LongOption current = option;
+
+            if (!current.equals(expectedOption))
+            {
+                return false;
+            }
+
+            // The reference may have changed to an equal option in the
+            // meantime, in which case the comparison is retried
+            if (OPTION.compareAndSet(this, current, newOption))
+            {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the current option.
+     *
+     * @return The current option.
+     */
+    public LongOption get()
+    {
+        return option;
+    }
+
+    /**
+     * Atomically replaces the current value with the result of applying
+     * {@code accumulatorFunction} to the current value and {@code x}, or with
+     * {@code x} if this instance is empty, and returns the previous option.
+     *
+     * @param x                   The value to accumulate.
+     * @param accumulatorFunction The function to apply.
+     *
+     * @return The previous option.
+     */
+    public LongOption getAndAccumulate(
+        final long x,
+        final LongBinaryOperator accumulatorFunction)
+    {
+        LongOption previous = option;
+
+        while (true)
+        {
+            final LongOption next =
+                accumulate(previous, x, accumulatorFunction);
+
+            if (OPTION.weakCompareAndSet(this, previous, next))
+            {
+                return previous;
+            }
+
+            previous = option;
+        }
+    }
+
+    /**
+     * Atomically sets the option to {@code newOption} and returns the previous
+     * option.
+     *
+     * @param newOption The new option.
+     *
+     * @return The previous option.
+     *
+     * @throws NullPointerException {@code newOption} is {@code null}.
+     */
+    public LongOption getAndSet(
+        final LongOption newOption)
+    {
+        return (LongOption) OPTION.getAndSet(
+            this,
+            Objects.requireNonNull(newOption));
+    }
+
+    /**
+     * Atomically replaces the current option with the result of applying
+     * {@code updateFunction} to it, and returns the previous option.
+     *
+     * @param updateFunction The function to apply.
+     *
+     * @return The previous option.
+     *
+     * @throws NullPointerException {@code updateFunction} returns {@code null}.
+     */
+    public LongOption getAndUpdate(
+        final UnaryOperator<LongOption> updateFunction)
+    {
+        LongOption previous = option;
+
+        while (true)
+        {
+            final LongOption next = Objects.requireNonNull(
+                updateFunction.apply(previous));
+
+            if (OPTION.weakCompareAndSet(this, previous, next))
+            {
+                return previous;
+            }
+
+            previous = option;
+        }
+    }
+
+    /**
+     * Atomically replaces the current option with the result of applying
+     * {@code function} to {@code arg} and the current option, and returns the
+     * previous option.
+     *
+     * @param <A>      The type of the additional argument provided to
+     *                 {@code function}.
+     * @param function The function to apply.
+     * @param arg      The additional argument to provide to {@code function}.
+     *
+     * @return The previous option.
+     *
+     * @throws NullPointerException {@code function} returns {@code null}.
+     */
+    public <A> LongOption getAndUpdate(
+        final BiFunction<? super A, ? super LongOption, LongOption> function,
+        final A arg)
+    {
+        LongOption previous = option;
+
+        while (true)
+        {
+            final LongOption next = Objects.requireNonNull(
+                function.apply(arg, previous));
+
+            if (OPTION.weakCompareAndSet(this, previous, next))
+            {
+                return previous;
+            }
+
+            previous = option;
+        }
+    }
+
+    /**
+     * Sets the option to {@code newOption}.
+     *
+     * @param newOption The new option.
+     *
+     * @throws NullPointerException {@code newOption} is {@code null}.
+     */
+    public void set(
+        final LongOption newOption)
+    {
+        option = Objects.requireNonNull(newOption);
+    }
+
+    /**
+     * Sets the option to contain {@code newValue}.
+     *
+     * @param newValue The new value.
+     */
+    public void setLong(
+        final long newValue)
+    {
+        option = someNonNull(newValue);
+    }
+
+    /**
+     * Returns the string representation of the current option.
+     *
+     * @return The string representation of the current option.
+     */
+    @Override
+    public String toString()
+    {
+        return option.toString();
+    }
+
+    /**
+     * Atomically replaces the current option with the result of applying
+     * {@code updateFunction} to it, and returns the new option.
+     *
+     * @param updateFunction The function to apply.
+     *
+     * @return The new option.
+     *
+     * @throws NullPointerException {@code updateFunction} returns {@code null}.
+     */
+    public LongOption updateAndGet(
+        final UnaryOperator<LongOption> updateFunction)
+    {
+        LongOption previous = option;
+
+        while (true)
+        {
+            final LongOption next = Objects.requireNonNull(
+                updateFunction.apply(previous));
+
+            if (OPTION.weakCompareAndSet(this, previous, next))
+            {
+                return next;
+            }
+
+            previous = option;
+        }
+    }
+
+    /**
+     * Atomically replaces the current option with the result of applying
+     * {@code function} to {@code arg} and the current option, and returns the
+     * new option.
+     *
+     * @param <A>      The type of the additional argument provided to
+     *                 {@code function}.
+     * @param function The function to apply.
+     * @param arg      The additional argument to provide to {@code function}.
+     *
+     * @return The new option.
+     *
+     * @throws NullPointerException {@code function} returns {@code null}.
+     */
+    public <A> LongOption updateAndGet(
+        final BiFunction<? super A, ? super LongOption, LongOption> function,
+        final A arg)
+    {
+        LongOption previous = option;
+
+        while (true)
+        {
+            final LongOption next = Objects.requireNonNull(
+                function.apply(arg, previous));
+
+            if (OPTION.weakCompareAndSet(this, previous, next))
+            {
+                return next;
+            }
+
+            previous = option;
+        }
+    }
+
+    private static LongOption accumulate(
+        final LongOption option,
+        final long x,
+        final LongBinaryOperator accumulatorFunction)
+    {
+        return option.isSome() ?
+            someNonNull(accumulatorFunction.applyAsLong(
+                option.getAsLong(),
+                x)) :
+            someNonNull(x);
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.*;
+
+/**
+ * An {@link Option} reference that may be updated atomically. Comparisons
+ * made by {@link #compareAndSet(Option, Option)} are by identity, which is
+ * meaningful for the shared empty instance returned by {@link Option#none()}
+ * and for options previously read from this instance.
+ * <p>
+ * The functions provided to the update and accumulate methods may be applied
+ * more than once when updates contend, and so should be free of side effects.
+ *
+ * @param <T> The value type of the option.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class AtomicOption<T>
+    implements Serializable
+{
+    private static final VarHandle OPTION;
+
+    private static final long serialVersionUID = 1L;
+
+    static
+    {
+        try
+        {
+            OPTION = MethodHandles.lookup().findVarHandle(
+                AtomicOption.class,
+                "option",
+                Option.class);
+        }
+        catch (final ReflectiveOperationException ex)
+        {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private volatile Option<T> option;
+
+    /**
+     * Creates an instance that is initially empty.
+     */
+    public AtomicOption()
+    {
+        this.option = Option.none();
+    }
+
+    /**
+     * Creates an instance with the specified initial option.
+     *
+     * @param initialOption The initial option.
+     *
+     * @throws NullPointerException {@code initialOption} is {@code null}.
+     */
+    public AtomicOption(
+        final Option<T> initialOption)
+    {
+        this.option = Objects.requireNonNull(initialOption);
+    }
+
+    /**
+     * Atomically replaces the current option with the result of applying
+     * {@code accumulatorFunction} to the current option and {@code x}, and
+     * returns the new option.
+     *
+     * @param x                   The value to accumulate.
+     * @param accumulatorFunction The function to apply.
+     *
+     * @return The new option.
+     *
+     * @throws NullPointerException {@code accumulatorFunction} returns
+     *                              {@code null}.
+     */
+    public Option<T> accumulateAndGet(
+        final Option<T> x,
+        final BinaryOperator<Option<T>> accumulatorFunction)
+    {
+        Option<T> previous = option;
+
+        while (true)
+        {
+            final Option<T> next = Objects.requireNonNull(
+                accumulatorFunction.apply(previous, x));
+
+            if (OPTION.weakCompareAndSet(this, previous, next))
+            {
+                return next;
+            }
+
+            previous = option;
+        }
+    }
+
+    /**
+     * Atomically sets the option to {@code newOption} if the current option is
+     * identical to {@code expectedOption}.
+     *
+     * @param expectedOption The expected option.
+     * @param newOption      The new option.
+     *
+     * @return {@code true} if the option was set; otherwise, {@code false}.
+     *
+     * @throws NullPointerException {@code newOption} is {@code null}.
+     */
+    public boolean compareAndSet(
+        final Option<T> expectedOption,
+        final Option<T> newOption)
+    {
+        return OPTION.compareAndSet(
+            this,
+            expectedOption,
+            Objects.requireNonNull(newOption));
+    }
+
+    /**
+     * Returns the current option.
+     *
+     * @return The current option.
+     */
+    public Option<T> get()
+    {
+        return option;
+    }
+
+    /**
+     * Atomically replaces the current option with the result of applying
+     * {@code accumulatorFunction} to the current option and {@code x}, and
+     * returns the previous option.
+     *
+     * @param x                   The value to accumulate.
+     * @param accumulatorFunction The function to apply.
+     *
+     * @return The previous option.
+     *
+     * @throws NullPointerException {@code accumulatorFunction} returns
+     *                              {@code null}.
+     */
+    public Option<T> getAndAccumulate(
+        final Option<T> x,
+        final BinaryOperator<Option<T>> accumulatorFunction)
+    {
+        Option<T> previous = option;
+
+        while (true)
+        {
+            final Option<T> next = Objects.requireNonNull(
+                accumulatorFunction.apply(previous, x));
+
+            if (OPTION.weakCompareAndSet(this, previous, next))
+            {
+                return previous;
+            }
+
+            previous = option;
+        }
+    }
+
+    /**
+     * Atomically sets the option to {@code newOption} and returns the previous
+     * option.
+     *
+     * @param newOption The new option.
+     *
+     * @return The previous option.
+     *
+     * @throws NullPointerException {@code newOption} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public Option<T> getAndSet(
+        final Option<T> newOption)
+    {
+        return (Option<T>) OPTION.getAndSet(
+            this,
+            Objects.requireNonNull(newOption));
+    }
+
+    /**
+     * Atomically replaces the current option with the result of applying
+     * {@code updateFunction} to it, and returns the previous option.
+     *
+     * @param updateFunction The function to apply.
+     *
+     * @return The previous option.
+     *
+     * @throws NullPointerException {@code updateFunction} returns {@code null}.
+     */
+    public Option<T> getAndUpdate(
+        final UnaryOperator<Option<T>> updateFunction)
+    {
+        Option<T> previous = option;
+
+        while (true)
+        {
+            final Option<T> next = Objects.requireNonNull(
+                updateFunction.apply(previous));
+
+            if (OPTION.weakCompareAndSet(this, previous, next))
+            {
+                return previous;
+            }
+
+            previous = option;
+        }
+    }
+
+    /**
+     * Atomically replaces the current option with the result of applying
+     * {@code function} to {@code arg} and the current option, and
+     * returns the previous option.
+     *
+     * @param <A>      The type of the additional argument provided to
+     *                 {@code function}.
+     * @param function The function to apply.
+     * @param arg      The additional argument to provide to {@code function}.
+     *
+     * @return The previous option.
+     *
+     * @throws NullPointerException {@code function} returns {@code null}.
+     */
+    public <A> Option<T> getAndUpdate(
+        final BiFunction<? super A, ? super Option<T>, Option<T>> function,
+        final A arg)
+    {
+        Option<T> previous = option;
+
+        while (true)
+        {
+            final Option<T> next = Objects.requireNonNull(
+                function.apply(arg, previous));
+
+            if (OPTION.weakCompareAndSet(this, previous, next))
+            {
+                return previous;
+            }
+
+            previous = option;
+        }
+    }
+
+    /**
+     * Sets the option to {@code newOption}.
+     *
+     * @param newOption The new option.
+     *
+     * @throws NullPointerException {@code newOption} is {@code null}.
+     */
+    public void set(
+        final Option<T> newOption)
+    {
+        option = Objects.requireNonNull(newOption);
+    }
+
+    /**
+     * Returns the string representation of the current option.
+     *
+     * @return The string representation of the current option.
+     */
+    @Override
+    public String toString()
+    {
+        return String.valueOf(option);
+    }
+
+    /**
+     * Atomically replaces the current option with the result of applying
+     * {@code updateFunction} to it, and returns the new option.
+     *
+     * @param updateFunction The function to apply.
+     *
+     * @return The new option.
+     *
+     * @throws NullPointerException {@code updateFunction} returns {@code null}.
+     */
+    public Option<T> updateAndGet(
+        final UnaryOperator<Option<T>> updateFunction)
+    {
+        Option<T> previous = option;
+
+        while (true)
+        {
+            final Option<T> next = Objects.requireNonNull(
+                updateFunction.apply(previous));
+
+            if (OPTION.weakCompareAndSet(this, previous, next))
+            {
+                return next;
+            }
+
+            previous = option;
+        }
+    }
+
+    /**
+     * Atomically replaces the current option with the result of applying
+     * {@code function} to {@code arg} and the current option, and
+     * returns the new option.
+     *
+     * @param <A>      The type of the additional argument provided to
+     *                 {@code function}.
+     * @param function The function to apply.
+     * @param arg      The additional argument to provide to {@code function}.
+     *
+     * @return The new option.
+     *
+     * @throws NullPointerException {@code function} returns {@code null}.
+     */
+    public <A> Option<T> updateAndGet(
+        final BiFunction<? super A, ? super Option<T>, Option<T>> function,
+        final A arg)
+    {
+        Option<T> previous = option;
+
+        while (true)
+        {
+            final Option<T> next = Objects.requireNonNull(
+                function.apply(arg, previous));
+
+            if (OPTION.weakCompareAndSet(this, previous, next))
+            {
+                return next;
+            }
+
+            previous = option;
+        }
+    }
+}
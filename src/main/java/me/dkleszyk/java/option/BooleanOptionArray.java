@@ -0,0 +1,295 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.Objects;
+
+import static me.dkleszyk.java.option.Options.noneUnchecked;
+import static me.dkleszyk.java.option.Options.someNonNull;
+
+/**
+ * A fixed-length array of {@link BooleanOption} elements stored in two bits
+ * each. One bit records whether an element is non-empty and the other its
+ * value, so an element costs a quarter of a byte rather than a reference, and
+ * the bulk operations process 64 elements per step.
+ * <p>
+ * The bulk operations {@link #and(BooleanOptionArray)},
+ * {@link #or(BooleanOptionArray)} and {@link #not()} follow Kleene's
+ * three-valued logic, in which an empty element is an unknown value: for
+ * example, {@code false} and an empty element is {@code false}, while
+ * {@code true} and an empty element is empty.
+ * <p>
+ * Instances are not safe for use by multiple threads without external
+ * synchronization.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class BooleanOptionArray
+{
+    private final int length;
+
+    // Invariant: every bit set in trues is also set in somes, and no bit at
+    // or beyond length is set in either.
+    private final long[] somes;
+
+    private final long[] trues;
+
+    /**
+     * Creates an array of the specified length whose elements are all empty.
+     *
+     * @param length The length of the array.
+     *
+     * @throws IllegalArgumentException {@code length} is negative.
+     */
+    public BooleanOptionArray(
+        final int length)
+    {
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+
+        final int words = (length + Long.SIZE - 1) >>> 6;
+        this.length = length;
+        this.somes = new long[words];
+        this.trues = new long[words];
+    }
+
+    /**
+     * Sets each element of this array to the conjunction of itself and the
+     * corresponding element of the specified array.
+     *
+     * @param other The array with which to combine this one.
+     *
+     * @throws NullPointerException     {@code other} is {@code null}.
+     * @throws IllegalArgumentException {@code other} has a different length
+     *                                  than this array.
+     */
+    public void and(
+        final BooleanOptionArray other)
+    {
+        checkLength(other);
+
+        for (int i = 0; i < somes.length; i++)
+        {
+            final long t = trues[i] & other.trues[i];
+            final long f = (somes[i] & ~trues[i])
+                | (other.somes[i] & ~other.trues[i]);
+            somes[i] = t | f;
+            trues[i] = t;
+        }
+    }
+
+    /**
+     * Returns the number of elements of this array that contain
+     * {@code false}.
+     *
+     * @return The number of elements that contain {@code false}.
+     */
+    public int countFalse()
+    {
+        return count(somes) - count(trues);
+    }
+
+    /**
+     * Returns the number of elements of this array that are empty.
+     *
+     * @return The number of empty elements.
+     */
+    public int countNone()
+    {
+        return length - count(somes);
+    }
+
+    /**
+     * Returns the number of elements of this array that contain
+     * {@code true}.
+     *
+     * @return The number of elements that contain {@code true}.
+     */
+    public int countTrue()
+    {
+        return count(trues);
+    }
+
+    /**
+     * Returns the element at the specified index. The result is one of the
+     * shared instances, so this method does not allocate.
+     *
+     * @param index The index of the element.
+     *
+     * @return The element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException {@code index} is negative or not less
+     *                                   than {@link #length()}.
+     */
+    public BooleanOption get(
+        final int index)
+    {
+        Objects.checkIndex(index, length);
+        final long mask = 1L << index;
+
+        return (somes[index >>> 6] & mask) != 0 ?
+            someNonNull((trues[index >>> 6] & mask) != 0) :
+            noneUnchecked();
+    }
+
+    /**
+     * Returns the length of this array.
+     *
+     * @return The length of this array.
+     */
+    public int length()
+    {
+        return length;
+    }
+
+    /**
+     * Sets each element of this array to its negation. Empty elements remain
+     * empty.
+     */
+    public void not()
+    {
+        for (int i = 0; i < somes.length; i++)
+        {
+            trues[i] = somes[i] & ~trues[i];
+        }
+    }
+
+    /**
+     * Sets each element of this array to the disjunction of itself and the
+     * corresponding element of the specified array.
+     *
+     * @param other The array with which to combine this one.
+     *
+     * @throws NullPointerException     {@code other} is {@code null}.
+     * @throws IllegalArgumentException {@code other} has a different length
+     *                                  than this array.
+     */
+    public void or(
+        final BooleanOptionArray other)
+    {
+        checkLength(other);
+
+        for (int i = 0; i < somes.length; i++)
+        {
+            final long t = trues[i] | other.trues[i];
+            final long f = (somes[i] & ~trues[i])
+                & (other.somes[i] & ~other.trues[i]);
+            somes[i] = t | f;
+            trues[i] = t;
+        }
+    }
+
+    /**
+     * Sets the element at the specified index.
+     *
+     * @param index  The index of the element.
+     * @param option The new element.
+     *
+     * @throws NullPointerException      {@code option} is {@code null}.
+     * @throws IndexOutOfBoundsException {@code index} is negative or not less
+     *                                   than {@link #length()}.
+     */
+    public void set(
+        final int index,
+        final BooleanOption option)
+    {
+        if (option.isSome())
+        {
+            setBoolean(index, option.getAsBoolean());
+        }
+        else
+        {
+            setNone(index);
+        }
+    }
+
+    /**
+     * Sets the element at the specified index to contain the specified value.
+     *
+     * @param index The index of the element.
+     * @param value The new value of the element.
+     *
+     * @throws IndexOutOfBoundsException {@code index} is negative or not less
+     *                                   than {@link #length()}.
+     */
+    public void setBoolean(
+        final int index,
+        final boolean value)
+    {
+        Objects.checkIndex(index, length);
+        final long mask = 1L << index;
+        somes[index >>> 6] |= mask;
+
+        if (value)
+        {
+            trues[index >>> 6] |= mask;
+        }
+        else
+        {
+            trues[index >>> 6] &= ~mask;
+        }
+    }
+
+    /**
+     * Sets the element at the specified index to be empty.
+     *
+     * @param index The index of the element.
+     *
+     * @throws IndexOutOfBoundsException {@code index} is negative or not less
+     *                                   than {@link #length()}.
+     */
+    public void setNone(
+        final int index)
+    {
+        Objects.checkIndex(index, length);
+        final long mask = ~(1L << index);
+        somes[index >>> 6] &= mask;
+        trues[index >>> 6] &= mask;
+    }
+
+    private static int count(
+        final long[] words)
+    {
+        int count = 0;
+
+        for (final long word : words)
+        {
+            count += Long.bitCount(word);
+        }
+
+        return count;
+    }
+
+    private void checkLength(
+        final BooleanOptionArray other)
+    {
+        if (other.length != length)
+        {
+            throw new IllegalArgumentException(
+                "Length mismatch: " + other.length + " != " + length);
+        }
+    }
+}
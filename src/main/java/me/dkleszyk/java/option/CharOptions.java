@@ -0,0 +1,218 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.NoSuchElementException;
+import me.dkleszyk.java.function.extra.primitive.*;
+
+import static me.dkleszyk.java.option.Options.noneUnchecked;
+import static me.dkleszyk.java.option.Options.someNonNull;
+
+/**
+ * Operations on {@link CharOption} values packed into a {@code long}. The
+ * layout is the one described by {@link IntOptions}, with the value in the low
+ * 16 bits.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class CharOptions
+{
+    private static final long NONE_BITS = 0L;
+
+    private static final long SOME_FLAG = 1L << 32;
+
+    private CharOptions()
+    {
+    }
+
+    /**
+     * Returns the value contained by the specified packed option if it is
+     * non-empty; otherwise, returns the specified value.
+     *
+     * @param bits  A packed option.
+     * @param value The value to return if {@code bits} is empty.
+     *
+     * @return The value contained by {@code bits} if it is non-empty;
+     *         otherwise, {@code value}.
+     */
+    public static char charOrElse(
+        final long bits,
+        final char value)
+    {
+        return bits == NONE_BITS ?
+            value :
+            value(bits);
+    }
+
+    /**
+     * Returns the value contained by the specified packed option.
+     *
+     * @param bits A packed option.
+     *
+     * @return The value contained by {@code bits}.
+     *
+     * @throws NoSuchElementException {@code bits} is empty.
+     */
+    public static char getAsChar(
+        final long bits)
+    {
+        if (bits == NONE_BITS)
+        {
+            throw Exceptions.optionNoValue();
+        }
+
+        return value(bits);
+    }
+
+    /**
+     * Returns whether the specified packed option is empty.
+     *
+     * @param bits A packed option.
+     *
+     * @return {@code true} if {@code bits} is empty; otherwise, {@code false}.
+     */
+    public static boolean isNone(
+        final long bits)
+    {
+        return bits == NONE_BITS;
+    }
+
+    /**
+     * Returns whether the specified packed option is non-empty.
+     *
+     * @param bits A packed option.
+     *
+     * @return {@code true} if {@code bits} is non-empty; otherwise,
+     *         {@code false}.
+     */
+    public static boolean isSome(
+        final long bits)
+    {
+        return bits != NONE_BITS;
+    }
+
+    /**
+     * Applies the specified mapper function to the value contained by the
+     * specified packed option.
+     *
+     * @param bits   A packed option.
+     * @param mapper A function to apply to the value contained by {@code bits}.
+     *
+     * @return A packed option containing the result of applying the mapper
+     *         function if {@code bits} is non-empty; otherwise, an empty packed
+     *         option.
+     */
+    public static long mapCharToChar(
+        final long bits,
+        final CharUnaryOperator mapper)
+    {
+        return bits == NONE_BITS ?
+            NONE_BITS :
+            some(mapper.applyAsChar(value(bits)));
+    }
+
+    /**
+     * Applies the specified mapper function to the value contained by the
+     * specified packed option.
+     *
+     * @param bits   A packed option.
+     * @param mapper A function to apply to the specified argument and the value
+     *               contained by {@code bits}.
+     * @param arg    The first argument to the mapper function.
+     *
+     * @return A packed option containing the result of applying the mapper
+     *         function if {@code bits} is non-empty; otherwise, an empty packed
+     *         option.
+     */
+    public static long mapCharToChar(
+        final long bits,
+        final CharBinaryOperator mapper,
+        final char arg)
+    {
+        return bits == NONE_BITS ?
+            NONE_BITS :
+            some(mapper.applyAsChar(arg, value(bits)));
+    }
+
+    /**
+     * Returns an empty packed option.
+     *
+     * @return An empty packed option.
+     */
+    public static long none()
+    {
+        return NONE_BITS;
+    }
+
+    /**
+     * Packs the specified option into a {@code long}.
+     *
+     * @param option The option to pack.
+     *
+     * @return The packed form of {@code option}.
+     *
+     * @throws NullPointerException {@code option} is {@code null}.
+     */
+    public static long pack(
+        final CharOption option)
+    {
+        return option.isSome() ?
+            some(option.getAsChar()) :
+            NONE_BITS;
+    }
+
+    /**
+     * Returns a packed option containing the specified value.
+     *
+     * @param value The value to pack.
+     *
+     * @return A packed option containing {@code value}.
+     */
+    public static long some(
+        final char value)
+    {
+        return SOME_FLAG | value;
+    }
+
+    /**
+     * Unpacks the specified packed option.
+     *
+     * @param bits A packed option.
+     *
+     * @return An option equal to the one that was packed into {@code bits}.
+     */
+    public static CharOption unpack(
+        final long bits)
+    {
+        return bits == NONE_BITS ?
+            noneUnchecked() :
+            someNonNull(value(bits));
+    }
+
+    private static char value(
+        final long bits)
+    {
+        return (char) bits;
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static me.dkleszyk.java.option.CompressedOptionWriter.BLOCK_SIZE;
+import static me.dkleszyk.java.option.CompressedOptionWriter.DELTA;
+import static me.dkleszyk.java.option.CompressedOptionWriter.HEADER_BYTES;
+import static me.dkleszyk.java.option.CompressedOptionWriter.MAGIC;
+
+/**
+ * Decodes the compressed column format written by
+ * {@link CompressedOptionWriter}, one position or one run at a time, from a
+ * buffer that holds the whole encoded column. Values are unpacked a block at
+ * a time, so reading a value is usually an array access.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+final class CompressedOptionReader
+{
+    private final long[] block = new long[BLOCK_SIZE];
+
+    private int blockIndex;
+
+    private int blockSize;
+
+    private final ByteBuffer buffer;
+
+    private final int count;
+
+    private int position;
+
+    private int presenceOffset;
+
+    private int run;
+
+    private boolean runSome = true;
+
+    private int valueOffset;
+
+    private int valuesLeft;
+
+    private final long[] words = new long[BLOCK_SIZE + 1];
+
+    CompressedOptionReader(
+        final ByteBuffer encoded,
+        final int type)
+    {
+        final ByteBuffer view = encoded.slice().order(ByteOrder.LITTLE_ENDIAN);
+
+        if (view.capacity() < HEADER_BYTES
+            || view.getInt(0) != MAGIC
+            || view.getInt(4) != type)
+        {
+            throw new IllegalArgumentException("Not an encoding of this type");
+        }
+
+        this.buffer = view;
+        this.count = view.getInt(8);
+        this.valuesLeft = view.getInt(12);
+        this.presenceOffset = HEADER_BYTES;
+        this.valueOffset = presenceOffset + view.getInt(16);
+    }
+
+    /**
+     * Consumes the next position, returning {@code true} if it holds a value,
+     * which may then be read with {@link #value()}.
+     */
+    boolean next()
+    {
+        if (runLength() == 0)
+        {
+            throw new NoSuchElementException();
+        }
+
+        if (runSome)
+        {
+            return true;
+        }
+
+        skip(1);
+
+        return false;
+    }
+
+    int remaining()
+    {
+        return count - position;
+    }
+
+    /**
+     * Returns the number of positions left in the current run, moving to the
+     * next non-empty run first if necessary, or {@code 0} if no positions
+     * remain.
+     */
+    int runLength()
+    {
+        while (run == 0)
+        {
+            if (position == count)
+            {
+                return 0;
+            }
+
+            runSome = !runSome;
+            run = (int) readVarint();
+        }
+
+        return run;
+    }
+
+    boolean runSome()
+    {
+        return runSome;
+    }
+
+    void skip(
+        final int n)
+    {
+        run -= n;
+        position += n;
+    }
+
+    /**
+     * Consumes and returns the value at the next position, which must be in a
+     * run of non-empty positions.
+     */
+    long value()
+    {
+        if (blockIndex == blockSize)
+        {
+            readBlock();
+        }
+
+        skip(1);
+
+        return block[blockIndex++];
+    }
+
+    private void readBlock()
+    {
+        final int size = Math.min(valuesLeft, BLOCK_SIZE);
+        final byte mode = buffer.get(valueOffset++);
+        final int width = buffer.get(valueOffset++);
+        final boolean delta = mode == DELTA;
+        final long base = readZigzag();
+        final long reference = delta ?
+            readZigzag() :
+            base;
+        final int packed = delta ?
+            size - 1 :
+            size;
+        final int byteCount = (packed * width + 7) >>> 3;
+
+        Arrays.fill(words, 0L);
+
+        for (int i = 0; i < byteCount; i++)
+        {
+            words[i >>> 3] |= (buffer.get(valueOffset + i) & 0xFFL)
+                << ((i & 7) << 3);
+        }
+
+        valueOffset += byteCount;
+
+        final long mask = width == Long.SIZE ?
+            -1L :
+            (1L << width) - 1;
+
+        if (delta)
+        {
+            long value = base;
+            block[0] = value;
+
+            for (int i = 1; i < size; i++)
+            {
+                value += unpack(i - 1, width, mask) + reference;
+                block[i] = value;
+            }
+        }
+        else
+        {
+            for (int i = 0; i < size; i++)
+            {
+                block[i] = unpack(i, width, mask) + reference;
+            }
+        }
+
+        blockIndex = 0;
+        blockSize = size;
+        valuesLeft -= size;
+    }
+
+    private long readVarint()
+    {
+        long value = 0;
+
+        for (int shift = 0;; shift += 7)
+        {
+            final byte b = buffer.get(presenceOffset++);
+            value |= (b & 0x7FL) << shift;
+
+            if (b >= 0)
+            {
+                return value;
+            }
+        }
+    }
+
+    private long readZigzag()
+    {
+        long value = 0;
+
+        for (int shift = 0;; shift += 7)
+        {
+            final byte b = buffer.get(valueOffset++);
+            value |= (b & 0x7FL) << shift;
+
+            if (b >= 0)
+            {
+                return (value >>> 1) ^ -(value & 1);
+            }
+        }
+    }
+
+    private long unpack(
+        final int index,
+        final int width,
+        final long mask)
+    {
+        if (width == 0)
+        {
+            return 0;
+        }
+
+        final int bit = index * width;
+        final int shift = bit & 63;
+        long value = words[bit >>> 6] >>> shift;
+
+        if (shift + width > Long.SIZE)
+        {
+            value |= words[(bit >>> 6) + 1] << (Long.SIZE - shift);
+        }
+
+        return value & mask;
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Encodes a sequence of options into the compressed column format read by
+ * {@link CompressedOptionReader}. Values are handled as {@code long}s; the
+ * public encoders narrow or widen them as their types require.
+ * <p>
+ * The format is, in little-endian byte order:
+ * <ol>
+ * <li>a 20-byte header: the {@code int} {@link #MAGIC}, an {@code int} type
+ * code, the {@code int} number of positions, the {@code int} number of values
+ * and the {@code int} length in bytes of the presence section;</li>
+ * <li>the presence section: the lengths of alternating runs of empty and
+ * non-empty positions, starting with a run of empty positions that may have
+ * length zero, as unsigned LEB128 varints;</li>
+ * <li>the value section: the values in blocks of up to {@link #BLOCK_SIZE},
+ * each block being a mode byte, a bit width byte, and then either
+ * <ul>
+ * <li>({@link #FRAME_OF_REFERENCE}) the minimum value as a zigzag varint,
+ * followed by each value less the minimum, or</li>
+ * <li>({@link #DELTA}) the first value and the minimum difference between
+ * consecutive values as zigzag varints, followed by each subsequent
+ * difference less the minimum,</li>
+ * </ul>
+ * bit-packed least significant bit first in the given width and padded to a
+ * whole byte.</li>
+ * </ol>
+ * The mode of each block is the one giving the narrower width. Differences
+ * are computed with wrapping arithmetic, so any sequence of values round
+ * trips.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+final class CompressedOptionWriter
+{
+    static final int BLOCK_SIZE = 128;
+
+    static final byte DELTA = 1;
+
+    static final byte FRAME_OF_REFERENCE = 0;
+
+    static final int HEADER_BYTES = 20;
+
+    static final int MAGIC = 0x5A54_504F;
+
+    private int count;
+
+    private int run;
+
+    private int runCount;
+
+    private boolean runSome;
+
+    private int[] runs = new int[8];
+
+    private int someCount;
+
+    private long[] values = new long[16];
+
+    void addNone()
+    {
+        if (runSome)
+        {
+            endRun();
+        }
+
+        advance();
+    }
+
+    void addSome(
+        final long value)
+    {
+        if (!runSome)
+        {
+            endRun();
+        }
+
+        if (someCount == values.length)
+        {
+            values = Arrays.copyOf(values, someCount << 1);
+        }
+
+        values[someCount++] = value;
+        advance();
+    }
+
+    byte[] encode(
+        final int type)
+    {
+        final Sink presence = new Sink();
+
+        for (int i = 0; i < runCount; i++)
+        {
+            presence.writeVarint(runs[i]);
+        }
+
+        presence.writeVarint(run);
+
+        final Sink blocks = new Sink();
+        final long[] words = new long[BLOCK_SIZE + 1];
+
+        for (int from = 0; from < someCount; from += BLOCK_SIZE)
+        {
+            writeBlock(
+                blocks,
+                words,
+                from,
+                Math.min(someCount, from + BLOCK_SIZE));
+        }
+
+        final ByteBuffer encoded = ByteBuffer
+            .allocate(HEADER_BYTES + presence.size + blocks.size)
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .putInt(MAGIC)
+            .putInt(type)
+            .putInt(count)
+            .putInt(someCount)
+            .putInt(presence.size)
+            .put(presence.bytes, 0, presence.size)
+            .put(blocks.bytes, 0, blocks.size);
+
+        return encoded.array();
+    }
+
+    private static void pack(
+        final long[] words,
+        final int index,
+        final int width,
+        final long value)
+    {
+        if (width == 0)
+        {
+            return;
+        }
+
+        final int bit = index * width;
+        final int shift = bit & 63;
+        words[bit >>> 6] |= value << shift;
+
+        if (shift + width > Long.SIZE)
+        {
+            words[(bit >>> 6) + 1] |= value >>> (Long.SIZE - shift);
+        }
+    }
+
+    private static int width(
+        final long range)
+    {
+        return Long.SIZE - Long.numberOfLeadingZeros(range);
+    }
+
+    private void advance()
+    {
+        if (count == Integer.MAX_VALUE)
+        {
+            throw new IllegalStateException("Column is full");
+        }
+
+        count++;
+        run++;
+    }
+
+    private void endRun()
+    {
+        if (runCount == runs.length)
+        {
+            runs = Arrays.copyOf(runs, runCount << 1);
+        }
+
+        runs[runCount++] = run;
+        run = 0;
+        runSome = !runSome;
+    }
+
+    private void writeBlock(
+        final Sink sink,
+        final long[] words,
+        final int from,
+        final int to)
+    {
+        long min = values[from];
+        long max = min;
+        long minDelta = Long.MAX_VALUE;
+        long maxDelta = Long.MIN_VALUE;
+
+        for (int i = from + 1; i < to; i++)
+        {
+            min = Math.min(min, values[i]);
+            max = Math.max(max, values[i]);
+            final long delta = values[i] - values[i - 1];
+            minDelta = Math.min(minDelta, delta);
+            maxDelta = Math.max(maxDelta, delta);
+        }
+
+        final int forWidth = width(max - min);
+        final int deltaWidth = to - from > 1 ?
+            width(maxDelta - minDelta) :
+            Long.SIZE;
+
+        Arrays.fill(words, 0L);
+
+        if (deltaWidth < forWidth)
+        {
+            sink.writeByte(DELTA);
+            sink.writeByte(deltaWidth);
+            sink.writeZigzag(values[from]);
+            sink.writeZigzag(minDelta);
+
+            for (int i = from + 1; i < to; i++)
+            {
+                pack(
+                    words,
+                    i - from - 1,
+                    deltaWidth,
+                    values[i] - values[i - 1] - minDelta);
+            }
+
+            sink.writeWords(words, ((to - from - 1) * deltaWidth + 7) >>> 3);
+        }
+        else
+        {
+            sink.writeByte(FRAME_OF_REFERENCE);
+            sink.writeByte(forWidth);
+            sink.writeZigzag(min);
+
+            for (int i = from; i < to; i++)
+            {
+                pack(words, i - from, forWidth, values[i] - min);
+            }
+
+            sink.writeWords(words, ((to - from) * forWidth + 7) >>> 3);
+        }
+    }
+
+    private static final class Sink
+    {
+        byte[] bytes = new byte[64];
+
+        int size;
+
+        void writeByte(
+            final int value)
+        {
+            if (size == bytes.length)
+            {
+                bytes = Arrays.copyOf(bytes, size << 1);
+            }
+
+            bytes[size++] = (byte) value;
+        }
+
+        void writeVarint(
+            final long value)
+        {
+            long remaining = value;
+
+            while ((remaining & ~0x7FL) != 0)
+            {
+                writeByte((int) (remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+
+            writeByte((int) remaining);
+        }
+
+        void writeWords(
+            final long[] words,
+            final int byteCount)
+        {
+            for (int i = 0; i < byteCount; i++)
+            {
+                writeByte((int) (words[i >>> 3] >>> ((i & 7) << 3)));
+            }
+        }
+
+        void writeZigzag(
+            final long value)
+        {
+            writeVarint((value << 1) ^ (value >> 63));
+        }
+    }
+}
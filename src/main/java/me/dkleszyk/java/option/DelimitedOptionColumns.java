@@ -0,0 +1,195 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.Objects;
+import me.dkleszyk.java.option.DelimitedOptionReader.ColumnType;
+
+/**
+ * The columns read by a {@link DelimitedOptionReader}. Each column has the
+ * type configured for it, and holds one option per row.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class DelimitedOptionColumns
+{
+    private final Object[] columns;
+
+    private final ColumnType[] columnTypes;
+
+    private final int rowCount;
+
+    DelimitedOptionColumns(
+        final ColumnType[] columnTypes,
+        final Object[] columns,
+        final int rowCount)
+    {
+        this.columnTypes = columnTypes;
+        this.columns = columns;
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * Returns the specified column, which must be a {@code BOOLEAN} column.
+     *
+     * @param index The index of the column.
+     *
+     * @return The column.
+     *
+     * @throws IndexOutOfBoundsException {@code index} is negative or not
+     *                                   less than {@link #columnCount()}.
+     * @throws IllegalArgumentException  The column is not a {@code BOOLEAN}
+     *                                   column.
+     */
+    public BooleanOptionArray booleanColumn(
+        final int index)
+    {
+        checkType(index, ColumnType.BOOLEAN);
+        return (BooleanOptionArray) columns[index];
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return The number of columns.
+     */
+    public int columnCount()
+    {
+        return columns.length;
+    }
+
+    /**
+     * Returns the type of the specified column.
+     *
+     * @param index The index of the column.
+     *
+     * @return The type of the column.
+     *
+     * @throws IndexOutOfBoundsException {@code index} is negative or not less
+     *                                   than {@link #columnCount()}.
+     */
+    public ColumnType columnType(
+        final int index)
+    {
+        return columnTypes[Objects.checkIndex(index, columnTypes.length)];
+    }
+
+    /**
+     * Returns the specified column, which must be a {@code DOUBLE} column.
+     *
+     * @param index The index of the column.
+     *
+     * @return The column.
+     *
+     * @throws IndexOutOfBoundsException {@code index} is negative or not
+     *                                   less than {@link #columnCount()}.
+     * @throws IllegalArgumentException  The column is not a {@code DOUBLE}
+     *                                   column.
+     */
+    public DoubleOptionColumn doubleColumn(
+        final int index)
+    {
+        checkType(index, ColumnType.DOUBLE);
+        return (DoubleOptionColumn) columns[index];
+    }
+
+    /**
+     * Returns the specified column, which must be an {@code INT} column.
+     *
+     * @param index The index of the column.
+     *
+     * @return The column.
+     *
+     * @throws IndexOutOfBoundsException {@code index} is negative or not
+     *                                   less than {@link #columnCount()}.
+     * @throws IllegalArgumentException  The column is not an {@code INT}
+     *                                   column.
+     */
+    public IntOptionColumn intColumn(
+        final int index)
+    {
+        checkType(index, ColumnType.INT);
+        return (IntOptionColumn) columns[index];
+    }
+
+    /**
+     * Returns the specified column, which must be a {@code LONG} column.
+     *
+     * @param index The index of the column.
+     *
+     * @return The column.
+     *
+     * @throws IndexOutOfBoundsException {@code index} is negative or not
+     *                                   less than {@link #columnCount()}.
+     * @throws IllegalArgumentException  The column is not a {@code LONG}
+     *                                   column.
+     */
+    public LongOptionColumn longColumn(
+        final int index)
+    {
+        checkType(index, ColumnType.LONG);
+        return (LongOptionColumn) columns[index];
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return The number of rows.
+     */
+    public int rowCount()
+    {
+        return rowCount;
+    }
+
+    /**
+     * Returns the specified column, which must be a {@code STRING} column.
+     *
+     * @param index The index of the column.
+     *
+     * @return The column.
+     *
+     * @throws IndexOutOfBoundsException {@code index} is negative or not
+     *                                   less than {@link #columnCount()}.
+     * @throws IllegalArgumentException  The column is not a {@code STRING}
+     *                                   column.
+     */
+    @SuppressWarnings("unchecked")
+    public SparseOptionColumn<String> stringColumn(
+        final int index)
+    {
+        checkType(index, ColumnType.STRING);
+        return (SparseOptionColumn<String>) columns[index];
+    }
+
+    private void checkType(
+        final int index,
+        final ColumnType type)
+    {
+        if (columnType(index) != type)
+        {
+            throw new IllegalArgumentException(
+                "Column " + index + " is not of type " + type);
+        }
+    }
+}
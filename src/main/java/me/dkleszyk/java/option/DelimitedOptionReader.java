@@ -0,0 +1,674 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads delimited text, such as CSV or TSV, directly into primitive option
+ * columns. Each line of the input is a row, and each field of a row is parsed
+ * according to the type configured for its column, without exceptions and,
+ * for the primitive types, without allocating. A field that is empty,
+ * malformed or out of range, or that is missing from a short row, becomes an
+ * empty option.
+ * <p>
+ * Lines end with {@code '\n'} or {@code "\r\n"}. Fields are split at every
+ * occurrence of the delimiter; quoting and escaping are not supported, and
+ * surrounding whitespace is part of the field. Fields beyond the configured
+ * columns are ignored. Byte input is read as UTF-8, with numbers and booleans
+ * in ASCII.
+ * <p>
+ * Instances are immutable and are created with a {@link Builder}.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class DelimitedOptionReader
+{
+    private final ColumnType[] columnTypes;
+
+    private final char delimiter;
+
+    private final boolean header;
+
+    private DelimitedOptionReader(
+        final ColumnType[] columnTypes,
+        final char delimiter,
+        final boolean header)
+    {
+        this.columnTypes = columnTypes;
+        this.delimiter = delimiter;
+        this.header = header;
+    }
+
+    /**
+     * Returns a builder with which to create a reader.
+     *
+     * @return A new builder, with no columns, a comma delimiter and no header
+     *         line.
+     */
+    public static Builder builder()
+    {
+        return new Builder();
+    }
+
+    /**
+     * Reads the bytes of the specified buffer from its position to its limit.
+     * The position and limit of {@code buffer} are not changed.
+     *
+     * @param buffer The bytes to read.
+     *
+     * @return The columns read.
+     *
+     * @throws NullPointerException {@code buffer} is {@code null}.
+     */
+    public DelimitedOptionColumns read(
+        final ByteBuffer buffer)
+    {
+        return parse(buffer, buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Reads the specified bytes.
+     *
+     * @param bytes The bytes to read.
+     *
+     * @return The columns read.
+     *
+     * @throws NullPointerException {@code bytes} is {@code null}.
+     */
+    public DelimitedOptionColumns read(
+        final byte[] bytes)
+    {
+        return read(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Reads the specified characters.
+     *
+     * @param s The characters to read.
+     *
+     * @return The columns read.
+     *
+     * @throws NullPointerException {@code s} is {@code null}.
+     */
+    public DelimitedOptionColumns read(
+        final CharSequence s)
+    {
+        return parse(s, 0, s.length());
+    }
+
+    /**
+     * Reads the specified file, which is mapped into memory rather than
+     * copied.
+     *
+     * @param path The path of the file.
+     *
+     * @return The columns read.
+     *
+     * @throws IOException The file cannot be opened or mapped, or exceeds
+     *                     2 GiB.
+     */
+    public DelimitedOptionColumns read(
+        final Path path)
+        throws IOException
+    {
+        try (FileChannel channel =
+            FileChannel.open(path, StandardOpenOption.READ))
+        {
+            final long size = channel.size();
+
+            if (size > Integer.MAX_VALUE)
+            {
+                throw new IOException("File exceeds 2 GiB: " + path);
+            }
+
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    private static int countLines(
+        final CharSequence s,
+        final int from,
+        final int end)
+    {
+        int lines = 0;
+
+        for (int i = from; i < end; i++)
+        {
+            if (s.charAt(i) == '\n')
+            {
+                lines++;
+            }
+        }
+
+        return from < end && s.charAt(end - 1) != '\n' ?
+            lines + 1 :
+            lines;
+    }
+
+    private static int countLines(
+        final ByteBuffer buffer,
+        final int from,
+        final int end)
+    {
+        int lines = 0;
+
+        for (int i = from; i < end; i++)
+        {
+            if (buffer.get(i) == '\n')
+            {
+                lines++;
+            }
+        }
+
+        return from < end && buffer.get(end - 1) != '\n' ?
+            lines + 1 :
+            lines;
+    }
+
+    private static String decode(
+        final ByteBuffer buffer,
+        final int from,
+        final int to)
+    {
+        final byte[] bytes = new byte[to - from];
+        buffer.get(from, bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int lineEnd(
+        final CharSequence s,
+        final int from,
+        final int end)
+    {
+        int i = from;
+
+        while (i < end && s.charAt(i) != '\n')
+        {
+            i++;
+        }
+
+        return i;
+    }
+
+    private static int lineEnd(
+        final ByteBuffer buffer,
+        final int from,
+        final int end)
+    {
+        int i = from;
+
+        while (i < end && buffer.get(i) != '\n')
+        {
+            i++;
+        }
+
+        return i;
+    }
+
+    private DelimitedOptionColumns parse(
+        final ByteBuffer buffer,
+        final int start,
+        final int end)
+    {
+        int from = start;
+
+        if (header && from < end)
+        {
+            from = lineEnd(buffer, from, end) + 1;
+        }
+
+        final Columns columns = new Columns(countLines(buffer, from, end));
+
+        for (int row = 0; from < end; row++)
+        {
+            final int lineEnd = lineEnd(buffer, from, end);
+            final int contentEnd = lineEnd > from
+                && buffer.get(lineEnd - 1) == '\r' ?
+                    lineEnd - 1 :
+                    lineEnd;
+            int fieldFrom = from;
+
+            for (int column = 0; column < columnTypes.length; column++)
+            {
+                int fieldTo = fieldFrom;
+
+                while (fieldTo < contentEnd && buffer.get(fieldTo) != delimiter)
+                {
+                    fieldTo++;
+                }
+
+                parseField(buffer, fieldFrom, fieldTo, columns, column, row);
+                fieldFrom = Math.min(fieldTo + 1, contentEnd);
+            }
+
+            from = lineEnd + 1;
+        }
+
+        return columns.build();
+    }
+
+    private void parseField(
+        final ByteBuffer buffer,
+        final int from,
+        final int to,
+        final Columns columns,
+        final int column,
+        final int row)
+    {
+        switch (columnTypes[column])
+        {
+            case BOOLEAN:
+                final BooleanOption b =
+                    OptionParsers.parseBoolean(buffer, from, to);
+
+                if (b.isSome())
+                {
+                    columns.booleans[column].setBoolean(row, b.getAsBoolean());
+                }
+
+                break;
+            case DOUBLE:
+                final long bits =
+                    OptionParsers.parseDoubleBits(buffer, from, to);
+
+                if (bits != OptionParsers.NO_DOUBLE_BITS)
+                {
+                    columns.doubles[column].setDouble(
+                        row,
+                        Double.longBitsToDouble(bits));
+                }
+
+                break;
+            case INT:
+                final long i =
+                    OptionParsers.parseIntValue(buffer, from, to, 10);
+
+                if (i != OptionParsers.NO_INT_VALUE)
+                {
+                    columns.ints[column].setInt(row, (int) i);
+                }
+
+                break;
+            case LONG:
+                OptionParsers.parseLongValue(
+                    buffer,
+                    from,
+                    to,
+                    10,
+                    columns.longs[column],
+                    row);
+
+                break;
+            case STRING:
+
+                if (from < to)
+                {
+                    columns.strings[column].addSome(decode(buffer, from, to));
+                }
+                else
+                {
+                    columns.strings[column].addNone();
+                }
+
+                break;
+            default:
+
+                break;
+        }
+    }
+
+    private DelimitedOptionColumns parse(
+        final CharSequence s,
+        final int start,
+        final int end)
+    {
+        int from = start;
+
+        if (header && from < end)
+        {
+            from = lineEnd(s, from, end) + 1;
+        }
+
+        final Columns columns = new Columns(countLines(s, from, end));
+
+        for (int row = 0; from < end; row++)
+        {
+            final int lineEnd = lineEnd(s, from, end);
+            final int contentEnd = lineEnd > from
+                && s.charAt(lineEnd - 1) == '\r' ?
+                    lineEnd - 1 :
+                    lineEnd;
+            int fieldFrom = from;
+
+            for (int column = 0; column < columnTypes.length; column++)
+            {
+                int fieldTo = fieldFrom;
+
+                while (fieldTo < contentEnd && s.charAt(fieldTo) != delimiter)
+                {
+                    fieldTo++;
+                }
+
+                parseField(s, fieldFrom, fieldTo, columns, column, row);
+                fieldFrom = Math.min(fieldTo + 1, contentEnd);
+            }
+
+            from = lineEnd + 1;
+        }
+
+        return columns.build();
+    }
+
+    private void parseField(
+        final CharSequence s,
+        final int from,
+        final int to,
+        final Columns columns,
+        final int column,
+        final int row)
+    {
+        switch (columnTypes[column])
+        {
+            case BOOLEAN:
+                final BooleanOption b =
+                    OptionParsers.parseBoolean(s, from, to);
+
+                if (b.isSome())
+                {
+                    columns.booleans[column].setBoolean(row, b.getAsBoolean());
+                }
+
+                break;
+            case DOUBLE:
+                final long bits =
+                    OptionParsers.parseDoubleBits(s, from, to);
+
+                if (bits != OptionParsers.NO_DOUBLE_BITS)
+                {
+                    columns.doubles[column].setDouble(
+                        row,
+                        Double.longBitsToDouble(bits));
+                }
+
+                break;
+            case INT:
+                final long i =
+                    OptionParsers.parseIntValue(s, from, to, 10);
+
+                if (i != OptionParsers.NO_INT_VALUE)
+                {
+                    columns.ints[column].setInt(row, (int) i);
+                }
+
+                break;
+            case LONG:
+                OptionParsers.parseLongValue(
+                    s,
+                    from,
+                    to,
+                    10,
+                    columns.longs[column],
+                    row);
+
+                break;
+            case STRING:
+
+                if (from < to)
+                {
+                    columns.strings[column].addSome(
+                        s.subSequence(from, to).toString());
+                }
+                else
+                {
+                    columns.strings[column].addNone();
+                }
+
+                break;
+            default:
+
+                break;
+        }
+    }
+
+    /**
+     * The type of a column.
+     */
+    public enum ColumnType
+    {
+        /**
+         * A column of {@code boolean} values, read as {@code "true"} or
+         * {@code "false"}, ignoring case, into a {@link BooleanOptionArray}.
+         */
+        BOOLEAN,
+        /**
+         * A column of {@code double} values, read into a
+         * {@link DoubleOptionColumn}.
+         */
+        DOUBLE,
+        /**
+         * A column of decimal {@code int} values, read into an
+         * {@link IntOptionColumn}.
+         */
+        INT,
+        /**
+         * A column of decimal {@code long} values, read into a
+         * {@link LongOptionColumn}.
+         */
+        LONG,
+        /**
+         * A column that is not read.
+         */
+        SKIP,
+        /**
+         * A column of strings, read into a {@link SparseOptionColumn}. Empty
+         * fields are empty options.
+         */
+        STRING
+    }
+
+    /**
+     * A builder of {@link DelimitedOptionReader} instances.
+     */
+    public static final class Builder
+    {
+        private final List<ColumnType> columnTypes = new ArrayList<>();
+
+        private char delimiter = ',';
+
+        private boolean header;
+
+        private Builder()
+        {
+        }
+
+        /**
+         * Appends a column of the specified type.
+         *
+         * @param type The type of the column.
+         *
+         * @return This builder.
+         *
+         * @throws NullPointerException {@code type} is {@code null}.
+         */
+        public Builder addColumn(
+            final ColumnType type)
+        {
+            columnTypes.add(Objects.requireNonNull(type));
+
+            return this;
+        }
+
+        /**
+         * Creates a reader with the configuration of this builder. The
+         * builder may continue to be used afterwards.
+         *
+         * @return The new reader.
+         */
+        public DelimitedOptionReader build()
+        {
+            return new DelimitedOptionReader(
+                columnTypes.toArray(new ColumnType[0]),
+                delimiter,
+                header);
+        }
+
+        /**
+         * Sets the character that separates fields, such as {@code ','} for
+         * CSV or {@code '\t'} for TSV. The delimiter must be an ASCII
+         * character, so that it cannot match part of an encoded character in
+         * byte input.
+         *
+         * @param delimiter The delimiter.
+         *
+         * @return This builder.
+         *
+         * @throws IllegalArgumentException {@code delimiter} is a line
+         *                                  terminator or is not an ASCII
+         *                                  character.
+         */
+        public Builder delimiter(
+            final char delimiter)
+        {
+            if (delimiter == '\n' || delimiter == '\r' || delimiter > 0x7F)
+            {
+                throw new IllegalArgumentException(
+                    "Invalid delimiter: " + (int) delimiter);
+            }
+
+            this.delimiter = delimiter;
+
+            return this;
+        }
+
+        /**
+         * Sets whether the first line of the input is a header, which is
+         * skipped.
+         *
+         * @param header Whether the first line is a header.
+         *
+         * @return This builder.
+         */
+        public Builder header(
+            final boolean header)
+        {
+            this.header = header;
+
+            return this;
+        }
+    }
+
+    private final class Columns
+    {
+        private final BooleanOptionArray[] booleans;
+
+        private final DoubleOptionColumn[] doubles;
+
+        private final IntOptionColumn[] ints;
+
+        private final LongOptionColumn[] longs;
+
+        private final int rowCount;
+
+        private final SparseOptionColumn.Builder<String>[] strings;
+
+        @SuppressWarnings("unchecked")
+        private Columns(
+            final int rowCount)
+        {
+            final int count = columnTypes.length;
+            this.booleans = new BooleanOptionArray[count];
+            this.doubles = new DoubleOptionColumn[count];
+            this.ints = new IntOptionColumn[count];
+            this.longs = new LongOptionColumn[count];
+            this.rowCount = rowCount;
+            this.strings =
+                (SparseOptionColumn.Builder<String>[])
+                    new SparseOptionColumn.Builder<?>[count];
+
+            for (int i = 0; i < count; i++)
+            {
+                switch (columnTypes[i])
+                {
+                    case BOOLEAN:
+                        booleans[i] = new BooleanOptionArray(rowCount);
+
+                        break;
+                    case DOUBLE:
+                        doubles[i] =
+                            DoubleOptionColumn.allocateDirect(rowCount);
+
+                        break;
+                    case INT:
+                        ints[i] = IntOptionColumn.allocateDirect(rowCount);
+
+                        break;
+                    case LONG:
+                        longs[i] = LongOptionColumn.allocateDirect(rowCount);
+
+                        break;
+                    case STRING:
+                        strings[i] = SparseOptionColumn.builder();
+
+                        break;
+                    default:
+
+                        break;
+                }
+            }
+        }
+
+        private DelimitedOptionColumns build()
+        {
+            final Object[] columns = new Object[columnTypes.length];
+
+            for (int i = 0; i < columns.length; i++)
+            {
+                columns[i] = strings[i] != null ?
+                    strings[i].build() :
+                    booleans[i] != null ?
+                        booleans[i] :
+                        doubles[i] != null ?
+                            doubles[i] :
+                            ints[i] != null ?
+                                ints[i] :
+                                longs[i];
+            }
+
+            return new DelimitedOptionColumns(
+                columnTypes.clone(),
+                columns,
+                rowCount);
+        }
+    }
+}
@@ -25,9 +25,11 @@ package me.dkleszyk.java.option;
 
 import java.util.NoSuchElementException;
 import java.util.OptionalDouble;
+import java.util.PrimitiveIterator;
 import java.util.function.*;
 import java.util.stream.DoubleStream;
 import me.dkleszyk.java.function.extra.primitive.*;
+import me.dkleszyk.java.option.function.*;
 
 /**
  * A {@code double} value that may or may not be present.
@@ -37,6 +39,14 @@ import me.dkleszyk.java.function.extra.primitive.*;
 public interface DoubleOption
     extends Option<Double>
 {
+    /**
+     * Returns an iterator over the value contained by this instance that does
+     * not box the value.
+     *
+     * @return An iterator over the value contained by this instance.
+     */
+    PrimitiveIterator.OfDouble doubleIterator();
+
     /**
      * Returns the value contained by this instance if it is non-empty;
      * otherwise, returns the specified value.
@@ -51,7 +61,7 @@ public interface DoubleOption
 
     /**
      * Returns the value contained by this instance if it is non-empty;
-     * otherwise, returns the value supplier by the specified method.
+     * otherwise, returns the value supplied by the specified method.
      *
      * @param supplier A method that supplies the value to return if this
      *                 instance is empty.
@@ -64,7 +74,7 @@ public interface DoubleOption
 
     /**
      * Returns the value contained by this instance if it is non-empty;
-     * otherwise, returns the value supplier by the specified method.
+     * otherwise, returns the value supplied by the specified method.
      *
      * @param <A>      The type of the additional argument provided to
      *                 {@code supplier}.
@@ -144,6 +154,12 @@ public interface DoubleOption
         final BiPredicate<? super A, ? super Double> predicate,
         final A arg);
 
+    @Override
+    <A, B> DoubleOption filter(
+        final TriPredicate<? super A, ? super B, ? super Double> predicate,
+        final A arg1,
+        final B arg2);
+
     /**
      * Returns this instance if it is non-empty and the specified predicate
      * returns {@code true} for its contained value; otherwise, returns an empty
@@ -158,6 +174,30 @@ public interface DoubleOption
     DoubleOption filterDouble(
         final DoublePredicate predicate);
 
+    /**
+     * Returns this instance if it is non-empty and the specified predicate
+     * returns {@code true} for its contained value; otherwise, returns an empty
+     * option.
+     *
+     * @param <A>       The type of the first additional argument provided to
+     *                  {@code predicate}.
+     * @param <B>       The type of the second additional argument provided to
+     *                  {@code predicate}.
+     * @param predicate A predicate to apply to the contained value if this
+     *                  instance is non-empty.
+     * @param arg1      The first additional argument to provide to {@code
+     *                  predicate}.
+     * @param arg2      The second additional argument to provide to {@code
+     *                  predicate}.
+     *
+     * @return This instance if it is non-empty and {@code predicate} returns
+     *         {@code true} for its contained value; otherwise, an empty option.
+     */
+    <A, B> DoubleOption filterDouble(
+        final ObjObjDoublePredicate<? super A, ? super B> predicate,
+        final A arg1,
+        final B arg2);
+
     @Override
     DoubleOption filterToObject();
 
@@ -281,6 +321,17 @@ public interface DoubleOption
         final Consumer<? super B> ifNone,
         final B ifNoneArg);
 
+    /**
+     * Computes the natural logarithm of the contained value. A value that is
+     * not strictly positive (including {@code NaN}) is outside the domain of
+     * the logarithm and produces an empty option.
+     *
+     * @return An option containing the natural logarithm if this instance is
+     *         non-empty and its value is greater than zero; otherwise, an empty
+     *         option.
+     */
+    DoubleOption log();
+
     /**
      * Applies the specified mapper function to the contained value.
      *
@@ -294,6 +345,28 @@ public interface DoubleOption
     <T> Option<T> mapDouble(
         final DoubleFunction<? extends T> mapper);
 
+    /**
+     * Applies the specified mapper function to the contained value.
+     *
+     * @param <A>    The type of the first additional argument provided to
+     *               {@code mapper}.
+     * @param <B>    The type of the second additional argument provided to
+     *               {@code mapper}.
+     * @param <T>    The value type of the returned option.
+     * @param mapper A function to apply to the value contained by this
+     *               instance.
+     * @param arg1   The first additional argument to provide to {@code mapper}.
+     * @param arg2   The second additional argument to provide to {@code
+     *               mapper}.
+     *
+     * @return An option containing the result of applying the mapper function
+     *         if this instance is non-empty; otherwise, an empty option.
+     */
+    <A, B, T> Option<T> mapDouble(
+        final ObjObjDoubleFunction<? super A, ? super B, ? extends T> mapper,
+        final A arg1,
+        final B arg2);
+
     /**
      * Applies the specified mapper function to the contained value.
      *
@@ -355,6 +428,27 @@ public interface DoubleOption
         final DoubleBinaryOperator mapper,
         final double arg);
 
+    /**
+     * Applies the specified mapper function to the contained value.
+     *
+     * @param <A>    The type of the first additional argument provided to
+     *               {@code mapper}.
+     * @param <B>    The type of the second additional argument provided to
+     *               {@code mapper}.
+     * @param mapper A function to apply to the value contained by this
+     *               instance.
+     * @param arg1   The first additional argument to provide to {@code mapper}.
+     * @param arg2   The second additional argument to provide to {@code
+     *               mapper}.
+     *
+     * @return An option containing the result of applying the mapper function
+     *         if this instance is non-empty; otherwise, an empty option.
+     */
+    <A, B> DoubleOption mapDoubleToDouble(
+        final ObjObjDoubleToDoubleFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2);
+
     /**
      * Applies the specified mapper function to the contained value.
      *
@@ -379,6 +473,27 @@ public interface DoubleOption
     IntOption mapDoubleToInt(
         final DoubleToIntFunction mapper);
 
+    /**
+     * Applies the specified mapper function to the contained value.
+     *
+     * @param <A>    The type of the first additional argument provided to
+     *               {@code mapper}.
+     * @param <B>    The type of the second additional argument provided to
+     *               {@code mapper}.
+     * @param mapper A function to apply to the value contained by this
+     *               instance.
+     * @param arg1   The first additional argument to provide to {@code mapper}.
+     * @param arg2   The second additional argument to provide to {@code
+     *               mapper}.
+     *
+     * @return An option containing the result of applying the mapper function
+     *         if this instance is non-empty; otherwise, an empty option.
+     */
+    <A, B> IntOption mapDoubleToInt(
+        final ObjObjDoubleToIntFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2);
+
     /**
      * Applies the specified mapper function to the contained value.
      *
@@ -391,6 +506,27 @@ public interface DoubleOption
     LongOption mapDoubleToLong(
         final DoubleToLongFunction mapper);
 
+    /**
+     * Applies the specified mapper function to the contained value.
+     *
+     * @param <A>    The type of the first additional argument provided to
+     *               {@code mapper}.
+     * @param <B>    The type of the second additional argument provided to
+     *               {@code mapper}.
+     * @param mapper A function to apply to the value contained by this
+     *               instance.
+     * @param arg1   The first additional argument to provide to {@code mapper}.
+     * @param arg2   The second additional argument to provide to {@code
+     *               mapper}.
+     *
+     * @return An option containing the result of applying the mapper function
+     *         if this instance is non-empty; otherwise, an empty option.
+     */
+    <A, B> LongOption mapDoubleToLong(
+        final ObjObjDoubleToLongFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2);
+
     /**
      * Applies the specified mapper function to the contained value.
      *
@@ -458,10 +594,59 @@ public interface DoubleOption
         final Function<? super A, ? extends DoubleOption> supplier,
         final A arg);
 
+    /**
+     * Computes the square root of the contained value. A negative value (or
+     * {@code NaN}) is outside the domain of the square root and produces an
+     * empty option.
+     *
+     * @return An option containing the square root if this instance is
+     *         non-empty and its value is not negative; otherwise, an empty
+     *         option.
+     */
+    DoubleOption sqrt();
+
     /**
      * Converts this instance to a {@link java.util.OptionalDouble} instance.
      *
      * @return The converted instance.
      */
     OptionalDouble toOptionalDouble();
+
+    /**
+     * Combines the value contained by this instance with the value contained by
+     * the specified option.
+     *
+     * @param other    The option whose value to combine with the value
+     *                 contained by this instance.
+     * @param combiner A function to apply to the value contained by this
+     *                 instance and the value contained by {@code other}.
+     *
+     * @return An option containing the result of applying the combiner function
+     *         to both contained values if this instance and {@code other} are
+     *         both non-empty; otherwise, an empty option.
+     */
+    DoubleOption zipDouble(
+        final DoubleOption other,
+        final DoubleBinaryOperator combiner);
+
+    /**
+     * Combines the value contained by this instance with the value contained by
+     * the specified option.
+     *
+     * @param <A>      The type of the additional argument provided to {@code
+     *                 combiner}.
+     * @param other    The option whose value to combine with the value
+     *                 contained by this instance.
+     * @param combiner A function to apply to the value contained by this
+     *                 instance and the value contained by {@code other}.
+     * @param arg      An additional argument to provide to {@code combiner}.
+     *
+     * @return An option containing the result of applying the combiner function
+     *         to both contained values if this instance and {@code other} are
+     *         both non-empty; otherwise, an empty option.
+     */
+    <A> DoubleOption zipDouble(
+        final DoubleOption other,
+        final ObjDoubleBinaryOperator<? super A> combiner,
+        final A arg);
 }
@@ -0,0 +1,1165 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.PrimitiveIterator;
+import java.util.function.*;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
+import me.dkleszyk.java.function.extra.primitive.*;
+import me.dkleszyk.java.option.function.*;
+
+import static me.dkleszyk.java.option.Options.noneUnchecked;
+import static me.dkleszyk.java.option.Options.someNonNull;
+
+/**
+ * A mutable {@link DoubleOption} view of the elements of a {@code double} array
+ * and a presence bitmap, for passing the elements to code that accepts options
+ * without allocating an option per element. The cursor is repositioned with
+ * {@link #moveTo(int)}, after which it behaves as an option with the contents
+ * of that element.
+ * <p>
+ * Because its contents change whenever it moves, a cursor must not escape the
+ * code to which it is passed for a single element: it must not be stored, put
+ * in a collection, used as a map key, or shared with other threads. Code that
+ * needs to retain an element must retain {@link #snapshot()} instead. No method
+ * of a cursor returns the cursor itself as an option; where an immutable option
+ * would return itself, the cursor returns its snapshot.
+ * <p>
+ * A cursor is equal only to another cursor with the same contents. Code that
+ * compares the contents of a cursor with those of another option must compare
+ * {@link #snapshot()} instead.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class DoubleOptionCursor
+    implements DoubleOption
+{
+    private int index = -1;
+
+    private final long[] presence;
+
+    private boolean present;
+
+    private double value;
+
+    private final double[] values;
+
+    /**
+     * Creates a cursor over the specified values and presence bitmap, which
+     * are not copied. Bit {@code i & 63} of {@code presence[i >>> 6]} is set
+     * if the element at index {@code i} is present. The cursor is initially
+     * empty and not positioned at any element.
+     *
+     * @param values   The values of the elements.
+     * @param presence The presence bitmap of the elements.
+     *
+     * @throws NullPointerException     {@code values} or {@code presence} is
+     *                                  {@code null}.
+     * @throws IllegalArgumentException {@code presence} is too short for
+     *                                  {@code values}.
+     */
+    public DoubleOptionCursor(
+        final double[] values,
+        final long[] presence)
+    {
+        if (presence.length < (values.length + 63L) >>> 6)
+        {
+            throw new IllegalArgumentException(
+                "Presence bitmap too short: " + presence.length);
+        }
+
+        this.values = values;
+        this.presence = presence;
+    }
+
+    @Override
+    public <O extends Option<?>> O and(
+        final O option)
+    {
+        return snapshot().and(option);
+    }
+
+    @Override
+    public <O extends Option<?>> O andGet(
+        final Supplier<? extends O> supplier)
+    {
+        return snapshot().andGet(supplier);
+    }
+
+    @Override
+    public <A, O extends Option<?>> O andGet(
+        final Function<? super A, ? extends O> supplier,
+        final A arg)
+    {
+        return snapshot().andGet(supplier, arg);
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble doubleIterator()
+    {
+        return snapshot().doubleIterator();
+    }
+
+    @Override
+    public double doubleOrElse(
+        final double value)
+    {
+        if (!present)
+        {
+            return none().doubleOrElse(value);
+        }
+
+        return this.value;
+    }
+
+    @Override
+    public double doubleOrElseGet(
+        final DoubleSupplier supplier)
+    {
+        return snapshot().doubleOrElseGet(supplier);
+    }
+
+    @Override
+    public <A> double doubleOrElseGet(
+        final ToDoubleFunction<? super A> supplier,
+        final A arg)
+    {
+        return snapshot().doubleOrElseGet(supplier, arg);
+    }
+
+    @Override
+    public double doubleOrElseThrow()
+    {
+        return snapshot().doubleOrElseThrow();
+    }
+
+    @Override
+    public <X extends Throwable> double doubleOrElseThrow(
+        final Supplier<? extends X> supplier)
+        throws X
+    {
+        return snapshot().doubleOrElseThrow(supplier);
+    }
+
+    @Override
+    public <A, X extends Throwable> double doubleOrElseThrow(
+        final Function<? super A, ? extends X> supplier,
+        final A arg)
+        throws X
+    {
+        return snapshot().doubleOrElseThrow(supplier, arg);
+    }
+
+    @Override
+    public DoubleStream doubleStream()
+    {
+        return snapshot().doubleStream();
+    }
+
+    @Override
+    public boolean equals(
+        final Object obj)
+    {
+        return obj == this ||
+            obj instanceof DoubleOptionCursor other &&
+            snapshot().equals(other.snapshot());
+    }
+
+    @Override
+    public DoubleOption filter(
+        final Predicate<? super Double> predicate)
+    {
+        return snapshot().filter(predicate);
+    }
+
+    @Override
+    public <A> DoubleOption filter(
+        final BiPredicate<? super A, ? super Double> predicate,
+        final A arg)
+    {
+        return snapshot().filter(predicate, arg);
+    }
+
+    @Override
+    public <A, B> DoubleOption filter(
+        final TriPredicate<? super A, ? super B, ? super Double> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().filter(predicate, arg1, arg2);
+    }
+
+    @Override
+    public DoubleOption filterDouble(
+        final DoublePredicate predicate)
+    {
+        if (!present)
+        {
+            return none().filterDouble(predicate);
+        }
+
+        return predicate.test(value) ?
+            snapshot() :
+            noneUnchecked();
+    }
+
+    @Override
+    public <A, B> DoubleOption filterDouble(
+        final ObjObjDoublePredicate<? super A, ? super B> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        if (!present)
+        {
+            return none().filterDouble(predicate, arg1, arg2);
+        }
+
+        return predicate.test(arg1, arg2, value) ?
+            snapshot() :
+            noneUnchecked();
+    }
+
+    @Override
+    public BooleanOption filterToBoolean()
+    {
+        return snapshot().filterToBoolean();
+    }
+
+    @Override
+    public ByteOption filterToByte()
+    {
+        return snapshot().filterToByte();
+    }
+
+    @Override
+    public CharOption filterToChar()
+    {
+        return snapshot().filterToChar();
+    }
+
+    @Override
+    public DoubleOption filterToDouble()
+    {
+        return snapshot().filterToDouble();
+    }
+
+    @Override
+    public FloatOption filterToFloat()
+    {
+        return snapshot().filterToFloat();
+    }
+
+    @Override
+    public IntOption filterToInt()
+    {
+        return snapshot().filterToInt();
+    }
+
+    @Override
+    public LongOption filterToLong()
+    {
+        return snapshot().filterToLong();
+    }
+
+    @Override
+    public DoubleOption filterToObject()
+    {
+        return snapshot().filterToObject();
+    }
+
+    @Override
+    public ShortOption filterToShort()
+    {
+        return snapshot().filterToShort();
+    }
+
+    @Override
+    public <T> Option<T> filterToType(
+        final Class<T> type)
+    {
+        return snapshot().filterToType(type);
+    }
+
+    @Override
+    public <O extends Option<?>> O flatMap(
+        final Function<? super Double, ? extends O> mapper)
+    {
+        return snapshot().flatMap(mapper);
+    }
+
+    @Override
+    public <A, O extends Option<?>> O flatMap(
+        final BiFunction<? super A, ? super Double, ? extends O> mapper,
+        final A arg)
+    {
+        return snapshot().flatMap(mapper, arg);
+    }
+
+    @Override
+    public <A, B, O extends Option<?>> O flatMap(
+        final TriFunction<? super A, ? super B, ? super Double, ? extends O> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().flatMap(mapper, arg1, arg2);
+    }
+
+    @Override
+    public <O extends Option<?>> O flatMapDouble(
+        final DoubleFunction<? extends O> mapper)
+    {
+        return snapshot().flatMapDouble(mapper);
+    }
+
+    @Override
+    public Double get()
+    {
+        return snapshot().get();
+    }
+
+    @Override
+    public double getAsDouble()
+    {
+        if (!present)
+        {
+            return none().getAsDouble();
+        }
+
+        return value;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return snapshot().hashCode();
+    }
+
+    @Override
+    public void ifNone(
+        final Runnable ifNone)
+    {
+        snapshot().ifNone(ifNone);
+    }
+
+    @Override
+    public <A> void ifNone(
+        final Consumer<? super A> ifNone,
+        final A arg)
+    {
+        snapshot().ifNone(ifNone, arg);
+    }
+
+    @Override
+    public void ifSome(
+        final Consumer<? super Double> ifSome)
+    {
+        if (!present)
+        {
+            none().ifSome(ifSome);
+
+            return;
+        }
+
+        ifSome.accept(boxedValue());
+    }
+
+    @Override
+    public <A> void ifSome(
+        final BiConsumer<? super A, ? super Double> ifSome,
+        final A arg)
+    {
+        if (!present)
+        {
+            none().ifSome(ifSome, arg);
+
+            return;
+        }
+
+        ifSome.accept(arg, boxedValue());
+    }
+
+    @Override
+    public void ifSomeDouble(
+        final DoubleConsumer ifSome)
+    {
+        if (!present)
+        {
+            none().ifSomeDouble(ifSome);
+
+            return;
+        }
+
+        ifSome.accept(value);
+    }
+
+    @Override
+    public <A> void ifSomeDouble(
+        final ObjDoubleConsumer<? super A> ifSome,
+        final A arg)
+    {
+        if (!present)
+        {
+            none().ifSomeDouble(ifSome, arg);
+
+            return;
+        }
+
+        ifSome.accept(arg, value);
+    }
+
+    @Override
+    public void ifSomeDoubleOrElse(
+        final DoubleConsumer ifSome,
+        final Runnable ifNone)
+    {
+        snapshot().ifSomeDoubleOrElse(ifSome, ifNone);
+    }
+
+    @Override
+    public <A> void ifSomeDoubleOrElse(
+        final DoubleConsumer ifSome,
+        final Consumer<? super A> ifNone,
+        final A ifNoneArg)
+    {
+        snapshot().ifSomeDoubleOrElse(ifSome, ifNone, ifNoneArg);
+    }
+
+    @Override
+    public <A> void ifSomeDoubleOrElse(
+        final ObjDoubleConsumer<? super A> ifSome,
+        final A ifSomeArg,
+        final Runnable ifNone)
+    {
+        snapshot().ifSomeDoubleOrElse(ifSome, ifSomeArg, ifNone);
+    }
+
+    @Override
+    public <A> void ifSomeDoubleOrElse(
+        final ObjDoubleConsumer<? super A> ifSome,
+        final Consumer<? super A> ifNone,
+        final A arg)
+    {
+        snapshot().ifSomeDoubleOrElse(ifSome, ifNone, arg);
+    }
+
+    @Override
+    public <A, B> void ifSomeDoubleOrElse(
+        final ObjDoubleConsumer<? super A> ifSome,
+        final A ifSomeArg,
+        final Consumer<? super B> ifNone,
+        final B ifNoneArg)
+    {
+        snapshot().ifSomeDoubleOrElse(ifSome, ifSomeArg, ifNone, ifNoneArg);
+    }
+
+    @Override
+    public void ifSomeOrElse(
+        final Consumer<? super Double> ifSome,
+        final Runnable ifNone)
+    {
+        snapshot().ifSomeOrElse(ifSome, ifNone);
+    }
+
+    @Override
+    public <A> void ifSomeOrElse(
+        final Consumer<? super Double> ifSome,
+        final Consumer<? super A> ifNone,
+        final A ifNoneArg)
+    {
+        snapshot().ifSomeOrElse(ifSome, ifNone, ifNoneArg);
+    }
+
+    @Override
+    public <A> void ifSomeOrElse(
+        final BiConsumer<? super A, ? super Double> ifSome,
+        final A ifSomeArg,
+        final Runnable ifNone)
+    {
+        snapshot().ifSomeOrElse(ifSome, ifSomeArg, ifNone);
+    }
+
+    @Override
+    public <A> void ifSomeOrElse(
+        final BiConsumer<? super A, ? super Double> ifSome,
+        final Consumer<? super A> ifNone,
+        final A arg)
+    {
+        snapshot().ifSomeOrElse(ifSome, ifNone, arg);
+    }
+
+    @Override
+    public <A, B> void ifSomeOrElse(
+        final BiConsumer<? super A, ? super Double> ifSome,
+        final A ifSomeArg,
+        final Consumer<? super B> ifNone,
+        final B ifNoneArg)
+    {
+        snapshot().ifSomeOrElse(ifSome, ifSomeArg, ifNone, ifNoneArg);
+    }
+
+    /**
+     * Returns the index of the element at which this cursor is positioned.
+     *
+     * @return The index of the current element, or {@code -1} if this cursor
+     *         has not been positioned.
+     */
+    public int index()
+    {
+        return index;
+    }
+
+    @Override
+    public boolean isNone()
+    {
+        if (!present)
+        {
+            return none().isNone();
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean isSome()
+    {
+        if (!present)
+        {
+            return none().isSome();
+        }
+
+        return true;
+    }
+
+    @Override
+    public Iterator<Double> iterator()
+    {
+        return snapshot().iterator();
+    }
+
+    /**
+     * Returns the number of elements over which this cursor moves.
+     *
+     * @return The number of elements.
+     */
+    public int length()
+    {
+        return values.length;
+    }
+
+    @Override
+    public DoubleOption log()
+    {
+        return snapshot().log();
+    }
+
+    @Override
+    public <T> Option<T> map(
+        final Function<? super Double, ? extends T> mapper)
+    {
+        return snapshot().map(mapper);
+    }
+
+    @Override
+    public <A, T> Option<T> map(
+        final BiFunction<? super A, ? super Double, ? extends T> mapper,
+        final A arg)
+    {
+        return snapshot().map(mapper, arg);
+    }
+
+    @Override
+    public <A, B, T> Option<T> map(
+        final TriFunction<? super A, ? super B, ? super Double, ? extends T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().map(mapper, arg1, arg2);
+    }
+
+    @Override
+    public <T> Option<T> mapDouble(
+        final DoubleFunction<? extends T> mapper)
+    {
+        return snapshot().mapDouble(mapper);
+    }
+
+    @Override
+    public <A, B, T> Option<T> mapDouble(
+        final ObjObjDoubleFunction<? super A, ? super B, ? extends T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().mapDouble(mapper, arg1, arg2);
+    }
+
+    @Override
+    public BooleanOption mapDoubleToBoolean(
+        final DoublePredicate mapper)
+    {
+        if (!present)
+        {
+            return none().mapDoubleToBoolean(mapper);
+        }
+
+        return someNonNull(mapper.test(value));
+    }
+
+    @Override
+    public ByteOption mapDoubleToByte(
+        final DoubleToByteFunction mapper)
+    {
+        if (!present)
+        {
+            return none().mapDoubleToByte(mapper);
+        }
+
+        return someNonNull(mapper.applyAsByte(value));
+    }
+
+    @Override
+    public CharOption mapDoubleToChar(
+        final DoubleToCharFunction mapper)
+    {
+        if (!present)
+        {
+            return none().mapDoubleToChar(mapper);
+        }
+
+        return someNonNull(mapper.applyAsChar(value));
+    }
+
+    @Override
+    public DoubleOption mapDoubleToDouble(
+        final DoubleUnaryOperator mapper)
+    {
+        if (!present)
+        {
+            return none().mapDoubleToDouble(mapper);
+        }
+
+        return someNonNull(mapper.applyAsDouble(value));
+    }
+
+    @Override
+    public DoubleOption mapDoubleToDouble(
+        final DoubleBinaryOperator mapper,
+        final double arg)
+    {
+        if (!present)
+        {
+            return none().mapDoubleToDouble(mapper, arg);
+        }
+
+        return someNonNull(mapper.applyAsDouble(arg, value));
+    }
+
+    @Override
+    public <A, B> DoubleOption mapDoubleToDouble(
+        final ObjObjDoubleToDoubleFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        if (!present)
+        {
+            return none().mapDoubleToDouble(mapper, arg1, arg2);
+        }
+
+        return someNonNull(mapper.applyAsDouble(arg1, arg2, value));
+    }
+
+    @Override
+    public FloatOption mapDoubleToFloat(
+        final DoubleToFloatFunction mapper)
+    {
+        if (!present)
+        {
+            return none().mapDoubleToFloat(mapper);
+        }
+
+        return someNonNull(mapper.applyAsFloat(value));
+    }
+
+    @Override
+    public IntOption mapDoubleToInt(
+        final DoubleToIntFunction mapper)
+    {
+        if (!present)
+        {
+            return none().mapDoubleToInt(mapper);
+        }
+
+        return someNonNull(mapper.applyAsInt(value));
+    }
+
+    @Override
+    public <A, B> IntOption mapDoubleToInt(
+        final ObjObjDoubleToIntFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        if (!present)
+        {
+            return none().mapDoubleToInt(mapper, arg1, arg2);
+        }
+
+        return someNonNull(mapper.applyAsInt(arg1, arg2, value));
+    }
+
+    @Override
+    public LongOption mapDoubleToLong(
+        final DoubleToLongFunction mapper)
+    {
+        if (!present)
+        {
+            return none().mapDoubleToLong(mapper);
+        }
+
+        return someNonNull(mapper.applyAsLong(value));
+    }
+
+    @Override
+    public <A, B> LongOption mapDoubleToLong(
+        final ObjObjDoubleToLongFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        if (!present)
+        {
+            return none().mapDoubleToLong(mapper, arg1, arg2);
+        }
+
+        return someNonNull(mapper.applyAsLong(arg1, arg2, value));
+    }
+
+    @Override
+    public ShortOption mapDoubleToShort(
+        final DoubleToShortFunction mapper)
+    {
+        if (!present)
+        {
+            return none().mapDoubleToShort(mapper);
+        }
+
+        return someNonNull(mapper.applyAsShort(value));
+    }
+
+    @Override
+    public BooleanOption mapToBoolean(
+        final Predicate<? super Double> mapper)
+    {
+        return snapshot().mapToBoolean(mapper);
+    }
+
+    @Override
+    public <A> BooleanOption mapToBoolean(
+        final BiPredicate<? super A, ? super Double> mapper,
+        final A arg)
+    {
+        return snapshot().mapToBoolean(mapper, arg);
+    }
+
+    @Override
+    public ByteOption mapToByte(
+        final ToByteFunction<? super Double> mapper)
+    {
+        return snapshot().mapToByte(mapper);
+    }
+
+    @Override
+    public <A> ByteOption mapToByte(
+        final ToByteBiFunction<? super A, ? super Double> mapper,
+        final A arg)
+    {
+        return snapshot().mapToByte(mapper, arg);
+    }
+
+    @Override
+    public CharOption mapToChar(
+        final ToCharFunction<? super Double> mapper)
+    {
+        return snapshot().mapToChar(mapper);
+    }
+
+    @Override
+    public <A> CharOption mapToChar(
+        final ToCharBiFunction<? super A, ? super Double> mapper,
+        final A arg)
+    {
+        return snapshot().mapToChar(mapper, arg);
+    }
+
+    @Override
+    public DoubleOption mapToDouble(
+        final ToDoubleFunction<? super Double> mapper)
+    {
+        return snapshot().mapToDouble(mapper);
+    }
+
+    @Override
+    public <A> DoubleOption mapToDouble(
+        final ToDoubleBiFunction<? super A, ? super Double> mapper,
+        final A arg)
+    {
+        return snapshot().mapToDouble(mapper, arg);
+    }
+
+    @Override
+    public <A, B> DoubleOption mapToDouble(
+        final ToDoubleTriFunction<? super A, ? super B, ? super Double> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().mapToDouble(mapper, arg1, arg2);
+    }
+
+    @Override
+    public FloatOption mapToFloat(
+        final ToFloatFunction<? super Double> mapper)
+    {
+        return snapshot().mapToFloat(mapper);
+    }
+
+    @Override
+    public <A> FloatOption mapToFloat(
+        final ToFloatBiFunction<? super A, ? super Double> mapper,
+        final A arg)
+    {
+        return snapshot().mapToFloat(mapper, arg);
+    }
+
+    @Override
+    public IntOption mapToInt(
+        final ToIntFunction<? super Double> mapper)
+    {
+        return snapshot().mapToInt(mapper);
+    }
+
+    @Override
+    public <A> IntOption mapToInt(
+        final ToIntBiFunction<? super A, ? super Double> mapper,
+        final A arg)
+    {
+        return snapshot().mapToInt(mapper, arg);
+    }
+
+    @Override
+    public <A, B> IntOption mapToInt(
+        final ToIntTriFunction<? super A, ? super B, ? super Double> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().mapToInt(mapper, arg1, arg2);
+    }
+
+    @Override
+    public LongOption mapToLong(
+        final ToLongFunction<? super Double> mapper)
+    {
+        return snapshot().mapToLong(mapper);
+    }
+
+    @Override
+    public <A> LongOption mapToLong(
+        final ToLongBiFunction<? super A, ? super Double> mapper,
+        final A arg)
+    {
+        return snapshot().mapToLong(mapper, arg);
+    }
+
+    @Override
+    public <A, B> LongOption mapToLong(
+        final ToLongTriFunction<? super A, ? super B, ? super Double> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().mapToLong(mapper, arg1, arg2);
+    }
+
+    @Override
+    public ShortOption mapToShort(
+        final ToShortFunction<? super Double> mapper)
+    {
+        return snapshot().mapToShort(mapper);
+    }
+
+    @Override
+    public <A> ShortOption mapToShort(
+        final ToShortBiFunction<? super A, ? super Double> mapper,
+        final A arg)
+    {
+        return snapshot().mapToShort(mapper, arg);
+    }
+
+    @Override
+    public boolean matches(
+        final Predicate<? super Double> predicate)
+    {
+        return snapshot().matches(predicate);
+    }
+
+    @Override
+    public <A> boolean matches(
+        final BiPredicate<? super A, ? super Double> predicate,
+        final A arg)
+    {
+        return snapshot().matches(predicate, arg);
+    }
+
+    @Override
+    public <A, B> boolean matches(
+        final TriPredicate<? super A, ? super B, ? super Double> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().matches(predicate, arg1, arg2);
+    }
+
+    @Override
+    public boolean matchesDouble(
+        final DoublePredicate predicate)
+    {
+        return snapshot().matchesDouble(predicate);
+    }
+
+    /**
+     * Positions this cursor at the specified element, so that it contains the
+     * value of the element if the element is present, and is empty otherwise.
+     * Nothing is allocated.
+     *
+     * @param index The index of the element.
+     *
+     * @return This cursor.
+     *
+     * @throws IndexOutOfBoundsException {@code index} is negative or not less
+     *                                   than {@link #length()}.
+     */
+    public DoubleOptionCursor moveTo(
+        final int index)
+    {
+        Objects.checkIndex(index, values.length);
+        this.index = index;
+        this.present = (presence[index >>> 6] & 1L << index) != 0;
+        this.value = present ?
+            values[index] :
+            0;
+
+        return this;
+    }
+
+    @Override
+    public Option<Double> or(
+        final Option<? extends Double> option)
+    {
+        return snapshot().or(option);
+    }
+
+    @Override
+    public DoubleOption or(
+        final DoubleOption option)
+    {
+        return snapshot().or(option);
+    }
+
+    @Override
+    public Double orElse(
+        final Double value)
+    {
+        if (!present)
+        {
+            return none().orElse(value);
+        }
+
+        return boxedValue();
+    }
+
+    @Override
+    public Double orElseGet(
+        final Supplier<? extends Double> supplier)
+    {
+        return snapshot().orElseGet(supplier);
+    }
+
+    @Override
+    public <A> Double orElseGet(
+        final Function<? super A, ? extends Double> supplier,
+        final A arg)
+    {
+        return snapshot().orElseGet(supplier, arg);
+    }
+
+    @Override
+    public <A, B> Double orElseGet(
+        final BiFunction<? super A, ? super B, ? extends Double> supplier,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().orElseGet(supplier, arg1, arg2);
+    }
+
+    @Override
+    public Double orElseThrow()
+    {
+        return snapshot().orElseThrow();
+    }
+
+    @Override
+    public <X extends Throwable> Double orElseThrow(
+        final Supplier<? extends X> supplier)
+        throws X
+    {
+        return snapshot().orElseThrow(supplier);
+    }
+
+    @Override
+    public <A, X extends Throwable> Double orElseThrow(
+        final Function<? super A, ? extends X> supplier,
+        final A arg)
+        throws X
+    {
+        return snapshot().orElseThrow(supplier, arg);
+    }
+
+    @Override
+    public Option<Double> orGet(
+        final Supplier<? extends Option<? extends Double>> supplier)
+    {
+        return snapshot().orGet(supplier);
+    }
+
+    @Override
+    public <A> Option<Double> orGet(
+        final Function<? super A, ? extends Option<? extends Double>> supplier,
+        final A arg)
+    {
+        return snapshot().orGet(supplier, arg);
+    }
+
+    @Override
+    public DoubleOption orGetDouble(
+        final Supplier<? extends DoubleOption> supplier)
+    {
+        return snapshot().orGetDouble(supplier);
+    }
+
+    @Override
+    public <A> DoubleOption orGetDouble(
+        final Function<? super A, ? extends DoubleOption> supplier,
+        final A arg)
+    {
+        return snapshot().orGetDouble(supplier, arg);
+    }
+
+    /**
+     * Returns an immutable option with the current contents of this cursor,
+     * which may be retained after the cursor moves. The cached option
+     * instances are returned where the option types cache them.
+     *
+     * @return An immutable copy of this cursor.
+     */
+    public DoubleOption snapshot()
+    {
+        return present ?
+            someNonNull(value) :
+            noneUnchecked();
+    }
+
+    @Override
+    public DoubleOption sqrt()
+    {
+        return snapshot().sqrt();
+    }
+
+    @Override
+    public Stream<Double> stream()
+    {
+        return snapshot().stream();
+    }
+
+    @Override
+    public Optional<Double> toOptional()
+    {
+        return snapshot().toOptional();
+    }
+
+    @Override
+    public OptionalDouble toOptionalDouble()
+    {
+        return snapshot().toOptionalDouble();
+    }
+
+    @Override
+    public String toString()
+    {
+        return snapshot().toString();
+    }
+
+    @Override
+    public <U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final BiFunction<? super Double, ? super U, ? extends R> combiner)
+    {
+        return snapshot().zip(other, combiner);
+    }
+
+    @Override
+    public <A, U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final TriFunction<? super A, ? super Double, ? super U, ? extends R> combiner,
+        final A arg)
+    {
+        return snapshot().zip(other, combiner, arg);
+    }
+
+    @Override
+    public DoubleOption zipDouble(
+        final DoubleOption other,
+        final DoubleBinaryOperator combiner)
+    {
+        return snapshot().zipDouble(other, combiner);
+    }
+
+    @Override
+    public <A> DoubleOption zipDouble(
+        final DoubleOption other,
+        final ObjDoubleBinaryOperator<? super A> combiner,
+        final A arg)
+    {
+        return snapshot().zipDouble(other, combiner, arg);
+    }
+
+    private Double boxedValue()
+    {
+        return value;
+    }
+
+    private DoubleOption none()
+    {
+        return noneUnchecked();
+    }
+}
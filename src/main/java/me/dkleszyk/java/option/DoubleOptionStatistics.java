@@ -0,0 +1,140 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.function.Consumer;
+
+/**
+ * A {@link DoubleSummaryStatistics} that accepts {@link DoubleOption} elements
+ * and also counts empty options. The inherited statistics describe only the
+ * values of non-empty options.
+ * <p>
+ * Like its superclass, this class is not thread-safe; instances may be used
+ * as the mutable containers of parallel reductions, and merged with
+ * {@link #combine(DoubleOptionStatistics)}.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class DoubleOptionStatistics
+    extends DoubleSummaryStatistics
+    implements Consumer<DoubleOption>
+{
+    private long noneCount;
+
+    /**
+     * Creates an instance with no recorded options.
+     */
+    public DoubleOptionStatistics()
+    {
+    }
+
+    /**
+     * Records an option. If the option contains a value, the value is
+     * recorded as by {@link #accept(double)}; otherwise, the count of empty
+     * options is incremented.
+     *
+     * @param option The option to record.
+     */
+    @Override
+    public void accept(
+        final DoubleOption option)
+    {
+        if (option.isSome())
+        {
+            accept(option.getAsDouble());
+        }
+        else
+        {
+            noneCount++;
+        }
+    }
+
+    /**
+     * Combines the state of another instance into this one.
+     *
+     * @param other The other instance.
+     */
+    public void combine(
+        final DoubleOptionStatistics other)
+    {
+        super.combine(other);
+        noneCount += other.noneCount;
+    }
+
+    /**
+     * Combines the state of another instance into this one. If
+     * {@code other} is a {@link DoubleOptionStatistics}, its count of empty
+     * options is combined as well.
+     *
+     * @param other The other instance.
+     */
+    @Override
+    public void combine(
+        final DoubleSummaryStatistics other)
+    {
+        if (other instanceof DoubleOptionStatistics statistics)
+        {
+            combine(statistics);
+        }
+        else
+        {
+            super.combine(other);
+        }
+    }
+
+    /**
+     * Returns the number of empty options recorded.
+     *
+     * @return The number of empty options recorded.
+     */
+    public final long getNoneCount()
+    {
+        return noneCount;
+    }
+
+    /**
+     * Returns the total number of options recorded, empty or not.
+     *
+     * @return The total number of options recorded.
+     */
+    public final long getOptionCount()
+    {
+        return getCount() + noneCount;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format(
+            "%s{count=%d, noneCount=%d, sum=%f, min=%f, average=%f, max=%f}",
+            getClass().getSimpleName(),
+            getCount(),
+            noneCount,
+            getSum(),
+            getMin(),
+            getAverage(),
+            getMax());
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A cell holding an {@link Option} that is loaded on first use and reloaded
+ * after it expires. Options that contain a value and empty options have
+ * separate time-to-live durations, so that negative results may be cached for
+ * a shorter time.
+ * <p>
+ * Only the first use of the cell waits for the option to be loaded; concurrent
+ * first uses share a single load. If that load fails, its exception is thrown
+ * to the callers that were waiting for it, and the next use retries. Once an
+ * option has been loaded, {@link #get()} always returns immediately: if the
+ * option has expired, it is returned anyway, and a single reload is started
+ * on the executor. If the reload fails, the expired option continues to be
+ * returned, and the next use starts another reload.
+ *
+ * @param <T> The value type of the option.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class ExpiringOption<T>
+{
+    private static final VarHandle ENTRY;
+
+    private static final VarHandle INITIAL_LOAD;
+
+    private static final VarHandle REFRESHING;
+
+    static
+    {
+        try
+        {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+            ENTRY = lookup.findVarHandle(
+                ExpiringOption.class,
+                "entry",
+                Entry.class);
+            INITIAL_LOAD = lookup.findVarHandle(
+                ExpiringOption.class,
+                "initialLoad",
+                CompletableFuture.class);
+            REFRESHING = lookup.findVarHandle(
+                ExpiringOption.class,
+                "refreshing",
+                boolean.class);
+        }
+        catch (final ReflectiveOperationException ex)
+        {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private volatile Entry<T> entry;
+
+    private final Executor executor;
+
+    /**
+     * The first load, while it is in progress or after it has succeeded. It is
+     * cleared if the load fails, so that the next use of the cell retries.
+     */
+    private volatile CompletableFuture<Option<T>> initialLoad;
+
+    private final Supplier<? extends Option<T>> loader;
+
+    private final long noneTtlNanos;
+
+    private volatile boolean refreshing;
+
+    private final long someTtlNanos;
+
+    private ExpiringOption(
+        final Supplier<? extends Option<T>> loader,
+        final long someTtlNanos,
+        final long noneTtlNanos,
+        final Executor executor)
+    {
+        this.loader = loader;
+        this.someTtlNanos = someTtlNanos;
+        this.noneTtlNanos = noneTtlNanos;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns a cell that loads its option using {@code loader}, and reloads
+     * it on the common fork-join pool once it expires.
+     *
+     * @param <T>     The value type of the option.
+     * @param loader  The supplier of the option.
+     * @param someTtl The time for which an option that contains a value is
+     *                used before it is reloaded.
+     * @param noneTtl The time for which an empty option is used before it is
+     *                reloaded.
+     *
+     * @return The cell.
+     *
+     * @throws IllegalArgumentException {@code someTtl} or {@code noneTtl} is
+     *                                  negative.
+     */
+    public static <T> ExpiringOption<T> of(
+        final Supplier<? extends Option<T>> loader,
+        final Duration someTtl,
+        final Duration noneTtl)
+    {
+        return of(loader, someTtl, noneTtl, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns a cell that loads its option using {@code loader}, and reloads
+     * it on {@code executor} once it expires.
+     *
+     * @param <T>      The value type of the option.
+     * @param loader   The supplier of the option.
+     * @param someTtl  The time for which an option that contains a value is
+     *                 used before it is reloaded.
+     * @param noneTtl  The time for which an empty option is used before it is
+     *                 reloaded.
+     * @param executor The executor on which to reload the option.
+     *
+     * @return The cell.
+     *
+     * @throws IllegalArgumentException {@code someTtl} or {@code noneTtl} is
+     *                                  negative.
+     */
+    public static <T> ExpiringOption<T> of(
+        final Supplier<? extends Option<T>> loader,
+        final Duration someTtl,
+        final Duration noneTtl,
+        final Executor executor)
+    {
+        return new ExpiringOption<>(
+            Objects.requireNonNull(loader),
+            toNanos(someTtl),
+            toNanos(noneTtl),
+            Objects.requireNonNull(executor));
+    }
+
+    /**
+     * Returns the current option. If no option has been loaded yet, this
+     * waits for the first load to complete; if the current option has expired,
+     * this returns it and starts a reload, unless one is already in progress.
+     *
+     * @return The current option.
+     *
+     * @throws RuntimeException                                 The first load
+     *                                                         failed; the
+     *                                                         next use of the
+     *                                                         cell retries.
+     * @throws java.util.concurrent.RejectedExecutionException A reload could
+     *                                                         not be started
+     *                                                         on the executor.
+     */
+    public Option<T> get()
+    {
+        final Entry<T> current = entry;
+
+        if (current == null)
+        {
+            return loadInitial();
+        }
+
+        if (System.nanoTime() - current.loadedAt >= current.ttlNanos)
+        {
+            refresh();
+        }
+
+        return current.option;
+    }
+
+    /**
+     * Marks the current option as expired, so that the next use of the cell
+     * starts a reload. A reload that is already in progress is not affected.
+     */
+    public void invalidate()
+    {
+        Entry<T> current = entry;
+
+        // Retry rather than overwrite an entry published by a concurrent
+        // reload, which must not be replaced by the older option
+        while (current != null
+            && !ENTRY.compareAndSet(
+                this,
+                current,
+                new Entry<>(current.option, current.loadedAt, 0)))
+        {
+            current = entry;
+        }
+    }
+
+    private Entry<T> newEntry(
+        final Option<T> option)
+    {
+        return new Entry<>(
+            option,
+            System.nanoTime(),
+            option.isSome() ?
+                someTtlNanos :
+                noneTtlNanos);
+    }
+
+    private Option<T> loadInitial()
+    {
+        while (true)
+        {
+            final Entry<T> current = entry;
+
+            if (current != null)
+            {
+                return current.option;
+            }
+
+            final CompletableFuture<Option<T>> load = initialLoad;
+
+            if (load != null)
+            {
+                return join(load);
+            }
+
+            final CompletableFuture<Option<T>> created =
+                new CompletableFuture<>();
+
+            if (INITIAL_LOAD.compareAndSet(this, null, created))
+            {
+                return loadInitial(created);
+            }
+        }
+    }
+
+    private Option<T> loadInitial(
+        final CompletableFuture<Option<T>> load)
+    {
+        final Option<T> option;
+
+        try
+        {
+            option = Objects.requireNonNull(loader.get());
+        }
+        catch (final Throwable ex)
+        {
+            // Clear the load before failing it, so that no caller can join
+            // the failed load after the waiting callers have been released
+            initialLoad = null;
+            load.completeExceptionally(ex);
+            throw ex;
+        }
+
+        // The option may already have been replaced by a reload
+        ENTRY.compareAndSet(this, null, newEntry(option));
+        load.complete(option);
+
+        return option;
+    }
+
+    private void refresh()
+    {
+        if (!REFRESHING.compareAndSet(this, false, true))
+        {
+            return;
+        }
+
+        try
+        {
+            executor.execute(() ->
+            {
+                try
+                {
+                    entry = newEntry(Objects.requireNonNull(loader.get()));
+                }
+                finally
+                {
+                    refreshing = false;
+                }
+            });
+        }
+        catch (final RuntimeException ex)
+        {
+            refreshing = false;
+            throw ex;
+        }
+    }
+
+    private static <T> Option<T> join(
+        final CompletableFuture<Option<T>> load)
+    {
+        try
+        {
+            return load.join();
+        }
+        catch (final CompletionException ex)
+        {
+            if (ex.getCause() instanceof RuntimeException cause)
+            {
+                throw cause;
+            }
+
+            if (ex.getCause() instanceof Error cause)
+            {
+                throw cause;
+            }
+
+            throw ex;
+        }
+    }
+
+    private static long toNanos(
+        final Duration ttl)
+    {
+        if (ttl.isNegative())
+        {
+            throw new IllegalArgumentException("Negative time-to-live: " + ttl);
+        }
+
+        return TimeUnit.NANOSECONDS.convert(ttl);
+    }
+
+    private static final class Entry<T>
+    {
+        final long loadedAt;
+
+        final Option<T> option;
+
+        final long ttlNanos;
+
+        Entry(
+            final Option<T> option,
+            final long loadedAt,
+            final long ttlNanos)
+        {
+            this.option = option;
+            this.loadedAt = loadedAt;
+            this.ttlNanos = ttlNanos;
+        }
+    }
+}
@@ -26,6 +26,7 @@ package me.dkleszyk.java.option;
 import java.util.NoSuchElementException;
 import java.util.function.*;
 import me.dkleszyk.java.function.extra.primitive.*;
+import me.dkleszyk.java.option.function.*;
 
 /**
  * A {@code float} value that may or may not be present.
@@ -44,6 +45,12 @@ public interface FloatOption
         final BiPredicate<? super A, ? super Float> predicate,
         final A arg);
 
+    @Override
+    <A, B> FloatOption filter(
+        final TriPredicate<? super A, ? super B, ? super Float> predicate,
+        final A arg1,
+        final B arg2);
+
     /**
      * Returns this instance if it is non-empty and the specified predicate
      * returns {@code true} for its contained value; otherwise, returns an empty
@@ -89,7 +96,7 @@ public interface FloatOption
 
     /**
      * Returns the value contained by this instance if it is non-empty;
-     * otherwise, returns the value supplier by the specified method.
+     * otherwise, returns the value supplied by the specified method.
      *
      * @param supplier A method that supplies the value to return if this
      *                 instance is empty.
@@ -102,7 +109,7 @@ public interface FloatOption
 
     /**
      * Returns the value contained by this instance if it is non-empty;
-     * otherwise, returns the value supplier by the specified method.
+     * otherwise, returns the value supplied by the specified method.
      *
      * @param <A>      The type of the additional argument provided to
      *                 {@code supplier}.
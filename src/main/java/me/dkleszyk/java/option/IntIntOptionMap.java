@@ -0,0 +1,409 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.Arrays;
+
+import static me.dkleszyk.java.option.Options.noneUnchecked;
+import static me.dkleszyk.java.option.Options.someNonNull;
+
+/**
+ * A map from {@code int} keys to {@code int} values that returns the value for
+ * a key as an {@link IntOption}. Keys and values are stored in open-addressed
+ * arrays, so neither lookups nor updates box them, and
+ * {@link #getOrElse(int, int)} does not allocate.
+ * <p>
+ * Instances are not safe for use by multiple threads without external
+ * synchronization.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class IntIntOptionMap
+{
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private boolean hasZeroKey;
+
+    private int[] keys;
+
+    private int mask;
+
+    private int size;
+
+    private int threshold;
+
+    private int[] values;
+
+    private int zeroValue;
+
+    /**
+     * Creates an empty map.
+     */
+    public IntIntOptionMap()
+    {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Creates an empty map with room for the specified number of entries.
+     *
+     * @param expectedSize The number of entries the map is expected to hold.
+     *
+     * @throws IllegalArgumentException {@code expectedSize} is negative.
+     */
+    public IntIntOptionMap(
+        final int expectedSize)
+    {
+        if (expectedSize < 0)
+        {
+            throw new IllegalArgumentException(
+                "Negative expected size: " + expectedSize);
+        }
+
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Removes all entries from this map.
+     */
+    public void clear()
+    {
+        Arrays.fill(keys, 0);
+        hasZeroKey = false;
+        zeroValue = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns whether this map contains an entry for the specified key.
+     *
+     * @param key The key to look up.
+     *
+     * @return {@code true} if this map contains an entry for {@code key};
+     *         otherwise, {@code false}.
+     */
+    public boolean containsKey(
+        final int key)
+    {
+        return key == 0 ?
+            hasZeroKey :
+            find(key) >= 0;
+    }
+
+    /**
+     * Returns the value associated with the specified key.
+     *
+     * @param key The key to look up.
+     *
+     * @return An option containing the value associated with {@code key}, or
+     *         an empty option if this map contains no entry for {@code key}.
+     */
+    public IntOption get(
+        final int key)
+    {
+        if (key == 0)
+        {
+            return hasZeroKey ?
+                someNonNull(zeroValue) :
+                noneUnchecked();
+        }
+
+        final int index = find(key);
+
+        return index >= 0 ?
+            someNonNull(values[index]) :
+            noneUnchecked();
+    }
+
+    /**
+     * Returns the value associated with the specified key, or the specified
+     * value if this map contains no entry for the key.
+     *
+     * @param key          The key to look up.
+     * @param defaultValue The value to return if this map contains no entry
+     *                     for {@code key}.
+     *
+     * @return The value associated with {@code key}, or {@code defaultValue}
+     *         if this map contains no entry for {@code key}.
+     */
+    public int getOrElse(
+        final int key,
+        final int defaultValue)
+    {
+        if (key == 0)
+        {
+            return hasZeroKey ?
+                zeroValue :
+                defaultValue;
+        }
+
+        final int index = find(key);
+
+        return index >= 0 ?
+            values[index] :
+            defaultValue;
+    }
+
+    /**
+     * Returns whether this map contains no entries.
+     *
+     * @return {@code true} if this map contains no entries; otherwise,
+     *         {@code false}.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Associates the specified value with the specified key, replacing any
+     * value previously associated with the key.
+     *
+     * @param key   The key with which to associate {@code value}.
+     * @param value The value to associate with {@code key}.
+     *
+     * @return An option containing the value previously associated with
+     *         {@code key}, or an empty option if this map contained no entry
+     *         for {@code key}.
+     *
+     * @throws IllegalStateException This map contains {@code 1 << 30} entries
+     *                               and {@code key} is not among them.
+     */
+    public IntOption put(
+        final int key,
+        final int value)
+    {
+        if (key == 0)
+        {
+            final IntOption previous = get(key);
+
+            if (!hasZeroKey)
+            {
+                hasZeroKey = true;
+                size++;
+            }
+
+            zeroValue = value;
+
+            return previous;
+        }
+
+        int index = find(key);
+
+        if (index >= 0)
+        {
+            final int previous = values[index];
+            values[index] = value;
+
+            return someNonNull(previous);
+        }
+
+        if (size >= threshold)
+        {
+            rehash(keys.length << 1);
+            index = find(key);
+        }
+
+        index = ~index;
+        keys[index] = key;
+        values[index] = value;
+        size++;
+
+        return noneUnchecked();
+    }
+
+    /**
+     * Removes the entry for the specified key from this map.
+     *
+     * @param key The key whose entry is to be removed.
+     *
+     * @return An option containing the value that was associated with
+     *         {@code key}, or an empty option if this map contained no entry
+     *         for {@code key}.
+     */
+    public IntOption remove(
+        final int key)
+    {
+        if (key == 0)
+        {
+            final IntOption previous = get(key);
+
+            if (hasZeroKey)
+            {
+                hasZeroKey = false;
+                zeroValue = 0;
+                size--;
+            }
+
+            return previous;
+        }
+
+        final int index = find(key);
+
+        if (index < 0)
+        {
+            return noneUnchecked();
+        }
+
+        final int previous = values[index];
+        shiftKeys(index);
+        size--;
+
+        return someNonNull(previous);
+    }
+
+    /**
+     * Returns the number of entries in this map.
+     *
+     * @return The number of entries in this map.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    private static int capacityFor(
+        final int expectedSize)
+    {
+        final long minimum = Math.max(2L, (expectedSize * 4L + 2L) / 3L + 1L);
+
+        return minimum >= MAXIMUM_CAPACITY ?
+            MAXIMUM_CAPACITY :
+            Integer.highestOneBit((int) minimum - 1) << 1;
+    }
+
+    private static int mix(
+        final int key)
+    {
+        final int hash = key * 0x9E37_79B9;
+
+        return hash ^ (hash >>> 16);
+    }
+
+    private void allocate(
+        final int capacity)
+    {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        threshold = capacity == MAXIMUM_CAPACITY ?
+            capacity - 1 :
+            capacity / 4 * 3;
+    }
+
+    private int find(
+        final int key)
+    {
+        // Returns the index of the key if it is present; otherwise, the
+        // complement of the index of the free slot that ends its probe
+        // sequence.
+        int index = mix(key) & mask;
+
+        while (true)
+        {
+            final int candidate = keys[index];
+
+            if (candidate == key)
+            {
+                return index;
+            }
+
+            if (candidate == 0)
+            {
+                return ~index;
+            }
+
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void rehash(
+        final int capacity)
+    {
+        if (keys.length == MAXIMUM_CAPACITY)
+        {
+            throw new IllegalStateException("Map is full");
+        }
+
+        final int[] oldKeys = keys;
+        final int[] oldValues = values;
+        allocate(capacity);
+
+        for (int i = 0; i < oldKeys.length; i++)
+        {
+            final int key = oldKeys[i];
+
+            if (key != 0)
+            {
+                final int index = ~find(key);
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void shiftKeys(
+        final int removed)
+    {
+        // Backward-shift deletion: moves each later entry of the probe run
+        // into the gap unless the gap lies before its home slot, so that
+        // lookups never need tombstones.
+        int index = removed;
+
+        while (true)
+        {
+            final int gap = index;
+            index = (index + 1) & mask;
+
+            while (true)
+            {
+                final int key = keys[index];
+
+                if (key == 0)
+                {
+                    keys[gap] = 0;
+
+                    return;
+                }
+
+                final int home = mix(key) & mask;
+                final boolean movable = gap <= index ?
+                    gap >= home || home > index :
+                    gap >= home && home > index;
+
+                if (movable)
+                {
+                    keys[gap] = key;
+                    values[gap] = values[index];
+
+                    break;
+                }
+
+                index = (index + 1) & mask;
+            }
+        }
+    }
+}
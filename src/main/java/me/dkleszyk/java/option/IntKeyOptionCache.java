@@ -0,0 +1,428 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * A bounded cache of {@link Option} results with {@code int} keys, which are
+ * stored without boxing. This is otherwise the same as {@link OptionCache}:
+ * empty results are cached as well as non-empty ones, in separate tables with
+ * their own capacities and time-to-live durations.
+ * <p>
+ * Each table is set-associative: a key may only occupy one of a small, fixed
+ * number of slots, and storing into a full set replaces the entry in that set
+ * that was loaded earliest. Reads and writes do not lock; a loader may
+ * therefore be invoked more than once when the same key is requested
+ * concurrently, and the most recent result is retained.
+ *
+ * @param <V> The value type of the cached options.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class IntKeyOptionCache<V>
+{
+    private static final Entry<?>[] NO_SLOTS = new Entry<?>[0];
+
+    private static final VarHandle SLOTS =
+        MethodHandles.arrayElementVarHandle(Entry[].class);
+
+    private static final int WAYS = 4;
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder noneHitCount = new LongAdder();
+
+    private final Table<V> nones;
+
+    private final Table<V> somes;
+
+    private IntKeyOptionCache(
+        final Table<V> somes,
+        final Table<V> nones)
+    {
+        this.somes = somes;
+        this.nones = nones;
+    }
+
+    /**
+     * Returns a new cache with the specified capacities and time-to-live
+     * durations. Capacities are rounded up to a power of two; a capacity of
+     * zero disables caching of the corresponding results.
+     *
+     * @param <V>             The value type of the cached options.
+     * @param maximumSize     The capacity for options that contain a value.
+     * @param someTtl         The time for which an option that contains a
+     *                        value is cached.
+     * @param maximumNoneSize The capacity for empty options.
+     * @param noneTtl         The time for which an empty option is cached.
+     *
+     * @return The new cache.
+     *
+     * @throws IllegalArgumentException {@code maximumSize} or
+     *                                  {@code maximumNoneSize} is negative or
+     *                                  greater than {@code 1 << 30}, or
+     *                                  {@code someTtl} or {@code noneTtl} is
+     *                                  negative.
+     */
+    public static <V> IntKeyOptionCache<V> create(
+        final int maximumSize,
+        final Duration someTtl,
+        final int maximumNoneSize,
+        final Duration noneTtl)
+    {
+        return new IntKeyOptionCache<>(
+            new Table<>(maximumSize, someTtl),
+            new Table<>(maximumNoneSize, noneTtl));
+    }
+
+    /**
+     * Returns the cached option for {@code key}, or invokes {@code loader} to
+     * load it and caches the result if there is no unexpired cached option.
+     *
+     * @param key    The key of the option.
+     * @param loader The function with which to load the option.
+     *
+     * @return The cached or loaded option.
+     *
+     * @throws NullPointerException {@code loader} returns {@code null}.
+     */
+    public Option<V> computeIfAbsent(
+        final int key,
+        final IntFunction<? extends Option<V>> loader)
+    {
+        final int hash = hash(key);
+        final long now = System.nanoTime();
+        Entry<V> entry = somes.find(key, hash, now);
+
+        if (entry == null)
+        {
+            entry = nones.find(key, hash, now);
+
+            if (entry != null)
+            {
+                noneHitCount.increment();
+            }
+        }
+
+        if (entry != null)
+        {
+            hitCount.increment();
+
+            return entry.option;
+        }
+
+        missCount.increment();
+
+        final Option<V> option = Objects.requireNonNull(loader.apply(key));
+        final Table<V> table = option.isSome() ?
+            somes :
+            nones;
+
+        if (table.store(new Entry<>(key, hash, option, System.nanoTime())))
+        {
+            evictionCount.increment();
+        }
+
+        return option;
+    }
+
+    /**
+     * Returns the number of unexpired entries that have been replaced to make
+     * room for other entries.
+     *
+     * @return The eviction count.
+     */
+    public long evictionCount()
+    {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Returns the number of lookups that found a cached option, including
+     * those that found a cached empty option.
+     *
+     * @return The hit count.
+     */
+    public long hitCount()
+    {
+        return hitCount.sum();
+    }
+
+    /**
+     * Removes the cached option for {@code key}, if any.
+     *
+     * @param key The key of the option.
+     */
+    public void invalidate(
+        final int key)
+    {
+        final int hash = hash(key);
+
+        somes.remove(key, hash);
+        nones.remove(key, hash);
+    }
+
+    /**
+     * Removes all cached options.
+     */
+    public void invalidateAll()
+    {
+        somes.clear();
+        nones.clear();
+    }
+
+    /**
+     * Returns the number of lookups that did not find a cached option, and so
+     * invoked the loader.
+     *
+     * @return The miss count.
+     */
+    public long missCount()
+    {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the number of lookups that found a cached empty option.
+     *
+     * @return The negative hit count.
+     */
+    public long noneHitCount()
+    {
+        return noneHitCount.sum();
+    }
+
+    private static int hash(
+        final int key)
+    {
+        final int h = key * 0x9E3779B9;
+
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Entry<V>
+    {
+        final int hash;
+
+        final int key;
+
+        final long loadedAt;
+
+        final Option<V> option;
+
+        Entry(
+            final int key,
+            final int hash,
+            final Option<V> option,
+            final long loadedAt)
+        {
+            this.key = key;
+            this.hash = hash;
+            this.option = option;
+            this.loadedAt = loadedAt;
+        }
+
+        boolean matches(
+            final int key)
+        {
+            return this.key == key;
+        }
+    }
+
+    private static final class Table<V>
+    {
+        final int bucketMask;
+
+        final Entry<V>[] slots;
+
+        final long ttlNanos;
+
+        @SuppressWarnings("unchecked")
+        Table(
+            final int capacity,
+            final Duration ttl)
+        {
+            if (capacity < 0 || capacity > 1 << 30)
+            {
+                throw new IllegalArgumentException(
+                    "Invalid capacity: " + capacity);
+            }
+
+            if (ttl.isNegative())
+            {
+                throw new IllegalArgumentException(
+                    "Negative time-to-live: " + ttl);
+            }
+
+            this.slots = (Entry<V>[]) (capacity == 0 ?
+                NO_SLOTS :
+                new Entry<?>[Math.max(
+                    WAYS,
+                    Integer.highestOneBit(capacity - 1) << 1)]);
+            this.bucketMask = slots.length / WAYS - 1;
+            this.ttlNanos = TimeUnit.NANOSECONDS.convert(ttl);
+        }
+
+        void clear()
+        {
+            for (int i = 0; i < slots.length; i++)
+            {
+                SLOTS.setRelease(slots, i, null);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        Entry<V> find(
+            final int key,
+            final int hash,
+            final long now)
+        {
+            if (slots.length == 0)
+            {
+                return null;
+            }
+
+            final int start = (hash & bucketMask) * WAYS;
+
+            for (int i = start; i < start + WAYS; i++)
+            {
+                final Entry<V> entry =
+                    (Entry<V>) SLOTS.getAcquire(slots, i);
+
+                if (entry != null && entry.matches(key))
+                {
+                    if (now - entry.loadedAt < ttlNanos)
+                    {
+                        return entry;
+                    }
+
+                    SLOTS.compareAndSet(slots, i, entry, null);
+                }
+            }
+
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        void remove(
+            final int key,
+            final int hash)
+        {
+            if (slots.length == 0)
+            {
+                return;
+            }
+
+            final int start = (hash & bucketMask) * WAYS;
+
+            for (int i = start; i < start + WAYS; i++)
+            {
+                final Entry<V> entry =
+                    (Entry<V>) SLOTS.getAcquire(slots, i);
+
+                if (entry != null && entry.matches(key))
+                {
+                    SLOTS.compareAndSet(slots, i, entry, null);
+                }
+            }
+        }
+
+        /**
+         * Stores {@code entry}, replacing an entry for the same key, an empty
+         * slot, or the entry loaded earliest, in that order of preference.
+         * Returns whether an unexpired entry for another key was replaced.
+         */
+        @SuppressWarnings("unchecked")
+        boolean store(
+            final Entry<V> entry)
+        {
+            if (slots.length == 0)
+            {
+                return false;
+            }
+
+            final int start = (entry.hash & bucketMask) * WAYS;
+            int empty = -1;
+            int oldest = start;
+            long oldestAge = -1;
+            int victim = -1;
+
+            for (int i = start; i < start + WAYS; i++)
+            {
+                final Entry<V> current =
+                    (Entry<V>) SLOTS.getAcquire(slots, i);
+
+                if (current == null)
+                {
+                    if (empty < 0)
+                    {
+                        empty = i;
+                    }
+
+                    continue;
+                }
+
+                if (current.matches(entry.key))
+                {
+                    victim = i;
+
+                    break;
+                }
+
+                final long age = entry.loadedAt - current.loadedAt;
+
+                if (age > oldestAge)
+                {
+                    oldest = i;
+                    oldestAge = age;
+                }
+            }
+
+            if (victim < 0)
+            {
+                victim = empty < 0 ?
+                    oldest :
+                    empty;
+            }
+
+            final Entry<V> replaced =
+                (Entry<V>) SLOTS.getAndSetRelease(slots, victim, entry);
+
+            return replaced != null
+                && !replaced.matches(entry.key)
+                && entry.loadedAt - replaced.loadedAt < ttlNanos;
+        }
+    }
+}
@@ -25,9 +25,11 @@ package me.dkleszyk.java.option;
 
 import java.util.NoSuchElementException;
 import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
 import java.util.function.*;
 import java.util.stream.IntStream;
 import me.dkleszyk.java.function.extra.primitive.*;
+import me.dkleszyk.java.option.function.*;
 
 /**
  * An {@code int} value that may or may not be present.
@@ -37,6 +39,20 @@ import me.dkleszyk.java.function.extra.primitive.*;
 public interface IntOption
     extends Option<Integer>
 {
+    /**
+     * Adds the specified value to the contained value. Unlike
+     * {@link Math#addExact(int, int)}, overflow produces an empty option rather
+     * than an exception.
+     *
+     * @param addend The value to add to the contained value.
+     *
+     * @return An option containing the sum if this instance is non-empty and
+     *         the sum does not overflow an {@code int}; otherwise, an empty
+     *         option.
+     */
+    IntOption addExact(
+        final int addend);
+
     @Override
     IntOption filter(
         final Predicate<? super Integer> predicate);
@@ -46,6 +62,12 @@ public interface IntOption
         final BiPredicate<? super A, ? super Integer> predicate,
         final A arg);
 
+    @Override
+    <A, B> IntOption filter(
+        final TriPredicate<? super A, ? super B, ? super Integer> predicate,
+        final A arg1,
+        final B arg2);
+
     /**
      * Returns this instance if it is non-empty and the specified predicate
      * returns {@code true} for its contained value; otherwise, returns an empty
@@ -60,6 +82,30 @@ public interface IntOption
     IntOption filterInt(
         final IntPredicate predicate);
 
+    /**
+     * Returns this instance if it is non-empty and the specified predicate
+     * returns {@code true} for its contained value; otherwise, returns an empty
+     * option.
+     *
+     * @param <A>       The type of the first additional argument provided to
+     *                  {@code predicate}.
+     * @param <B>       The type of the second additional argument provided to
+     *                  {@code predicate}.
+     * @param predicate A predicate to apply to the contained value if this
+     *                  instance is non-empty.
+     * @param arg1      The first additional argument to provide to {@code
+     *                  predicate}.
+     * @param arg2      The second additional argument to provide to {@code
+     *                  predicate}.
+     *
+     * @return This instance if it is non-empty and {@code predicate} returns
+     *         {@code true} for its contained value; otherwise, an empty option.
+     */
+    <A, B> IntOption filterInt(
+        final ObjObjIntPredicate<? super A, ? super B> predicate,
+        final A arg1,
+        final B arg2);
+
     @Override
     IntOption filterToObject();
 
@@ -77,6 +123,21 @@ public interface IntOption
     <O extends Option<?>> O flatMapInt(
         final IntFunction<? extends O> mapper);
 
+    /**
+     * Divides the contained value by the specified value, rounding toward
+     * negative infinity. Unlike {@link Math#floorDiv(int, int)}, division by
+     * zero and overflow produce an empty option rather than an exception or a
+     * wrapped result.
+     *
+     * @param divisor The value by which to divide the contained value.
+     *
+     * @return An option containing the quotient if this instance is non-empty,
+     *         {@code divisor} is non-zero and the quotient does not overflow an
+     *         {@code int}; otherwise, an empty option.
+     */
+    IntOption floorDiv(
+        final int divisor);
+
     /**
      * Returns the value contained by this instance.
      *
@@ -183,6 +244,14 @@ public interface IntOption
         final Consumer<? super B> ifNone,
         final B ifNoneArg);
 
+    /**
+     * Returns an iterator over the value contained by this instance that does
+     * not box the value.
+     *
+     * @return An iterator over the value contained by this instance.
+     */
+    PrimitiveIterator.OfInt intIterator();
+
     /**
      * Returns the value contained by this instance if it is non-empty;
      * otherwise, returns the specified value.
@@ -197,7 +266,7 @@ public interface IntOption
 
     /**
      * Returns the value contained by this instance if it is non-empty;
-     * otherwise, returns the value supplier by the specified method.
+     * otherwise, returns the value supplied by the specified method.
      *
      * @param supplier A method that supplies the value to return if this
      *                 instance is empty.
@@ -210,7 +279,7 @@ public interface IntOption
 
     /**
      * Returns the value contained by this instance if it is non-empty;
-     * otherwise, returns the value supplier by the specified method.
+     * otherwise, returns the value supplied by the specified method.
      *
      * @param <A>      The type of the additional argument provided to
      *                 {@code supplier}.
@@ -294,6 +363,28 @@ public interface IntOption
     <T> Option<T> mapInt(
         final IntFunction<? extends T> mapper);
 
+    /**
+     * Applies the specified mapper function to the contained value.
+     *
+     * @param <A>    The type of the first additional argument provided to
+     *               {@code mapper}.
+     * @param <B>    The type of the second additional argument provided to
+     *               {@code mapper}.
+     * @param <T>    The value type of the returned option.
+     * @param mapper A function to apply to the value contained by this
+     *               instance.
+     * @param arg1   The first additional argument to provide to {@code mapper}.
+     * @param arg2   The second additional argument to provide to {@code
+     *               mapper}.
+     *
+     * @return An option containing the result of applying the mapper function
+     *         if this instance is non-empty; otherwise, an empty option.
+     */
+    <A, B, T> Option<T> mapInt(
+        final ObjObjIntFunction<? super A, ? super B, ? extends T> mapper,
+        final A arg1,
+        final B arg2);
+
     /**
      * Applies the specified mapper function to the contained value.
      *
@@ -342,6 +433,27 @@ public interface IntOption
     DoubleOption mapIntToDouble(
         final IntToDoubleFunction mapper);
 
+    /**
+     * Applies the specified mapper function to the contained value.
+     *
+     * @param <A>    The type of the first additional argument provided to
+     *               {@code mapper}.
+     * @param <B>    The type of the second additional argument provided to
+     *               {@code mapper}.
+     * @param mapper A function to apply to the value contained by this
+     *               instance.
+     * @param arg1   The first additional argument to provide to {@code mapper}.
+     * @param arg2   The second additional argument to provide to {@code
+     *               mapper}.
+     *
+     * @return An option containing the result of applying the mapper function
+     *         if this instance is non-empty; otherwise, an empty option.
+     */
+    <A, B> DoubleOption mapIntToDouble(
+        final ObjObjIntToDoubleFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2);
+
     /**
      * Applies the specified mapper function to the contained value.
      *
@@ -379,6 +491,27 @@ public interface IntOption
         final IntBinaryOperator mapper,
         final int arg);
 
+    /**
+     * Applies the specified mapper function to the contained value.
+     *
+     * @param <A>    The type of the first additional argument provided to
+     *               {@code mapper}.
+     * @param <B>    The type of the second additional argument provided to
+     *               {@code mapper}.
+     * @param mapper A function to apply to the value contained by this
+     *               instance.
+     * @param arg1   The first additional argument to provide to {@code mapper}.
+     * @param arg2   The second additional argument to provide to {@code
+     *               mapper}.
+     *
+     * @return An option containing the result of applying the mapper function
+     *         if this instance is non-empty; otherwise, an empty option.
+     */
+    <A, B> IntOption mapIntToInt(
+        final ObjObjIntToIntFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2);
+
     /**
      * Applies the specified mapper function to the contained value.
      *
@@ -391,6 +524,27 @@ public interface IntOption
     LongOption mapIntToLong(
         final IntToLongFunction mapper);
 
+    /**
+     * Applies the specified mapper function to the contained value.
+     *
+     * @param <A>    The type of the first additional argument provided to
+     *               {@code mapper}.
+     * @param <B>    The type of the second additional argument provided to
+     *               {@code mapper}.
+     * @param mapper A function to apply to the value contained by this
+     *               instance.
+     * @param arg1   The first additional argument to provide to {@code mapper}.
+     * @param arg2   The second additional argument to provide to {@code
+     *               mapper}.
+     *
+     * @return An option containing the result of applying the mapper function
+     *         if this instance is non-empty; otherwise, an empty option.
+     */
+    <A, B> LongOption mapIntToLong(
+        final ObjObjIntToLongFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2);
+
     /**
      * Applies the specified mapper function to the contained value.
      *
@@ -417,6 +571,30 @@ public interface IntOption
     boolean matchesInt(
         final IntPredicate predicate);
 
+    /**
+     * Multiplies the contained value by the specified value. Unlike
+     * {@link Math#multiplyExact(int, int)}, overflow produces an empty option
+     * rather than an exception.
+     *
+     * @param multiplier The value by which to multiply the contained value.
+     *
+     * @return An option containing the product if this instance is non-empty
+     *         and the product does not overflow an {@code int}; otherwise, an
+     *         empty option.
+     */
+    IntOption multiplyExact(
+        final int multiplier);
+
+    /**
+     * Narrows the contained value to a {@code short}. A value outside the range
+     * of {@code short} produces an empty option rather than being truncated.
+     *
+     * @return An option containing the narrowed value if this instance is
+     *         non-empty and its value is within the range of {@code short};
+     *         otherwise, an empty option.
+     */
+    ShortOption narrowToShort();
+
     /**
      * Returns this instance if it is non-empty; otherwise, returns the
      * specified option.
@@ -458,10 +636,62 @@ public interface IntOption
         final Function<? super A, ? extends IntOption> supplier,
         final A arg);
 
+    /**
+     * Subtracts the specified value from the contained value. Unlike
+     * {@link Math#subtractExact(int, int)}, overflow produces an empty option
+     * rather than an exception.
+     *
+     * @param subtrahend The value to subtract from the contained value.
+     *
+     * @return An option containing the difference if this instance is non-empty
+     *         and the difference does not overflow an {@code int}; otherwise,
+     *         an empty option.
+     */
+    IntOption subtractExact(
+        final int subtrahend);
+
     /**
      * Converts this instance to a {@link java.util.OptionalInt} instance.
      *
      * @return The converted instance.
      */
     OptionalInt toOptionalInt();
+
+    /**
+     * Combines the value contained by this instance with the value contained by
+     * the specified option.
+     *
+     * @param other    The option whose value to combine with the value
+     *                 contained by this instance.
+     * @param combiner A function to apply to the value contained by this
+     *                 instance and the value contained by {@code other}.
+     *
+     * @return An option containing the result of applying the combiner function
+     *         to both contained values if this instance and {@code other} are
+     *         both non-empty; otherwise, an empty option.
+     */
+    IntOption zipInt(
+        final IntOption other,
+        final IntBinaryOperator combiner);
+
+    /**
+     * Combines the value contained by this instance with the value contained by
+     * the specified option.
+     *
+     * @param <A>      The type of the additional argument provided to {@code
+     *                 combiner}.
+     * @param other    The option whose value to combine with the value
+     *                 contained by this instance.
+     * @param combiner A function to apply to the value contained by this
+     *                 instance and the value contained by {@code other}.
+     * @param arg      An additional argument to provide to {@code combiner}.
+     *
+     * @return An option containing the result of applying the combiner function
+     *         to both contained values if this instance and {@code other} are
+     *         both non-empty; otherwise, an empty option.
+     */
+    <A> IntOption zipInt(
+        final IntOption other,
+        final ObjIntBinaryOperator<? super A> combiner,
+        final A arg);
 }
@@ -0,0 +1,266 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+import static me.dkleszyk.java.option.Options.noneUnchecked;
+import static me.dkleszyk.java.option.Options.someNonNull;
+
+/**
+ * A fixed-length column of {@link IntOption} values stored in a
+ * {@link ByteBuffer} outside the Java heap. The buffer may be direct, or
+ * mapped from a file so that the column can be shared with other processes
+ * through the page cache.
+ * <p>
+ * The buffer holds, in little-endian byte order:
+ * <ol>
+ * <li>a 16-byte header: the {@code int} {@code 0x4354504F} (the ASCII
+ * characters {@code OPTC}), an {@code int} type code, which is {@code 1} for
+ * this class, the {@code int} length of the column and an {@code int} that is
+ * zero;</li>
+ * <li>a presence bitmap in which bit {@code i % 8} of byte {@code i / 8} is
+ * set if position {@code i} holds a value, padded to a multiple of 8
+ * bytes;</li>
+ * <li>the 4-byte values, one per position whether or not it holds a
+ * value.</li>
+ * </ol>
+ * The value region is therefore 8-byte aligned relative to the start of the
+ * column, and the bitmap has the same bit order as an Apache Arrow validity
+ * bitmap.
+ * <p>
+ * Instances are not safe for use by multiple threads without external
+ * synchronization if any of them modifies the column.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class IntOptionColumn
+    extends AbstractOptionColumn
+{
+    private static final int VALUE_BYTES = 4;
+
+    private IntOptionColumn(
+        final ByteBuffer buffer)
+    {
+        super(buffer, TYPE_INT, VALUE_BYTES);
+    }
+
+    /**
+     * Creates a column of the specified length in a new direct buffer. Every
+     * position of the column is initially empty.
+     *
+     * @param length The length of the column.
+     *
+     * @return The new column.
+     *
+     * @throws IllegalArgumentException {@code length} is negative, or the
+     *                                  column would exceed 2 GiB.
+     */
+    public static IntOptionColumn allocateDirect(
+        final int length)
+    {
+        return new IntOptionColumn(
+            allocateBuffer(TYPE_INT, length, VALUE_BYTES));
+    }
+
+    /**
+     * Creates a new file containing a column of the specified length, and
+     * maps it into memory. Every position of the column is initially empty,
+     * and changes made to the column are written back to the file by the
+     * operating system.
+     *
+     * @param path   The path of the file to create.
+     * @param length The length of the column.
+     *
+     * @return The new column.
+     *
+     * @throws IOException              The file already exists or cannot be
+     *                                  created or mapped.
+     * @throws IllegalArgumentException {@code length} is negative, or the
+     *                                  column would exceed 2 GiB.
+     */
+    public static IntOptionColumn create(
+        final Path path,
+        final int length)
+        throws IOException
+    {
+        return new IntOptionColumn(
+            createBuffer(path, TYPE_INT, length, VALUE_BYTES));
+    }
+
+    /**
+     * Maps an existing column file into memory, read-only. The file is not
+     * copied.
+     *
+     * @param path The path of the file.
+     *
+     * @return A read-only column backed by the file.
+     *
+     * @throws IOException              The file cannot be opened or mapped.
+     * @throws IllegalArgumentException The file does not contain a column of
+     *                                  this type.
+     */
+    public static IntOptionColumn open(
+        final Path path)
+        throws IOException
+    {
+        return new IntOptionColumn(mapBuffer(path));
+    }
+
+    /**
+     * Returns a column backed by the specified buffer, which must contain a
+     * column of this type starting at its position. The buffer is not copied,
+     * and its position, limit and byte order are not changed.
+     *
+     * @param buffer The buffer containing the column.
+     *
+     * @return A column backed by {@code buffer}.
+     *
+     * @throws IllegalArgumentException {@code buffer} does not contain a
+     *                                  column of this type.
+     */
+    public static IntOptionColumn wrap(
+        final ByteBuffer buffer)
+    {
+        return new IntOptionColumn(buffer);
+    }
+
+    /**
+     * Returns the option at the specified position. Where the value is one
+     * for which option instances are cached, the cached instance is returned.
+     *
+     * @param index The position of the option.
+     *
+     * @return The option at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException {@code index} is negative or not less
+     *                                   than {@link #length()}.
+     */
+    public IntOption get(
+        final int index)
+    {
+        return isSome(index) ?
+            someNonNull(value(index)) :
+            noneUnchecked();
+    }
+
+    /**
+     * Returns the value at the specified position.
+     *
+     * @param index The position of the value.
+     *
+     * @return The value at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException {@code index} is negative or not less
+     *                                   than {@link #length()}.
+     * @throws NoSuchElementException    {@code index} is empty.
+     */
+    public int getAsInt(
+        final int index)
+    {
+        if (!isSome(index))
+        {
+            throw Exceptions.optionNoValue();
+        }
+
+        return value(index);
+    }
+
+    /**
+     * Returns the value at the specified position if there is one; otherwise,
+     * returns the specified value.
+     *
+     * @param index The position of the value.
+     * @param value The value to return if the position is empty.
+     *
+     * @return The value at {@code index} if there is one; otherwise,
+     *         {@code value}.
+     *
+     * @throws IndexOutOfBoundsException {@code index} is negative or not less
+     *                                   than {@link #length()}.
+     */
+    public int getOrElse(
+        final int index,
+        final int value)
+    {
+        return isSome(index) ?
+            value(index) :
+            value;
+    }
+
+    /**
+     * Sets the option at the specified position.
+     *
+     * @param index  The position of the option.
+     * @param option The new option.
+     *
+     * @throws NullPointerException             {@code option} is
+     *                                          {@code null}.
+     * @throws IndexOutOfBoundsException        {@code index} is negative or
+     *                                          not less than
+     *                                          {@link #length()}.
+     * @throws java.nio.ReadOnlyBufferException The column is read-only.
+     */
+    public void set(
+        final int index,
+        final IntOption option)
+    {
+        if (option.isSome())
+        {
+            setInt(index, option.getAsInt());
+        }
+        else
+        {
+            setNone(index);
+        }
+    }
+
+    /**
+     * Sets the specified position to hold the specified value.
+     *
+     * @param index The position of the value.
+     * @param value The new value.
+     *
+     * @throws IndexOutOfBoundsException        {@code index} is negative or
+     *                                          not less than
+     *                                          {@link #length()}.
+     * @throws java.nio.ReadOnlyBufferException The column is read-only.
+     */
+    public void setInt(
+        final int index,
+        final int value)
+    {
+        buffer.putInt(checkedValueOffset(index, VALUE_BYTES), value);
+        setSome(index);
+    }
+
+    private int value(
+        final int index)
+    {
+        return buffer.getInt(valuesOffset + index * VALUE_BYTES);
+    }
+}
@@ -0,0 +1,1187 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.function.*;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import me.dkleszyk.java.function.extra.primitive.*;
+import me.dkleszyk.java.option.function.*;
+
+import static me.dkleszyk.java.option.Options.noneUnchecked;
+import static me.dkleszyk.java.option.Options.someNonNull;
+
+/**
+ * A mutable {@link IntOption} view of the elements of an {@code int} array and
+ * a presence bitmap, for passing the elements to code that accepts options
+ * without allocating an option per element. The cursor is repositioned with
+ * {@link #moveTo(int)}, after which it behaves as an option with the contents
+ * of that element.
+ * <p>
+ * Because its contents change whenever it moves, a cursor must not escape the
+ * code to which it is passed for a single element: it must not be stored, put
+ * in a collection, used as a map key, or shared with other threads. Code that
+ * needs to retain an element must retain {@link #snapshot()} instead. No method
+ * of a cursor returns the cursor itself as an option; where an immutable option
+ * would return itself, the cursor returns its snapshot.
+ * <p>
+ * A cursor is equal only to another cursor with the same contents. Code that
+ * compares the contents of a cursor with those of another option must compare
+ * {@link #snapshot()} instead.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class IntOptionCursor
+    implements IntOption
+{
+    private int index = -1;
+
+    private final long[] presence;
+
+    private boolean present;
+
+    private int value;
+
+    private final int[] values;
+
+    /**
+     * Creates a cursor over the specified values and presence bitmap, which
+     * are not copied. Bit {@code i & 63} of {@code presence[i >>> 6]} is set
+     * if the element at index {@code i} is present. The cursor is initially
+     * empty and not positioned at any element.
+     *
+     * @param values   The values of the elements.
+     * @param presence The presence bitmap of the elements.
+     *
+     * @throws NullPointerException     {@code values} or {@code presence} is
+     *                                  {@code null}.
+     * @throws IllegalArgumentException {@code presence} is too short for
+     *                                  {@code values}.
+     */
+    public IntOptionCursor(
+        final int[] values,
+        final long[] presence)
+    {
+        if (presence.length < (values.length + 63L) >>> 6)
+        {
+            throw new IllegalArgumentException(
+                "Presence bitmap too short: " + presence.length);
+        }
+
+        this.values = values;
+        this.presence = presence;
+    }
+
+    @Override
+    public IntOption addExact(
+        final int addend)
+    {
+        return snapshot().addExact(addend);
+    }
+
+    @Override
+    public <O extends Option<?>> O and(
+        final O option)
+    {
+        return snapshot().and(option);
+    }
+
+    @Override
+    public <O extends Option<?>> O andGet(
+        final Supplier<? extends O> supplier)
+    {
+        return snapshot().andGet(supplier);
+    }
+
+    @Override
+    public <A, O extends Option<?>> O andGet(
+        final Function<? super A, ? extends O> supplier,
+        final A arg)
+    {
+        return snapshot().andGet(supplier, arg);
+    }
+
+    @Override
+    public boolean equals(
+        final Object obj)
+    {
+        return obj == this ||
+            obj instanceof IntOptionCursor other &&
+            snapshot().equals(other.snapshot());
+    }
+
+    @Override
+    public IntOption filter(
+        final Predicate<? super Integer> predicate)
+    {
+        return snapshot().filter(predicate);
+    }
+
+    @Override
+    public <A> IntOption filter(
+        final BiPredicate<? super A, ? super Integer> predicate,
+        final A arg)
+    {
+        return snapshot().filter(predicate, arg);
+    }
+
+    @Override
+    public <A, B> IntOption filter(
+        final TriPredicate<? super A, ? super B, ? super Integer> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().filter(predicate, arg1, arg2);
+    }
+
+    @Override
+    public IntOption filterInt(
+        final IntPredicate predicate)
+    {
+        if (!present)
+        {
+            return none().filterInt(predicate);
+        }
+
+        return predicate.test(value) ?
+            snapshot() :
+            noneUnchecked();
+    }
+
+    @Override
+    public <A, B> IntOption filterInt(
+        final ObjObjIntPredicate<? super A, ? super B> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        if (!present)
+        {
+            return none().filterInt(predicate, arg1, arg2);
+        }
+
+        return predicate.test(arg1, arg2, value) ?
+            snapshot() :
+            noneUnchecked();
+    }
+
+    @Override
+    public BooleanOption filterToBoolean()
+    {
+        return snapshot().filterToBoolean();
+    }
+
+    @Override
+    public ByteOption filterToByte()
+    {
+        return snapshot().filterToByte();
+    }
+
+    @Override
+    public CharOption filterToChar()
+    {
+        return snapshot().filterToChar();
+    }
+
+    @Override
+    public DoubleOption filterToDouble()
+    {
+        return snapshot().filterToDouble();
+    }
+
+    @Override
+    public FloatOption filterToFloat()
+    {
+        return snapshot().filterToFloat();
+    }
+
+    @Override
+    public IntOption filterToInt()
+    {
+        return snapshot().filterToInt();
+    }
+
+    @Override
+    public LongOption filterToLong()
+    {
+        return snapshot().filterToLong();
+    }
+
+    @Override
+    public IntOption filterToObject()
+    {
+        return snapshot().filterToObject();
+    }
+
+    @Override
+    public ShortOption filterToShort()
+    {
+        return snapshot().filterToShort();
+    }
+
+    @Override
+    public <T> Option<T> filterToType(
+        final Class<T> type)
+    {
+        return snapshot().filterToType(type);
+    }
+
+    @Override
+    public <O extends Option<?>> O flatMap(
+        final Function<? super Integer, ? extends O> mapper)
+    {
+        return snapshot().flatMap(mapper);
+    }
+
+    @Override
+    public <A, O extends Option<?>> O flatMap(
+        final BiFunction<? super A, ? super Integer, ? extends O> mapper,
+        final A arg)
+    {
+        return snapshot().flatMap(mapper, arg);
+    }
+
+    @Override
+    public <A, B, O extends Option<?>> O flatMap(
+        final TriFunction<? super A, ? super B, ? super Integer, ? extends O> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().flatMap(mapper, arg1, arg2);
+    }
+
+    @Override
+    public <O extends Option<?>> O flatMapInt(
+        final IntFunction<? extends O> mapper)
+    {
+        return snapshot().flatMapInt(mapper);
+    }
+
+    @Override
+    public IntOption floorDiv(
+        final int divisor)
+    {
+        return snapshot().floorDiv(divisor);
+    }
+
+    @Override
+    public Integer get()
+    {
+        return snapshot().get();
+    }
+
+    @Override
+    public int getAsInt()
+    {
+        if (!present)
+        {
+            return none().getAsInt();
+        }
+
+        return value;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return snapshot().hashCode();
+    }
+
+    @Override
+    public void ifNone(
+        final Runnable ifNone)
+    {
+        snapshot().ifNone(ifNone);
+    }
+
+    @Override
+    public <A> void ifNone(
+        final Consumer<? super A> ifNone,
+        final A arg)
+    {
+        snapshot().ifNone(ifNone, arg);
+    }
+
+    @Override
+    public void ifSome(
+        final Consumer<? super Integer> ifSome)
+    {
+        if (!present)
+        {
+            none().ifSome(ifSome);
+
+            return;
+        }
+
+        ifSome.accept(boxedValue());
+    }
+
+    @Override
+    public <A> void ifSome(
+        final BiConsumer<? super A, ? super Integer> ifSome,
+        final A arg)
+    {
+        if (!present)
+        {
+            none().ifSome(ifSome, arg);
+
+            return;
+        }
+
+        ifSome.accept(arg, boxedValue());
+    }
+
+    @Override
+    public void ifSomeInt(
+        final IntConsumer ifSome)
+    {
+        if (!present)
+        {
+            none().ifSomeInt(ifSome);
+
+            return;
+        }
+
+        ifSome.accept(value);
+    }
+
+    @Override
+    public <A> void ifSomeInt(
+        final ObjIntConsumer<? super A> ifSome,
+        final A arg)
+    {
+        if (!present)
+        {
+            none().ifSomeInt(ifSome, arg);
+
+            return;
+        }
+
+        ifSome.accept(arg, value);
+    }
+
+    @Override
+    public void ifSomeIntOrElse(
+        final IntConsumer ifSome,
+        final Runnable ifNone)
+    {
+        snapshot().ifSomeIntOrElse(ifSome, ifNone);
+    }
+
+    @Override
+    public <A> void ifSomeIntOrElse(
+        final IntConsumer ifSome,
+        final Consumer<? super A> ifNone,
+        final A ifNoneArg)
+    {
+        snapshot().ifSomeIntOrElse(ifSome, ifNone, ifNoneArg);
+    }
+
+    @Override
+    public <A> void ifSomeIntOrElse(
+        final ObjIntConsumer<? super A> ifSome,
+        final A ifSomeArg,
+        final Runnable ifNone)
+    {
+        snapshot().ifSomeIntOrElse(ifSome, ifSomeArg, ifNone);
+    }
+
+    @Override
+    public <A> void ifSomeIntOrElse(
+        final ObjIntConsumer<? super A> ifSome,
+        final Consumer<? super A> ifNone,
+        final A arg)
+    {
+        snapshot().ifSomeIntOrElse(ifSome, ifNone, arg);
+    }
+
+    @Override
+    public <A, B> void ifSomeIntOrElse(
+        final ObjIntConsumer<? super A> ifSome,
+        final A ifSomeArg,
+        final Consumer<? super B> ifNone,
+        final B ifNoneArg)
+    {
+        snapshot().ifSomeIntOrElse(ifSome, ifSomeArg, ifNone, ifNoneArg);
+    }
+
+    @Override
+    public void ifSomeOrElse(
+        final Consumer<? super Integer> ifSome,
+        final Runnable ifNone)
+    {
+        snapshot().ifSomeOrElse(ifSome, ifNone);
+    }
+
+    @Override
+    public <A> void ifSomeOrElse(
+        final Consumer<? super Integer> ifSome,
+        final Consumer<? super A> ifNone,
+        final A ifNoneArg)
+    {
+        snapshot().ifSomeOrElse(ifSome, ifNone, ifNoneArg);
+    }
+
+    @Override
+    public <A> void ifSomeOrElse(
+        final BiConsumer<? super A, ? super Integer> ifSome,
+        final A ifSomeArg,
+        final Runnable ifNone)
+    {
+        snapshot().ifSomeOrElse(ifSome, ifSomeArg, ifNone);
+    }
+
+    @Override
+    public <A> void ifSomeOrElse(
+        final BiConsumer<? super A, ? super Integer> ifSome,
+        final Consumer<? super A> ifNone,
+        final A arg)
+    {
+        snapshot().ifSomeOrElse(ifSome, ifNone, arg);
+    }
+
+    @Override
+    public <A, B> void ifSomeOrElse(
+        final BiConsumer<? super A, ? super Integer> ifSome,
+        final A ifSomeArg,
+        final Consumer<? super B> ifNone,
+        final B ifNoneArg)
+    {
+        snapshot().ifSomeOrElse(ifSome, ifSomeArg, ifNone, ifNoneArg);
+    }
+
+    /**
+     * Returns the index of the element at which this cursor is positioned.
+     *
+     * @return The index of the current element, or {@code -1} if this cursor
+     *         has not been positioned.
+     */
+    public int index()
+    {
+        return index;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt intIterator()
+    {
+        return snapshot().intIterator();
+    }
+
+    @Override
+    public int intOrElse(
+        final int value)
+    {
+        if (!present)
+        {
+            return none().intOrElse(value);
+        }
+
+        return this.value;
+    }
+
+    @Override
+    public int intOrElseGet(
+        final IntSupplier supplier)
+    {
+        return snapshot().intOrElseGet(supplier);
+    }
+
+    @Override
+    public <A> int intOrElseGet(
+        final ToIntFunction<? super A> supplier,
+        final A arg)
+    {
+        return snapshot().intOrElseGet(supplier, arg);
+    }
+
+    @Override
+    public int intOrElseThrow()
+    {
+        return snapshot().intOrElseThrow();
+    }
+
+    @Override
+    public <X extends Throwable> int intOrElseThrow(
+        final Supplier<? extends X> supplier)
+        throws X
+    {
+        return snapshot().intOrElseThrow(supplier);
+    }
+
+    @Override
+    public <A, X extends Throwable> int intOrElseThrow(
+        final Function<? super A, ? extends X> supplier,
+        final A arg)
+        throws X
+    {
+        return snapshot().intOrElseThrow(supplier, arg);
+    }
+
+    @Override
+    public IntStream intStream()
+    {
+        return snapshot().intStream();
+    }
+
+    @Override
+    public boolean isNone()
+    {
+        if (!present)
+        {
+            return none().isNone();
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean isSome()
+    {
+        if (!present)
+        {
+            return none().isSome();
+        }
+
+        return true;
+    }
+
+    @Override
+    public Iterator<Integer> iterator()
+    {
+        return snapshot().iterator();
+    }
+
+    /**
+     * Returns the number of elements over which this cursor moves.
+     *
+     * @return The number of elements.
+     */
+    public int length()
+    {
+        return values.length;
+    }
+
+    @Override
+    public <T> Option<T> map(
+        final Function<? super Integer, ? extends T> mapper)
+    {
+        return snapshot().map(mapper);
+    }
+
+    @Override
+    public <A, T> Option<T> map(
+        final BiFunction<? super A, ? super Integer, ? extends T> mapper,
+        final A arg)
+    {
+        return snapshot().map(mapper, arg);
+    }
+
+    @Override
+    public <A, B, T> Option<T> map(
+        final TriFunction<? super A, ? super B, ? super Integer, ? extends T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().map(mapper, arg1, arg2);
+    }
+
+    @Override
+    public <T> Option<T> mapInt(
+        final IntFunction<? extends T> mapper)
+    {
+        return snapshot().mapInt(mapper);
+    }
+
+    @Override
+    public <A, B, T> Option<T> mapInt(
+        final ObjObjIntFunction<? super A, ? super B, ? extends T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().mapInt(mapper, arg1, arg2);
+    }
+
+    @Override
+    public BooleanOption mapIntToBoolean(
+        final IntPredicate mapper)
+    {
+        if (!present)
+        {
+            return none().mapIntToBoolean(mapper);
+        }
+
+        return someNonNull(mapper.test(value));
+    }
+
+    @Override
+    public ByteOption mapIntToByte(
+        final IntToByteFunction mapper)
+    {
+        if (!present)
+        {
+            return none().mapIntToByte(mapper);
+        }
+
+        return someNonNull(mapper.applyAsByte(value));
+    }
+
+    @Override
+    public CharOption mapIntToChar(
+        final IntToCharFunction mapper)
+    {
+        if (!present)
+        {
+            return none().mapIntToChar(mapper);
+        }
+
+        return someNonNull(mapper.applyAsChar(value));
+    }
+
+    @Override
+    public DoubleOption mapIntToDouble(
+        final IntToDoubleFunction mapper)
+    {
+        if (!present)
+        {
+            return none().mapIntToDouble(mapper);
+        }
+
+        return someNonNull(mapper.applyAsDouble(value));
+    }
+
+    @Override
+    public <A, B> DoubleOption mapIntToDouble(
+        final ObjObjIntToDoubleFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        if (!present)
+        {
+            return none().mapIntToDouble(mapper, arg1, arg2);
+        }
+
+        return someNonNull(mapper.applyAsDouble(arg1, arg2, value));
+    }
+
+    @Override
+    public FloatOption mapIntToFloat(
+        final IntToFloatFunction mapper)
+    {
+        if (!present)
+        {
+            return none().mapIntToFloat(mapper);
+        }
+
+        return someNonNull(mapper.applyAsFloat(value));
+    }
+
+    @Override
+    public IntOption mapIntToInt(
+        final IntUnaryOperator mapper)
+    {
+        if (!present)
+        {
+            return none().mapIntToInt(mapper);
+        }
+
+        return someNonNull(mapper.applyAsInt(value));
+    }
+
+    @Override
+    public IntOption mapIntToInt(
+        final IntBinaryOperator mapper,
+        final int arg)
+    {
+        if (!present)
+        {
+            return none().mapIntToInt(mapper, arg);
+        }
+
+        return someNonNull(mapper.applyAsInt(arg, value));
+    }
+
+    @Override
+    public <A, B> IntOption mapIntToInt(
+        final ObjObjIntToIntFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        if (!present)
+        {
+            return none().mapIntToInt(mapper, arg1, arg2);
+        }
+
+        return someNonNull(mapper.applyAsInt(arg1, arg2, value));
+    }
+
+    @Override
+    public LongOption mapIntToLong(
+        final IntToLongFunction mapper)
+    {
+        if (!present)
+        {
+            return none().mapIntToLong(mapper);
+        }
+
+        return someNonNull(mapper.applyAsLong(value));
+    }
+
+    @Override
+    public <A, B> LongOption mapIntToLong(
+        final ObjObjIntToLongFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        if (!present)
+        {
+            return none().mapIntToLong(mapper, arg1, arg2);
+        }
+
+        return someNonNull(mapper.applyAsLong(arg1, arg2, value));
+    }
+
+    @Override
+    public ShortOption mapIntToShort(
+        final IntToShortFunction mapper)
+    {
+        if (!present)
+        {
+            return none().mapIntToShort(mapper);
+        }
+
+        return someNonNull(mapper.applyAsShort(value));
+    }
+
+    @Override
+    public BooleanOption mapToBoolean(
+        final Predicate<? super Integer> mapper)
+    {
+        return snapshot().mapToBoolean(mapper);
+    }
+
+    @Override
+    public <A> BooleanOption mapToBoolean(
+        final BiPredicate<? super A, ? super Integer> mapper,
+        final A arg)
+    {
+        return snapshot().mapToBoolean(mapper, arg);
+    }
+
+    @Override
+    public ByteOption mapToByte(
+        final ToByteFunction<? super Integer> mapper)
+    {
+        return snapshot().mapToByte(mapper);
+    }
+
+    @Override
+    public <A> ByteOption mapToByte(
+        final ToByteBiFunction<? super A, ? super Integer> mapper,
+        final A arg)
+    {
+        return snapshot().mapToByte(mapper, arg);
+    }
+
+    @Override
+    public CharOption mapToChar(
+        final ToCharFunction<? super Integer> mapper)
+    {
+        return snapshot().mapToChar(mapper);
+    }
+
+    @Override
+    public <A> CharOption mapToChar(
+        final ToCharBiFunction<? super A, ? super Integer> mapper,
+        final A arg)
+    {
+        return snapshot().mapToChar(mapper, arg);
+    }
+
+    @Override
+    public DoubleOption mapToDouble(
+        final ToDoubleFunction<? super Integer> mapper)
+    {
+        return snapshot().mapToDouble(mapper);
+    }
+
+    @Override
+    public <A> DoubleOption mapToDouble(
+        final ToDoubleBiFunction<? super A, ? super Integer> mapper,
+        final A arg)
+    {
+        return snapshot().mapToDouble(mapper, arg);
+    }
+
+    @Override
+    public <A, B> DoubleOption mapToDouble(
+        final ToDoubleTriFunction<? super A, ? super B, ? super Integer> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().mapToDouble(mapper, arg1, arg2);
+    }
+
+    @Override
+    public FloatOption mapToFloat(
+        final ToFloatFunction<? super Integer> mapper)
+    {
+        return snapshot().mapToFloat(mapper);
+    }
+
+    @Override
+    public <A> FloatOption mapToFloat(
+        final ToFloatBiFunction<? super A, ? super Integer> mapper,
+        final A arg)
+    {
+        return snapshot().mapToFloat(mapper, arg);
+    }
+
+    @Override
+    public IntOption mapToInt(
+        final ToIntFunction<? super Integer> mapper)
+    {
+        return snapshot().mapToInt(mapper);
+    }
+
+    @Override
+    public <A> IntOption mapToInt(
+        final ToIntBiFunction<? super A, ? super Integer> mapper,
+        final A arg)
+    {
+        return snapshot().mapToInt(mapper, arg);
+    }
+
+    @Override
+    public <A, B> IntOption mapToInt(
+        final ToIntTriFunction<? super A, ? super B, ? super Integer> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().mapToInt(mapper, arg1, arg2);
+    }
+
+    @Override
+    public LongOption mapToLong(
+        final ToLongFunction<? super Integer> mapper)
+    {
+        return snapshot().mapToLong(mapper);
+    }
+
+    @Override
+    public <A> LongOption mapToLong(
+        final ToLongBiFunction<? super A, ? super Integer> mapper,
+        final A arg)
+    {
+        return snapshot().mapToLong(mapper, arg);
+    }
+
+    @Override
+    public <A, B> LongOption mapToLong(
+        final ToLongTriFunction<? super A, ? super B, ? super Integer> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().mapToLong(mapper, arg1, arg2);
+    }
+
+    @Override
+    public ShortOption mapToShort(
+        final ToShortFunction<? super Integer> mapper)
+    {
+        return snapshot().mapToShort(mapper);
+    }
+
+    @Override
+    public <A> ShortOption mapToShort(
+        final ToShortBiFunction<? super A, ? super Integer> mapper,
+        final A arg)
+    {
+        return snapshot().mapToShort(mapper, arg);
+    }
+
+    @Override
+    public boolean matches(
+        final Predicate<? super Integer> predicate)
+    {
+        return snapshot().matches(predicate);
+    }
+
+    @Override
+    public <A> boolean matches(
+        final BiPredicate<? super A, ? super Integer> predicate,
+        final A arg)
+    {
+        return snapshot().matches(predicate, arg);
+    }
+
+    @Override
+    public <A, B> boolean matches(
+        final TriPredicate<? super A, ? super B, ? super Integer> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().matches(predicate, arg1, arg2);
+    }
+
+    @Override
+    public boolean matchesInt(
+        final IntPredicate predicate)
+    {
+        return snapshot().matchesInt(predicate);
+    }
+
+    /**
+     * Positions this cursor at the specified element, so that it contains the
+     * value of the element if the element is present, and is empty otherwise.
+     * Nothing is allocated.
+     *
+     * @param index The index of the element.
+     *
+     * @return This cursor.
+     *
+     * @throws IndexOutOfBoundsException {@code index} is negative or not less
+     *                                   than {@link #length()}.
+     */
+    public IntOptionCursor moveTo(
+        final int index)
+    {
+        Objects.checkIndex(index, values.length);
+        this.index = index;
+        this.present = (presence[index >>> 6] & 1L << index) != 0;
+        this.value = present ?
+            values[index] :
+            0;
+
+        return this;
+    }
+
+    @Override
+    public IntOption multiplyExact(
+        final int multiplier)
+    {
+        return snapshot().multiplyExact(multiplier);
+    }
+
+    @Override
+    public ShortOption narrowToShort()
+    {
+        return snapshot().narrowToShort();
+    }
+
+    @Override
+    public Option<Integer> or(
+        final Option<? extends Integer> option)
+    {
+        return snapshot().or(option);
+    }
+
+    @Override
+    public IntOption or(
+        final IntOption option)
+    {
+        return snapshot().or(option);
+    }
+
+    @Override
+    public Integer orElse(
+        final Integer value)
+    {
+        if (!present)
+        {
+            return none().orElse(value);
+        }
+
+        return boxedValue();
+    }
+
+    @Override
+    public Integer orElseGet(
+        final Supplier<? extends Integer> supplier)
+    {
+        return snapshot().orElseGet(supplier);
+    }
+
+    @Override
+    public <A> Integer orElseGet(
+        final Function<? super A, ? extends Integer> supplier,
+        final A arg)
+    {
+        return snapshot().orElseGet(supplier, arg);
+    }
+
+    @Override
+    public <A, B> Integer orElseGet(
+        final BiFunction<? super A, ? super B, ? extends Integer> supplier,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().orElseGet(supplier, arg1, arg2);
+    }
+
+    @Override
+    public Integer orElseThrow()
+    {
+        return snapshot().orElseThrow();
+    }
+
+    @Override
+    public <X extends Throwable> Integer orElseThrow(
+        final Supplier<? extends X> supplier)
+        throws X
+    {
+        return snapshot().orElseThrow(supplier);
+    }
+
+    @Override
+    public <A, X extends Throwable> Integer orElseThrow(
+        final Function<? super A, ? extends X> supplier,
+        final A arg)
+        throws X
+    {
+        return snapshot().orElseThrow(supplier, arg);
+    }
+
+    @Override
+    public Option<Integer> orGet(
+        final Supplier<? extends Option<? extends Integer>> supplier)
+    {
+        return snapshot().orGet(supplier);
+    }
+
+    @Override
+    public <A> Option<Integer> orGet(
+        final Function<? super A, ? extends Option<? extends Integer>> supplier,
+        final A arg)
+    {
+        return snapshot().orGet(supplier, arg);
+    }
+
+    @Override
+    public IntOption orGetInt(
+        final Supplier<? extends IntOption> supplier)
+    {
+        return snapshot().orGetInt(supplier);
+    }
+
+    @Override
+    public <A> IntOption orGetInt(
+        final Function<? super A, ? extends IntOption> supplier,
+        final A arg)
+    {
+        return snapshot().orGetInt(supplier, arg);
+    }
+
+    /**
+     * Returns an immutable option with the current contents of this cursor,
+     * which may be retained after the cursor moves. The cached option
+     * instances are returned where the option types cache them.
+     *
+     * @return An immutable copy of this cursor.
+     */
+    public IntOption snapshot()
+    {
+        return present ?
+            someNonNull(value) :
+            noneUnchecked();
+    }
+
+    @Override
+    public Stream<Integer> stream()
+    {
+        return snapshot().stream();
+    }
+
+    @Override
+    public IntOption subtractExact(
+        final int subtrahend)
+    {
+        return snapshot().subtractExact(subtrahend);
+    }
+
+    @Override
+    public Optional<Integer> toOptional()
+    {
+        return snapshot().toOptional();
+    }
+
+    @Override
+    public OptionalInt toOptionalInt()
+    {
+        return snapshot().toOptionalInt();
+    }
+
+    @Override
+    public String toString()
+    {
+        return snapshot().toString();
+    }
+
+    @Override
+    public <U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final BiFunction<? super Integer, ? super U, ? extends R> combiner)
+    {
+        return snapshot().zip(other, combiner);
+    }
+
+    @Override
+    public <A, U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final TriFunction<? super A, ? super Integer, ? super U, ? extends R> combiner,
+        final A arg)
+    {
+        return snapshot().zip(other, combiner, arg);
+    }
+
+    @Override
+    public IntOption zipInt(
+        final IntOption other,
+        final IntBinaryOperator combiner)
+    {
+        return snapshot().zipInt(other, combiner);
+    }
+
+    @Override
+    public <A> IntOption zipInt(
+        final IntOption other,
+        final ObjIntBinaryOperator<? super A> combiner,
+        final A arg)
+    {
+        return snapshot().zipInt(other, combiner, arg);
+    }
+
+    private Integer boxedValue()
+    {
+        return value;
+    }
+
+    private IntOption none()
+    {
+        return noneUnchecked();
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import static me.dkleszyk.java.option.Options.noneUnchecked;
+import static me.dkleszyk.java.option.Options.someNonNull;
+
+/**
+ * Decodes, in order, the options encoded by {@link IntOptionEncoder}. Options
+ * may be read one at a time, in which case the cached option instances are
+ * returned where the option types cache them, or in batches into primitive
+ * arrays without allocating.
+ * <p>
+ * Decoding is incremental, but not streaming: the whole encoded column must
+ * be available in a {@link ByteBuffer}, such as a heap buffer or a
+ * memory-mapped file, before the decoder is created.
+ * <p>
+ * Instances are not safe for use by multiple threads without external
+ * synchronization.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class IntOptionDecoder
+    implements Iterator<IntOption>
+{
+    private final CompressedOptionReader reader;
+
+    /**
+     * Creates a decoder for the encoded options starting at the position of
+     * the specified buffer. The buffer is not copied, and its position, limit
+     * and byte order are not changed.
+     *
+     * @param encoded The encoded options.
+     *
+     * @throws IllegalArgumentException {@code encoded} does not start with
+     *                                  options encoded by
+     *                                  {@link IntOptionEncoder}.
+     */
+    public IntOptionDecoder(
+        final ByteBuffer encoded)
+    {
+        this.reader = new CompressedOptionReader(
+            encoded,
+            AbstractOptionColumn.TYPE_INT);
+    }
+
+    /**
+     * Returns whether any options remain to be decoded.
+     *
+     * @return {@code true} if any options remain; otherwise, {@code false}.
+     */
+    @Override
+    public boolean hasNext()
+    {
+        return reader.remaining() != 0;
+    }
+
+    /**
+     * Decodes the next option.
+     *
+     * @return The next option.
+     *
+     * @throws NoSuchElementException No options remain.
+     */
+    @Override
+    public IntOption next()
+    {
+        return reader.next() ?
+            someNonNull((int) reader.value()) :
+            noneUnchecked();
+    }
+
+    /**
+     * Decodes up to the specified number of options into the specified
+     * arrays. For each option decoded, the corresponding element of
+     * {@code somes} is set to whether the option is non-empty, and the
+     * corresponding element of {@code values} is set to its value if it is;
+     * the elements of {@code values} that correspond to empty options are not
+     * changed.
+     *
+     * @param values The array into which to decode the values.
+     * @param somes  The array into which to decode whether each option is
+     *               non-empty.
+     * @param offset The index of the first element to set in each array.
+     * @param length The maximum number of options to decode.
+     *
+     * @return The number of options decoded, which is less than
+     *         {@code length} only if no options remain.
+     *
+     * @throws NullPointerException      {@code values} or {@code somes} is
+     *                                   {@code null}.
+     * @throws IndexOutOfBoundsException {@code offset} or {@code length} is
+     *                                   negative, or
+     *                                   {@code offset + length} is greater
+     *                                   than the length of either array.
+     */
+    public int read(
+        final int[] values,
+        final boolean[] somes,
+        final int offset,
+        final int length)
+    {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        Objects.checkFromIndexSize(offset, length, somes.length);
+
+        int index = offset;
+        final int end = offset + length;
+
+        while (index < end)
+        {
+            final int run = Math.min(reader.runLength(), end - index);
+
+            if (run == 0)
+            {
+                break;
+            }
+
+            if (reader.runSome())
+            {
+                Arrays.fill(somes, index, index + run, true);
+
+                for (int i = 0; i < run; i++)
+                {
+                    values[index + i] = (int) reader.value();
+                }
+            }
+            else
+            {
+                Arrays.fill(somes, index, index + run, false);
+                reader.skip(run);
+            }
+
+            index += run;
+        }
+
+        return index - offset;
+    }
+
+    /**
+     * Returns the number of options that remain to be decoded.
+     *
+     * @return The number of options that remain to be decoded.
+     */
+    public int remaining()
+    {
+        return reader.remaining();
+    }
+}
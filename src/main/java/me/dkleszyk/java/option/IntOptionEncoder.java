@@ -0,0 +1,112 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+/**
+ * Encodes a sequence of {@link IntOption} values in a compressed column format,
+ * which {@link IntOptionDecoder} decodes. Runs of empty and non-empty positions
+ * are run-length encoded, and the values are bit-packed in blocks of 128, each
+ * relative to its minimum value or, where narrower, as differences between
+ * consecutive values. Long runs of empty options and values from a narrow or
+ * slowly changing range therefore encode to a few bits each.
+ * <p>
+ * Instances are not safe for use by multiple threads without external
+ * synchronization.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class IntOptionEncoder
+{
+    private final CompressedOptionWriter writer = new CompressedOptionWriter();
+
+    /**
+     * Creates an encoder with no options appended.
+     */
+    public IntOptionEncoder()
+    {
+    }
+
+    /**
+     * Appends the specified option.
+     *
+     * @param option The option to append.
+     *
+     * @return This encoder.
+     *
+     * @throws NullPointerException  {@code option} is {@code null}.
+     * @throws IllegalStateException {@link Integer#MAX_VALUE} options have
+     *                               already been appended.
+     */
+    public IntOptionEncoder add(
+        final IntOption option)
+    {
+        return option.isSome() ?
+            addSome(option.getAsInt()) :
+            addNone();
+    }
+
+    /**
+     * Appends an empty option.
+     *
+     * @return This encoder.
+     *
+     * @throws IllegalStateException {@link Integer#MAX_VALUE} options have
+     *                               already been appended.
+     */
+    public IntOptionEncoder addNone()
+    {
+        writer.addNone();
+
+        return this;
+    }
+
+    /**
+     * Appends an option containing the specified value.
+     *
+     * @param value The value to append.
+     *
+     * @return This encoder.
+     *
+     * @throws IllegalStateException {@link Integer#MAX_VALUE} options have
+     *                               already been appended.
+     */
+    public IntOptionEncoder addSome(
+        final int value)
+    {
+        writer.addSome(value);
+
+        return this;
+    }
+
+    /**
+     * Encodes the options appended so far. The encoder may continue to be
+     * used afterwards.
+     *
+     * @return The encoded options.
+     */
+    public byte[] encode()
+    {
+        return writer.encode(AbstractOptionColumn.TYPE_INT);
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.NoSuchElementException;
+import java.util.function.*;
+
+import static me.dkleszyk.java.option.Options.noneUnchecked;
+import static me.dkleszyk.java.option.Options.someNonNull;
+
+/**
+ * Operations on {@link IntOption} values packed into a {@code long}. A packed
+ * option is an ordinary {@code long}, so it may be stored in fields and arrays
+ * and passed between methods without allocating.
+ * <p>
+ * An empty option is packed as {@code 0}. A non-empty option is packed with bit
+ * 32 set and its value in the low 32 bits. Every packed option type uses the
+ * same layout, so {@link #isNone(long)} and {@link #isSome(long)} give the same
+ * answer for any of them. Unpacking returns cached instances where the option
+ * types cache them.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class IntOptions
+{
+    private static final long NONE_BITS = 0L;
+
+    private static final long SOME_FLAG = 1L << 32;
+
+    private IntOptions()
+    {
+    }
+
+    /**
+     * Returns the value contained by the specified packed option.
+     *
+     * @param bits A packed option.
+     *
+     * @return The value contained by {@code bits}.
+     *
+     * @throws NoSuchElementException {@code bits} is empty.
+     */
+    public static int getAsInt(
+        final long bits)
+    {
+        if (bits == NONE_BITS)
+        {
+            throw Exceptions.optionNoValue();
+        }
+
+        return value(bits);
+    }
+
+    /**
+     * Returns the value contained by the specified packed option if it is
+     * non-empty; otherwise, returns the specified value.
+     *
+     * @param bits  A packed option.
+     * @param value The value to return if {@code bits} is empty.
+     *
+     * @return The value contained by {@code bits} if it is non-empty;
+     *         otherwise, {@code value}.
+     */
+    public static int intOrElse(
+        final long bits,
+        final int value)
+    {
+        return bits == NONE_BITS ?
+            value :
+            value(bits);
+    }
+
+    /**
+     * Returns whether the specified packed option is empty.
+     *
+     * @param bits A packed option.
+     *
+     * @return {@code true} if {@code bits} is empty; otherwise, {@code false}.
+     */
+    public static boolean isNone(
+        final long bits)
+    {
+        return bits == NONE_BITS;
+    }
+
+    /**
+     * Returns whether the specified packed option is non-empty.
+     *
+     * @param bits A packed option.
+     *
+     * @return {@code true} if {@code bits} is non-empty; otherwise,
+     *         {@code false}.
+     */
+    public static boolean isSome(
+        final long bits)
+    {
+        return bits != NONE_BITS;
+    }
+
+    /**
+     * Applies the specified mapper function to the value contained by the
+     * specified packed option.
+     *
+     * @param bits   A packed option.
+     * @param mapper A function to apply to the value contained by {@code bits}.
+     *
+     * @return A packed option containing the result of applying the mapper
+     *         function if {@code bits} is non-empty; otherwise, an empty packed
+     *         option.
+     */
+    public static long mapIntToInt(
+        final long bits,
+        final IntUnaryOperator mapper)
+    {
+        return bits == NONE_BITS ?
+            NONE_BITS :
+            some(mapper.applyAsInt(value(bits)));
+    }
+
+    /**
+     * Applies the specified mapper function to the value contained by the
+     * specified packed option.
+     *
+     * @param bits   A packed option.
+     * @param mapper A function to apply to the specified argument and the value
+     *               contained by {@code bits}.
+     * @param arg    The first argument to the mapper function.
+     *
+     * @return A packed option containing the result of applying the mapper
+     *         function if {@code bits} is non-empty; otherwise, an empty packed
+     *         option.
+     */
+    public static long mapIntToInt(
+        final long bits,
+        final IntBinaryOperator mapper,
+        final int arg)
+    {
+        return bits == NONE_BITS ?
+            NONE_BITS :
+            some(mapper.applyAsInt(arg, value(bits)));
+    }
+
+    /**
+     * Returns an empty packed option.
+     *
+     * @return An empty packed option.
+     */
+    public static long none()
+    {
+        return NONE_BITS;
+    }
+
+    /**
+     * Packs the specified option into a {@code long}.
+     *
+     * @param option The option to pack.
+     *
+     * @return The packed form of {@code option}.
+     *
+     * @throws NullPointerException {@code option} is {@code null}.
+     */
+    public static long pack(
+        final IntOption option)
+    {
+        return option.isSome() ?
+            some(option.getAsInt()) :
+            NONE_BITS;
+    }
+
+    /**
+     * Returns a packed option containing the specified value.
+     *
+     * @param value The value to pack.
+     *
+     * @return A packed option containing {@code value}.
+     */
+    public static long some(
+        final int value)
+    {
+        return SOME_FLAG | Integer.toUnsignedLong(value);
+    }
+
+    /**
+     * Unpacks the specified packed option.
+     *
+     * @param bits A packed option.
+     *
+     * @return An option equal to the one that was packed into {@code bits}.
+     */
+    public static IntOption unpack(
+        final long bits)
+    {
+        return bits == NONE_BITS ?
+            noneUnchecked() :
+            someNonNull(value(bits));
+    }
+
+    private static int value(
+        final long bits)
+    {
+        return (int) bits;
+    }
+}
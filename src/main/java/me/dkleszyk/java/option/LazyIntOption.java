@@ -0,0 +1,948 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.function.*;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import me.dkleszyk.java.function.extra.primitive.*;
+import me.dkleszyk.java.option.function.*;
+
+/**
+ * An {@link IntOption} whose contents are supplied on first use. The supplier
+ * is invoked at most once, without holding a monitor, and every method
+ * delegates to the supplied option.
+ * <p>
+ * A lazy option is equal only to another lazy option whose supplied option is
+ * equal to its own, so that equality is symmetric; comparing or hashing a lazy
+ * option causes its evaluation.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class LazyIntOption
+    extends AbstractLazyOption<IntOption>
+    implements IntOption
+{
+    private LazyIntOption(
+        final Supplier<? extends IntOption> supplier)
+    {
+        super(supplier);
+    }
+
+    /**
+     * Returns an option whose contents are supplied by {@code supplier} on
+     * first use. If {@code supplier} returns {@code null}, a
+     * {@link NullPointerException} is thrown to every user of the option.
+     *
+     * @param supplier The supplier of the option.
+     *
+     * @return The lazy option.
+     *
+     * @throws NullPointerException {@code supplier} is {@code null}.
+     */
+    public static LazyIntOption of(
+        final Supplier<? extends IntOption> supplier)
+    {
+        return new LazyIntOption(supplier);
+    }
+
+    @Override
+    public IntOption addExact(
+        final int addend)
+    {
+        return resolve().addExact(addend);
+    }
+
+    @Override
+    public <O extends Option<?>> O and(
+        final O option)
+    {
+        return resolve().and(option);
+    }
+
+    @Override
+    public <O extends Option<?>> O andGet(
+        final Supplier<? extends O> supplier)
+    {
+        return resolve().andGet(supplier);
+    }
+
+    @Override
+    public <A, O extends Option<?>> O andGet(
+        final Function<? super A, ? extends O> supplier,
+        final A arg)
+    {
+        return resolve().andGet(supplier, arg);
+    }
+
+    @Override
+    public IntOption filter(
+        final Predicate<? super Integer> predicate)
+    {
+        return resolve().filter(predicate);
+    }
+
+    @Override
+    public <A> IntOption filter(
+        final BiPredicate<? super A, ? super Integer> predicate,
+        final A arg)
+    {
+        return resolve().filter(predicate, arg);
+    }
+
+    @Override
+    public <A, B> IntOption filter(
+        final TriPredicate<? super A, ? super B, ? super Integer> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return resolve().filter(predicate, arg1, arg2);
+    }
+
+    @Override
+    public IntOption filterInt(
+        final IntPredicate predicate)
+    {
+        return resolve().filterInt(predicate);
+    }
+
+    @Override
+    public <A, B> IntOption filterInt(
+        final ObjObjIntPredicate<? super A, ? super B> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return resolve().filterInt(predicate, arg1, arg2);
+    }
+
+    @Override
+    public BooleanOption filterToBoolean()
+    {
+        return resolve().filterToBoolean();
+    }
+
+    @Override
+    public ByteOption filterToByte()
+    {
+        return resolve().filterToByte();
+    }
+
+    @Override
+    public CharOption filterToChar()
+    {
+        return resolve().filterToChar();
+    }
+
+    @Override
+    public DoubleOption filterToDouble()
+    {
+        return resolve().filterToDouble();
+    }
+
+    @Override
+    public FloatOption filterToFloat()
+    {
+        return resolve().filterToFloat();
+    }
+
+    @Override
+    public IntOption filterToInt()
+    {
+        return resolve().filterToInt();
+    }
+
+    @Override
+    public LongOption filterToLong()
+    {
+        return resolve().filterToLong();
+    }
+
+    @Override
+    public IntOption filterToObject()
+    {
+        return resolve().filterToObject();
+    }
+
+    @Override
+    public ShortOption filterToShort()
+    {
+        return resolve().filterToShort();
+    }
+
+    @Override
+    public <T> Option<T> filterToType(
+        final Class<T> type)
+    {
+        return resolve().filterToType(type);
+    }
+
+    @Override
+    public <O extends Option<?>> O flatMap(
+        final Function<? super Integer, ? extends O> mapper)
+    {
+        return resolve().flatMap(mapper);
+    }
+
+    @Override
+    public <A, O extends Option<?>> O flatMap(
+        final BiFunction<? super A, ? super Integer, ? extends O> mapper,
+        final A arg)
+    {
+        return resolve().flatMap(mapper, arg);
+    }
+
+    @Override
+    public <A, B, O extends Option<?>> O flatMap(
+        final TriFunction<? super A, ? super B, ? super Integer, ? extends O> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return resolve().flatMap(mapper, arg1, arg2);
+    }
+
+    @Override
+    public <O extends Option<?>> O flatMapInt(
+        final IntFunction<? extends O> mapper)
+    {
+        return resolve().flatMapInt(mapper);
+    }
+
+    @Override
+    public IntOption floorDiv(
+        final int divisor)
+    {
+        return resolve().floorDiv(divisor);
+    }
+
+    @Override
+    public Integer get()
+    {
+        return resolve().get();
+    }
+
+    @Override
+    public int getAsInt()
+    {
+        return resolve().getAsInt();
+    }
+
+    @Override
+    public void ifNone(
+        final Runnable ifNone)
+    {
+        resolve().ifNone(ifNone);
+    }
+
+    @Override
+    public <A> void ifNone(
+        final Consumer<? super A> ifNone,
+        final A arg)
+    {
+        resolve().ifNone(ifNone, arg);
+    }
+
+    @Override
+    public void ifSome(
+        final Consumer<? super Integer> ifSome)
+    {
+        resolve().ifSome(ifSome);
+    }
+
+    @Override
+    public <A> void ifSome(
+        final BiConsumer<? super A, ? super Integer> ifSome,
+        final A arg)
+    {
+        resolve().ifSome(ifSome, arg);
+    }
+
+    @Override
+    public void ifSomeInt(
+        final IntConsumer ifSome)
+    {
+        resolve().ifSomeInt(ifSome);
+    }
+
+    @Override
+    public <A> void ifSomeInt(
+        final ObjIntConsumer<? super A> ifSome,
+        final A arg)
+    {
+        resolve().ifSomeInt(ifSome, arg);
+    }
+
+    @Override
+    public void ifSomeIntOrElse(
+        final IntConsumer ifSome,
+        final Runnable ifNone)
+    {
+        resolve().ifSomeIntOrElse(ifSome, ifNone);
+    }
+
+    @Override
+    public <A> void ifSomeIntOrElse(
+        final IntConsumer ifSome,
+        final Consumer<? super A> ifNone,
+        final A ifNoneArg)
+    {
+        resolve().ifSomeIntOrElse(ifSome, ifNone, ifNoneArg);
+    }
+
+    @Override
+    public <A> void ifSomeIntOrElse(
+        final ObjIntConsumer<? super A> ifSome,
+        final A ifSomeArg,
+        final Runnable ifNone)
+    {
+        resolve().ifSomeIntOrElse(ifSome, ifSomeArg, ifNone);
+    }
+
+    @Override
+    public <A> void ifSomeIntOrElse(
+        final ObjIntConsumer<? super A> ifSome,
+        final Consumer<? super A> ifNone,
+        final A arg)
+    {
+        resolve().ifSomeIntOrElse(ifSome, ifNone, arg);
+    }
+
+    @Override
+    public <A, B> void ifSomeIntOrElse(
+        final ObjIntConsumer<? super A> ifSome,
+        final A ifSomeArg,
+        final Consumer<? super B> ifNone,
+        final B ifNoneArg)
+    {
+        resolve().ifSomeIntOrElse(ifSome, ifSomeArg, ifNone, ifNoneArg);
+    }
+
+    @Override
+    public void ifSomeOrElse(
+        final Consumer<? super Integer> ifSome,
+        final Runnable ifNone)
+    {
+        resolve().ifSomeOrElse(ifSome, ifNone);
+    }
+
+    @Override
+    public <A> void ifSomeOrElse(
+        final Consumer<? super Integer> ifSome,
+        final Consumer<? super A> ifNone,
+        final A ifNoneArg)
+    {
+        resolve().ifSomeOrElse(ifSome, ifNone, ifNoneArg);
+    }
+
+    @Override
+    public <A> void ifSomeOrElse(
+        final BiConsumer<? super A, ? super Integer> ifSome,
+        final A ifSomeArg,
+        final Runnable ifNone)
+    {
+        resolve().ifSomeOrElse(ifSome, ifSomeArg, ifNone);
+    }
+
+    @Override
+    public <A> void ifSomeOrElse(
+        final BiConsumer<? super A, ? super Integer> ifSome,
+        final Consumer<? super A> ifNone,
+        final A arg)
+    {
+        resolve().ifSomeOrElse(ifSome, ifNone, arg);
+    }
+
+    @Override
+    public <A, B> void ifSomeOrElse(
+        final BiConsumer<? super A, ? super Integer> ifSome,
+        final A ifSomeArg,
+        final Consumer<? super B> ifNone,
+        final B ifNoneArg)
+    {
+        resolve().ifSomeOrElse(ifSome, ifSomeArg, ifNone, ifNoneArg);
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt intIterator()
+    {
+        return resolve().intIterator();
+    }
+
+    @Override
+    public int intOrElse(
+        final int value)
+    {
+        return resolve().intOrElse(value);
+    }
+
+    @Override
+    public int intOrElseGet(
+        final IntSupplier supplier)
+    {
+        return resolve().intOrElseGet(supplier);
+    }
+
+    @Override
+    public <A> int intOrElseGet(
+        final ToIntFunction<? super A> supplier,
+        final A arg)
+    {
+        return resolve().intOrElseGet(supplier, arg);
+    }
+
+    @Override
+    public int intOrElseThrow()
+    {
+        return resolve().intOrElseThrow();
+    }
+
+    @Override
+    public <X extends Throwable> int intOrElseThrow(
+        final Supplier<? extends X> supplier)
+        throws X
+    {
+        return resolve().intOrElseThrow(supplier);
+    }
+
+    @Override
+    public <A, X extends Throwable> int intOrElseThrow(
+        final Function<? super A, ? extends X> supplier,
+        final A arg)
+        throws X
+    {
+        return resolve().intOrElseThrow(supplier, arg);
+    }
+
+    @Override
+    public IntStream intStream()
+    {
+        return resolve().intStream();
+    }
+
+    @Override
+    public boolean isNone()
+    {
+        return resolve().isNone();
+    }
+
+    @Override
+    public boolean isSome()
+    {
+        return resolve().isSome();
+    }
+
+    @Override
+    public Iterator<Integer> iterator()
+    {
+        return resolve().iterator();
+    }
+
+    @Override
+    public <T> Option<T> map(
+        final Function<? super Integer, ? extends T> mapper)
+    {
+        return resolve().map(mapper);
+    }
+
+    @Override
+    public <A, T> Option<T> map(
+        final BiFunction<? super A, ? super Integer, ? extends T> mapper,
+        final A arg)
+    {
+        return resolve().map(mapper, arg);
+    }
+
+    @Override
+    public <A, B, T> Option<T> map(
+        final TriFunction<? super A, ? super B, ? super Integer, ? extends T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return resolve().map(mapper, arg1, arg2);
+    }
+
+    @Override
+    public <T> Option<T> mapInt(
+        final IntFunction<? extends T> mapper)
+    {
+        return resolve().mapInt(mapper);
+    }
+
+    @Override
+    public <A, B, T> Option<T> mapInt(
+        final ObjObjIntFunction<? super A, ? super B, ? extends T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return resolve().mapInt(mapper, arg1, arg2);
+    }
+
+    @Override
+    public BooleanOption mapIntToBoolean(
+        final IntPredicate mapper)
+    {
+        return resolve().mapIntToBoolean(mapper);
+    }
+
+    @Override
+    public ByteOption mapIntToByte(
+        final IntToByteFunction mapper)
+    {
+        return resolve().mapIntToByte(mapper);
+    }
+
+    @Override
+    public CharOption mapIntToChar(
+        final IntToCharFunction mapper)
+    {
+        return resolve().mapIntToChar(mapper);
+    }
+
+    @Override
+    public DoubleOption mapIntToDouble(
+        final IntToDoubleFunction mapper)
+    {
+        return resolve().mapIntToDouble(mapper);
+    }
+
+    @Override
+    public <A, B> DoubleOption mapIntToDouble(
+        final ObjObjIntToDoubleFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return resolve().mapIntToDouble(mapper, arg1, arg2);
+    }
+
+    @Override
+    public FloatOption mapIntToFloat(
+        final IntToFloatFunction mapper)
+    {
+        return resolve().mapIntToFloat(mapper);
+    }
+
+    @Override
+    public IntOption mapIntToInt(
+        final IntUnaryOperator mapper)
+    {
+        return resolve().mapIntToInt(mapper);
+    }
+
+    @Override
+    public IntOption mapIntToInt(
+        final IntBinaryOperator mapper,
+        final int arg)
+    {
+        return resolve().mapIntToInt(mapper, arg);
+    }
+
+    @Override
+    public <A, B> IntOption mapIntToInt(
+        final ObjObjIntToIntFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return resolve().mapIntToInt(mapper, arg1, arg2);
+    }
+
+    @Override
+    public LongOption mapIntToLong(
+        final IntToLongFunction mapper)
+    {
+        return resolve().mapIntToLong(mapper);
+    }
+
+    @Override
+    public <A, B> LongOption mapIntToLong(
+        final ObjObjIntToLongFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return resolve().mapIntToLong(mapper, arg1, arg2);
+    }
+
+    @Override
+    public ShortOption mapIntToShort(
+        final IntToShortFunction mapper)
+    {
+        return resolve().mapIntToShort(mapper);
+    }
+
+    @Override
+    public BooleanOption mapToBoolean(
+        final Predicate<? super Integer> mapper)
+    {
+        return resolve().mapToBoolean(mapper);
+    }
+
+    @Override
+    public <A> BooleanOption mapToBoolean(
+        final BiPredicate<? super A, ? super Integer> mapper,
+        final A arg)
+    {
+        return resolve().mapToBoolean(mapper, arg);
+    }
+
+    @Override
+    public ByteOption mapToByte(
+        final ToByteFunction<? super Integer> mapper)
+    {
+        return resolve().mapToByte(mapper);
+    }
+
+    @Override
+    public <A> ByteOption mapToByte(
+        final ToByteBiFunction<? super A, ? super Integer> mapper,
+        final A arg)
+    {
+        return resolve().mapToByte(mapper, arg);
+    }
+
+    @Override
+    public CharOption mapToChar(
+        final ToCharFunction<? super Integer> mapper)
+    {
+        return resolve().mapToChar(mapper);
+    }
+
+    @Override
+    public <A> CharOption mapToChar(
+        final ToCharBiFunction<? super A, ? super Integer> mapper,
+        final A arg)
+    {
+        return resolve().mapToChar(mapper, arg);
+    }
+
+    @Override
+    public DoubleOption mapToDouble(
+        final ToDoubleFunction<? super Integer> mapper)
+    {
+        return resolve().mapToDouble(mapper);
+    }
+
+    @Override
+    public <A> DoubleOption mapToDouble(
+        final ToDoubleBiFunction<? super A, ? super Integer> mapper,
+        final A arg)
+    {
+        return resolve().mapToDouble(mapper, arg);
+    }
+
+    @Override
+    public <A, B> DoubleOption mapToDouble(
+        final ToDoubleTriFunction<? super A, ? super B, ? super Integer> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return resolve().mapToDouble(mapper, arg1, arg2);
+    }
+
+    @Override
+    public FloatOption mapToFloat(
+        final ToFloatFunction<? super Integer> mapper)
+    {
+        return resolve().mapToFloat(mapper);
+    }
+
+    @Override
+    public <A> FloatOption mapToFloat(
+        final ToFloatBiFunction<? super A, ? super Integer> mapper,
+        final A arg)
+    {
+        return resolve().mapToFloat(mapper, arg);
+    }
+
+    @Override
+    public IntOption mapToInt(
+        final ToIntFunction<? super Integer> mapper)
+    {
+        return resolve().mapToInt(mapper);
+    }
+
+    @Override
+    public <A> IntOption mapToInt(
+        final ToIntBiFunction<? super A, ? super Integer> mapper,
+        final A arg)
+    {
+        return resolve().mapToInt(mapper, arg);
+    }
+
+    @Override
+    public <A, B> IntOption mapToInt(
+        final ToIntTriFunction<? super A, ? super B, ? super Integer> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return resolve().mapToInt(mapper, arg1, arg2);
+    }
+
+    @Override
+    public LongOption mapToLong(
+        final ToLongFunction<? super Integer> mapper)
+    {
+        return resolve().mapToLong(mapper);
+    }
+
+    @Override
+    public <A> LongOption mapToLong(
+        final ToLongBiFunction<? super A, ? super Integer> mapper,
+        final A arg)
+    {
+        return resolve().mapToLong(mapper, arg);
+    }
+
+    @Override
+    public <A, B> LongOption mapToLong(
+        final ToLongTriFunction<? super A, ? super B, ? super Integer> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return resolve().mapToLong(mapper, arg1, arg2);
+    }
+
+    @Override
+    public ShortOption mapToShort(
+        final ToShortFunction<? super Integer> mapper)
+    {
+        return resolve().mapToShort(mapper);
+    }
+
+    @Override
+    public <A> ShortOption mapToShort(
+        final ToShortBiFunction<? super A, ? super Integer> mapper,
+        final A arg)
+    {
+        return resolve().mapToShort(mapper, arg);
+    }
+
+    @Override
+    public boolean matches(
+        final Predicate<? super Integer> predicate)
+    {
+        return resolve().matches(predicate);
+    }
+
+    @Override
+    public <A> boolean matches(
+        final BiPredicate<? super A, ? super Integer> predicate,
+        final A arg)
+    {
+        return resolve().matches(predicate, arg);
+    }
+
+    @Override
+    public <A, B> boolean matches(
+        final TriPredicate<? super A, ? super B, ? super Integer> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return resolve().matches(predicate, arg1, arg2);
+    }
+
+    @Override
+    public boolean matchesInt(
+        final IntPredicate predicate)
+    {
+        return resolve().matchesInt(predicate);
+    }
+
+    @Override
+    public IntOption multiplyExact(
+        final int multiplier)
+    {
+        return resolve().multiplyExact(multiplier);
+    }
+
+    @Override
+    public ShortOption narrowToShort()
+    {
+        return resolve().narrowToShort();
+    }
+
+    @Override
+    public Option<Integer> or(
+        final Option<? extends Integer> option)
+    {
+        return resolve().or(option);
+    }
+
+    @Override
+    public IntOption or(
+        final IntOption option)
+    {
+        return resolve().or(option);
+    }
+
+    @Override
+    public Integer orElse(
+        final Integer value)
+    {
+        return resolve().orElse(value);
+    }
+
+    @Override
+    public Integer orElseGet(
+        final Supplier<? extends Integer> supplier)
+    {
+        return resolve().orElseGet(supplier);
+    }
+
+    @Override
+    public <A> Integer orElseGet(
+        final Function<? super A, ? extends Integer> supplier,
+        final A arg)
+    {
+        return resolve().orElseGet(supplier, arg);
+    }
+
+    @Override
+    public <A, B> Integer orElseGet(
+        final BiFunction<? super A, ? super B, ? extends Integer> supplier,
+        final A arg1,
+        final B arg2)
+    {
+        return resolve().orElseGet(supplier, arg1, arg2);
+    }
+
+    @Override
+    public Integer orElseThrow()
+    {
+        return resolve().orElseThrow();
+    }
+
+    @Override
+    public <X extends Throwable> Integer orElseThrow(
+        final Supplier<? extends X> supplier)
+        throws X
+    {
+        return resolve().orElseThrow(supplier);
+    }
+
+    @Override
+    public <A, X extends Throwable> Integer orElseThrow(
+        final Function<? super A, ? extends X> supplier,
+        final A arg)
+        throws X
+    {
+        return resolve().orElseThrow(supplier, arg);
+    }
+
+    @Override
+    public Option<Integer> orGet(
+        final Supplier<? extends Option<? extends Integer>> supplier)
+    {
+        return resolve().orGet(supplier);
+    }
+
+    @Override
+    public <A> Option<Integer> orGet(
+        final Function<? super A, ? extends Option<? extends Integer>> supplier,
+        final A arg)
+    {
+        return resolve().orGet(supplier, arg);
+    }
+
+    @Override
+    public IntOption orGetInt(
+        final Supplier<? extends IntOption> supplier)
+    {
+        return resolve().orGetInt(supplier);
+    }
+
+    @Override
+    public <A> IntOption orGetInt(
+        final Function<? super A, ? extends IntOption> supplier,
+        final A arg)
+    {
+        return resolve().orGetInt(supplier, arg);
+    }
+
+    @Override
+    public Stream<Integer> stream()
+    {
+        return resolve().stream();
+    }
+
+    @Override
+    public IntOption subtractExact(
+        final int subtrahend)
+    {
+        return resolve().subtractExact(subtrahend);
+    }
+
+    @Override
+    public Optional<Integer> toOptional()
+    {
+        return resolve().toOptional();
+    }
+
+    @Override
+    public OptionalInt toOptionalInt()
+    {
+        return resolve().toOptionalInt();
+    }
+
+    @Override
+    public String toString()
+    {
+        return resolve().toString();
+    }
+
+    @Override
+    public <U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final BiFunction<? super Integer, ? super U, ? extends R> combiner)
+    {
+        return resolve().zip(other, combiner);
+    }
+
+    @Override
+    public <A, U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final TriFunction<? super A, ? super Integer, ? super U, ? extends R> combiner,
+        final A arg)
+    {
+        return resolve().zip(other, combiner, arg);
+    }
+
+    @Override
+    public IntOption zipInt(
+        final IntOption other,
+        final IntBinaryOperator combiner)
+    {
+        return resolve().zipInt(other, combiner);
+    }
+
+    @Override
+    public <A> IntOption zipInt(
+        final IntOption other,
+        final ObjIntBinaryOperator<? super A> combiner,
+        final A arg)
+    {
+        return resolve().zipInt(other, combiner, arg);
+    }
+}
@@ -0,0 +1,609 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.*;
+import java.util.stream.Stream;
+import me.dkleszyk.java.function.extra.primitive.*;
+import me.dkleszyk.java.option.function.*;
+
+/**
+ * An {@link Option} whose contents are supplied on first use. The supplier is
+ * invoked at most once, without holding a monitor, and every method delegates
+ * to the supplied option.
+ * <p>
+ * A lazy option is equal only to another lazy option whose supplied option is
+ * equal to its own, so that equality is symmetric; comparing or hashing a lazy
+ * option causes its evaluation.
+ *
+ * @param <T> The value type of the option.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class LazyOption<T>
+    extends AbstractLazyOption<Option<T>>
+    implements Option<T>
+{
+    private LazyOption(
+        final Supplier<? extends Option<T>> supplier)
+    {
+        super(supplier);
+    }
+
+    /**
+     * Returns an option whose contents are supplied by {@code supplier} on
+     * first use. If {@code supplier} returns {@code null}, a
+     * {@link NullPointerException} is thrown to every user of the option.
+     *
+     * @param <T>      The value type of the option.
+     * @param supplier The supplier of the option.
+     *
+     * @return The lazy option.
+     *
+     * @throws NullPointerException {@code supplier} is {@code null}.
+     */
+    public static <T> LazyOption<T> of(
+        final Supplier<? extends Option<T>> supplier)
+    {
+        return new LazyOption<>(supplier);
+    }
+
+    @Override
+    public <O extends Option<?>> O and(
+        final O option)
+    {
+        return resolve().and(option);
+    }
+
+    @Override
+    public <O extends Option<?>> O andGet(
+        final Supplier<? extends O> supplier)
+    {
+        return resolve().andGet(supplier);
+    }
+
+    @Override
+    public <A, O extends Option<?>> O andGet(
+        final Function<? super A, ? extends O> supplier,
+        final A arg)
+    {
+        return resolve().andGet(supplier, arg);
+    }
+
+    @Override
+    public Option<T> filter(
+        final Predicate<? super T> predicate)
+    {
+        return resolve().filter(predicate);
+    }
+
+    @Override
+    public <A> Option<T> filter(
+        final BiPredicate<? super A, ? super T> predicate,
+        final A arg)
+    {
+        return resolve().filter(predicate, arg);
+    }
+
+    @Override
+    public <A, B> Option<T> filter(
+        final TriPredicate<? super A, ? super B, ? super T> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return resolve().filter(predicate, arg1, arg2);
+    }
+
+    @Override
+    public BooleanOption filterToBoolean()
+    {
+        return resolve().filterToBoolean();
+    }
+
+    @Override
+    public ByteOption filterToByte()
+    {
+        return resolve().filterToByte();
+    }
+
+    @Override
+    public CharOption filterToChar()
+    {
+        return resolve().filterToChar();
+    }
+
+    @Override
+    public DoubleOption filterToDouble()
+    {
+        return resolve().filterToDouble();
+    }
+
+    @Override
+    public FloatOption filterToFloat()
+    {
+        return resolve().filterToFloat();
+    }
+
+    @Override
+    public IntOption filterToInt()
+    {
+        return resolve().filterToInt();
+    }
+
+    @Override
+    public LongOption filterToLong()
+    {
+        return resolve().filterToLong();
+    }
+
+    @Override
+    public Option<T> filterToObject()
+    {
+        return resolve().filterToObject();
+    }
+
+    @Override
+    public ShortOption filterToShort()
+    {
+        return resolve().filterToShort();
+    }
+
+    @Override
+    public <U> Option<U> filterToType(
+        final Class<U> type)
+    {
+        return resolve().filterToType(type);
+    }
+
+    @Override
+    public <O extends Option<?>> O flatMap(
+        final Function<? super T, ? extends O> mapper)
+    {
+        return resolve().flatMap(mapper);
+    }
+
+    @Override
+    public <A, O extends Option<?>> O flatMap(
+        final BiFunction<? super A, ? super T, ? extends O> mapper,
+        final A arg)
+    {
+        return resolve().flatMap(mapper, arg);
+    }
+
+    @Override
+    public <A, B, O extends Option<?>> O flatMap(
+        final TriFunction<? super A, ? super B, ? super T, ? extends O> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return resolve().flatMap(mapper, arg1, arg2);
+    }
+
+    @Override
+    public T get()
+    {
+        return resolve().get();
+    }
+
+    @Override
+    public void ifNone(
+        final Runnable ifNone)
+    {
+        resolve().ifNone(ifNone);
+    }
+
+    @Override
+    public <A> void ifNone(
+        final Consumer<? super A> ifNone,
+        final A arg)
+    {
+        resolve().ifNone(ifNone, arg);
+    }
+
+    @Override
+    public void ifSome(
+        final Consumer<? super T> ifSome)
+    {
+        resolve().ifSome(ifSome);
+    }
+
+    @Override
+    public <A> void ifSome(
+        final BiConsumer<? super A, ? super T> ifSome,
+        final A arg)
+    {
+        resolve().ifSome(ifSome, arg);
+    }
+
+    @Override
+    public void ifSomeOrElse(
+        final Consumer<? super T> ifSome,
+        final Runnable ifNone)
+    {
+        resolve().ifSomeOrElse(ifSome, ifNone);
+    }
+
+    @Override
+    public <A> void ifSomeOrElse(
+        final Consumer<? super T> ifSome,
+        final Consumer<? super A> ifNone,
+        final A ifNoneArg)
+    {
+        resolve().ifSomeOrElse(ifSome, ifNone, ifNoneArg);
+    }
+
+    @Override
+    public <A> void ifSomeOrElse(
+        final BiConsumer<? super A, ? super T> ifSome,
+        final A ifSomeArg,
+        final Runnable ifNone)
+    {
+        resolve().ifSomeOrElse(ifSome, ifSomeArg, ifNone);
+    }
+
+    @Override
+    public <A> void ifSomeOrElse(
+        final BiConsumer<? super A, ? super T> ifSome,
+        final Consumer<? super A> ifNone,
+        final A arg)
+    {
+        resolve().ifSomeOrElse(ifSome, ifNone, arg);
+    }
+
+    @Override
+    public <A, B> void ifSomeOrElse(
+        final BiConsumer<? super A, ? super T> ifSome,
+        final A ifSomeArg,
+        final Consumer<? super B> ifNone,
+        final B ifNoneArg)
+    {
+        resolve().ifSomeOrElse(ifSome, ifSomeArg, ifNone, ifNoneArg);
+    }
+
+    @Override
+    public boolean isNone()
+    {
+        return resolve().isNone();
+    }
+
+    @Override
+    public boolean isSome()
+    {
+        return resolve().isSome();
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return resolve().iterator();
+    }
+
+    @Override
+    public <U> Option<U> map(
+        final Function<? super T, ? extends U> mapper)
+    {
+        return resolve().map(mapper);
+    }
+
+    @Override
+    public <A, U> Option<U> map(
+        final BiFunction<? super A, ? super T, ? extends U> mapper,
+        final A arg)
+    {
+        return resolve().map(mapper, arg);
+    }
+
+    @Override
+    public <A, B, U> Option<U> map(
+        final TriFunction<? super A, ? super B, ? super T, ? extends U> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return resolve().map(mapper, arg1, arg2);
+    }
+
+    @Override
+    public BooleanOption mapToBoolean(
+        final Predicate<? super T> mapper)
+    {
+        return resolve().mapToBoolean(mapper);
+    }
+
+    @Override
+    public <A> BooleanOption mapToBoolean(
+        final BiPredicate<? super A, ? super T> mapper,
+        final A arg)
+    {
+        return resolve().mapToBoolean(mapper, arg);
+    }
+
+    @Override
+    public ByteOption mapToByte(
+        final ToByteFunction<? super T> mapper)
+    {
+        return resolve().mapToByte(mapper);
+    }
+
+    @Override
+    public <A> ByteOption mapToByte(
+        final ToByteBiFunction<? super A, ? super T> mapper,
+        final A arg)
+    {
+        return resolve().mapToByte(mapper, arg);
+    }
+
+    @Override
+    public CharOption mapToChar(
+        final ToCharFunction<? super T> mapper)
+    {
+        return resolve().mapToChar(mapper);
+    }
+
+    @Override
+    public <A> CharOption mapToChar(
+        final ToCharBiFunction<? super A, ? super T> mapper,
+        final A arg)
+    {
+        return resolve().mapToChar(mapper, arg);
+    }
+
+    @Override
+    public DoubleOption mapToDouble(
+        final ToDoubleFunction<? super T> mapper)
+    {
+        return resolve().mapToDouble(mapper);
+    }
+
+    @Override
+    public <A> DoubleOption mapToDouble(
+        final ToDoubleBiFunction<? super A, ? super T> mapper,
+        final A arg)
+    {
+        return resolve().mapToDouble(mapper, arg);
+    }
+
+    @Override
+    public <A, B> DoubleOption mapToDouble(
+        final ToDoubleTriFunction<? super A, ? super B, ? super T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return resolve().mapToDouble(mapper, arg1, arg2);
+    }
+
+    @Override
+    public FloatOption mapToFloat(
+        final ToFloatFunction<? super T> mapper)
+    {
+        return resolve().mapToFloat(mapper);
+    }
+
+    @Override
+    public <A> FloatOption mapToFloat(
+        final ToFloatBiFunction<? super A, ? super T> mapper,
+        final A arg)
+    {
+        return resolve().mapToFloat(mapper, arg);
+    }
+
+    @Override
+    public IntOption mapToInt(
+        final ToIntFunction<? super T> mapper)
+    {
+        return resolve().mapToInt(mapper);
+    }
+
+    @Override
+    public <A> IntOption mapToInt(
+        final ToIntBiFunction<? super A, ? super T> mapper,
+        final A arg)
+    {
+        return resolve().mapToInt(mapper, arg);
+    }
+
+    @Override
+    public <A, B> IntOption mapToInt(
+        final ToIntTriFunction<? super A, ? super B, ? super T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return resolve().mapToInt(mapper, arg1, arg2);
+    }
+
+    @Override
+    public LongOption mapToLong(
+        final ToLongFunction<? super T> mapper)
+    {
+        return resolve().mapToLong(mapper);
+    }
+
+    @Override
+    public <A> LongOption mapToLong(
+        final ToLongBiFunction<? super A, ? super T> mapper,
+        final A arg)
+    {
+        return resolve().mapToLong(mapper, arg);
+    }
+
+    @Override
+    public <A, B> LongOption mapToLong(
+        final ToLongTriFunction<? super A, ? super B, ? super T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return resolve().mapToLong(mapper, arg1, arg2);
+    }
+
+    @Override
+    public ShortOption mapToShort(
+        final ToShortFunction<? super T> mapper)
+    {
+        return resolve().mapToShort(mapper);
+    }
+
+    @Override
+    public <A> ShortOption mapToShort(
+        final ToShortBiFunction<? super A, ? super T> mapper,
+        final A arg)
+    {
+        return resolve().mapToShort(mapper, arg);
+    }
+
+    @Override
+    public boolean matches(
+        final Predicate<? super T> predicate)
+    {
+        return resolve().matches(predicate);
+    }
+
+    @Override
+    public <A> boolean matches(
+        final BiPredicate<? super A, ? super T> predicate,
+        final A arg)
+    {
+        return resolve().matches(predicate, arg);
+    }
+
+    @Override
+    public <A, B> boolean matches(
+        final TriPredicate<? super A, ? super B, ? super T> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return resolve().matches(predicate, arg1, arg2);
+    }
+
+    @Override
+    public Option<T> or(
+        final Option<? extends T> option)
+    {
+        return resolve().or(option);
+    }
+
+    @Override
+    public T orElse(
+        final T value)
+    {
+        return resolve().orElse(value);
+    }
+
+    @Override
+    public T orElseGet(
+        final Supplier<? extends T> supplier)
+    {
+        return resolve().orElseGet(supplier);
+    }
+
+    @Override
+    public <A> T orElseGet(
+        final Function<? super A, ? extends T> supplier,
+        final A arg)
+    {
+        return resolve().orElseGet(supplier, arg);
+    }
+
+    @Override
+    public <A, B> T orElseGet(
+        final BiFunction<? super A, ? super B, ? extends T> supplier,
+        final A arg1,
+        final B arg2)
+    {
+        return resolve().orElseGet(supplier, arg1, arg2);
+    }
+
+    @Override
+    public T orElseThrow()
+    {
+        return resolve().orElseThrow();
+    }
+
+    @Override
+    public <X extends Throwable> T orElseThrow(
+        final Supplier<? extends X> supplier)
+        throws X
+    {
+        return resolve().orElseThrow(supplier);
+    }
+
+    @Override
+    public <A, X extends Throwable> T orElseThrow(
+        final Function<? super A, ? extends X> supplier,
+        final A arg)
+        throws X
+    {
+        return resolve().orElseThrow(supplier, arg);
+    }
+
+    @Override
+    public Option<T> orGet(
+        final Supplier<? extends Option<? extends T>> supplier)
+    {
+        return resolve().orGet(supplier);
+    }
+
+    @Override
+    public <A> Option<T> orGet(
+        final Function<? super A, ? extends Option<? extends T>> supplier,
+        final A arg)
+    {
+        return resolve().orGet(supplier, arg);
+    }
+
+    @Override
+    public Stream<T> stream()
+    {
+        return resolve().stream();
+    }
+
+    @Override
+    public Optional<T> toOptional()
+    {
+        return resolve().toOptional();
+    }
+
+    @Override
+    public String toString()
+    {
+        return resolve().toString();
+    }
+
+    @Override
+    public <U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final BiFunction<? super T, ? super U, ? extends R> combiner)
+    {
+        return resolve().zip(other, combiner);
+    }
+
+    @Override
+    public <A, U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final TriFunction<? super A, ? super T, ? super U, ? extends R> combiner,
+        final A arg)
+    {
+        return resolve().zip(other, combiner, arg);
+    }
+}
@@ -0,0 +1,419 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.Arrays;
+
+import static me.dkleszyk.java.option.Options.noneUnchecked;
+import static me.dkleszyk.java.option.Options.someNullable;
+
+/**
+ * A map from {@code long} keys to object values that returns the value for a
+ * key as an {@link Option}. Keys are stored unboxed in an open-addressed array,
+ * so lookups do not box the key.
+ * <p>
+ * Instances are not safe for use by multiple threads without external
+ * synchronization.
+ *
+ * @param <V> The value type of the map.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class LongObjectOptionMap<V>
+{
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private boolean hasZeroKey;
+
+    private long[] keys;
+
+    private int mask;
+
+    private int size;
+
+    private int threshold;
+
+    private Object[] values;
+
+    private Object zeroValue;
+
+    /**
+     * Creates an empty map.
+     */
+    public LongObjectOptionMap()
+    {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Creates an empty map with room for the specified number of entries.
+     *
+     * @param expectedSize The number of entries the map is expected to hold.
+     *
+     * @throws IllegalArgumentException {@code expectedSize} is negative.
+     */
+    public LongObjectOptionMap(
+        final int expectedSize)
+    {
+        if (expectedSize < 0)
+        {
+            throw new IllegalArgumentException(
+                "Negative expected size: " + expectedSize);
+        }
+
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Removes all entries from this map.
+     */
+    public void clear()
+    {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(values, null);
+        hasZeroKey = false;
+        zeroValue = null;
+        size = 0;
+    }
+
+    /**
+     * Returns whether this map contains an entry for the specified key.
+     *
+     * @param key The key to look up.
+     *
+     * @return {@code true} if this map contains an entry for {@code key};
+     *         otherwise, {@code false}.
+     */
+    public boolean containsKey(
+        final long key)
+    {
+        return key == 0 ?
+            hasZeroKey :
+            find(key) >= 0;
+    }
+
+    /**
+     * Returns the value associated with the specified key.
+     *
+     * @param key The key to look up.
+     *
+     * @return An option containing the value associated with {@code key}, or
+     *         an empty option if this map contains no entry for {@code key}.
+     */
+    public Option<V> get(
+        final long key)
+    {
+        if (key == 0)
+        {
+            return hasZeroKey ?
+                someNullable(value(zeroValue)) :
+                noneUnchecked();
+        }
+
+        final int index = find(key);
+
+        return index >= 0 ?
+            someNullable(value(values[index])) :
+            noneUnchecked();
+    }
+
+    /**
+     * Returns the value associated with the specified key, or the specified
+     * value if this map contains no entry for the key.
+     *
+     * @param key          The key to look up.
+     * @param defaultValue The value to return if this map contains no entry
+     *                     for {@code key}.
+     *
+     * @return The value associated with {@code key}, or {@code defaultValue}
+     *         if this map contains no entry for {@code key}.
+     */
+    public V getOrElse(
+        final long key,
+        final V defaultValue)
+    {
+        if (key == 0)
+        {
+            return hasZeroKey ?
+                value(zeroValue) :
+                defaultValue;
+        }
+
+        final int index = find(key);
+
+        return index >= 0 ?
+            value(values[index]) :
+            defaultValue;
+    }
+
+    /**
+     * Returns whether this map contains no entries.
+     *
+     * @return {@code true} if this map contains no entries; otherwise,
+     *         {@code false}.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Associates the specified value with the specified key, replacing any
+     * value previously associated with the key.
+     *
+     * @param key   The key with which to associate {@code value}.
+     * @param value The value to associate with {@code key}.
+     *
+     * @return An option containing the value previously associated with
+     *         {@code key}, or an empty option if this map contained no entry
+     *         for {@code key}.
+     *
+     * @throws IllegalStateException This map contains {@code 1 << 30} entries
+     *                               and {@code key} is not among them.
+     */
+    public Option<V> put(
+        final long key,
+        final V value)
+    {
+        if (key == 0)
+        {
+            final Option<V> previous = get(key);
+
+            if (!hasZeroKey)
+            {
+                hasZeroKey = true;
+                size++;
+            }
+
+            zeroValue = value;
+
+            return previous;
+        }
+
+        int index = find(key);
+
+        if (index >= 0)
+        {
+            final V previous = value(values[index]);
+            values[index] = value;
+
+            return someNullable(previous);
+        }
+
+        if (size >= threshold)
+        {
+            rehash(keys.length << 1);
+            index = find(key);
+        }
+
+        index = ~index;
+        keys[index] = key;
+        values[index] = value;
+        size++;
+
+        return noneUnchecked();
+    }
+
+    /**
+     * Removes the entry for the specified key from this map.
+     *
+     * @param key The key whose entry is to be removed.
+     *
+     * @return An option containing the value that was associated with
+     *         {@code key}, or an empty option if this map contained no entry
+     *         for {@code key}.
+     */
+    public Option<V> remove(
+        final long key)
+    {
+        if (key == 0)
+        {
+            final Option<V> previous = get(key);
+
+            if (hasZeroKey)
+            {
+                hasZeroKey = false;
+                zeroValue = null;
+                size--;
+            }
+
+            return previous;
+        }
+
+        final int index = find(key);
+
+        if (index < 0)
+        {
+            return noneUnchecked();
+        }
+
+        final V previous = value(values[index]);
+        shiftKeys(index);
+        size--;
+
+        return someNullable(previous);
+    }
+
+    /**
+     * Returns the number of entries in this map.
+     *
+     * @return The number of entries in this map.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    private static int capacityFor(
+        final int expectedSize)
+    {
+        final long minimum = Math.max(2L, (expectedSize * 4L + 2L) / 3L + 1L);
+
+        return minimum >= MAXIMUM_CAPACITY ?
+            MAXIMUM_CAPACITY :
+            Integer.highestOneBit((int) minimum - 1) << 1;
+    }
+
+    private static int mix(
+        final long key)
+    {
+        final long hash = key * 0x9E37_79B9_7F4A_7C15L;
+
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private void allocate(
+        final int capacity)
+    {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = capacity == MAXIMUM_CAPACITY ?
+            capacity - 1 :
+            capacity / 4 * 3;
+    }
+
+    private int find(
+        final long key)
+    {
+        // Returns the index of the key if it is present; otherwise, the
+        // complement of the index of the free slot that ends its probe
+        // sequence.
+        int index = mix(key) & mask;
+
+        while (true)
+        {
+            final long candidate = keys[index];
+
+            if (candidate == key)
+            {
+                return index;
+            }
+
+            if (candidate == 0)
+            {
+                return ~index;
+            }
+
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void rehash(
+        final int capacity)
+    {
+        if (keys.length == MAXIMUM_CAPACITY)
+        {
+            throw new IllegalStateException("Map is full");
+        }
+
+        final long[] oldKeys = keys;
+        final Object[] oldValues = values;
+        allocate(capacity);
+
+        for (int i = 0; i < oldKeys.length; i++)
+        {
+            final long key = oldKeys[i];
+
+            if (key != 0)
+            {
+                final int index = ~find(key);
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(
+        final Object value)
+    {
+        return (V) value;
+    }
+
+    private void shiftKeys(
+        final int removed)
+    {
+        // Backward-shift deletion: moves each later entry of the probe run
+        // into the gap unless the gap lies before its home slot, so that
+        // lookups never need tombstones.
+        int index = removed;
+
+        while (true)
+        {
+            final int gap = index;
+            index = (index + 1) & mask;
+
+            while (true)
+            {
+                final long key = keys[index];
+
+                if (key == 0)
+                {
+                    keys[gap] = 0;
+                    values[gap] = null;
+
+                    return;
+                }
+
+                final int home = mix(key) & mask;
+                final boolean movable = gap <= index ?
+                    gap >= home || home > index :
+                    gap >= home && home > index;
+
+                if (movable)
+                {
+                    keys[gap] = key;
+                    values[gap] = values[index];
+
+                    break;
+                }
+
+                index = (index + 1) & mask;
+            }
+        }
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+import static me.dkleszyk.java.option.Options.noneUnchecked;
+import static me.dkleszyk.java.option.Options.someNonNull;
+
+/**
+ * A fixed-length column of {@link LongOption} values stored in a
+ * {@link ByteBuffer} outside the Java heap. The buffer may be direct, or
+ * mapped from a file so that the column can be shared with other processes
+ * through the page cache. The buffer has the layout described by
+ * {@link IntOptionColumn}, with a type code of 2 and 8-byte values.
+ * <p>
+ * Instances are not safe for use by multiple threads without external
+ * synchronization if any of them modifies the column.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class LongOptionColumn
+    extends AbstractOptionColumn
+{
+    private static final int VALUE_BYTES = 8;
+
+    private LongOptionColumn(
+        final ByteBuffer buffer)
+    {
+        super(buffer, TYPE_LONG, VALUE_BYTES);
+    }
+
+    /**
+     * Creates a column of the specified length in a new direct buffer. Every
+     * position of the column is initially empty.
+     *
+     * @param length The length of the column.
+     *
+     * @return The new column.
+     *
+     * @throws IllegalArgumentException {@code length} is negative, or the
+     *                                  column would exceed 2 GiB.
+     */
+    public static LongOptionColumn allocateDirect(
+        final int length)
+    {
+        return new LongOptionColumn(
+            allocateBuffer(TYPE_LONG, length, VALUE_BYTES));
+    }
+
+    /**
+     * Creates a new file containing a column of the specified length, and
+     * maps it into memory. Every position of the column is initially empty,
+     * and changes made to the column are written back to the file by the
+     * operating system.
+     *
+     * @param path   The path of the file to create.
+     * @param length The length of the column.
+     *
+     * @return The new column.
+     *
+     * @throws IOException              The file already exists or cannot be
+     *                                  created or mapped.
+     * @throws IllegalArgumentException {@code length} is negative, or the
+     *                                  column would exceed 2 GiB.
+     */
+    public static LongOptionColumn create(
+        final Path path,
+        final int length)
+        throws IOException
+    {
+        return new LongOptionColumn(
+            createBuffer(path, TYPE_LONG, length, VALUE_BYTES));
+    }
+
+    /**
+     * Maps an existing column file into memory, read-only. The file is not
+     * copied.
+     *
+     * @param path The path of the file.
+     *
+     * @return A read-only column backed by the file.
+     *
+     * @throws IOException              The file cannot be opened or mapped.
+     * @throws IllegalArgumentException The file does not contain a column of
+     *                                  this type.
+     */
+    public static LongOptionColumn open(
+        final Path path)
+        throws IOException
+    {
+        return new LongOptionColumn(mapBuffer(path));
+    }
+
+    /**
+     * Returns a column backed by the specified buffer, which must contain a
+     * column of this type starting at its position. The buffer is not copied,
+     * and its position, limit and byte order are not changed.
+     *
+     * @param buffer The buffer containing the column.
+     *
+     * @return A column backed by {@code buffer}.
+     *
+     * @throws IllegalArgumentException {@code buffer} does not contain a
+     *                                  column of this type.
+     */
+    public static LongOptionColumn wrap(
+        final ByteBuffer buffer)
+    {
+        return new LongOptionColumn(buffer);
+    }
+
+    /**
+     * Returns the option at the specified position. Where the value is one
+     * for which option instances are cached, the cached instance is returned.
+     *
+     * @param index The position of the option.
+     *
+     * @return The option at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException {@code index} is negative or not less
+     *                                   than {@link #length()}.
+     */
+    public LongOption get(
+        final int index)
+    {
+        return isSome(index) ?
+            someNonNull(value(index)) :
+            noneUnchecked();
+    }
+
+    /**
+     * Returns the value at the specified position.
+     *
+     * @param index The position of the value.
+     *
+     * @return The value at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException {@code index} is negative or not less
+     *                                   than {@link #length()}.
+     * @throws NoSuchElementException    {@code index} is empty.
+     */
+    public long getAsLong(
+        final int index)
+    {
+        if (!isSome(index))
+        {
+            throw Exceptions.optionNoValue();
+        }
+
+        return value(index);
+    }
+
+    /**
+     * Returns the value at the specified position if there is one; otherwise,
+     * returns the specified value.
+     *
+     * @param index The position of the value.
+     * @param value The value to return if the position is empty.
+     *
+     * @return The value at {@code index} if there is one; otherwise,
+     *         {@code value}.
+     *
+     * @throws IndexOutOfBoundsException {@code index} is negative or not less
+     *                                   than {@link #length()}.
+     */
+    public long getOrElse(
+        final int index,
+        final long value)
+    {
+        return isSome(index) ?
+            value(index) :
+            value;
+    }
+
+    /**
+     * Sets the option at the specified position.
+     *
+     * @param index  The position of the option.
+     * @param option The new option.
+     *
+     * @throws NullPointerException             {@code option} is
+     *                                          {@code null}.
+     * @throws IndexOutOfBoundsException        {@code index} is negative or
+     *                                          not less than
+     *                                          {@link #length()}.
+     * @throws java.nio.ReadOnlyBufferException The column is read-only.
+     */
+    public void set(
+        final int index,
+        final LongOption option)
+    {
+        if (option.isSome())
+        {
+            setLong(index, option.getAsLong());
+        }
+        else
+        {
+            setNone(index);
+        }
+    }
+
+    /**
+     * Sets the specified position to hold the specified value.
+     *
+     * @param index The position of the value.
+     * @param value The new value.
+     *
+     * @throws IndexOutOfBoundsException        {@code index} is negative or
+     *                                          not less than
+     *                                          {@link #length()}.
+     * @throws java.nio.ReadOnlyBufferException The column is read-only.
+     */
+    public void setLong(
+        final int index,
+        final long value)
+    {
+        buffer.putLong(checkedValueOffset(index, VALUE_BYTES), value);
+        setSome(index);
+    }
+
+    private long value(
+        final int index)
+    {
+        return buffer.getLong(valuesOffset + index * VALUE_BYTES);
+    }
+}
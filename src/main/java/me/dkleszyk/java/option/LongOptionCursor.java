@@ -0,0 +1,1193 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.PrimitiveIterator;
+import java.util.function.*;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import me.dkleszyk.java.function.extra.primitive.*;
+import me.dkleszyk.java.option.function.*;
+
+import static me.dkleszyk.java.option.Options.noneUnchecked;
+import static me.dkleszyk.java.option.Options.someNonNull;
+
+/**
+ * A mutable {@link LongOption} view of the elements of a {@code long} array and
+ * a presence bitmap, for passing the elements to code that accepts options
+ * without allocating an option per element. The cursor is repositioned with
+ * {@link #moveTo(int)}, after which it behaves as an option with the contents
+ * of that element.
+ * <p>
+ * Because its contents change whenever it moves, a cursor must not escape the
+ * code to which it is passed for a single element: it must not be stored, put
+ * in a collection, used as a map key, or shared with other threads. Code that
+ * needs to retain an element must retain {@link #snapshot()} instead. No method
+ * of a cursor returns the cursor itself as an option; where an immutable option
+ * would return itself, the cursor returns its snapshot.
+ * <p>
+ * A cursor is equal only to another cursor with the same contents. Code that
+ * compares the contents of a cursor with those of another option must compare
+ * {@link #snapshot()} instead.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class LongOptionCursor
+    implements LongOption
+{
+    private int index = -1;
+
+    private final long[] presence;
+
+    private boolean present;
+
+    private long value;
+
+    private final long[] values;
+
+    /**
+     * Creates a cursor over the specified values and presence bitmap, which
+     * are not copied. Bit {@code i & 63} of {@code presence[i >>> 6]} is set
+     * if the element at index {@code i} is present. The cursor is initially
+     * empty and not positioned at any element.
+     *
+     * @param values   The values of the elements.
+     * @param presence The presence bitmap of the elements.
+     *
+     * @throws NullPointerException     {@code values} or {@code presence} is
+     *                                  {@code null}.
+     * @throws IllegalArgumentException {@code presence} is too short for
+     *                                  {@code values}.
+     */
+    public LongOptionCursor(
+        final long[] values,
+        final long[] presence)
+    {
+        if (presence.length < (values.length + 63L) >>> 6)
+        {
+            throw new IllegalArgumentException(
+                "Presence bitmap too short: " + presence.length);
+        }
+
+        this.values = values;
+        this.presence = presence;
+    }
+
+    @Override
+    public LongOption addExact(
+        final long addend)
+    {
+        return snapshot().addExact(addend);
+    }
+
+    @Override
+    public <O extends Option<?>> O and(
+        final O option)
+    {
+        return snapshot().and(option);
+    }
+
+    @Override
+    public <O extends Option<?>> O andGet(
+        final Supplier<? extends O> supplier)
+    {
+        return snapshot().andGet(supplier);
+    }
+
+    @Override
+    public <A, O extends Option<?>> O andGet(
+        final Function<? super A, ? extends O> supplier,
+        final A arg)
+    {
+        return snapshot().andGet(supplier, arg);
+    }
+
+    @Override
+    public boolean equals(
+        final Object obj)
+    {
+        return obj == this ||
+            obj instanceof LongOptionCursor other &&
+            snapshot().equals(other.snapshot());
+    }
+
+    @Override
+    public LongOption filter(
+        final Predicate<? super Long> predicate)
+    {
+        return snapshot().filter(predicate);
+    }
+
+    @Override
+    public <A> LongOption filter(
+        final BiPredicate<? super A, ? super Long> predicate,
+        final A arg)
+    {
+        return snapshot().filter(predicate, arg);
+    }
+
+    @Override
+    public <A, B> LongOption filter(
+        final TriPredicate<? super A, ? super B, ? super Long> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().filter(predicate, arg1, arg2);
+    }
+
+    @Override
+    public LongOption filterLong(
+        final LongPredicate predicate)
+    {
+        if (!present)
+        {
+            return none().filterLong(predicate);
+        }
+
+        return predicate.test(value) ?
+            snapshot() :
+            noneUnchecked();
+    }
+
+    @Override
+    public <A, B> LongOption filterLong(
+        final ObjObjLongPredicate<? super A, ? super B> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        if (!present)
+        {
+            return none().filterLong(predicate, arg1, arg2);
+        }
+
+        return predicate.test(arg1, arg2, value) ?
+            snapshot() :
+            noneUnchecked();
+    }
+
+    @Override
+    public BooleanOption filterToBoolean()
+    {
+        return snapshot().filterToBoolean();
+    }
+
+    @Override
+    public ByteOption filterToByte()
+    {
+        return snapshot().filterToByte();
+    }
+
+    @Override
+    public CharOption filterToChar()
+    {
+        return snapshot().filterToChar();
+    }
+
+    @Override
+    public DoubleOption filterToDouble()
+    {
+        return snapshot().filterToDouble();
+    }
+
+    @Override
+    public FloatOption filterToFloat()
+    {
+        return snapshot().filterToFloat();
+    }
+
+    @Override
+    public IntOption filterToInt()
+    {
+        return snapshot().filterToInt();
+    }
+
+    @Override
+    public LongOption filterToLong()
+    {
+        return snapshot().filterToLong();
+    }
+
+    @Override
+    public LongOption filterToObject()
+    {
+        return snapshot().filterToObject();
+    }
+
+    @Override
+    public ShortOption filterToShort()
+    {
+        return snapshot().filterToShort();
+    }
+
+    @Override
+    public <T> Option<T> filterToType(
+        final Class<T> type)
+    {
+        return snapshot().filterToType(type);
+    }
+
+    @Override
+    public <O extends Option<?>> O flatMap(
+        final Function<? super Long, ? extends O> mapper)
+    {
+        return snapshot().flatMap(mapper);
+    }
+
+    @Override
+    public <A, O extends Option<?>> O flatMap(
+        final BiFunction<? super A, ? super Long, ? extends O> mapper,
+        final A arg)
+    {
+        return snapshot().flatMap(mapper, arg);
+    }
+
+    @Override
+    public <A, B, O extends Option<?>> O flatMap(
+        final TriFunction<? super A, ? super B, ? super Long, ? extends O> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().flatMap(mapper, arg1, arg2);
+    }
+
+    @Override
+    public <O extends Option<?>> O flatMapLong(
+        final LongFunction<? extends O> mapper)
+    {
+        return snapshot().flatMapLong(mapper);
+    }
+
+    @Override
+    public LongOption floorDiv(
+        final long divisor)
+    {
+        return snapshot().floorDiv(divisor);
+    }
+
+    @Override
+    public Long get()
+    {
+        return snapshot().get();
+    }
+
+    @Override
+    public long getAsLong()
+    {
+        if (!present)
+        {
+            return none().getAsLong();
+        }
+
+        return value;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return snapshot().hashCode();
+    }
+
+    @Override
+    public void ifNone(
+        final Runnable ifNone)
+    {
+        snapshot().ifNone(ifNone);
+    }
+
+    @Override
+    public <A> void ifNone(
+        final Consumer<? super A> ifNone,
+        final A arg)
+    {
+        snapshot().ifNone(ifNone, arg);
+    }
+
+    @Override
+    public void ifSome(
+        final Consumer<? super Long> ifSome)
+    {
+        if (!present)
+        {
+            none().ifSome(ifSome);
+
+            return;
+        }
+
+        ifSome.accept(boxedValue());
+    }
+
+    @Override
+    public <A> void ifSome(
+        final BiConsumer<? super A, ? super Long> ifSome,
+        final A arg)
+    {
+        if (!present)
+        {
+            none().ifSome(ifSome, arg);
+
+            return;
+        }
+
+        ifSome.accept(arg, boxedValue());
+    }
+
+    @Override
+    public void ifSomeLong(
+        final LongConsumer ifSome)
+    {
+        if (!present)
+        {
+            none().ifSomeLong(ifSome);
+
+            return;
+        }
+
+        ifSome.accept(value);
+    }
+
+    @Override
+    public <A> void ifSomeLong(
+        final ObjLongConsumer<? super A> ifSome,
+        final A arg)
+    {
+        if (!present)
+        {
+            none().ifSomeLong(ifSome, arg);
+
+            return;
+        }
+
+        ifSome.accept(arg, value);
+    }
+
+    @Override
+    public void ifSomeLongOrElse(
+        final LongConsumer ifSome,
+        final Runnable ifNone)
+    {
+        snapshot().ifSomeLongOrElse(ifSome, ifNone);
+    }
+
+    @Override
+    public <A> void ifSomeLongOrElse(
+        final LongConsumer ifSome,
+        final Consumer<? super A> ifNone,
+        final A ifNoneArg)
+    {
+        snapshot().ifSomeLongOrElse(ifSome, ifNone, ifNoneArg);
+    }
+
+    @Override
+    public <A> void ifSomeLongOrElse(
+        final ObjLongConsumer<? super A> ifSome,
+        final A ifSomeArg,
+        final Runnable ifNone)
+    {
+        snapshot().ifSomeLongOrElse(ifSome, ifSomeArg, ifNone);
+    }
+
+    @Override
+    public <A> void ifSomeLongOrElse(
+        final ObjLongConsumer<? super A> ifSome,
+        final Consumer<? super A> ifNone,
+        final A arg)
+    {
+        snapshot().ifSomeLongOrElse(ifSome, ifNone, arg);
+    }
+
+    @Override
+    public <A, B> void ifSomeLongOrElse(
+        final ObjLongConsumer<? super A> ifSome,
+        final A ifSomeArg,
+        final Consumer<? super B> ifNone,
+        final B ifNoneArg)
+    {
+        snapshot().ifSomeLongOrElse(ifSome, ifSomeArg, ifNone, ifNoneArg);
+    }
+
+    @Override
+    public void ifSomeOrElse(
+        final Consumer<? super Long> ifSome,
+        final Runnable ifNone)
+    {
+        snapshot().ifSomeOrElse(ifSome, ifNone);
+    }
+
+    @Override
+    public <A> void ifSomeOrElse(
+        final Consumer<? super Long> ifSome,
+        final Consumer<? super A> ifNone,
+        final A ifNoneArg)
+    {
+        snapshot().ifSomeOrElse(ifSome, ifNone, ifNoneArg);
+    }
+
+    @Override
+    public <A> void ifSomeOrElse(
+        final BiConsumer<? super A, ? super Long> ifSome,
+        final A ifSomeArg,
+        final Runnable ifNone)
+    {
+        snapshot().ifSomeOrElse(ifSome, ifSomeArg, ifNone);
+    }
+
+    @Override
+    public <A> void ifSomeOrElse(
+        final BiConsumer<? super A, ? super Long> ifSome,
+        final Consumer<? super A> ifNone,
+        final A arg)
+    {
+        snapshot().ifSomeOrElse(ifSome, ifNone, arg);
+    }
+
+    @Override
+    public <A, B> void ifSomeOrElse(
+        final BiConsumer<? super A, ? super Long> ifSome,
+        final A ifSomeArg,
+        final Consumer<? super B> ifNone,
+        final B ifNoneArg)
+    {
+        snapshot().ifSomeOrElse(ifSome, ifSomeArg, ifNone, ifNoneArg);
+    }
+
+    /**
+     * Returns the index of the element at which this cursor is positioned.
+     *
+     * @return The index of the current element, or {@code -1} if this cursor
+     *         has not been positioned.
+     */
+    public int index()
+    {
+        return index;
+    }
+
+    @Override
+    public boolean isNone()
+    {
+        if (!present)
+        {
+            return none().isNone();
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean isSome()
+    {
+        if (!present)
+        {
+            return none().isSome();
+        }
+
+        return true;
+    }
+
+    @Override
+    public Iterator<Long> iterator()
+    {
+        return snapshot().iterator();
+    }
+
+    /**
+     * Returns the number of elements over which this cursor moves.
+     *
+     * @return The number of elements.
+     */
+    public int length()
+    {
+        return values.length;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong longIterator()
+    {
+        return snapshot().longIterator();
+    }
+
+    @Override
+    public long longOrElse(
+        final long value)
+    {
+        if (!present)
+        {
+            return none().longOrElse(value);
+        }
+
+        return this.value;
+    }
+
+    @Override
+    public long longOrElseGet(
+        final LongSupplier supplier)
+    {
+        return snapshot().longOrElseGet(supplier);
+    }
+
+    @Override
+    public <A> long longOrElseGet(
+        final ToLongFunction<? super A> supplier,
+        final A arg)
+    {
+        return snapshot().longOrElseGet(supplier, arg);
+    }
+
+    @Override
+    public long longOrElseThrow()
+    {
+        return snapshot().longOrElseThrow();
+    }
+
+    @Override
+    public <X extends Throwable> long longOrElseThrow(
+        final Supplier<? extends X> supplier)
+        throws X
+    {
+        return snapshot().longOrElseThrow(supplier);
+    }
+
+    @Override
+    public <A, X extends Throwable> long longOrElseThrow(
+        final Function<? super A, ? extends X> supplier,
+        final A arg)
+        throws X
+    {
+        return snapshot().longOrElseThrow(supplier, arg);
+    }
+
+    @Override
+    public LongStream longStream()
+    {
+        return snapshot().longStream();
+    }
+
+    @Override
+    public <T> Option<T> map(
+        final Function<? super Long, ? extends T> mapper)
+    {
+        return snapshot().map(mapper);
+    }
+
+    @Override
+    public <A, T> Option<T> map(
+        final BiFunction<? super A, ? super Long, ? extends T> mapper,
+        final A arg)
+    {
+        return snapshot().map(mapper, arg);
+    }
+
+    @Override
+    public <A, B, T> Option<T> map(
+        final TriFunction<? super A, ? super B, ? super Long, ? extends T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().map(mapper, arg1, arg2);
+    }
+
+    @Override
+    public <T> Option<T> mapLong(
+        final LongFunction<? extends T> mapper)
+    {
+        return snapshot().mapLong(mapper);
+    }
+
+    @Override
+    public <A, B, T> Option<T> mapLong(
+        final ObjObjLongFunction<? super A, ? super B, ? extends T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().mapLong(mapper, arg1, arg2);
+    }
+
+    @Override
+    public BooleanOption mapLongToBoolean(
+        final LongPredicate mapper)
+    {
+        if (!present)
+        {
+            return none().mapLongToBoolean(mapper);
+        }
+
+        return someNonNull(mapper.test(value));
+    }
+
+    @Override
+    public ByteOption mapLongToByte(
+        final LongToByteFunction mapper)
+    {
+        if (!present)
+        {
+            return none().mapLongToByte(mapper);
+        }
+
+        return someNonNull(mapper.applyAsByte(value));
+    }
+
+    @Override
+    public CharOption mapLongToChar(
+        final LongToCharFunction mapper)
+    {
+        if (!present)
+        {
+            return none().mapLongToChar(mapper);
+        }
+
+        return someNonNull(mapper.applyAsChar(value));
+    }
+
+    @Override
+    public DoubleOption mapLongToDouble(
+        final LongToDoubleFunction mapper)
+    {
+        if (!present)
+        {
+            return none().mapLongToDouble(mapper);
+        }
+
+        return someNonNull(mapper.applyAsDouble(value));
+    }
+
+    @Override
+    public <A, B> DoubleOption mapLongToDouble(
+        final ObjObjLongToDoubleFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        if (!present)
+        {
+            return none().mapLongToDouble(mapper, arg1, arg2);
+        }
+
+        return someNonNull(mapper.applyAsDouble(arg1, arg2, value));
+    }
+
+    @Override
+    public FloatOption mapLongToFloat(
+        final LongToFloatFunction mapper)
+    {
+        if (!present)
+        {
+            return none().mapLongToFloat(mapper);
+        }
+
+        return someNonNull(mapper.applyAsFloat(value));
+    }
+
+    @Override
+    public IntOption mapLongToInt(
+        final LongToIntFunction mapper)
+    {
+        if (!present)
+        {
+            return none().mapLongToInt(mapper);
+        }
+
+        return someNonNull(mapper.applyAsInt(value));
+    }
+
+    @Override
+    public <A, B> IntOption mapLongToInt(
+        final ObjObjLongToIntFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        if (!present)
+        {
+            return none().mapLongToInt(mapper, arg1, arg2);
+        }
+
+        return someNonNull(mapper.applyAsInt(arg1, arg2, value));
+    }
+
+    @Override
+    public LongOption mapLongToLong(
+        final LongUnaryOperator mapper)
+    {
+        if (!present)
+        {
+            return none().mapLongToLong(mapper);
+        }
+
+        return someNonNull(mapper.applyAsLong(value));
+    }
+
+    @Override
+    public LongOption mapLongToLong(
+        final LongBinaryOperator mapper,
+        final long arg)
+    {
+        if (!present)
+        {
+            return none().mapLongToLong(mapper, arg);
+        }
+
+        return someNonNull(mapper.applyAsLong(arg, value));
+    }
+
+    @Override
+    public <A, B> LongOption mapLongToLong(
+        final ObjObjLongToLongFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        if (!present)
+        {
+            return none().mapLongToLong(mapper, arg1, arg2);
+        }
+
+        return someNonNull(mapper.applyAsLong(arg1, arg2, value));
+    }
+
+    @Override
+    public ShortOption mapLongToShort(
+        final LongToShortFunction mapper)
+    {
+        if (!present)
+        {
+            return none().mapLongToShort(mapper);
+        }
+
+        return someNonNull(mapper.applyAsShort(value));
+    }
+
+    @Override
+    public BooleanOption mapToBoolean(
+        final Predicate<? super Long> mapper)
+    {
+        return snapshot().mapToBoolean(mapper);
+    }
+
+    @Override
+    public <A> BooleanOption mapToBoolean(
+        final BiPredicate<? super A, ? super Long> mapper,
+        final A arg)
+    {
+        return snapshot().mapToBoolean(mapper, arg);
+    }
+
+    @Override
+    public ByteOption mapToByte(
+        final ToByteFunction<? super Long> mapper)
+    {
+        return snapshot().mapToByte(mapper);
+    }
+
+    @Override
+    public <A> ByteOption mapToByte(
+        final ToByteBiFunction<? super A, ? super Long> mapper,
+        final A arg)
+    {
+        return snapshot().mapToByte(mapper, arg);
+    }
+
+    @Override
+    public CharOption mapToChar(
+        final ToCharFunction<? super Long> mapper)
+    {
+        return snapshot().mapToChar(mapper);
+    }
+
+    @Override
+    public <A> CharOption mapToChar(
+        final ToCharBiFunction<? super A, ? super Long> mapper,
+        final A arg)
+    {
+        return snapshot().mapToChar(mapper, arg);
+    }
+
+    @Override
+    public DoubleOption mapToDouble(
+        final ToDoubleFunction<? super Long> mapper)
+    {
+        return snapshot().mapToDouble(mapper);
+    }
+
+    @Override
+    public <A> DoubleOption mapToDouble(
+        final ToDoubleBiFunction<? super A, ? super Long> mapper,
+        final A arg)
+    {
+        return snapshot().mapToDouble(mapper, arg);
+    }
+
+    @Override
+    public <A, B> DoubleOption mapToDouble(
+        final ToDoubleTriFunction<? super A, ? super B, ? super Long> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().mapToDouble(mapper, arg1, arg2);
+    }
+
+    @Override
+    public FloatOption mapToFloat(
+        final ToFloatFunction<? super Long> mapper)
+    {
+        return snapshot().mapToFloat(mapper);
+    }
+
+    @Override
+    public <A> FloatOption mapToFloat(
+        final ToFloatBiFunction<? super A, ? super Long> mapper,
+        final A arg)
+    {
+        return snapshot().mapToFloat(mapper, arg);
+    }
+
+    @Override
+    public IntOption mapToInt(
+        final ToIntFunction<? super Long> mapper)
+    {
+        return snapshot().mapToInt(mapper);
+    }
+
+    @Override
+    public <A> IntOption mapToInt(
+        final ToIntBiFunction<? super A, ? super Long> mapper,
+        final A arg)
+    {
+        return snapshot().mapToInt(mapper, arg);
+    }
+
+    @Override
+    public <A, B> IntOption mapToInt(
+        final ToIntTriFunction<? super A, ? super B, ? super Long> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().mapToInt(mapper, arg1, arg2);
+    }
+
+    @Override
+    public LongOption mapToLong(
+        final ToLongFunction<? super Long> mapper)
+    {
+        return snapshot().mapToLong(mapper);
+    }
+
+    @Override
+    public <A> LongOption mapToLong(
+        final ToLongBiFunction<? super A, ? super Long> mapper,
+        final A arg)
+    {
+        return snapshot().mapToLong(mapper, arg);
+    }
+
+    @Override
+    public <A, B> LongOption mapToLong(
+        final ToLongTriFunction<? super A, ? super B, ? super Long> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().mapToLong(mapper, arg1, arg2);
+    }
+
+    @Override
+    public ShortOption mapToShort(
+        final ToShortFunction<? super Long> mapper)
+    {
+        return snapshot().mapToShort(mapper);
+    }
+
+    @Override
+    public <A> ShortOption mapToShort(
+        final ToShortBiFunction<? super A, ? super Long> mapper,
+        final A arg)
+    {
+        return snapshot().mapToShort(mapper, arg);
+    }
+
+    @Override
+    public boolean matches(
+        final Predicate<? super Long> predicate)
+    {
+        return snapshot().matches(predicate);
+    }
+
+    @Override
+    public <A> boolean matches(
+        final BiPredicate<? super A, ? super Long> predicate,
+        final A arg)
+    {
+        return snapshot().matches(predicate, arg);
+    }
+
+    @Override
+    public <A, B> boolean matches(
+        final TriPredicate<? super A, ? super B, ? super Long> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().matches(predicate, arg1, arg2);
+    }
+
+    @Override
+    public boolean matchesLong(
+        final LongPredicate predicate)
+    {
+        return snapshot().matchesLong(predicate);
+    }
+
+    /**
+     * Positions this cursor at the specified element, so that it contains the
+     * value of the element if the element is present, and is empty otherwise.
+     * Nothing is allocated.
+     *
+     * @param index The index of the element.
+     *
+     * @return This cursor.
+     *
+     * @throws IndexOutOfBoundsException {@code index} is negative or not less
+     *                                   than {@link #length()}.
+     */
+    public LongOptionCursor moveTo(
+        final int index)
+    {
+        Objects.checkIndex(index, values.length);
+        this.index = index;
+        this.present = (presence[index >>> 6] & 1L << index) != 0;
+        this.value = present ?
+            values[index] :
+            0;
+
+        return this;
+    }
+
+    @Override
+    public LongOption multiplyExact(
+        final long multiplier)
+    {
+        return snapshot().multiplyExact(multiplier);
+    }
+
+    @Override
+    public IntOption narrowToInt()
+    {
+        return snapshot().narrowToInt();
+    }
+
+    @Override
+    public ShortOption narrowToShort()
+    {
+        return snapshot().narrowToShort();
+    }
+
+    @Override
+    public Option<Long> or(
+        final Option<? extends Long> option)
+    {
+        return snapshot().or(option);
+    }
+
+    @Override
+    public LongOption or(
+        final LongOption option)
+    {
+        return snapshot().or(option);
+    }
+
+    @Override
+    public Long orElse(
+        final Long value)
+    {
+        if (!present)
+        {
+            return none().orElse(value);
+        }
+
+        return boxedValue();
+    }
+
+    @Override
+    public Long orElseGet(
+        final Supplier<? extends Long> supplier)
+    {
+        return snapshot().orElseGet(supplier);
+    }
+
+    @Override
+    public <A> Long orElseGet(
+        final Function<? super A, ? extends Long> supplier,
+        final A arg)
+    {
+        return snapshot().orElseGet(supplier, arg);
+    }
+
+    @Override
+    public <A, B> Long orElseGet(
+        final BiFunction<? super A, ? super B, ? extends Long> supplier,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().orElseGet(supplier, arg1, arg2);
+    }
+
+    @Override
+    public Long orElseThrow()
+    {
+        return snapshot().orElseThrow();
+    }
+
+    @Override
+    public <X extends Throwable> Long orElseThrow(
+        final Supplier<? extends X> supplier)
+        throws X
+    {
+        return snapshot().orElseThrow(supplier);
+    }
+
+    @Override
+    public <A, X extends Throwable> Long orElseThrow(
+        final Function<? super A, ? extends X> supplier,
+        final A arg)
+        throws X
+    {
+        return snapshot().orElseThrow(supplier, arg);
+    }
+
+    @Override
+    public Option<Long> orGet(
+        final Supplier<? extends Option<? extends Long>> supplier)
+    {
+        return snapshot().orGet(supplier);
+    }
+
+    @Override
+    public <A> Option<Long> orGet(
+        final Function<? super A, ? extends Option<? extends Long>> supplier,
+        final A arg)
+    {
+        return snapshot().orGet(supplier, arg);
+    }
+
+    @Override
+    public LongOption orGetLong(
+        final Supplier<? extends LongOption> supplier)
+    {
+        return snapshot().orGetLong(supplier);
+    }
+
+    @Override
+    public <A> LongOption orGetLong(
+        final Function<? super A, ? extends LongOption> supplier,
+        final A arg)
+    {
+        return snapshot().orGetLong(supplier, arg);
+    }
+
+    /**
+     * Returns an immutable option with the current contents of this cursor,
+     * which may be retained after the cursor moves. The cached option
+     * instances are returned where the option types cache them.
+     *
+     * @return An immutable copy of this cursor.
+     */
+    public LongOption snapshot()
+    {
+        return present ?
+            someNonNull(value) :
+            noneUnchecked();
+    }
+
+    @Override
+    public Stream<Long> stream()
+    {
+        return snapshot().stream();
+    }
+
+    @Override
+    public LongOption subtractExact(
+        final long subtrahend)
+    {
+        return snapshot().subtractExact(subtrahend);
+    }
+
+    @Override
+    public Optional<Long> toOptional()
+    {
+        return snapshot().toOptional();
+    }
+
+    @Override
+    public OptionalLong toOptionalLong()
+    {
+        return snapshot().toOptionalLong();
+    }
+
+    @Override
+    public String toString()
+    {
+        return snapshot().toString();
+    }
+
+    @Override
+    public <U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final BiFunction<? super Long, ? super U, ? extends R> combiner)
+    {
+        return snapshot().zip(other, combiner);
+    }
+
+    @Override
+    public <A, U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final TriFunction<? super A, ? super Long, ? super U, ? extends R> combiner,
+        final A arg)
+    {
+        return snapshot().zip(other, combiner, arg);
+    }
+
+    @Override
+    public LongOption zipLong(
+        final LongOption other,
+        final LongBinaryOperator combiner)
+    {
+        return snapshot().zipLong(other, combiner);
+    }
+
+    @Override
+    public <A> LongOption zipLong(
+        final LongOption other,
+        final ObjLongBinaryOperator<? super A> combiner,
+        final A arg)
+    {
+        return snapshot().zipLong(other, combiner, arg);
+    }
+
+    private Long boxedValue()
+    {
+        return value;
+    }
+
+    private LongOption none()
+    {
+        return noneUnchecked();
+    }
+}
@@ -25,10 +25,13 @@ package me.dkleszyk.java.option;
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.function.*;
 import java.util.stream.Stream;
 import me.dkleszyk.java.function.extra.primitive.*;
+import me.dkleszyk.java.option.function.*;
 
 import static me.dkleszyk.java.option.Options.noneUnchecked;
 
@@ -99,6 +102,15 @@ final class None<T>
         return noneUnchecked();
     }
 
+    @Override
+    public <A, B> Option<T> filter(
+        final TriPredicate<? super A, ? super B, ? super T> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return noneUnchecked();
+    }
+
     @Override
     public BooleanOption filterToBoolean()
     {
@@ -175,6 +187,15 @@ final class None<T>
         return noneUnchecked();
     }
 
+    @Override
+    public <A, B, O extends Option<?>> O flatMap(
+        final TriFunction<? super A, ? super B, ? super T, ? extends O> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return noneUnchecked();
+    }
+
     @Override
     public T get()
     {
@@ -272,6 +293,12 @@ final class None<T>
         return false;
     }
 
+    @Override
+    public Iterator<T> iterator()
+    {
+        return Collections.emptyIterator();
+    }
+
     @Override
     public <U> Option<U> map(
         final Function<? super T, ? extends U> mapper)
@@ -287,6 +314,15 @@ final class None<T>
         return noneUnchecked();
     }
 
+    @Override
+    public <A, B, U> Option<U> map(
+        final TriFunction<? super A, ? super B, ? super T, ? extends U> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return noneUnchecked();
+    }
+
     @Override
     public BooleanOption mapToBoolean(
         final Predicate<? super T> mapper)
@@ -347,6 +383,15 @@ final class None<T>
         return noneUnchecked();
     }
 
+    @Override
+    public <A, B> DoubleOption mapToDouble(
+        final ToDoubleTriFunction<? super A, ? super B, ? super T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return noneUnchecked();
+    }
+
     @Override
     public FloatOption mapToFloat(
         final ToFloatFunction<? super T> mapper)
@@ -377,6 +422,15 @@ final class None<T>
         return noneUnchecked();
     }
 
+    @Override
+    public <A, B> IntOption mapToInt(
+        final ToIntTriFunction<? super A, ? super B, ? super T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return noneUnchecked();
+    }
+
     @Override
     public LongOption mapToLong(
         final ToLongFunction<? super T> mapper)
@@ -392,6 +446,15 @@ final class None<T>
         return noneUnchecked();
     }
 
+    @Override
+    public <A, B> LongOption mapToLong(
+        final ToLongTriFunction<? super A, ? super B, ? super T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return noneUnchecked();
+    }
+
     @Override
     public ShortOption mapToShort(
         final ToShortFunction<? super T> mapper)
@@ -422,6 +485,15 @@ final class None<T>
         return false;
     }
 
+    @Override
+    public <A, B> boolean matches(
+        final TriPredicate<? super A, ? super B, ? super T> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return false;
+    }
+
     @Override
     public Option<T> or(
         final Option<? extends T> option)
@@ -453,6 +525,15 @@ final class None<T>
         return supplier.apply(arg);
     }
 
+    @Override
+    public <A, B> T orElseGet(
+        final BiFunction<? super A, ? super B, ? extends T> supplier,
+        final A arg1,
+        final B arg2)
+    {
+        return supplier.apply(arg1, arg2);
+    }
+
     @Override
     public T orElseThrow()
     {
@@ -513,6 +594,23 @@ final class None<T>
         return "Option.none";
     }
 
+    @Override
+    public <U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final BiFunction<? super T, ? super U, ? extends R> combiner)
+    {
+        return noneUnchecked();
+    }
+
+    @Override
+    public <A, U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final TriFunction<? super A, ? super T, ? super U, ? extends R> combiner,
+        final A arg)
+    {
+        return noneUnchecked();
+    }
+
     private Object readResolve()
         throws ObjectStreamException
     {
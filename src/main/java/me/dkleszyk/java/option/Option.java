@@ -23,6 +23,7 @@
  */
 package me.dkleszyk.java.option;
 
+import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
@@ -32,6 +33,7 @@ import java.util.OptionalLong;
 import java.util.function.*;
 import java.util.stream.Stream;
 import me.dkleszyk.java.function.extra.primitive.*;
+import me.dkleszyk.java.option.function.*;
 
 import static me.dkleszyk.java.option.Options.noneChecked;
 import static me.dkleszyk.java.option.Options.noneUnchecked;
@@ -46,6 +48,7 @@ import static me.dkleszyk.java.option.Options.someNull;
  * @param <T> The value type of the option.
  */
 public interface Option<T>
+    extends Iterable<T>
 {
     // Design note: type hierarchy
     //
@@ -666,6 +669,30 @@ public interface Option<T>
         final BiPredicate<? super A, ? super T> predicate,
         final A arg);
 
+    /**
+     * Returns this instance if it is non-empty and the specified predicate
+     * returns {@code true} for its contained value; otherwise, returns an empty
+     * option.
+     *
+     * @param <A>       The type of the first additional argument provided to
+     *                  {@code predicate}.
+     * @param <B>       The type of the second additional argument provided to
+     *                  {@code predicate}.
+     * @param predicate A predicate to apply to the contained value if this
+     *                  instance is non-empty.
+     * @param arg1      The first additional argument to provide to {@code
+     *                  predicate}.
+     * @param arg2      The second additional argument to provide to {@code
+     *                  predicate}.
+     *
+     * @return This instance if it is non-empty and {@code predicate} returns
+     *         {@code true} for its contained value; otherwise, an empty option.
+     */
+    <A, B> Option<T> filter(
+        final TriPredicate<? super A, ? super B, ? super T> predicate,
+        final A arg1,
+        final B arg2);
+
     /**
      * Returns this instance if it is non-empty and contains a {@code boolean}
      * value; otherwise, returns an empty option.
@@ -793,6 +820,29 @@ public interface Option<T>
         final BiFunction<? super A, ? super T, ? extends O> mapper,
         final A arg);
 
+    /**
+     * Applies the specified mapper function to the contained value to create a
+     * new option.
+     *
+     * @param <A>    The type of the first additional argument provided to
+     *               {@code mapper}.
+     * @param <B>    The type of the second additional argument provided to
+     *               {@code mapper}.
+     * @param <O>    The type of the returned option.
+     * @param mapper A function that creates a new option from the value
+     *               contained by this instance.
+     * @param arg1   The first additional argument to provide to {@code mapper}.
+     * @param arg2   The second additional argument to provide to {@code
+     *               mapper}.
+     *
+     * @return The result of applying the mapper function if this instance is
+     *         non-empty; otherwise, an empty option.
+     */
+    <A, B, O extends Option<?>> O flatMap(
+        final TriFunction<? super A, ? super B, ? super T, ? extends O> mapper,
+        final A arg1,
+        final B arg2);
+
     /**
      * Returns the value contained by this instance.
      *
@@ -934,6 +984,16 @@ public interface Option<T>
      */
     boolean isSome();
 
+    /**
+     * Returns an iterator over the value contained by this instance. The
+     * iterator produces the contained value once if this instance is non-empty,
+     * and nothing if it is empty.
+     *
+     * @return An iterator over the value contained by this instance.
+     */
+    @Override
+    Iterator<T> iterator();
+
     /**
      * Applies the specified mapper function to the contained value.
      *
@@ -964,6 +1024,28 @@ public interface Option<T>
         final BiFunction<? super A, ? super T, ? extends U> mapper,
         final A arg);
 
+    /**
+     * Applies the specified mapper function to the contained value.
+     *
+     * @param <A>    The type of the first additional argument provided to
+     *               {@code mapper}.
+     * @param <B>    The type of the second additional argument provided to
+     *               {@code mapper}.
+     * @param <U>    The value type of the returned option.
+     * @param mapper A function to apply to the value contained by this
+     *               instance.
+     * @param arg1   The first additional argument to provide to {@code mapper}.
+     * @param arg2   The second additional argument to provide to {@code
+     *               mapper}.
+     *
+     * @return An option containing the result of applying the mapper function
+     *         if this instance is non-empty; otherwise, an empty option.
+     */
+    <A, B, U> Option<U> map(
+        final TriFunction<? super A, ? super B, ? super T, ? extends U> mapper,
+        final A arg1,
+        final B arg2);
+
     /**
      * Applies the specified mapper function to the contained value.
      *
@@ -1076,6 +1158,27 @@ public interface Option<T>
         final ToDoubleBiFunction<? super A, ? super T> mapper,
         final A arg);
 
+    /**
+     * Applies the specified mapper function to the contained value.
+     *
+     * @param <A>    The type of the first additional argument provided to
+     *               {@code mapper}.
+     * @param <B>    The type of the second additional argument provided to
+     *               {@code mapper}.
+     * @param mapper A function to apply to the value contained by this
+     *               instance.
+     * @param arg1   The first additional argument to provide to {@code mapper}.
+     * @param arg2   The second additional argument to provide to {@code
+     *               mapper}.
+     *
+     * @return An option containing the result of applying the mapper function
+     *         if this instance is non-empty; otherwise, an empty option.
+     */
+    <A, B> DoubleOption mapToDouble(
+        final ToDoubleTriFunction<? super A, ? super B, ? super T> mapper,
+        final A arg1,
+        final B arg2);
+
     /**
      * Applies the specified mapper function to the contained value.
      *
@@ -1132,6 +1235,27 @@ public interface Option<T>
         final ToIntBiFunction<? super A, ? super T> mapper,
         final A arg);
 
+    /**
+     * Applies the specified mapper function to the contained value.
+     *
+     * @param <A>    The type of the first additional argument provided to
+     *               {@code mapper}.
+     * @param <B>    The type of the second additional argument provided to
+     *               {@code mapper}.
+     * @param mapper A function to apply to the value contained by this
+     *               instance.
+     * @param arg1   The first additional argument to provide to {@code mapper}.
+     * @param arg2   The second additional argument to provide to {@code
+     *               mapper}.
+     *
+     * @return An option containing the result of applying the mapper function
+     *         if this instance is non-empty; otherwise, an empty option.
+     */
+    <A, B> IntOption mapToInt(
+        final ToIntTriFunction<? super A, ? super B, ? super T> mapper,
+        final A arg1,
+        final B arg2);
+
     /**
      * Applies the specified mapper function to the contained value.
      *
@@ -1160,6 +1284,27 @@ public interface Option<T>
         final ToLongBiFunction<? super A, ? super T> mapper,
         final A arg);
 
+    /**
+     * Applies the specified mapper function to the contained value.
+     *
+     * @param <A>    The type of the first additional argument provided to
+     *               {@code mapper}.
+     * @param <B>    The type of the second additional argument provided to
+     *               {@code mapper}.
+     * @param mapper A function to apply to the value contained by this
+     *               instance.
+     * @param arg1   The first additional argument to provide to {@code mapper}.
+     * @param arg2   The second additional argument to provide to {@code
+     *               mapper}.
+     *
+     * @return An option containing the result of applying the mapper function
+     *         if this instance is non-empty; otherwise, an empty option.
+     */
+    <A, B> LongOption mapToLong(
+        final ToLongTriFunction<? super A, ? super B, ? super T> mapper,
+        final A arg1,
+        final B arg2);
+
     /**
      * Applies the specified mapper function to the contained value.
      *
@@ -1220,6 +1365,30 @@ public interface Option<T>
         final BiPredicate<? super A, ? super T> predicate,
         final A arg);
 
+    /**
+     * Indicates whether this instance is non-empty and the specified predicate
+     * returns {@code true} for its contained value.
+     *
+     * @param <A>       The type of the first additional argument provided to
+     *                  {@code predicate}.
+     * @param <B>       The type of the second additional argument provided to
+     *                  {@code predicate}.
+     * @param predicate A predicate to apply to the contained value if this
+     *                  instance is non-empty.
+     * @param arg1      The first additional argument to provide to {@code
+     *                  predicate}.
+     * @param arg2      The second additional argument to provide to {@code
+     *                  predicate}.
+     *
+     * @return {@code true} if this instance is non-empty and {@code predicate}
+     *         returns {@code true} for its contained value; otherwise, {@code
+     *         false}.
+     */
+    <A, B> boolean matches(
+        final TriPredicate<? super A, ? super B, ? super T> predicate,
+        final A arg1,
+        final B arg2);
+
     /**
      * Returns this instance if it is non-empty; otherwise, returns the
      * specified option.
@@ -1245,7 +1414,7 @@ public interface Option<T>
 
     /**
      * Returns the value contained by this instance if it is non-empty;
-     * otherwise, returns the value supplier by the specified method.
+     * otherwise, returns the value supplied by the specified method.
      *
      * @param supplier A method that supplies the value to return if this
      *                 instance is empty.
@@ -1258,7 +1427,7 @@ public interface Option<T>
 
     /**
      * Returns the value contained by this instance if it is non-empty;
-     * otherwise, returns the value supplier by the specified method.
+     * otherwise, returns the value supplied by the specified method.
      *
      * @param <A>      The type of the additional argument provided to
      *                 {@code supplier}.
@@ -1273,6 +1442,29 @@ public interface Option<T>
         final Function<? super A, ? extends T> supplier,
         final A arg);
 
+    /**
+     * Returns the value contained by this instance if it is non-empty;
+     * otherwise, returns the value supplied by the specified method.
+     *
+     * @param <A>      The type of the first additional argument provided to
+     *                 {@code supplier}.
+     * @param <B>      The type of the second additional argument provided to
+     *                 {@code supplier}.
+     * @param supplier A method that supplies the value to return if this
+     *                 instance is empty.
+     * @param arg1     The first additional argument to provide to {@code
+     *                 supplier}.
+     * @param arg2     The second additional argument to provide to {@code
+     *                 supplier}.
+     *
+     * @return The value contained by this instance if it is non-empty;
+     *         otherwise, the value supplied by {@code supplier}.
+     */
+    <A, B> T orElseGet(
+        final BiFunction<? super A, ? super B, ? extends T> supplier,
+        final A arg1,
+        final B arg2);
+
     /**
      * Returns the value contained by this instance if it is non-empty;
      * otherwise, throws an exception.
@@ -1365,4 +1557,46 @@ public interface Option<T>
      * @return The converted instance.
      */
     Optional<T> toOptional();
+
+    /**
+     * Combines the value contained by this instance with the value contained by
+     * the specified option.
+     *
+     * @param <U>      The value type of {@code other}.
+     * @param <R>      The value type of the returned option.
+     * @param other    The option whose value to combine with the value
+     *                 contained by this instance.
+     * @param combiner A function to apply to the value contained by this
+     *                 instance and the value contained by {@code other}.
+     *
+     * @return An option containing the result of applying the combiner function
+     *         to both contained values if this instance and {@code other} are
+     *         both non-empty; otherwise, an empty option.
+     */
+    <U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final BiFunction<? super T, ? super U, ? extends R> combiner);
+
+    /**
+     * Combines the value contained by this instance with the value contained by
+     * the specified option.
+     *
+     * @param <A>      The type of the additional argument provided to {@code
+     *                 combiner}.
+     * @param <U>      The value type of {@code other}.
+     * @param <R>      The value type of the returned option.
+     * @param other    The option whose value to combine with the value
+     *                 contained by this instance.
+     * @param combiner A function to apply to the value contained by this
+     *                 instance and the value contained by {@code other}.
+     * @param arg      An additional argument to provide to {@code combiner}.
+     *
+     * @return An option containing the result of applying the combiner function
+     *         to both contained values if this instance and {@code other} are
+     *         both non-empty; otherwise, an empty option.
+     */
+    <A, U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final TriFunction<? super A, ? super T, ? super U, ? extends R> combiner,
+        final A arg);
 }
@@ -0,0 +1,179 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * Provides {@link Collector} implementations for streams of options.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class OptionCollectors
+{
+    private OptionCollectors()
+    {
+    }
+
+    /**
+     * Returns a collector that records {@link DoubleOption} elements in a
+     * {@link DoubleOptionStatistics}, counting empty options and summarizing
+     * the values of the others without boxing.
+     *
+     * @return The collector.
+     */
+    public static Collector<DoubleOption, ?, DoubleOptionStatistics>
+        summarizingDouble()
+    {
+        return Collector.of(
+            DoubleOptionStatistics::new,
+            DoubleOptionStatistics::accept,
+            (left, right) ->
+            {
+                left.combine(right);
+
+                return left;
+            },
+            Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Returns a collector that maps each element to a {@link DoubleOption} and
+     * records the result in a {@link DoubleOptionStatistics}, counting empty
+     * options and summarizing the values of the others without boxing.
+     *
+     * @param <T>    The type of the elements.
+     * @param mapper The function with which to map each element.
+     *
+     * @return The collector.
+     */
+    public static <T> Collector<T, ?, DoubleOptionStatistics> summarizingDouble(
+        final Function<? super T, ? extends DoubleOption> mapper)
+    {
+        return Collector.of(
+            DoubleOptionStatistics::new,
+            (statistics, element) -> statistics.accept(mapper.apply(element)),
+            (left, right) ->
+            {
+                left.combine(right);
+
+                return left;
+            },
+            Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Returns a collector that records {@link IntOption} elements in an
+     * {@link IntOptionStatistics}, counting empty options and summarizing the
+     * values of the others without boxing.
+     *
+     * @return The collector.
+     */
+    public static Collector<IntOption, ?, IntOptionStatistics> summarizingInt()
+    {
+        return Collector.of(
+            IntOptionStatistics::new,
+            IntOptionStatistics::accept,
+            (left, right) ->
+            {
+                left.combine(right);
+
+                return left;
+            },
+            Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Returns a collector that maps each element to an {@link IntOption} and
+     * records the result in an {@link IntOptionStatistics}, counting empty
+     * options and summarizing the values of the others without boxing.
+     *
+     * @param <T>    The type of the elements.
+     * @param mapper The function with which to map each element.
+     *
+     * @return The collector.
+     */
+    public static <T> Collector<T, ?, IntOptionStatistics> summarizingInt(
+        final Function<? super T, ? extends IntOption> mapper)
+    {
+        return Collector.of(
+            IntOptionStatistics::new,
+            (statistics, element) -> statistics.accept(mapper.apply(element)),
+            (left, right) ->
+            {
+                left.combine(right);
+
+                return left;
+            },
+            Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Returns a collector that records {@link LongOption} elements in a
+     * {@link LongOptionStatistics}, counting empty options and summarizing the
+     * values of the others without boxing.
+     *
+     * @return The collector.
+     */
+    public static Collector<LongOption, ?, LongOptionStatistics>
+        summarizingLong()
+    {
+        return Collector.of(
+            LongOptionStatistics::new,
+            LongOptionStatistics::accept,
+            (left, right) ->
+            {
+                left.combine(right);
+
+                return left;
+            },
+            Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Returns a collector that maps each element to a {@link LongOption} and
+     * records the result in a {@link LongOptionStatistics}, counting empty
+     * options and summarizing the values of the others without boxing.
+     *
+     * @param <T>    The type of the elements.
+     * @param mapper The function with which to map each element.
+     *
+     * @return The collector.
+     */
+    public static <T> Collector<T, ?, LongOptionStatistics> summarizingLong(
+        final Function<? super T, ? extends LongOption> mapper)
+    {
+        return Collector.of(
+            LongOptionStatistics::new,
+            (statistics, element) -> statistics.accept(mapper.apply(element)),
+            (left, right) ->
+            {
+                left.combine(right);
+
+                return left;
+            },
+            Collector.Characteristics.IDENTITY_FINISH);
+    }
+}
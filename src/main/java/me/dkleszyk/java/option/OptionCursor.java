@@ -0,0 +1,867 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.*;
+import java.util.stream.Stream;
+import me.dkleszyk.java.function.extra.primitive.*;
+import me.dkleszyk.java.option.function.*;
+
+import static me.dkleszyk.java.option.Options.noneUnchecked;
+import static me.dkleszyk.java.option.Options.someNonNull;
+
+/**
+ * A mutable {@link Option} view of the elements of an object array and a
+ * presence bitmap, for passing the elements to code that accepts options
+ * without allocating an option per element. The cursor is repositioned with
+ * {@link #moveTo(int)}, after which it behaves as an option with the contents
+ * of that element.
+ * <p>
+ * Because its contents change whenever it moves, a cursor must not escape the
+ * code to which it is passed for a single element: it must not be stored, put
+ * in a collection, used as a map key, or shared with other threads. Code that
+ * needs to retain an element must retain {@link #snapshot()} instead. No method
+ * of a cursor returns the cursor itself as an option; where an immutable option
+ * would return itself, the cursor returns its snapshot.
+ * <p>
+ * A cursor is equal only to another cursor with the same contents. Code that
+ * compares the contents of a cursor with those of another option must compare
+ * {@link #snapshot()} instead.
+ *
+ * @param <T> The value type of the cursor.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class OptionCursor<T>
+    implements Option<T>
+{
+    private int index = -1;
+
+    private final long[] presence;
+
+    private boolean present;
+
+    private T value;
+
+    private final T[] values;
+
+    /**
+     * Creates a cursor over the specified values and presence bitmap, which
+     * are not copied. Bit {@code i & 63} of {@code presence[i >>> 6]} is set
+     * if the element at index {@code i} is present. The cursor is initially
+     * empty and not positioned at any element.
+     *
+     * @param values   The values of the elements.
+     * @param presence The presence bitmap of the elements.
+     *
+     * @throws NullPointerException     {@code values} or {@code presence} is
+     *                                  {@code null}.
+     * @throws IllegalArgumentException {@code presence} is too short for
+     *                                  {@code values}.
+     */
+    public OptionCursor(
+        final T[] values,
+        final long[] presence)
+    {
+        if (presence.length < (values.length + 63L) >>> 6)
+        {
+            throw new IllegalArgumentException(
+                "Presence bitmap too short: " + presence.length);
+        }
+
+        this.values = values;
+        this.presence = presence;
+    }
+
+    @Override
+    public <O extends Option<?>> O and(
+        final O option)
+    {
+        return snapshot().and(option);
+    }
+
+    @Override
+    public <O extends Option<?>> O andGet(
+        final Supplier<? extends O> supplier)
+    {
+        return snapshot().andGet(supplier);
+    }
+
+    @Override
+    public <A, O extends Option<?>> O andGet(
+        final Function<? super A, ? extends O> supplier,
+        final A arg)
+    {
+        return snapshot().andGet(supplier, arg);
+    }
+
+    @Override
+    public boolean equals(
+        final Object obj)
+    {
+        return obj == this ||
+            obj instanceof OptionCursor<?> other &&
+            snapshot().equals(other.snapshot());
+    }
+
+    @Override
+    public Option<T> filter(
+        final Predicate<? super T> predicate)
+    {
+        if (!present)
+        {
+            return none().filter(predicate);
+        }
+
+        return predicate.test(value) ?
+            snapshot() :
+            noneUnchecked();
+    }
+
+    @Override
+    public <A> Option<T> filter(
+        final BiPredicate<? super A, ? super T> predicate,
+        final A arg)
+    {
+        if (!present)
+        {
+            return none().filter(predicate, arg);
+        }
+
+        return predicate.test(arg, value) ?
+            snapshot() :
+            noneUnchecked();
+    }
+
+    @Override
+    public <A, B> Option<T> filter(
+        final TriPredicate<? super A, ? super B, ? super T> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        if (!present)
+        {
+            return none().filter(predicate, arg1, arg2);
+        }
+
+        return predicate.test(arg1, arg2, value) ?
+            snapshot() :
+            noneUnchecked();
+    }
+
+    @Override
+    public BooleanOption filterToBoolean()
+    {
+        return snapshot().filterToBoolean();
+    }
+
+    @Override
+    public ByteOption filterToByte()
+    {
+        return snapshot().filterToByte();
+    }
+
+    @Override
+    public CharOption filterToChar()
+    {
+        return snapshot().filterToChar();
+    }
+
+    @Override
+    public DoubleOption filterToDouble()
+    {
+        return snapshot().filterToDouble();
+    }
+
+    @Override
+    public FloatOption filterToFloat()
+    {
+        return snapshot().filterToFloat();
+    }
+
+    @Override
+    public IntOption filterToInt()
+    {
+        return snapshot().filterToInt();
+    }
+
+    @Override
+    public LongOption filterToLong()
+    {
+        return snapshot().filterToLong();
+    }
+
+    @Override
+    public Option<T> filterToObject()
+    {
+        return snapshot().filterToObject();
+    }
+
+    @Override
+    public ShortOption filterToShort()
+    {
+        return snapshot().filterToShort();
+    }
+
+    @Override
+    public <U> Option<U> filterToType(
+        final Class<U> type)
+    {
+        return snapshot().filterToType(type);
+    }
+
+    @Override
+    public <O extends Option<?>> O flatMap(
+        final Function<? super T, ? extends O> mapper)
+    {
+        return snapshot().flatMap(mapper);
+    }
+
+    @Override
+    public <A, O extends Option<?>> O flatMap(
+        final BiFunction<? super A, ? super T, ? extends O> mapper,
+        final A arg)
+    {
+        return snapshot().flatMap(mapper, arg);
+    }
+
+    @Override
+    public <A, B, O extends Option<?>> O flatMap(
+        final TriFunction<? super A, ? super B, ? super T, ? extends O> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().flatMap(mapper, arg1, arg2);
+    }
+
+    @Override
+    public T get()
+    {
+        if (!present)
+        {
+            return none().get();
+        }
+
+        return value;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return snapshot().hashCode();
+    }
+
+    @Override
+    public void ifNone(
+        final Runnable ifNone)
+    {
+        snapshot().ifNone(ifNone);
+    }
+
+    @Override
+    public <A> void ifNone(
+        final Consumer<? super A> ifNone,
+        final A arg)
+    {
+        snapshot().ifNone(ifNone, arg);
+    }
+
+    @Override
+    public void ifSome(
+        final Consumer<? super T> ifSome)
+    {
+        if (!present)
+        {
+            none().ifSome(ifSome);
+
+            return;
+        }
+
+        ifSome.accept(value);
+    }
+
+    @Override
+    public <A> void ifSome(
+        final BiConsumer<? super A, ? super T> ifSome,
+        final A arg)
+    {
+        if (!present)
+        {
+            none().ifSome(ifSome, arg);
+
+            return;
+        }
+
+        ifSome.accept(arg, value);
+    }
+
+    @Override
+    public void ifSomeOrElse(
+        final Consumer<? super T> ifSome,
+        final Runnable ifNone)
+    {
+        snapshot().ifSomeOrElse(ifSome, ifNone);
+    }
+
+    @Override
+    public <A> void ifSomeOrElse(
+        final Consumer<? super T> ifSome,
+        final Consumer<? super A> ifNone,
+        final A ifNoneArg)
+    {
+        snapshot().ifSomeOrElse(ifSome, ifNone, ifNoneArg);
+    }
+
+    @Override
+    public <A> void ifSomeOrElse(
+        final BiConsumer<? super A, ? super T> ifSome,
+        final A ifSomeArg,
+        final Runnable ifNone)
+    {
+        snapshot().ifSomeOrElse(ifSome, ifSomeArg, ifNone);
+    }
+
+    @Override
+    public <A> void ifSomeOrElse(
+        final BiConsumer<? super A, ? super T> ifSome,
+        final Consumer<? super A> ifNone,
+        final A arg)
+    {
+        snapshot().ifSomeOrElse(ifSome, ifNone, arg);
+    }
+
+    @Override
+    public <A, B> void ifSomeOrElse(
+        final BiConsumer<? super A, ? super T> ifSome,
+        final A ifSomeArg,
+        final Consumer<? super B> ifNone,
+        final B ifNoneArg)
+    {
+        snapshot().ifSomeOrElse(ifSome, ifSomeArg, ifNone, ifNoneArg);
+    }
+
+    /**
+     * Returns the index of the element at which this cursor is positioned.
+     *
+     * @return The index of the current element, or {@code -1} if this cursor
+     *         has not been positioned.
+     */
+    public int index()
+    {
+        return index;
+    }
+
+    @Override
+    public boolean isNone()
+    {
+        if (!present)
+        {
+            return none().isNone();
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean isSome()
+    {
+        if (!present)
+        {
+            return none().isSome();
+        }
+
+        return true;
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return snapshot().iterator();
+    }
+
+    /**
+     * Returns the number of elements over which this cursor moves.
+     *
+     * @return The number of elements.
+     */
+    public int length()
+    {
+        return values.length;
+    }
+
+    @Override
+    public <U> Option<U> map(
+        final Function<? super T, ? extends U> mapper)
+    {
+        return snapshot().map(mapper);
+    }
+
+    @Override
+    public <A, U> Option<U> map(
+        final BiFunction<? super A, ? super T, ? extends U> mapper,
+        final A arg)
+    {
+        return snapshot().map(mapper, arg);
+    }
+
+    @Override
+    public <A, B, U> Option<U> map(
+        final TriFunction<? super A, ? super B, ? super T, ? extends U> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().map(mapper, arg1, arg2);
+    }
+
+    @Override
+    public BooleanOption mapToBoolean(
+        final Predicate<? super T> mapper)
+    {
+        if (!present)
+        {
+            return none().mapToBoolean(mapper);
+        }
+
+        return someNonNull(mapper.test(value));
+    }
+
+    @Override
+    public <A> BooleanOption mapToBoolean(
+        final BiPredicate<? super A, ? super T> mapper,
+        final A arg)
+    {
+        if (!present)
+        {
+            return none().mapToBoolean(mapper, arg);
+        }
+
+        return someNonNull(mapper.test(arg, value));
+    }
+
+    @Override
+    public ByteOption mapToByte(
+        final ToByteFunction<? super T> mapper)
+    {
+        if (!present)
+        {
+            return none().mapToByte(mapper);
+        }
+
+        return someNonNull(mapper.applyAsByte(value));
+    }
+
+    @Override
+    public <A> ByteOption mapToByte(
+        final ToByteBiFunction<? super A, ? super T> mapper,
+        final A arg)
+    {
+        if (!present)
+        {
+            return none().mapToByte(mapper, arg);
+        }
+
+        return someNonNull(mapper.applyAsByte(arg, value));
+    }
+
+    @Override
+    public CharOption mapToChar(
+        final ToCharFunction<? super T> mapper)
+    {
+        if (!present)
+        {
+            return none().mapToChar(mapper);
+        }
+
+        return someNonNull(mapper.applyAsChar(value));
+    }
+
+    @Override
+    public <A> CharOption mapToChar(
+        final ToCharBiFunction<? super A, ? super T> mapper,
+        final A arg)
+    {
+        if (!present)
+        {
+            return none().mapToChar(mapper, arg);
+        }
+
+        return someNonNull(mapper.applyAsChar(arg, value));
+    }
+
+    @Override
+    public DoubleOption mapToDouble(
+        final ToDoubleFunction<? super T> mapper)
+    {
+        if (!present)
+        {
+            return none().mapToDouble(mapper);
+        }
+
+        return someNonNull(mapper.applyAsDouble(value));
+    }
+
+    @Override
+    public <A> DoubleOption mapToDouble(
+        final ToDoubleBiFunction<? super A, ? super T> mapper,
+        final A arg)
+    {
+        if (!present)
+        {
+            return none().mapToDouble(mapper, arg);
+        }
+
+        return someNonNull(mapper.applyAsDouble(arg, value));
+    }
+
+    @Override
+    public <A, B> DoubleOption mapToDouble(
+        final ToDoubleTriFunction<? super A, ? super B, ? super T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        if (!present)
+        {
+            return none().mapToDouble(mapper, arg1, arg2);
+        }
+
+        return someNonNull(mapper.applyAsDouble(arg1, arg2, value));
+    }
+
+    @Override
+    public FloatOption mapToFloat(
+        final ToFloatFunction<? super T> mapper)
+    {
+        if (!present)
+        {
+            return none().mapToFloat(mapper);
+        }
+
+        return someNonNull(mapper.applyAsFloat(value));
+    }
+
+    @Override
+    public <A> FloatOption mapToFloat(
+        final ToFloatBiFunction<? super A, ? super T> mapper,
+        final A arg)
+    {
+        if (!present)
+        {
+            return none().mapToFloat(mapper, arg);
+        }
+
+        return someNonNull(mapper.applyAsFloat(arg, value));
+    }
+
+    @Override
+    public IntOption mapToInt(
+        final ToIntFunction<? super T> mapper)
+    {
+        if (!present)
+        {
+            return none().mapToInt(mapper);
+        }
+
+        return someNonNull(mapper.applyAsInt(value));
+    }
+
+    @Override
+    public <A> IntOption mapToInt(
+        final ToIntBiFunction<? super A, ? super T> mapper,
+        final A arg)
+    {
+        if (!present)
+        {
+            return none().mapToInt(mapper, arg);
+        }
+
+        return someNonNull(mapper.applyAsInt(arg, value));
+    }
+
+    @Override
+    public <A, B> IntOption mapToInt(
+        final ToIntTriFunction<? super A, ? super B, ? super T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        if (!present)
+        {
+            return none().mapToInt(mapper, arg1, arg2);
+        }
+
+        return someNonNull(mapper.applyAsInt(arg1, arg2, value));
+    }
+
+    @Override
+    public LongOption mapToLong(
+        final ToLongFunction<? super T> mapper)
+    {
+        if (!present)
+        {
+            return none().mapToLong(mapper);
+        }
+
+        return someNonNull(mapper.applyAsLong(value));
+    }
+
+    @Override
+    public <A> LongOption mapToLong(
+        final ToLongBiFunction<? super A, ? super T> mapper,
+        final A arg)
+    {
+        if (!present)
+        {
+            return none().mapToLong(mapper, arg);
+        }
+
+        return someNonNull(mapper.applyAsLong(arg, value));
+    }
+
+    @Override
+    public <A, B> LongOption mapToLong(
+        final ToLongTriFunction<? super A, ? super B, ? super T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        if (!present)
+        {
+            return none().mapToLong(mapper, arg1, arg2);
+        }
+
+        return someNonNull(mapper.applyAsLong(arg1, arg2, value));
+    }
+
+    @Override
+    public ShortOption mapToShort(
+        final ToShortFunction<? super T> mapper)
+    {
+        if (!present)
+        {
+            return none().mapToShort(mapper);
+        }
+
+        return someNonNull(mapper.applyAsShort(value));
+    }
+
+    @Override
+    public <A> ShortOption mapToShort(
+        final ToShortBiFunction<? super A, ? super T> mapper,
+        final A arg)
+    {
+        if (!present)
+        {
+            return none().mapToShort(mapper, arg);
+        }
+
+        return someNonNull(mapper.applyAsShort(arg, value));
+    }
+
+    @Override
+    public boolean matches(
+        final Predicate<? super T> predicate)
+    {
+        return snapshot().matches(predicate);
+    }
+
+    @Override
+    public <A> boolean matches(
+        final BiPredicate<? super A, ? super T> predicate,
+        final A arg)
+    {
+        return snapshot().matches(predicate, arg);
+    }
+
+    @Override
+    public <A, B> boolean matches(
+        final TriPredicate<? super A, ? super B, ? super T> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().matches(predicate, arg1, arg2);
+    }
+
+    /**
+     * Positions this cursor at the specified element, so that it contains the
+     * value of the element if the element is present, and is empty otherwise.
+     * Nothing is allocated.
+     *
+     * @param index The index of the element.
+     *
+     * @return This cursor.
+     *
+     * @throws IndexOutOfBoundsException {@code index} is negative or not less
+     *                                   than {@link #length()}.
+     * @throws NullPointerException      The element is present but its value
+     *                                   is {@code null}.
+     */
+    public OptionCursor<T> moveTo(
+        final int index)
+    {
+        Objects.checkIndex(index, values.length);
+        this.index = index;
+        this.present = (presence[index >>> 6] & 1L << index) != 0;
+        this.value = present ?
+            Objects.requireNonNull(values[index]) :
+            null;
+
+        return this;
+    }
+
+    @Override
+    public Option<T> or(
+        final Option<? extends T> option)
+    {
+        return snapshot().or(option);
+    }
+
+    @Override
+    public T orElse(
+        final T value)
+    {
+        if (!present)
+        {
+            return none().orElse(value);
+        }
+
+        return this.value;
+    }
+
+    @Override
+    public T orElseGet(
+        final Supplier<? extends T> supplier)
+    {
+        return snapshot().orElseGet(supplier);
+    }
+
+    @Override
+    public <A> T orElseGet(
+        final Function<? super A, ? extends T> supplier,
+        final A arg)
+    {
+        return snapshot().orElseGet(supplier, arg);
+    }
+
+    @Override
+    public <A, B> T orElseGet(
+        final BiFunction<? super A, ? super B, ? extends T> supplier,
+        final A arg1,
+        final B arg2)
+    {
+        return snapshot().orElseGet(supplier, arg1, arg2);
+    }
+
+    @Override
+    public T orElseThrow()
+    {
+        return snapshot().orElseThrow();
+    }
+
+    @Override
+    public <X extends Throwable> T orElseThrow(
+        final Supplier<? extends X> supplier)
+        throws X
+    {
+        return snapshot().orElseThrow(supplier);
+    }
+
+    @Override
+    public <A, X extends Throwable> T orElseThrow(
+        final Function<? super A, ? extends X> supplier,
+        final A arg)
+        throws X
+    {
+        return snapshot().orElseThrow(supplier, arg);
+    }
+
+    @Override
+    public Option<T> orGet(
+        final Supplier<? extends Option<? extends T>> supplier)
+    {
+        return snapshot().orGet(supplier);
+    }
+
+    @Override
+    public <A> Option<T> orGet(
+        final Function<? super A, ? extends Option<? extends T>> supplier,
+        final A arg)
+    {
+        return snapshot().orGet(supplier, arg);
+    }
+
+    /**
+     * Returns an immutable option with the current contents of this cursor,
+     * which may be retained after the cursor moves. The cached option
+     * instances are returned where the option types cache them.
+     *
+     * @return An immutable copy of this cursor.
+     */
+    public Option<T> snapshot()
+    {
+        return present ?
+            someNonNull(value) :
+            noneUnchecked();
+    }
+
+    @Override
+    public Stream<T> stream()
+    {
+        return snapshot().stream();
+    }
+
+    @Override
+    public Optional<T> toOptional()
+    {
+        return snapshot().toOptional();
+    }
+
+    @Override
+    public String toString()
+    {
+        return snapshot().toString();
+    }
+
+    @Override
+    public <U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final BiFunction<? super T, ? super U, ? extends R> combiner)
+    {
+        return snapshot().zip(other, combiner);
+    }
+
+    @Override
+    public <A, U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final TriFunction<? super A, ? super T, ? super U, ? extends R> combiner,
+        final A arg)
+    {
+        return snapshot().zip(other, combiner, arg);
+    }
+
+    private Option<T> none()
+    {
+        return noneUnchecked();
+    }
+}
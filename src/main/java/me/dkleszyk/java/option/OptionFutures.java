@@ -0,0 +1,238 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static me.dkleszyk.java.option.Options.noneUnchecked;
+import static me.dkleszyk.java.option.Options.someNonNull;
+
+/**
+ * Provides methods for combining futures that supply options. Each combined
+ * future completes as soon as its outcome is determined, without waiting for
+ * the remaining input futures, and then cancels them.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class OptionFutures
+{
+    private OptionFutures()
+    {
+    }
+
+    /**
+     * Returns a future that completes with an option containing a list of the
+     * values contained in the options supplied by {@code futures}, in order, or
+     * with {@link Option#none()} as soon as any of {@code futures} supplies an
+     * empty option. If any of {@code futures} completes exceptionally before
+     * the outcome is determined, the returned future completes exceptionally
+     * with the same exception.
+     * <p>
+     * Once the outcome is determined, every input future that has not yet
+     * completed is cancelled; the same happens if the returned future is
+     * cancelled. Cancelling a {@link CompletableFuture} does not interrupt the
+     * computation that would have completed it, so backends should check
+     * {@link CompletableFuture#isDone()} before starting work.
+     *
+     * @param <T>     The value type of the options.
+     * @param futures The futures supplying the options.
+     *
+     * @return The future supplying the combined option.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> CompletableFuture<Option<List<T>>> allSome(
+        final List<? extends CompletableFuture<? extends Option<T>>> futures)
+    {
+        final CompletableFuture<Option<List<T>>> result =
+            new CompletableFuture<>();
+        final int size = futures.size();
+
+        if (size == 0)
+        {
+            result.complete(someNonNull(new ArrayList<>()));
+
+            return result;
+        }
+
+        final Object[] values = new Object[size];
+        final AtomicInteger remaining = new AtomicInteger(size);
+
+        for (int i = 0; i < size; i++)
+        {
+            final int index = i;
+
+            futures.get(i).whenComplete((option, failure) ->
+            {
+                if (result.isDone())
+                {
+                    return;
+                }
+
+                if (failure != null)
+                {
+                    result.completeExceptionally(failure);
+                }
+                else if (option.isNone())
+                {
+                    result.complete(noneUnchecked());
+                }
+                else
+                {
+                    // Each write happens before the decrement that follows
+                    // it, so the final decrement observes every value
+                    values[index] = option.get();
+
+                    if (remaining.decrementAndGet() == 0)
+                    {
+                        result.complete(someNonNull(
+                            (List<T>) new ArrayList<>(Arrays.asList(values))));
+                    }
+                }
+            });
+        }
+
+        return cancelOnCompletion(result, futures);
+    }
+
+    /**
+     * Returns a future that completes with the first option containing a value
+     * that is supplied by any of {@code futures}, or with {@link Option#none()}
+     * if all of {@code futures} supply empty options. Futures that complete
+     * exceptionally are ignored unless none of {@code futures} supplies a
+     * value, in which case the returned future completes exceptionally with the
+     * first such exception.
+     * <p>
+     * Once the outcome is determined, every input future that has not yet
+     * completed is cancelled; the same happens if the returned future is
+     * cancelled. Cancelling a {@link CompletableFuture} does not interrupt the
+     * computation that would have completed it, so backends should check
+     * {@link CompletableFuture#isDone()} before starting work.
+     *
+     * @param <T>     The value type of the options.
+     * @param futures The futures supplying the options.
+     *
+     * @return The future supplying the first option containing a value.
+     */
+    public static <T> CompletableFuture<Option<T>> firstSome(
+        final List<? extends CompletableFuture<? extends Option<T>>> futures)
+    {
+        final CompletableFuture<Option<T>> result = new CompletableFuture<>();
+        final int size = futures.size();
+
+        if (size == 0)
+        {
+            result.complete(noneUnchecked());
+
+            return result;
+        }
+
+        final AtomicInteger remaining = new AtomicInteger(size);
+        final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+
+        for (int i = 0; i < size; i++)
+        {
+            futures.get(i).whenComplete((option, failure) ->
+            {
+                if (result.isDone())
+                {
+                    return;
+                }
+
+                if (failure != null)
+                {
+                    firstFailure.compareAndSet(null, failure);
+                }
+                else if (option.isSome())
+                {
+                    result.complete(option);
+
+                    return;
+                }
+
+                if (remaining.decrementAndGet() == 0)
+                {
+                    final Throwable failed = firstFailure.get();
+
+                    if (failed == null)
+                    {
+                        result.complete(noneUnchecked());
+                    }
+                    else
+                    {
+                        result.completeExceptionally(failed);
+                    }
+                }
+            });
+        }
+
+        return cancelOnCompletion(result, futures);
+    }
+
+    /**
+     * Applies {@code mapper} to each of {@code values}, and returns a future
+     * that completes as {@link #allSome(List)} does for the resulting futures.
+     *
+     * @param <A>    The type of the values to map.
+     * @param <T>    The value type of the mapped options.
+     * @param values The values to map.
+     * @param mapper The function with which to map each value to a future.
+     *
+     * @return The future supplying the combined option.
+     */
+    public static <A, T> CompletableFuture<Option<List<T>>> traverseAsync(
+        final List<? extends A> values,
+        final Function<? super A, CompletableFuture<Option<T>>> mapper)
+    {
+        final List<CompletableFuture<Option<T>>> futures =
+            new ArrayList<>(values.size());
+
+        for (final A value : values)
+        {
+            futures.add(mapper.apply(value));
+        }
+
+        return allSome(futures);
+    }
+
+    private static <R> CompletableFuture<R> cancelOnCompletion(
+        final CompletableFuture<R> result,
+        final List<? extends CompletableFuture<?>> futures)
+    {
+        result.whenComplete((value, failure) ->
+        {
+            for (final CompletableFuture<?> future : futures)
+            {
+                future.cancel(false);
+            }
+        });
+
+        return result;
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Provides iterators over the contents of options.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+final class OptionIterators
+{
+    // The shared empty iterators are created exhausted, so they are never
+    // modified
+    private static final PrimitiveIterator.OfDouble EMPTY_DOUBLE_ITERATOR =
+        new DoubleIterator(0, true);
+
+    private static final PrimitiveIterator.OfInt EMPTY_INT_ITERATOR =
+        new IntIterator(0, true);
+
+    private static final PrimitiveIterator.OfLong EMPTY_LONG_ITERATOR =
+        new LongIterator(0, true);
+
+    private OptionIterators()
+    {
+    }
+
+    public static PrimitiveIterator.OfDouble emptyDoubleIterator()
+    {
+        return EMPTY_DOUBLE_ITERATOR;
+    }
+
+    public static PrimitiveIterator.OfInt emptyIntIterator()
+    {
+        return EMPTY_INT_ITERATOR;
+    }
+
+    public static PrimitiveIterator.OfLong emptyLongIterator()
+    {
+        return EMPTY_LONG_ITERATOR;
+    }
+
+    public static <T> Iterator<T> of(
+        final T value)
+    {
+        return new ObjectIterator<>(value, false);
+    }
+
+    public static PrimitiveIterator.OfDouble of(
+        final double value)
+    {
+        return new DoubleIterator(value, false);
+    }
+
+    public static PrimitiveIterator.OfInt of(
+        final int value)
+    {
+        return new IntIterator(value, false);
+    }
+
+    public static PrimitiveIterator.OfLong of(
+        final long value)
+    {
+        return new LongIterator(value, false);
+    }
+
+    private static final class DoubleIterator
+        implements PrimitiveIterator.OfDouble
+    {
+        private boolean consumed;
+
+        private final double value;
+
+        DoubleIterator(
+            final double value,
+            final boolean consumed)
+        {
+            this.value = value;
+            this.consumed = consumed;
+        }
+
+        @Override
+        public void forEachRemaining(
+            final DoubleConsumer action)
+        {
+            if (!consumed)
+            {
+                consumed = true;
+                action.accept(value);
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return !consumed;
+        }
+
+        @Override
+        public double nextDouble()
+        {
+            if (consumed)
+            {
+                throw new NoSuchElementException();
+            }
+
+            consumed = true;
+
+            return value;
+        }
+    }
+
+    private static final class IntIterator
+        implements PrimitiveIterator.OfInt
+    {
+        private boolean consumed;
+
+        private final int value;
+
+        IntIterator(
+            final int value,
+            final boolean consumed)
+        {
+            this.value = value;
+            this.consumed = consumed;
+        }
+
+        @Override
+        public void forEachRemaining(
+            final IntConsumer action)
+        {
+            if (!consumed)
+            {
+                consumed = true;
+                action.accept(value);
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return !consumed;
+        }
+
+        @Override
+        public int nextInt()
+        {
+            if (consumed)
+            {
+                throw new NoSuchElementException();
+            }
+
+            consumed = true;
+
+            return value;
+        }
+    }
+
+    private static final class LongIterator
+        implements PrimitiveIterator.OfLong
+    {
+        private boolean consumed;
+
+        private final long value;
+
+        LongIterator(
+            final long value,
+            final boolean consumed)
+        {
+            this.value = value;
+            this.consumed = consumed;
+        }
+
+        @Override
+        public void forEachRemaining(
+            final LongConsumer action)
+        {
+            if (!consumed)
+            {
+                consumed = true;
+                action.accept(value);
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return !consumed;
+        }
+
+        @Override
+        public long nextLong()
+        {
+            if (consumed)
+            {
+                throw new NoSuchElementException();
+            }
+
+            consumed = true;
+
+            return value;
+        }
+    }
+
+    private static final class ObjectIterator<T>
+        implements Iterator<T>
+    {
+        private boolean consumed;
+
+        private final T value;
+
+        ObjectIterator(
+            final T value,
+            final boolean consumed)
+        {
+            this.value = value;
+            this.consumed = consumed;
+        }
+
+        @Override
+        public void forEachRemaining(
+            final Consumer<? super T> action)
+        {
+            if (!consumed)
+            {
+                consumed = true;
+                action.accept(value);
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return !consumed;
+        }
+
+        @Override
+        public T next()
+        {
+            if (consumed)
+            {
+                throw new NoSuchElementException();
+            }
+
+            consumed = true;
+
+            return value;
+        }
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Queue;
+
+import static me.dkleszyk.java.option.Option.maybe;
+import static me.dkleszyk.java.option.Options.noneUnchecked;
+import static me.dkleszyk.java.option.Options.someNonNull;
+import static me.dkleszyk.java.option.Options.someNullable;
+
+/**
+ * Provides methods for looking up elements of collections, maps, and arrays
+ * as options. Each lookup distinguishes an absent element from a
+ * {@code null} one where the underlying container allows it, and never
+ * throws for a missing key or an out-of-range index.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class OptionLookups
+{
+    private static final Object ABSENT = new Object();
+
+    private OptionLookups()
+    {
+    }
+
+    /**
+     * Returns an option containing the value mapped to the least key greater
+     * than or equal to {@code key} in {@code map}, or {@link Option#none()} if
+     * there is no such key. The map is searched once, and a key mapped to
+     * {@code null} produces {@link Option#some(Object) some(null)}.
+     *
+     * @param <K> The key type of the map.
+     * @param <V> The value type of the map.
+     * @param map The map to search.
+     * @param key The key to search for.
+     *
+     * @return The option containing the value.
+     */
+    public static <K, V> Option<V> ceiling(
+        final NavigableMap<K, ? extends V> map,
+        final K key)
+    {
+        final Map.Entry<K, ? extends V> entry = map.ceilingEntry(key);
+
+        return entry == null ?
+            noneUnchecked() :
+            someNullable(entry.getValue());
+    }
+
+    /**
+     * Returns an option containing the value mapped to the greatest key less
+     * than or equal to {@code key} in {@code map}, or {@link Option#none()} if
+     * there is no such key. The map is searched once, and a key mapped to
+     * {@code null} produces {@link Option#some(Object) some(null)}.
+     *
+     * @param <K> The key type of the map.
+     * @param <V> The value type of the map.
+     * @param map The map to search.
+     * @param key The key to search for.
+     *
+     * @return The option containing the value.
+     */
+    public static <K, V> Option<V> floor(
+        final NavigableMap<K, ? extends V> map,
+        final K key)
+    {
+        final Map.Entry<K, ? extends V> entry = map.floorEntry(key);
+
+        return entry == null ?
+            noneUnchecked() :
+            someNullable(entry.getValue());
+    }
+
+    /**
+     * Returns an option containing the element at {@code index} in
+     * {@code list}, or {@link Option#none()} if {@code index} is out of range.
+     * A {@code null} element produces {@link Option#some(Object) some(null)}.
+     *
+     * @param <T>   The element type of the list.
+     * @param list  The list from which to get the element.
+     * @param index The index of the element.
+     *
+     * @return The option containing the element.
+     */
+    public static <T> Option<T> get(
+        final List<? extends T> list,
+        final int index)
+    {
+        return index >= 0 && index < list.size() ?
+            someNullable(list.get(index)) :
+            noneUnchecked();
+    }
+
+    /**
+     * Returns an option containing the value mapped to {@code key} in
+     * {@code map}, or {@link Option#none()} if {@code map} does not contain
+     * {@code key}. A key mapped to {@code null} produces
+     * {@link Option#some(Object) some(null)}.
+     * <p>
+     * Unlike calling {@link Map#containsKey(Object)} followed by
+     * {@link Map#get(Object)}, this performs a single lookup for maps that
+     * override {@link Map#getOrDefault(Object, Object)}, such as
+     * {@link java.util.HashMap}.
+     *
+     * @param <K> The key type of the map.
+     * @param <V> The value type of the map.
+     * @param map The map from which to get the value.
+     * @param key The key of the value.
+     *
+     * @return The option containing the value.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> Option<V> get(
+        final Map<K, ? extends V> map,
+        final Object key)
+    {
+        final Object value = ((Map<?, Object>) map).getOrDefault(key, ABSENT);
+
+        return value == ABSENT ?
+            noneUnchecked() :
+            someNullable((V) value);
+    }
+
+    /**
+     * Returns an option containing the element at {@code index} in
+     * {@code array}, or {@link Option#none()} if {@code index} is out of range.
+     * A {@code null} element produces {@link Option#some(Object) some(null)}.
+     *
+     * @param <T>   The element type of the array.
+     * @param array The array from which to get the element.
+     * @param index The index of the element.
+     *
+     * @return The option containing the element.
+     */
+    public static <T> Option<T> get(
+        final T[] array,
+        final int index)
+    {
+        return index >= 0 && index < array.length ?
+            someNullable(array[index]) :
+            noneUnchecked();
+    }
+
+    /**
+     * Returns an option containing the element at {@code index} in
+     * {@code array}, or {@link Option#none()} if {@code index} is out of range.
+     *
+     * @param array The array from which to get the element.
+     * @param index The index of the element.
+     *
+     * @return The option containing the element.
+     */
+    public static BooleanOption get(
+        final boolean[] array,
+        final int index)
+    {
+        return index >= 0 && index < array.length ?
+            someNonNull(array[index]) :
+            noneUnchecked();
+    }
+
+    /**
+     * Returns an option containing the element at {@code index} in
+     * {@code array}, or {@link Option#none()} if {@code index} is out of range.
+     *
+     * @param array The array from which to get the element.
+     * @param index The index of the element.
+     *
+     * @return The option containing the element.
+     */
+    public static ByteOption get(
+        final byte[] array,
+        final int index)
+    {
+        return index >= 0 && index < array.length ?
+            someNonNull(array[index]) :
+            noneUnchecked();
+    }
+
+    /**
+     * Returns an option containing the element at {@code index} in
+     * {@code array}, or {@link Option#none()} if {@code index} is out of range.
+     *
+     * @param array The array from which to get the element.
+     * @param index The index of the element.
+     *
+     * @return The option containing the element.
+     */
+    public static CharOption get(
+        final char[] array,
+        final int index)
+    {
+        return index >= 0 && index < array.length ?
+            someNonNull(array[index]) :
+            noneUnchecked();
+    }
+
+    /**
+     * Returns an option containing the element at {@code index} in
+     * {@code array}, or {@link Option#none()} if {@code index} is out of range.
+     *
+     * @param array The array from which to get the element.
+     * @param index The index of the element.
+     *
+     * @return The option containing the element.
+     */
+    public static DoubleOption get(
+        final double[] array,
+        final int index)
+    {
+        return index >= 0 && index < array.length ?
+            someNonNull(array[index]) :
+            noneUnchecked();
+    }
+
+    /**
+     * Returns an option containing the element at {@code index} in
+     * {@code array}, or {@link Option#none()} if {@code index} is out of range.
+     *
+     * @param array The array from which to get the element.
+     * @param index The index of the element.
+     *
+     * @return The option containing the element.
+     */
+    public static FloatOption get(
+        final float[] array,
+        final int index)
+    {
+        return index >= 0 && index < array.length ?
+            someNonNull(array[index]) :
+            noneUnchecked();
+    }
+
+    /**
+     * Returns an option containing the element at {@code index} in
+     * {@code array}, or {@link Option#none()} if {@code index} is out of range.
+     *
+     * @param array The array from which to get the element.
+     * @param index The index of the element.
+     *
+     * @return The option containing the element.
+     */
+    public static IntOption get(
+        final int[] array,
+        final int index)
+    {
+        return index >= 0 && index < array.length ?
+            someNonNull(array[index]) :
+            noneUnchecked();
+    }
+
+    /**
+     * Returns an option containing the element at {@code index} in
+     * {@code array}, or {@link Option#none()} if {@code index} is out of range.
+     *
+     * @param array The array from which to get the element.
+     * @param index The index of the element.
+     *
+     * @return The option containing the element.
+     */
+    public static LongOption get(
+        final long[] array,
+        final int index)
+    {
+        return index >= 0 && index < array.length ?
+            someNonNull(array[index]) :
+            noneUnchecked();
+    }
+
+    /**
+     * Returns an option containing the element at {@code index} in
+     * {@code array}, or {@link Option#none()} if {@code index} is out of range.
+     *
+     * @param array The array from which to get the element.
+     * @param index The index of the element.
+     *
+     * @return The option containing the element.
+     */
+    public static ShortOption get(
+        final short[] array,
+        final int index)
+    {
+        return index >= 0 && index < array.length ?
+            someNonNull(array[index]) :
+            noneUnchecked();
+    }
+
+    /**
+     * Returns an option containing the first element of {@code deque}, or
+     * {@link Option#none()} if {@code deque} is empty. As with
+     * {@link Deque#peekFirst()}, a {@code null} element cannot be distinguished
+     * from an empty deque and produces {@link Option#none()}.
+     *
+     * @param <T>   The element type of the deque.
+     * @param deque The deque to examine.
+     *
+     * @return The option containing the first element.
+     */
+    public static <T> Option<T> peekFirst(
+        final Deque<? extends T> deque)
+    {
+        return maybe(deque.peekFirst());
+    }
+
+    /**
+     * Retrieves and removes the head of {@code queue}, returning an option
+     * containing it, or {@link Option#none()} if {@code queue} is empty. As
+     * with {@link Queue#poll()}, a {@code null} element cannot be distinguished
+     * from an empty queue and produces {@link Option#none()}.
+     *
+     * @param <T>   The element type of the queue.
+     * @param queue The queue from which to remove the head.
+     *
+     * @return The option containing the head of the queue.
+     */
+    public static <T> Option<T> poll(
+        final Queue<? extends T> queue)
+    {
+        return maybe(queue.poll());
+    }
+}
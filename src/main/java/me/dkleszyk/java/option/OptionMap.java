@@ -0,0 +1,485 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.Arrays;
+import java.util.function.*;
+
+import static me.dkleszyk.java.option.Options.noneUnchecked;
+import static me.dkleszyk.java.option.Options.someNullable;
+
+/**
+ * A map from keys to options that stores the contents of each option rather
+ * than the option itself. A value of {@code null} is stored as {@code null}
+ * and an empty option as an internal sentinel, so an entry costs no more than
+ * the key and the raw value; {@link #get(Object)} recreates the option on
+ * demand, using the shared instances for empty and {@code null} options.
+ * <p>
+ * A key that is not in the map reads as an empty option, so
+ * {@link #get(Object)}, {@link #put(Object, Option)} and
+ * {@link #remove(Object)} never return {@code null}; use
+ * {@link #containsKey(Object)} to tell a missing key from one that is
+ * associated with an empty option.
+ * <p>
+ * Keys are held in open-addressed arrays and may not be {@code null}.
+ * Instances are not safe for use by multiple threads without external
+ * synchronization.
+ *
+ * @param <K> The key type of the map.
+ * @param <V> The value type of the options in the map.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class OptionMap<K, V>
+{
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private static final Object NONE = new Object();
+
+    private Object[] keys;
+
+    private int mask;
+
+    private int size;
+
+    private int threshold;
+
+    private Object[] values;
+
+    /**
+     * Creates an empty map.
+     */
+    public OptionMap()
+    {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Creates an empty map with room for the specified number of entries.
+     *
+     * @param expectedSize The number of entries the map is expected to hold.
+     *
+     * @throws IllegalArgumentException {@code expectedSize} is negative.
+     */
+    public OptionMap(
+        final int expectedSize)
+    {
+        if (expectedSize < 0)
+        {
+            throw new IllegalArgumentException(
+                "Negative expected size: " + expectedSize);
+        }
+
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Removes all entries from this map.
+     */
+    public void clear()
+    {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Returns whether this map contains an entry for the specified key. The
+     * entry may be an empty option.
+     *
+     * @param key The key to look up.
+     *
+     * @return {@code true} if this map contains an entry for {@code key};
+     *         otherwise, {@code false}.
+     *
+     * @throws NullPointerException {@code key} is {@code null}.
+     */
+    public boolean containsKey(
+        final Object key)
+    {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Returns the option associated with the specified key.
+     *
+     * @param key The key to look up.
+     *
+     * @return The option associated with {@code key}, or an empty option if
+     *         this map contains no entry for {@code key}.
+     *
+     * @throws NullPointerException {@code key} is {@code null}.
+     */
+    public Option<V> get(
+        final Object key)
+    {
+        final int index = find(key);
+
+        return index >= 0 ?
+            option(values[index]) :
+            noneUnchecked();
+    }
+
+    /**
+     * Returns the value of the option associated with the specified key, or
+     * the specified value if there is no such entry or the option is empty.
+     *
+     * @param key   The key to look up.
+     * @param value The value to return if there is no non-empty option
+     *              associated with {@code key}.
+     *
+     * @return The value of the option associated with {@code key} if it is
+     *         non-empty; otherwise, {@code value}.
+     *
+     * @throws NullPointerException {@code key} is {@code null}.
+     */
+    public V getOrElse(
+        final Object key,
+        final V value)
+    {
+        final int index = find(key);
+
+        return index >= 0 && values[index] != NONE ?
+            value(values[index]) :
+            value;
+    }
+
+    /**
+     * Performs the specified action with the value of the option associated
+     * with the specified key, if there is such an entry and the option is
+     * non-empty.
+     *
+     * @param key    The key to look up.
+     * @param ifSome The action to perform.
+     *
+     * @throws NullPointerException {@code key} is {@code null}.
+     */
+    public void ifSome(
+        final Object key,
+        final Consumer<? super V> ifSome)
+    {
+        final int index = find(key);
+
+        if (index >= 0 && values[index] != NONE)
+        {
+            ifSome.accept(value(values[index]));
+        }
+    }
+
+    /**
+     * Performs the specified action with the specified argument and the value
+     * of the option associated with the specified key, if there is such an
+     * entry and the option is non-empty.
+     *
+     * @param <A>    The type of the argument to the action.
+     * @param key    The key to look up.
+     * @param ifSome The action to perform.
+     * @param arg    The first argument to the action.
+     *
+     * @throws NullPointerException {@code key} is {@code null}.
+     */
+    public <A> void ifSome(
+        final Object key,
+        final BiConsumer<? super A, ? super V> ifSome,
+        final A arg)
+    {
+        final int index = find(key);
+
+        if (index >= 0 && values[index] != NONE)
+        {
+            ifSome.accept(arg, value(values[index]));
+        }
+    }
+
+    /**
+     * Returns whether this map contains no entries.
+     *
+     * @return {@code true} if this map contains no entries; otherwise,
+     *         {@code false}.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Returns whether the specified key is associated with an empty option.
+     *
+     * @param key The key to look up.
+     *
+     * @return {@code true} if {@code key} is associated with an empty option;
+     *         {@code false} if it is associated with a non-empty option or
+     *         this map contains no entry for it.
+     *
+     * @throws NullPointerException {@code key} is {@code null}.
+     */
+    public boolean isNone(
+        final Object key)
+    {
+        final int index = find(key);
+
+        return index >= 0 && values[index] == NONE;
+    }
+
+    /**
+     * Returns whether the specified key is associated with a non-empty
+     * option.
+     *
+     * @param key The key to look up.
+     *
+     * @return {@code true} if {@code key} is associated with a non-empty
+     *         option; {@code false} if it is associated with an empty option
+     *         or this map contains no entry for it.
+     *
+     * @throws NullPointerException {@code key} is {@code null}.
+     */
+    public boolean isSome(
+        final Object key)
+    {
+        final int index = find(key);
+
+        return index >= 0 && values[index] != NONE;
+    }
+
+    /**
+     * Associates the specified option with the specified key, replacing any
+     * option previously associated with the key.
+     *
+     * @param key    The key with which to associate {@code option}.
+     * @param option The option to associate with {@code key}.
+     *
+     * @return The option previously associated with {@code key}, or an empty
+     *         option if this map contained no entry for {@code key}.
+     *
+     * @throws NullPointerException  {@code key} or {@code option} is
+     *                               {@code null}.
+     * @throws IllegalStateException This map contains {@code 1 << 30} entries
+     *                               and {@code key} is not among them.
+     */
+    public Option<V> put(
+        final K key,
+        final Option<? extends V> option)
+    {
+        final Object raw = option.isSome() ?
+            option.get() :
+            NONE;
+        int index = find(key);
+
+        if (index >= 0)
+        {
+            final Option<V> previous = option(values[index]);
+            values[index] = raw;
+
+            return previous;
+        }
+
+        if (size >= threshold)
+        {
+            rehash(keys.length << 1);
+            index = find(key);
+        }
+
+        index = ~index;
+        keys[index] = key;
+        values[index] = raw;
+        size++;
+
+        return noneUnchecked();
+    }
+
+    /**
+     * Removes the entry for the specified key from this map.
+     *
+     * @param key The key whose entry is to be removed.
+     *
+     * @return The option that was associated with {@code key}, or an empty
+     *         option if this map contained no entry for {@code key}.
+     *
+     * @throws NullPointerException {@code key} is {@code null}.
+     */
+    public Option<V> remove(
+        final Object key)
+    {
+        final int index = find(key);
+
+        if (index < 0)
+        {
+            return noneUnchecked();
+        }
+
+        final Option<V> previous = option(values[index]);
+        shiftKeys(index);
+        size--;
+
+        return previous;
+    }
+
+    /**
+     * Returns the number of entries in this map.
+     *
+     * @return The number of entries in this map.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    private static int capacityFor(
+        final int expectedSize)
+    {
+        final long minimum = Math.max(2L, (expectedSize * 4L + 2L) / 3L + 1L);
+
+        return minimum >= MAXIMUM_CAPACITY ?
+            MAXIMUM_CAPACITY :
+            Integer.highestOneBit((int) minimum - 1) << 1;
+    }
+
+    private static int mix(
+        final Object key)
+    {
+        final int hash = key.hashCode() * 0x9E37_79B9;
+
+        return hash ^ (hash >>> 16);
+    }
+
+    private void allocate(
+        final int capacity)
+    {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = capacity == MAXIMUM_CAPACITY ?
+            capacity - 1 :
+            capacity / 4 * 3;
+    }
+
+    private int find(
+        final Object key)
+    {
+        // Returns the index of the key if it is present; otherwise, the
+        // complement of the index of the free slot that ends its probe
+        // sequence.
+        int index = mix(key) & mask;
+
+        while (true)
+        {
+            final Object candidate = keys[index];
+
+            if (candidate == null)
+            {
+                return ~index;
+            }
+
+            if (candidate == key || candidate.equals(key))
+            {
+                return index;
+            }
+
+            index = (index + 1) & mask;
+        }
+    }
+
+    private Option<V> option(
+        final Object raw)
+    {
+        return raw == NONE ?
+            noneUnchecked() :
+            someNullable(value(raw));
+    }
+
+    private void rehash(
+        final int capacity)
+    {
+        if (keys.length == MAXIMUM_CAPACITY)
+        {
+            throw new IllegalStateException("Map is full");
+        }
+
+        final Object[] oldKeys = keys;
+        final Object[] oldValues = values;
+        allocate(capacity);
+
+        for (int i = 0; i < oldKeys.length; i++)
+        {
+            final Object key = oldKeys[i];
+
+            if (key != null)
+            {
+                final int index = ~find(key);
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void shiftKeys(
+        final int removed)
+    {
+        // Backward-shift deletion, as in IntIntOptionMap.
+        int index = removed;
+
+        while (true)
+        {
+            final int gap = index;
+            index = (index + 1) & mask;
+
+            while (true)
+            {
+                final Object key = keys[index];
+
+                if (key == null)
+                {
+                    keys[gap] = null;
+                    values[gap] = null;
+
+                    return;
+                }
+
+                final int home = mix(key) & mask;
+                final boolean movable = gap <= index ?
+                    gap >= home || home > index :
+                    gap >= home && home > index;
+
+                if (movable)
+                {
+                    keys[gap] = key;
+                    values[gap] = values[index];
+
+                    break;
+                }
+
+                index = (index + 1) & mask;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(
+        final Object raw)
+    {
+        return (V) raw;
+    }
+}
@@ -0,0 +1,1735 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import static me.dkleszyk.java.option.Options.noneUnchecked;
+import static me.dkleszyk.java.option.Options.someNonNull;
+
+/**
+ * Provides methods for parsing text into options. Malformed or out-of-range
+ * input produces {@link Option#none()} rather than an exception, and no
+ * objects are allocated on that path.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class OptionParsers
+{
+    /**
+     * The value returned by {@code parseDoubleBits} for invalid input. This is
+     * a signaling NaN, which is never produced by a successful parse.
+     */
+    static final long NO_DOUBLE_BITS = 0x7FF0_0000_0000_0001L;
+
+    /**
+     * The value returned by {@code parseIntValue} for invalid input. This is
+     * outside of the range of {@code int}.
+     */
+    static final long NO_INT_VALUE = Long.MIN_VALUE;
+
+    private static final int MAX_EXACT_EXPONENT = 22;
+
+    private static final long MAX_EXACT_SIGNIFICAND = 1L << 53;
+
+    private static final int MAX_EXPLICIT_EXPONENT = 100_000;
+
+    private static final int MAX_SIGNIFICAND_DIGITS = 18;
+
+    private static final long PARSE_FAILED = 1;
+
+    private static final double[] POWERS_OF_TEN =
+    {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+        1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private OptionParsers()
+    {
+    }
+
+    private static char charAt(
+        final ByteBuffer buffer,
+        final int index)
+    {
+        return (char) (buffer.get(index) & 0xFF);
+    }
+
+    private static char charAt(
+        final byte[] bytes,
+        final int index)
+    {
+        return (char) (bytes[index] & 0xFF);
+    }
+
+    private static void checkRadix(
+        final int radix)
+    {
+        if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX)
+        {
+            throw new IllegalArgumentException("Invalid radix: " + radix);
+        }
+    }
+
+    private static boolean isDigit(
+        final char c)
+    {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean matches(
+        final CharSequence s,
+        final int from,
+        final int to,
+        final String literal)
+    {
+        if (to - from != literal.length())
+        {
+            return false;
+        }
+
+        for (int i = from; i < to; i++)
+        {
+            if (s.charAt(i) != literal.charAt(i - from))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean matches(
+        final byte[] bytes,
+        final int from,
+        final int to,
+        final String literal)
+    {
+        if (to - from != literal.length())
+        {
+            return false;
+        }
+
+        for (int i = from; i < to; i++)
+        {
+            if (charAt(bytes, i) != literal.charAt(i - from))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean matches(
+        final ByteBuffer buffer,
+        final int from,
+        final int to,
+        final String literal)
+    {
+        if (to - from != literal.length())
+        {
+            return false;
+        }
+
+        for (int i = from; i < to; i++)
+        {
+            if (charAt(buffer, i) != literal.charAt(i - from))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean matchesIgnoreCase(
+        final CharSequence s,
+        final int from,
+        final int to,
+        final String literal)
+    {
+        if (to - from != literal.length())
+        {
+            return false;
+        }
+
+        for (int i = from; i < to; i++)
+        {
+            if ((s.charAt(i) | 0x20) != literal.charAt(i - from))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean matchesIgnoreCase(
+        final byte[] bytes,
+        final int from,
+        final int to,
+        final String literal)
+    {
+        if (to - from != literal.length())
+        {
+            return false;
+        }
+
+        for (int i = from; i < to; i++)
+        {
+            if ((charAt(bytes, i) | 0x20) != literal.charAt(i - from))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean matchesIgnoreCase(
+        final ByteBuffer buffer,
+        final int from,
+        final int to,
+        final String literal)
+    {
+        if (to - from != literal.length())
+        {
+            return false;
+        }
+
+        for (int i = from; i < to; i++)
+        {
+            if ((charAt(buffer, i) | 0x20) != literal.charAt(i - from))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the negated magnitude of the unsigned number in the specified
+     * range, or a positive value if the range is empty or is not a valid
+     * number, or if the negated magnitude would be less than {@code limit}.
+     */
+    private static long negatedMagnitude(
+        final CharSequence s,
+        final int from,
+        final int to,
+        final int radix,
+        final long limit)
+    {
+        if (from == to)
+        {
+            return PARSE_FAILED;
+        }
+
+        // Accumulate negatively, as Long.parseLong does, so that the most
+        // negative value can be represented without overflow
+        final long multiplyLimit = limit / radix;
+        long result = 0;
+
+        for (int i = from; i < to; i++)
+        {
+            final int digit = Character.digit(s.charAt(i), radix);
+
+            if (digit < 0 || result < multiplyLimit)
+            {
+                return PARSE_FAILED;
+            }
+
+            result *= radix;
+
+            if (result < limit + digit)
+            {
+                return PARSE_FAILED;
+            }
+
+            result -= digit;
+        }
+
+        return result;
+    }
+
+    private static long negatedMagnitude(
+        final byte[] bytes,
+        final int from,
+        final int to,
+        final int radix,
+        final long limit)
+    {
+        if (from == to)
+        {
+            return PARSE_FAILED;
+        }
+
+        // Accumulate negatively, as Long.parseLong does, so that the most
+        // negative value can be represented without overflow
+        final long multiplyLimit = limit / radix;
+        long result = 0;
+
+        for (int i = from; i < to; i++)
+        {
+            final int digit = Character.digit(charAt(bytes, i), radix);
+
+            if (digit < 0 || result < multiplyLimit)
+            {
+                return PARSE_FAILED;
+            }
+
+            result *= radix;
+
+            if (result < limit + digit)
+            {
+                return PARSE_FAILED;
+            }
+
+            result -= digit;
+        }
+
+        return result;
+    }
+
+    private static long negatedMagnitude(
+        final ByteBuffer buffer,
+        final int from,
+        final int to,
+        final int radix,
+        final long limit)
+    {
+        if (from == to)
+        {
+            return PARSE_FAILED;
+        }
+
+        // Accumulate negatively, as Long.parseLong does, so that the most
+        // negative value can be represented without overflow
+        final long multiplyLimit = limit / radix;
+        long result = 0;
+
+        for (int i = from; i < to; i++)
+        {
+            final int digit = Character.digit(charAt(buffer, i), radix);
+
+            if (digit < 0 || result < multiplyLimit)
+            {
+                return PARSE_FAILED;
+            }
+
+            result *= radix;
+
+            if (result < limit + digit)
+            {
+                return PARSE_FAILED;
+            }
+
+            result -= digit;
+        }
+
+        return result;
+    }
+
+    /**
+     * Parses {@code s} as a boolean. Returns an option containing {@code true}
+     * if {@code s} is equal to {@code "true"}, ignoring case, an option
+     * containing {@code false} if {@code s} is equal to {@code "false"},
+     * ignoring case, or {@link Option#none()} otherwise.
+     *
+     * @param s The characters to parse.
+     *
+     * @return The parsed option.
+     */
+    public static BooleanOption parseBoolean(
+        final CharSequence s)
+    {
+        return parseBoolean(s, 0, s.length());
+    }
+
+    /**
+     * Parses the characters of {@code s} from {@code from} to {@code to} as a
+     * boolean. Returns an option containing {@code true} if the range is equal
+     * to {@code "true"}, ignoring case, an option containing {@code false} if
+     * the range is equal to {@code "false"}, ignoring case, or
+     * {@link Option#none()} otherwise.
+     *
+     * @param s    The characters to parse.
+     * @param from The index of the first character to parse, inclusive.
+     * @param to   The index of the last character to parse, exclusive.
+     *
+     * @return The parsed option.
+     *
+     * @throws IndexOutOfBoundsException If {@code from} is negative,
+     *                                   {@code from} is greater than
+     *                                   {@code to}, or {@code to} is greater
+     *                                   than the length of {@code s}.
+     */
+    public static BooleanOption parseBoolean(
+        final CharSequence s,
+        final int from,
+        final int to)
+    {
+        Objects.checkFromToIndex(from, to, s.length());
+
+        return matchesIgnoreCase(s, from, to, "true") ?
+            someNonNull(true) :
+            matchesIgnoreCase(s, from, to, "false") ?
+                someNonNull(false) :
+                noneUnchecked();
+    }
+
+    /**
+     * Parses the bytes of {@code bytes} from {@code from} to {@code to} as a
+     * boolean. Returns an option containing {@code true} if the range is equal
+     * to {@code "true"}, ignoring case, an option containing {@code false} if
+     * the range is equal to {@code "false"}, ignoring case, or
+     * {@link Option#none()} otherwise.
+     *
+     * @param bytes The ASCII bytes to parse.
+     * @param from  The index of the first byte to parse, inclusive.
+     * @param to    The index of the last byte to parse, exclusive.
+     *
+     * @return The parsed option.
+     *
+     * @throws IndexOutOfBoundsException If {@code from} is negative,
+     *                                   {@code from} is greater than
+     *                                   {@code to}, or {@code to} is greater
+     *                                   than the length of {@code bytes}.
+     */
+    public static BooleanOption parseBoolean(
+        final byte[] bytes,
+        final int from,
+        final int to)
+    {
+        Objects.checkFromToIndex(from, to, bytes.length);
+
+        return matchesIgnoreCase(bytes, from, to, "true") ?
+            someNonNull(true) :
+            matchesIgnoreCase(bytes, from, to, "false") ?
+                someNonNull(false) :
+                noneUnchecked();
+    }
+
+    /**
+     * Parses the bytes of {@code buffer} from {@code from} to {@code to} as a
+     * boolean. Returns an option containing {@code true} if the range is equal
+     * to {@code "true"}, ignoring case, an option containing {@code false} if
+     * the range is equal to {@code "false"}, ignoring case, or
+     * {@link Option#none()} otherwise. The indices are absolute; the position
+     * and limit of {@code buffer} are not modified.
+     *
+     * @param buffer The ASCII bytes to parse.
+     * @param from   The index of the first byte to parse, inclusive.
+     * @param to     The index of the last byte to parse, exclusive.
+     *
+     * @return The parsed option.
+     *
+     * @throws IndexOutOfBoundsException If {@code from} is negative,
+     *                                   {@code from} is greater than
+     *                                   {@code to}, or {@code to} is greater
+     *                                   than the limit of {@code buffer}.
+     */
+    public static BooleanOption parseBoolean(
+        final ByteBuffer buffer,
+        final int from,
+        final int to)
+    {
+        Objects.checkFromToIndex(from, to, buffer.limit());
+
+        return matchesIgnoreCase(buffer, from, to, "true") ?
+            someNonNull(true) :
+            matchesIgnoreCase(buffer, from, to, "false") ?
+                someNonNull(false) :
+                noneUnchecked();
+    }
+
+    /**
+     * Parses {@code s} as a decimal double. Returns an option containing the
+     * parsed value, or {@link Option#none()} if {@code s} is not a valid
+     * number.
+     * <p>
+     * The accepted syntax is an optional sign followed by {@code "NaN"},
+     * {@code "Infinity"}, or a decimal significand with an optional exponent,
+     * as accepted by {@link Double#parseDouble(String)}. Leading and trailing
+     * whitespace, hexadecimal significands, and type suffixes are not accepted.
+     *
+     * @param s The characters to parse.
+     *
+     * @return The parsed option.
+     */
+    public static DoubleOption parseDouble(
+        final CharSequence s)
+    {
+        return parseDouble(s, 0, s.length());
+    }
+
+    /**
+     * Parses the characters of {@code s} from {@code from} to {@code to} as a
+     * decimal double. Returns an option containing the parsed value, or
+     * {@link Option#none()} if the range is not a valid number.
+     * <p>
+     * The accepted syntax is an optional sign followed by {@code "NaN"},
+     * {@code "Infinity"}, or a decimal significand with an optional exponent,
+     * as accepted by {@link Double#parseDouble(String)}. Leading and trailing
+     * whitespace, hexadecimal significands, and type suffixes are not accepted.
+     *
+     * @param s    The characters to parse.
+     * @param from The index of the first character to parse, inclusive.
+     * @param to   The index of the last character to parse, exclusive.
+     *
+     * @return The parsed option.
+     *
+     * @throws IndexOutOfBoundsException If {@code from} is negative,
+     *                                   {@code from} is greater than
+     *                                   {@code to}, or {@code to} is greater
+     *                                   than the length of {@code s}.
+     */
+    public static DoubleOption parseDouble(
+        final CharSequence s,
+        final int from,
+        final int to)
+    {
+        final long bits = parseDoubleBits(s, from, to);
+
+        return bits == NO_DOUBLE_BITS ?
+            noneUnchecked() :
+            someNonNull(Double.longBitsToDouble(bits));
+    }
+
+    /**
+     * Parses the bytes of {@code bytes} from {@code from} to {@code to} as a
+     * decimal double. Returns an option containing the parsed value, or
+     * {@link Option#none()} if the range is not a valid number.
+     * <p>
+     * The accepted syntax is an optional sign followed by {@code "NaN"},
+     * {@code "Infinity"}, or a decimal significand with an optional exponent,
+     * as accepted by {@link Double#parseDouble(String)}. Leading and trailing
+     * whitespace, hexadecimal significands, and type suffixes are not accepted.
+     *
+     * @param bytes The ASCII bytes to parse.
+     * @param from  The index of the first byte to parse, inclusive.
+     * @param to    The index of the last byte to parse, exclusive.
+     *
+     * @return The parsed option.
+     *
+     * @throws IndexOutOfBoundsException If {@code from} is negative,
+     *                                   {@code from} is greater than
+     *                                   {@code to}, or {@code to} is greater
+     *                                   than the length of {@code bytes}.
+     */
+    public static DoubleOption parseDouble(
+        final byte[] bytes,
+        final int from,
+        final int to)
+    {
+        final long bits = parseDoubleBits(bytes, from, to);
+
+        return bits == NO_DOUBLE_BITS ?
+            noneUnchecked() :
+            someNonNull(Double.longBitsToDouble(bits));
+    }
+
+    /**
+     * Parses the bytes of {@code buffer} from {@code from} to {@code to} as a
+     * decimal double. Returns an option containing the parsed value, or
+     * {@link Option#none()} if the range is not a valid number. The indices are
+     * absolute; the position and limit of {@code buffer} are not modified.
+     * <p>
+     * The accepted syntax is an optional sign followed by {@code "NaN"},
+     * {@code "Infinity"}, or a decimal significand with an optional exponent,
+     * as accepted by {@link Double#parseDouble(String)}. Leading and trailing
+     * whitespace, hexadecimal significands, and type suffixes are not accepted.
+     *
+     * @param buffer The ASCII bytes to parse.
+     * @param from   The index of the first byte to parse, inclusive.
+     * @param to     The index of the last byte to parse, exclusive.
+     *
+     * @return The parsed option.
+     *
+     * @throws IndexOutOfBoundsException If {@code from} is negative,
+     *                                   {@code from} is greater than
+     *                                   {@code to}, or {@code to} is greater
+     *                                   than the limit of {@code buffer}.
+     */
+    public static DoubleOption parseDouble(
+        final ByteBuffer buffer,
+        final int from,
+        final int to)
+    {
+        final long bits = parseDoubleBits(buffer, from, to);
+
+        return bits == NO_DOUBLE_BITS ?
+            noneUnchecked() :
+            someNonNull(Double.longBitsToDouble(bits));
+    }
+
+    /**
+     * Parses the characters of {@code s} from {@code from} to {@code to} as a
+     * decimal double, returning the raw bits of the parsed value, or
+     * {@link #NO_DOUBLE_BITS} if the range is not a valid number.
+     *
+     * @param s    The characters to parse.
+     * @param from The index of the first character to parse, inclusive.
+     * @param to   The index of the last character to parse, exclusive.
+     *
+     * @return The raw bits of the parsed value.
+     *
+     * @throws IndexOutOfBoundsException If {@code from} is negative,
+     *                                   {@code from} is greater than
+     *                                   {@code to}, or {@code to} is greater
+     *                                   than the length of {@code s}.
+     */
+    static long parseDoubleBits(
+        final CharSequence s,
+        final int from,
+        final int to)
+    {
+        Objects.checkFromToIndex(from, to, s.length());
+
+        if (from == to)
+        {
+            return NO_DOUBLE_BITS;
+        }
+
+        final char first = s.charAt(from);
+        final boolean negative = first == '-';
+        int i = negative || first == '+' ?
+            from + 1 :
+            from;
+
+        if (i < to && !isDigit(s.charAt(i)) && s.charAt(i) != '.')
+        {
+            return matches(s, i, to, "Infinity") ?
+                Double.doubleToRawLongBits(negative ?
+                    Double.NEGATIVE_INFINITY :
+                    Double.POSITIVE_INFINITY) :
+                matches(s, i, to, "NaN") ?
+                    Double.doubleToRawLongBits(Double.NaN) :
+                    NO_DOUBLE_BITS;
+        }
+
+        long significand = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean exact = true;
+        boolean sawDigit = false;
+
+        for (; i < to && isDigit(s.charAt(i)); i++)
+        {
+            final int digit = s.charAt(i) - '0';
+
+            sawDigit = true;
+
+            if (digits < MAX_SIGNIFICAND_DIGITS)
+            {
+                significand = significand * 10 + digit;
+
+                if (significand != 0)
+                {
+                    digits++;
+                }
+            }
+            else
+            {
+                exponent++;
+                exact &= digit == 0;
+            }
+        }
+
+        if (i < to && s.charAt(i) == '.')
+        {
+            for (i++; i < to && isDigit(s.charAt(i)); i++)
+            {
+                final int digit = s.charAt(i) - '0';
+
+                sawDigit = true;
+
+                if (digits < MAX_SIGNIFICAND_DIGITS)
+                {
+                    significand = significand * 10 + digit;
+                    exponent--;
+
+                    if (significand != 0)
+                    {
+                        digits++;
+                    }
+                }
+                else
+                {
+                    exact &= digit == 0;
+                }
+            }
+        }
+
+        if (!sawDigit)
+        {
+            return NO_DOUBLE_BITS;
+        }
+
+        if (i < to && (s.charAt(i) | 0x20) == 'e')
+        {
+            i++;
+
+            final boolean negativeExponent = i < to && s.charAt(i) == '-';
+
+            if (i < to && (negativeExponent || s.charAt(i) == '+'))
+            {
+                i++;
+            }
+
+            if (i == to)
+            {
+                return NO_DOUBLE_BITS;
+            }
+
+            int explicitExponent = 0;
+
+            for (; i < to && isDigit(s.charAt(i)); i++)
+            {
+                if (explicitExponent < MAX_EXPLICIT_EXPONENT)
+                {
+                    explicitExponent =
+                        explicitExponent * 10 + (s.charAt(i) - '0');
+                }
+            }
+
+            exponent += negativeExponent ?
+                -explicitExponent :
+                explicitExponent;
+        }
+
+        if (i != to)
+        {
+            return NO_DOUBLE_BITS;
+        }
+
+        final double value;
+
+        if (significand == 0)
+        {
+            value = 0.0;
+        }
+        else if (exact
+            && significand <= MAX_EXACT_SIGNIFICAND
+            && exponent >= -MAX_EXACT_EXPONENT
+            && exponent <= MAX_EXACT_EXPONENT)
+        {
+            // Both operands are exactly representable, so a single correctly
+            // rounded operation yields the correctly rounded result
+            value = exponent < 0 ?
+                significand / POWERS_OF_TEN[-exponent] :
+                significand * POWERS_OF_TEN[exponent];
+        }
+        else
+        {
+            // The syntax has already been validated, so this cannot throw
+            value = Double.parseDouble(s.subSequence(from, to).toString());
+
+            return Double.doubleToRawLongBits(value);
+        }
+
+        return Double.doubleToRawLongBits(negative ?
+            -value :
+            value);
+    }
+
+    /**
+     * Parses the bytes of {@code bytes} from {@code from} to {@code to} as a
+     * decimal double, returning the raw bits of the parsed value, or
+     * {@link #NO_DOUBLE_BITS} if the range is not a valid number.
+     *
+     * @param bytes The ASCII bytes to parse.
+     * @param from  The index of the first byte to parse, inclusive.
+     * @param to    The index of the last byte to parse, exclusive.
+     *
+     * @return The raw bits of the parsed value.
+     *
+     * @throws IndexOutOfBoundsException If {@code from} is negative,
+     *                                   {@code from} is greater than
+     *                                   {@code to}, or {@code to} is greater
+     *                                   than the length of {@code bytes}.
+     */
+    static long parseDoubleBits(
+        final byte[] bytes,
+        final int from,
+        final int to)
+    {
+        Objects.checkFromToIndex(from, to, bytes.length);
+
+        if (from == to)
+        {
+            return NO_DOUBLE_BITS;
+        }
+
+        final char first = charAt(bytes, from);
+        final boolean negative = first == '-';
+        int i = negative || first == '+' ?
+            from + 1 :
+            from;
+
+        if (i < to && !isDigit(charAt(bytes, i)) && charAt(bytes, i) != '.')
+        {
+            return matches(bytes, i, to, "Infinity") ?
+                Double.doubleToRawLongBits(negative ?
+                    Double.NEGATIVE_INFINITY :
+                    Double.POSITIVE_INFINITY) :
+                matches(bytes, i, to, "NaN") ?
+                    Double.doubleToRawLongBits(Double.NaN) :
+                    NO_DOUBLE_BITS;
+        }
+
+        long significand = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean exact = true;
+        boolean sawDigit = false;
+
+        for (; i < to && isDigit(charAt(bytes, i)); i++)
+        {
+            final int digit = charAt(bytes, i) - '0';
+
+            sawDigit = true;
+
+            if (digits < MAX_SIGNIFICAND_DIGITS)
+            {
+                significand = significand * 10 + digit;
+
+                if (significand != 0)
+                {
+                    digits++;
+                }
+            }
+            else
+            {
+                exponent++;
+                exact &= digit == 0;
+            }
+        }
+
+        if (i < to && charAt(bytes, i) == '.')
+        {
+            for (i++; i < to && isDigit(charAt(bytes, i)); i++)
+            {
+                final int digit = charAt(bytes, i) - '0';
+
+                sawDigit = true;
+
+                if (digits < MAX_SIGNIFICAND_DIGITS)
+                {
+                    significand = significand * 10 + digit;
+                    exponent--;
+
+                    if (significand != 0)
+                    {
+                        digits++;
+                    }
+                }
+                else
+                {
+                    exact &= digit == 0;
+                }
+            }
+        }
+
+        if (!sawDigit)
+        {
+            return NO_DOUBLE_BITS;
+        }
+
+        if (i < to && (charAt(bytes, i) | 0x20) == 'e')
+        {
+            i++;
+
+            final boolean negativeExponent = i < to && charAt(bytes, i) == '-';
+
+            if (i < to && (negativeExponent || charAt(bytes, i) == '+'))
+            {
+                i++;
+            }
+
+            if (i == to)
+            {
+                return NO_DOUBLE_BITS;
+            }
+
+            int explicitExponent = 0;
+
+            for (; i < to && isDigit(charAt(bytes, i)); i++)
+            {
+                if (explicitExponent < MAX_EXPLICIT_EXPONENT)
+                {
+                    explicitExponent =
+                        explicitExponent * 10 + (charAt(bytes, i) - '0');
+                }
+            }
+
+            exponent += negativeExponent ?
+                -explicitExponent :
+                explicitExponent;
+        }
+
+        if (i != to)
+        {
+            return NO_DOUBLE_BITS;
+        }
+
+        final double value;
+
+        if (significand == 0)
+        {
+            value = 0.0;
+        }
+        else if (exact
+            && significand <= MAX_EXACT_SIGNIFICAND
+            && exponent >= -MAX_EXACT_EXPONENT
+            && exponent <= MAX_EXACT_EXPONENT)
+        {
+            // Both operands are exactly representable, so a single correctly
+            // rounded operation yields the correctly rounded result
+            value = exponent < 0 ?
+                significand / POWERS_OF_TEN[-exponent] :
+                significand * POWERS_OF_TEN[exponent];
+        }
+        else
+        {
+            // The syntax has already been validated, so this cannot throw
+            value = Double.parseDouble(
+                new String(
+                    bytes,
+                    from,
+                    to - from,
+                    StandardCharsets.ISO_8859_1));
+
+            return Double.doubleToRawLongBits(value);
+        }
+
+        return Double.doubleToRawLongBits(negative ?
+            -value :
+            value);
+    }
+
+    /**
+     * Parses the bytes of {@code buffer} from {@code from} to {@code to} as a
+     * decimal double, returning the raw bits of the parsed value, or
+     * {@link #NO_DOUBLE_BITS} if the range is not a valid number.
+     *
+     * @param buffer The ASCII bytes to parse.
+     * @param from   The index of the first byte to parse, inclusive.
+     * @param to     The index of the last byte to parse, exclusive.
+     *
+     * @return The raw bits of the parsed value.
+     *
+     * @throws IndexOutOfBoundsException If {@code from} is negative,
+     *                                   {@code from} is greater than
+     *                                   {@code to}, or {@code to} is greater
+     *                                   than the limit of {@code buffer}.
+     */
+    static long parseDoubleBits(
+        final ByteBuffer buffer,
+        final int from,
+        final int to)
+    {
+        Objects.checkFromToIndex(from, to, buffer.limit());
+
+        if (from == to)
+        {
+            return NO_DOUBLE_BITS;
+        }
+
+        final char first = charAt(buffer, from);
+        final boolean negative = first == '-';
+        int i = negative || first == '+' ?
+            from + 1 :
+            from;
+
+        if (i < to && !isDigit(charAt(buffer, i)) && charAt(buffer, i) != '.')
+        {
+            return matches(buffer, i, to, "Infinity") ?
+                Double.doubleToRawLongBits(negative ?
+                    Double.NEGATIVE_INFINITY :
+                    Double.POSITIVE_INFINITY) :
+                matches(buffer, i, to, "NaN") ?
+                    Double.doubleToRawLongBits(Double.NaN) :
+                    NO_DOUBLE_BITS;
+        }
+
+        long significand = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean exact = true;
+        boolean sawDigit = false;
+
+        for (; i < to && isDigit(charAt(buffer, i)); i++)
+        {
+            final int digit = charAt(buffer, i) - '0';
+
+            sawDigit = true;
+
+            if (digits < MAX_SIGNIFICAND_DIGITS)
+            {
+                significand = significand * 10 + digit;
+
+                if (significand != 0)
+                {
+                    digits++;
+                }
+            }
+            else
+            {
+                exponent++;
+                exact &= digit == 0;
+            }
+        }
+
+        if (i < to && charAt(buffer, i) == '.')
+        {
+            for (i++; i < to && isDigit(charAt(buffer, i)); i++)
+            {
+                final int digit = charAt(buffer, i) - '0';
+
+                sawDigit = true;
+
+                if (digits < MAX_SIGNIFICAND_DIGITS)
+                {
+                    significand = significand * 10 + digit;
+                    exponent--;
+
+                    if (significand != 0)
+                    {
+                        digits++;
+                    }
+                }
+                else
+                {
+                    exact &= digit == 0;
+                }
+            }
+        }
+
+        if (!sawDigit)
+        {
+            return NO_DOUBLE_BITS;
+        }
+
+        if (i < to && (charAt(buffer, i) | 0x20) == 'e')
+        {
+            i++;
+
+            final boolean negativeExponent = i < to && charAt(buffer, i) == '-';
+
+            if (i < to && (negativeExponent || charAt(buffer, i) == '+'))
+            {
+                i++;
+            }
+
+            if (i == to)
+            {
+                return NO_DOUBLE_BITS;
+            }
+
+            int explicitExponent = 0;
+
+            for (; i < to && isDigit(charAt(buffer, i)); i++)
+            {
+                if (explicitExponent < MAX_EXPLICIT_EXPONENT)
+                {
+                    explicitExponent =
+                        explicitExponent * 10 + (charAt(buffer, i) - '0');
+                }
+            }
+
+            exponent += negativeExponent ?
+                -explicitExponent :
+                explicitExponent;
+        }
+
+        if (i != to)
+        {
+            return NO_DOUBLE_BITS;
+        }
+
+        final double value;
+
+        if (significand == 0)
+        {
+            value = 0.0;
+        }
+        else if (exact
+            && significand <= MAX_EXACT_SIGNIFICAND
+            && exponent >= -MAX_EXACT_EXPONENT
+            && exponent <= MAX_EXACT_EXPONENT)
+        {
+            // Both operands are exactly representable, so a single correctly
+            // rounded operation yields the correctly rounded result
+            value = exponent < 0 ?
+                significand / POWERS_OF_TEN[-exponent] :
+                significand * POWERS_OF_TEN[exponent];
+        }
+        else
+        {
+            // The syntax has already been validated, so this cannot throw
+            final byte[] bytes = new byte[to - from];
+
+            buffer.get(from, bytes);
+
+            value = Double.parseDouble(
+                new String(bytes, StandardCharsets.ISO_8859_1));
+
+            return Double.doubleToRawLongBits(value);
+        }
+
+        return Double.doubleToRawLongBits(negative ?
+            -value :
+            value);
+    }
+
+    /**
+     * Parses {@code s} as a signed decimal int. Returns an option containing
+     * the parsed value, or {@link Option#none()} if {@code s} is not a valid
+     * number or the number is out of range.
+     *
+     * @param s The characters to parse.
+     *
+     * @return The parsed option.
+     */
+    public static IntOption parseInt(
+        final CharSequence s)
+    {
+        return parseInt(s, 0, s.length(), 10);
+    }
+
+    /**
+     * Parses the characters of {@code s} from {@code from} to {@code to} as a
+     * signed int in the specified radix. Returns an option containing the
+     * parsed value, or {@link Option#none()} if the range is not a valid number
+     * or the number is out of range.
+     * <p>
+     * The accepted syntax is the same as that of
+     * {@link Integer#parseInt(CharSequence, int, int, int)}.
+     *
+     * @param s     The characters to parse.
+     * @param from  The index of the first character to parse, inclusive.
+     * @param to    The index of the last character to parse, exclusive.
+     * @param radix The radix of the number.
+     *
+     * @return The parsed option.
+     *
+     * @throws IndexOutOfBoundsException If {@code from} is negative,
+     *                                   {@code from} is greater than
+     *                                   {@code to}, or {@code to} is greater
+     *                                   than the length of {@code s}.
+     * @throws IllegalArgumentException If {@code radix} is less than
+     *                                  {@link Character#MIN_RADIX} or greater
+     *                                  than {@link Character#MAX_RADIX}.
+     */
+    public static IntOption parseInt(
+        final CharSequence s,
+        final int from,
+        final int to,
+        final int radix)
+    {
+        final long value = parseIntValue(s, from, to, radix);
+
+        return value == NO_INT_VALUE ?
+            noneUnchecked() :
+            someNonNull((int) value);
+    }
+
+    /**
+     * Parses the bytes of {@code bytes} from {@code from} to {@code to} as a
+     * signed int in the specified radix. Returns an option containing the
+     * parsed value, or {@link Option#none()} if the range is not a valid number
+     * or the number is out of range.
+     * <p>
+     * The accepted syntax is the same as that of
+     * {@link Integer#parseInt(CharSequence, int, int, int)}, restricted to
+     * ASCII digits and letters.
+     *
+     * @param bytes The ASCII bytes to parse.
+     * @param from  The index of the first byte to parse, inclusive.
+     * @param to    The index of the last byte to parse, exclusive.
+     * @param radix The radix of the number.
+     *
+     * @return The parsed option.
+     *
+     * @throws IndexOutOfBoundsException If {@code from} is negative,
+     *                                   {@code from} is greater than
+     *                                   {@code to}, or {@code to} is greater
+     *                                   than the length of {@code bytes}.
+     * @throws IllegalArgumentException If {@code radix} is less than
+     *                                  {@link Character#MIN_RADIX} or greater
+     *                                  than {@link Character#MAX_RADIX}.
+     */
+    public static IntOption parseInt(
+        final byte[] bytes,
+        final int from,
+        final int to,
+        final int radix)
+    {
+        final long value = parseIntValue(bytes, from, to, radix);
+
+        return value == NO_INT_VALUE ?
+            noneUnchecked() :
+            someNonNull((int) value);
+    }
+
+    /**
+     * Parses the bytes of {@code buffer} from {@code from} to {@code to} as a
+     * signed int in the specified radix. Returns an option containing the
+     * parsed value, or {@link Option#none()} if the range is not a valid number
+     * or the number is out of range. The indices are absolute; the position and
+     * limit of {@code buffer} are not modified.
+     * <p>
+     * The accepted syntax is the same as that of
+     * {@link Integer#parseInt(CharSequence, int, int, int)}, restricted to
+     * ASCII digits and letters.
+     *
+     * @param buffer The ASCII bytes to parse.
+     * @param from   The index of the first byte to parse, inclusive.
+     * @param to     The index of the last byte to parse, exclusive.
+     * @param radix  The radix of the number.
+     *
+     * @return The parsed option.
+     *
+     * @throws IndexOutOfBoundsException If {@code from} is negative,
+     *                                   {@code from} is greater than
+     *                                   {@code to}, or {@code to} is greater
+     *                                   than the limit of {@code buffer}.
+     * @throws IllegalArgumentException If {@code radix} is less than
+     *                                  {@link Character#MIN_RADIX} or greater
+     *                                  than {@link Character#MAX_RADIX}.
+     */
+    public static IntOption parseInt(
+        final ByteBuffer buffer,
+        final int from,
+        final int to,
+        final int radix)
+    {
+        final long value = parseIntValue(buffer, from, to, radix);
+
+        return value == NO_INT_VALUE ?
+            noneUnchecked() :
+            someNonNull((int) value);
+    }
+
+    /**
+     * Parses the characters of {@code s} from {@code from} to {@code to} as a
+     * signed int in the specified radix, returning the parsed value, or
+     * {@link #NO_INT_VALUE} if the range is not a valid number or the number is
+     * out of range.
+     *
+     * @param s     The characters to parse.
+     * @param from  The index of the first character to parse, inclusive.
+     * @param to    The index of the last character to parse, exclusive.
+     * @param radix The radix of the number.
+     *
+     * @return The parsed value.
+     *
+     * @throws IndexOutOfBoundsException If {@code from} is negative,
+     *                                   {@code from} is greater than
+     *                                   {@code to}, or {@code to} is greater
+     *                                   than the length of {@code s}.
+     * @throws IllegalArgumentException If {@code radix} is less than
+     *                                  {@link Character#MIN_RADIX} or greater
+     *                                  than {@link Character#MAX_RADIX}.
+     */
+    static long parseIntValue(
+        final CharSequence s,
+        final int from,
+        final int to,
+        final int radix)
+    {
+        Objects.checkFromToIndex(from, to, s.length());
+        checkRadix(radix);
+
+        if (from == to)
+        {
+            return NO_INT_VALUE;
+        }
+
+        final char first = s.charAt(from);
+        final boolean negative = first == '-';
+        final long magnitude = negatedMagnitude(
+            s,
+            negative || first == '+' ?
+                from + 1 :
+                from,
+            to,
+            radix,
+            negative ?
+                Integer.MIN_VALUE :
+                -Integer.MAX_VALUE);
+
+        return magnitude > 0 ?
+            NO_INT_VALUE :
+            negative ?
+                magnitude :
+                -magnitude;
+    }
+
+    /**
+     * Parses the bytes of {@code bytes} from {@code from} to {@code to} as a
+     * signed int in the specified radix, returning the parsed value, or
+     * {@link #NO_INT_VALUE} if the range is not a valid number or the number is
+     * out of range.
+     *
+     * @param bytes The ASCII bytes to parse.
+     * @param from  The index of the first byte to parse, inclusive.
+     * @param to    The index of the last byte to parse, exclusive.
+     * @param radix The radix of the number.
+     *
+     * @return The parsed value.
+     *
+     * @throws IndexOutOfBoundsException If {@code from} is negative,
+     *                                   {@code from} is greater than
+     *                                   {@code to}, or {@code to} is greater
+     *                                   than the length of {@code bytes}.
+     * @throws IllegalArgumentException If {@code radix} is less than
+     *                                  {@link Character#MIN_RADIX} or greater
+     *                                  than {@link Character#MAX_RADIX}.
+     */
+    static long parseIntValue(
+        final byte[] bytes,
+        final int from,
+        final int to,
+        final int radix)
+    {
+        Objects.checkFromToIndex(from, to, bytes.length);
+        checkRadix(radix);
+
+        if (from == to)
+        {
+            return NO_INT_VALUE;
+        }
+
+        final char first = charAt(bytes, from);
+        final boolean negative = first == '-';
+        final long magnitude = negatedMagnitude(
+            bytes,
+            negative || first == '+' ?
+                from + 1 :
+                from,
+            to,
+            radix,
+            negative ?
+                Integer.MIN_VALUE :
+                -Integer.MAX_VALUE);
+
+        return magnitude > 0 ?
+            NO_INT_VALUE :
+            negative ?
+                magnitude :
+                -magnitude;
+    }
+
+    /**
+     * Parses the bytes of {@code buffer} from {@code from} to {@code to} as a
+     * signed int in the specified radix, returning the parsed value, or
+     * {@link #NO_INT_VALUE} if the range is not a valid number or the number is
+     * out of range.
+     *
+     * @param buffer The ASCII bytes to parse.
+     * @param from   The index of the first byte to parse, inclusive.
+     * @param to     The index of the last byte to parse, exclusive.
+     * @param radix  The radix of the number.
+     *
+     * @return The parsed value.
+     *
+     * @throws IndexOutOfBoundsException If {@code from} is negative,
+     *                                   {@code from} is greater than
+     *                                   {@code to}, or {@code to} is greater
+     *                                   than the limit of {@code buffer}.
+     * @throws IllegalArgumentException If {@code radix} is less than
+     *                                  {@link Character#MIN_RADIX} or greater
+     *                                  than {@link Character#MAX_RADIX}.
+     */
+    static long parseIntValue(
+        final ByteBuffer buffer,
+        final int from,
+        final int to,
+        final int radix)
+    {
+        Objects.checkFromToIndex(from, to, buffer.limit());
+        checkRadix(radix);
+
+        if (from == to)
+        {
+            return NO_INT_VALUE;
+        }
+
+        final char first = charAt(buffer, from);
+        final boolean negative = first == '-';
+        final long magnitude = negatedMagnitude(
+            buffer,
+            negative || first == '+' ?
+                from + 1 :
+                from,
+            to,
+            radix,
+            negative ?
+                Integer.MIN_VALUE :
+                -Integer.MAX_VALUE);
+
+        return magnitude > 0 ?
+            NO_INT_VALUE :
+            negative ?
+                magnitude :
+                -magnitude;
+    }
+
+    /**
+     * Parses {@code s} as a signed decimal long. Returns an option containing
+     * the parsed value, or {@link Option#none()} if {@code s} is not a valid
+     * number or the number is out of range.
+     *
+     * @param s The characters to parse.
+     *
+     * @return The parsed option.
+     */
+    public static LongOption parseLong(
+        final CharSequence s)
+    {
+        return parseLong(s, 0, s.length(), 10);
+    }
+
+    /**
+     * Parses the characters of {@code s} from {@code from} to {@code to} as a
+     * signed long in the specified radix. Returns an option containing the
+     * parsed value, or {@link Option#none()} if the range is not a valid number
+     * or the number is out of range.
+     * <p>
+     * The accepted syntax is the same as that of
+     * {@link Long#parseLong(CharSequence, int, int, int)}.
+     *
+     * @param s     The characters to parse.
+     * @param from  The index of the first character to parse, inclusive.
+     * @param to    The index of the last character to parse, exclusive.
+     * @param radix The radix of the number.
+     *
+     * @return The parsed option.
+     *
+     * @throws IndexOutOfBoundsException If {@code from} is negative,
+     *                                   {@code from} is greater than
+     *                                   {@code to}, or {@code to} is greater
+     *                                   than the length of {@code s}.
+     * @throws IllegalArgumentException If {@code radix} is less than
+     *                                  {@link Character#MIN_RADIX} or greater
+     *                                  than {@link Character#MAX_RADIX}.
+     */
+    public static LongOption parseLong(
+        final CharSequence s,
+        final int from,
+        final int to,
+        final int radix)
+    {
+        Objects.checkFromToIndex(from, to, s.length());
+        checkRadix(radix);
+
+        if (from == to)
+        {
+            return noneUnchecked();
+        }
+
+        final char first = s.charAt(from);
+        final boolean negative = first == '-';
+        final long magnitude = negatedMagnitude(
+            s,
+            negative || first == '+' ?
+                from + 1 :
+                from,
+            to,
+            radix,
+            negative ?
+                Long.MIN_VALUE :
+                -Long.MAX_VALUE);
+
+        return magnitude > 0 ?
+            noneUnchecked() :
+            someNonNull(negative ?
+                magnitude :
+                -magnitude);
+    }
+
+    /**
+     * Parses the bytes of {@code bytes} from {@code from} to {@code to} as a
+     * signed long in the specified radix. Returns an option containing the
+     * parsed value, or {@link Option#none()} if the range is not a valid number
+     * or the number is out of range.
+     * <p>
+     * The accepted syntax is the same as that of
+     * {@link Long#parseLong(CharSequence, int, int, int)}, restricted to ASCII
+     * digits and letters.
+     *
+     * @param bytes The ASCII bytes to parse.
+     * @param from  The index of the first byte to parse, inclusive.
+     * @param to    The index of the last byte to parse, exclusive.
+     * @param radix The radix of the number.
+     *
+     * @return The parsed option.
+     *
+     * @throws IndexOutOfBoundsException If {@code from} is negative,
+     *                                   {@code from} is greater than
+     *                                   {@code to}, or {@code to} is greater
+     *                                   than the length of {@code bytes}.
+     * @throws IllegalArgumentException If {@code radix} is less than
+     *                                  {@link Character#MIN_RADIX} or greater
+     *                                  than {@link Character#MAX_RADIX}.
+     */
+    public static LongOption parseLong(
+        final byte[] bytes,
+        final int from,
+        final int to,
+        final int radix)
+    {
+        Objects.checkFromToIndex(from, to, bytes.length);
+        checkRadix(radix);
+
+        if (from == to)
+        {
+            return noneUnchecked();
+        }
+
+        final char first = charAt(bytes, from);
+        final boolean negative = first == '-';
+        final long magnitude = negatedMagnitude(
+            bytes,
+            negative || first == '+' ?
+                from + 1 :
+                from,
+            to,
+            radix,
+            negative ?
+                Long.MIN_VALUE :
+                -Long.MAX_VALUE);
+
+        return magnitude > 0 ?
+            noneUnchecked() :
+            someNonNull(negative ?
+                magnitude :
+                -magnitude);
+    }
+
+    /**
+     * Parses the bytes of {@code buffer} from {@code from} to {@code to} as a
+     * signed long in the specified radix. Returns an option containing the
+     * parsed value, or {@link Option#none()} if the range is not a valid number
+     * or the number is out of range. The indices are absolute; the position and
+     * limit of {@code buffer} are not modified.
+     * <p>
+     * The accepted syntax is the same as that of
+     * {@link Long#parseLong(CharSequence, int, int, int)}, restricted to ASCII
+     * digits and letters.
+     *
+     * @param buffer The ASCII bytes to parse.
+     * @param from   The index of the first byte to parse, inclusive.
+     * @param to     The index of the last byte to parse, exclusive.
+     * @param radix  The radix of the number.
+     *
+     * @return The parsed option.
+     *
+     * @throws IndexOutOfBoundsException If {@code from} is negative,
+     *                                   {@code from} is greater than
+     *                                   {@code to}, or {@code to} is greater
+     *                                   than the limit of {@code buffer}.
+     * @throws IllegalArgumentException If {@code radix} is less than
+     *                                  {@link Character#MIN_RADIX} or greater
+     *                                  than {@link Character#MAX_RADIX}.
+     */
+    public static LongOption parseLong(
+        final ByteBuffer buffer,
+        final int from,
+        final int to,
+        final int radix)
+    {
+        Objects.checkFromToIndex(from, to, buffer.limit());
+        checkRadix(radix);
+
+        if (from == to)
+        {
+            return noneUnchecked();
+        }
+
+        final char first = charAt(buffer, from);
+        final boolean negative = first == '-';
+        final long magnitude = negatedMagnitude(
+            buffer,
+            negative || first == '+' ?
+                from + 1 :
+                from,
+            to,
+            radix,
+            negative ?
+                Long.MIN_VALUE :
+                -Long.MAX_VALUE);
+
+        return magnitude > 0 ?
+            noneUnchecked() :
+            someNonNull(negative ?
+                magnitude :
+                -magnitude);
+    }
+
+    /**
+     * Parses the characters of {@code s} from {@code from} to {@code to} as a
+     * signed long in the specified radix, and stores the parsed value at
+     * {@code row} of {@code column} if the range is a valid number and the
+     * number is in range. Unlike {@code parseIntValue}, this cannot return a
+     * value that signals invalid input, since every {@code long} is a valid
+     * result.
+     *
+     * @param s      The characters to parse.
+     * @param from   The index of the first character to parse, inclusive.
+     * @param to     The index of the last character to parse, exclusive.
+     * @param radix  The radix of the number.
+     * @param column The column in which to store the parsed value.
+     * @param row    The row at which to store the parsed value.
+     *
+     * @return {@code true} if the value was stored; otherwise, {@code false}.
+     *
+     * @throws IndexOutOfBoundsException If {@code from} is negative,
+     *                                   {@code from} is greater than
+     *                                   {@code to}, or {@code to} is greater
+     *                                   than the length of {@code s}, or if
+     *                                   {@code row} is out of bounds of
+     *                                   {@code column}.
+     * @throws IllegalArgumentException If {@code radix} is less than
+     *                                  {@link Character#MIN_RADIX} or greater
+     *                                  than {@link Character#MAX_RADIX}.
+     */
+    static boolean parseLongValue(
+        final CharSequence s,
+        final int from,
+        final int to,
+        final int radix,
+        final LongOptionColumn column,
+        final int row)
+    {
+        Objects.checkFromToIndex(from, to, s.length());
+        checkRadix(radix);
+
+        if (from == to)
+        {
+            return false;
+        }
+
+        final char first = s.charAt(from);
+        final boolean negative = first == '-';
+        final long magnitude = negatedMagnitude(
+            s,
+            negative || first == '+' ?
+                from + 1 :
+                from,
+            to,
+            radix,
+            negative ?
+                Long.MIN_VALUE :
+                -Long.MAX_VALUE);
+
+        if (magnitude > 0)
+        {
+            return false;
+        }
+
+        column.setLong(
+            row,
+            negative ?
+                magnitude :
+                -magnitude);
+
+        return true;
+    }
+
+    /**
+     * Parses the bytes of {@code buffer} from {@code from} to {@code to} as a
+     * signed long in the specified radix, and stores the parsed value at
+     * {@code row} of {@code column} if the range is a valid number and the
+     * number is in range. Unlike {@code parseIntValue}, this cannot return a
+     * value that signals invalid input, since every {@code long} is a valid
+     * result.
+     *
+     * @param buffer The ASCII bytes to parse.
+     * @param from   The index of the first byte to parse, inclusive.
+     * @param to     The index of the last byte to parse, exclusive.
+     * @param radix  The radix of the number.
+     * @param column The column in which to store the parsed value.
+     * @param row    The row at which to store the parsed value.
+     *
+     * @return {@code true} if the value was stored; otherwise, {@code false}.
+     *
+     * @throws IndexOutOfBoundsException If {@code from} is negative,
+     *                                   {@code from} is greater than
+     *                                   {@code to}, or {@code to} is greater
+     *                                   than the limit of {@code buffer}, or if
+     *                                   {@code row} is out of bounds of
+     *                                   {@code column}.
+     * @throws IllegalArgumentException If {@code radix} is less than
+     *                                  {@link Character#MIN_RADIX} or greater
+     *                                  than {@link Character#MAX_RADIX}.
+     */
+    static boolean parseLongValue(
+        final ByteBuffer buffer,
+        final int from,
+        final int to,
+        final int radix,
+        final LongOptionColumn column,
+        final int row)
+    {
+        Objects.checkFromToIndex(from, to, buffer.limit());
+        checkRadix(radix);
+
+        if (from == to)
+        {
+            return false;
+        }
+
+        final char first = charAt(buffer, from);
+        final boolean negative = first == '-';
+        final long magnitude = negatedMagnitude(
+            buffer,
+            negative || first == '+' ?
+                from + 1 :
+                from,
+            to,
+            radix,
+            negative ?
+                Long.MIN_VALUE :
+                -Long.MAX_VALUE);
+
+        if (magnitude > 0)
+        {
+            return false;
+        }
+
+        column.setLong(
+            row,
+            negative ?
+                magnitude :
+                -magnitude);
+
+        return true;
+    }
+}
@@ -0,0 +1,439 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.util.Objects;
+import me.dkleszyk.java.option.function.DoubleOptionSink;
+import me.dkleszyk.java.option.function.IntOptionSink;
+import me.dkleszyk.java.option.function.LongOptionSink;
+
+import static me.dkleszyk.java.option.Options.noneUnchecked;
+import static me.dkleszyk.java.option.Options.someNonNull;
+
+/**
+ * Reads the option records written by {@link OptionWriter} from a blocking
+ * channel or an input stream.
+ * <p>
+ * Input is read in large blocks into a reusable direct buffer, from which
+ * records are decoded in place. Options may be read one at a time, in which
+ * case the cached option instances are returned where the option types cache
+ * them, or in batches through a primitive sink, in which case nothing is
+ * allocated per record.
+ * <p>
+ * Instances are not safe for use by multiple threads without external
+ * synchronization.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class OptionReader
+    implements Closeable
+{
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    static final int MAX_RECORD_BYTES = 1 + Long.BYTES;
+
+    private final ByteBuffer buffer;
+
+    private final ReadableByteChannel channel;
+
+    private boolean endOfInput;
+
+    /**
+     * Creates a reader for the specified input stream.
+     *
+     * @param in The input stream from which to read.
+     *
+     * @throws NullPointerException {@code in} is {@code null}.
+     */
+    public OptionReader(
+        final InputStream in)
+    {
+        this(Channels.newChannel(in));
+    }
+
+    /**
+     * Creates a reader for the specified channel.
+     *
+     * @param channel The channel from which to read.
+     *
+     * @throws NullPointerException     {@code channel} is {@code null}.
+     * @throws IllegalArgumentException {@code channel} is a selectable
+     *                                  channel in non-blocking mode.
+     */
+    public OptionReader(
+        final ReadableByteChannel channel)
+    {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a reader for the specified channel with a buffer of the
+     * specified size.
+     *
+     * @param channel    The channel from which to read.
+     * @param bufferSize The size of the buffer, in bytes.
+     *
+     * @throws NullPointerException     {@code channel} is {@code null}.
+     * @throws IllegalArgumentException {@code bufferSize} is too small to hold
+     *                                  a record, or {@code channel} is a
+     *                                  selectable channel in non-blocking
+     *                                  mode.
+     */
+    public OptionReader(
+        final ReadableByteChannel channel,
+        final int bufferSize)
+    {
+        if (channel instanceof SelectableChannel selectable
+            && !selectable.isBlocking())
+        {
+            throw new IllegalArgumentException("Non-blocking channel");
+        }
+
+        this.channel = Objects.requireNonNull(channel);
+        this.buffer = allocateBuffer(bufferSize).flip();
+    }
+
+    /**
+     * Closes the underlying channel.
+     *
+     * @throws IOException An I/O error occurs.
+     */
+    @Override
+    public void close()
+        throws IOException
+    {
+        channel.close();
+    }
+
+    /**
+     * Returns whether any records remain to be read, reading from the input if
+     * necessary.
+     *
+     * @return {@code true} if any records remain; otherwise, {@code false}.
+     *
+     * @throws IOException An I/O error occurs.
+     */
+    public boolean hasNext()
+        throws IOException
+    {
+        return fill(1);
+    }
+
+    /**
+     * Reads the next record, which must hold a {@code double}-valued
+     * option. The cached option instances are returned where the option types
+     * cache them.
+     *
+     * @return The option read.
+     *
+     * @throws EOFException The end of the input has been reached.
+     * @throws IOException  An I/O error occurs, or the next record does not
+     *                      hold a {@code double}-valued option, in which
+     *                      case it is not consumed.
+     */
+    public DoubleOption readDouble()
+        throws IOException
+    {
+        if (!fill(1))
+        {
+            throw new EOFException();
+        }
+
+        return readTag(AbstractOptionColumn.TYPE_DOUBLE, Double.BYTES) ?
+            someNonNull(buffer.getDouble()) :
+            noneUnchecked();
+    }
+
+    /**
+     * Reads up to the specified number of records, which must hold
+     * {@code double}-valued options, and passes the options to the specified
+     * sink in unboxed form, without allocating. Fewer records are read only
+     * if the end of the input is reached.
+     *
+     * @param sink     The sink to which to pass the options.
+     * @param maxCount The maximum number of records to read.
+     *
+     * @return The number of records read.
+     *
+     * @throws NullPointerException     {@code sink} is {@code null}.
+     * @throws IllegalArgumentException {@code maxCount} is negative.
+     * @throws IOException              An I/O error occurs, or a record does
+     *                                  not hold a {@code double}-valued
+     *                                  option.
+     */
+    public int readDoubles(
+        final DoubleOptionSink sink,
+        final int maxCount)
+        throws IOException
+    {
+        Objects.requireNonNull(sink);
+        checkCount(maxCount);
+        int count = 0;
+
+        while (count < maxCount && fill(1))
+        {
+            if (readTag(AbstractOptionColumn.TYPE_DOUBLE, Double.BYTES))
+            {
+                sink.accept(true, buffer.getDouble());
+            }
+            else
+            {
+                sink.accept(false, 0);
+            }
+
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Reads the next record, which must hold an {@code int}-valued
+     * option. The cached option instances are returned where the option types
+     * cache them.
+     *
+     * @return The option read.
+     *
+     * @throws EOFException The end of the input has been reached.
+     * @throws IOException  An I/O error occurs, or the next record does not
+     *                      hold an {@code int}-valued option, in which
+     *                      case it is not consumed.
+     */
+    public IntOption readInt()
+        throws IOException
+    {
+        if (!fill(1))
+        {
+            throw new EOFException();
+        }
+
+        return readTag(AbstractOptionColumn.TYPE_INT, Integer.BYTES) ?
+            someNonNull(buffer.getInt()) :
+            noneUnchecked();
+    }
+
+    /**
+     * Reads up to the specified number of records, which must hold
+     * {@code int}-valued options, and passes the options to the specified
+     * sink in unboxed form, without allocating. Fewer records are read only
+     * if the end of the input is reached.
+     *
+     * @param sink     The sink to which to pass the options.
+     * @param maxCount The maximum number of records to read.
+     *
+     * @return The number of records read.
+     *
+     * @throws NullPointerException     {@code sink} is {@code null}.
+     * @throws IllegalArgumentException {@code maxCount} is negative.
+     * @throws IOException              An I/O error occurs, or a record does
+     *                                  not hold an {@code int}-valued
+     *                                  option.
+     */
+    public int readInts(
+        final IntOptionSink sink,
+        final int maxCount)
+        throws IOException
+    {
+        Objects.requireNonNull(sink);
+        checkCount(maxCount);
+        int count = 0;
+
+        while (count < maxCount && fill(1))
+        {
+            if (readTag(AbstractOptionColumn.TYPE_INT, Integer.BYTES))
+            {
+                sink.accept(true, buffer.getInt());
+            }
+            else
+            {
+                sink.accept(false, 0);
+            }
+
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Reads the next record, which must hold a {@code long}-valued
+     * option. The cached option instances are returned where the option types
+     * cache them.
+     *
+     * @return The option read.
+     *
+     * @throws EOFException The end of the input has been reached.
+     * @throws IOException  An I/O error occurs, or the next record does not
+     *                      hold a {@code long}-valued option, in which
+     *                      case it is not consumed.
+     */
+    public LongOption readLong()
+        throws IOException
+    {
+        if (!fill(1))
+        {
+            throw new EOFException();
+        }
+
+        return readTag(AbstractOptionColumn.TYPE_LONG, Long.BYTES) ?
+            someNonNull(buffer.getLong()) :
+            noneUnchecked();
+    }
+
+    /**
+     * Reads up to the specified number of records, which must hold
+     * {@code long}-valued options, and passes the options to the specified
+     * sink in unboxed form, without allocating. Fewer records are read only
+     * if the end of the input is reached.
+     *
+     * @param sink     The sink to which to pass the options.
+     * @param maxCount The maximum number of records to read.
+     *
+     * @return The number of records read.
+     *
+     * @throws NullPointerException     {@code sink} is {@code null}.
+     * @throws IllegalArgumentException {@code maxCount} is negative.
+     * @throws IOException              An I/O error occurs, or a record does
+     *                                  not hold a {@code long}-valued
+     *                                  option.
+     */
+    public int readLongs(
+        final LongOptionSink sink,
+        final int maxCount)
+        throws IOException
+    {
+        Objects.requireNonNull(sink);
+        checkCount(maxCount);
+        int count = 0;
+
+        while (count < maxCount && fill(1))
+        {
+            if (readTag(AbstractOptionColumn.TYPE_LONG, Long.BYTES))
+            {
+                sink.accept(true, buffer.getLong());
+            }
+            else
+            {
+                sink.accept(false, 0);
+            }
+
+            count++;
+        }
+
+        return count;
+    }
+
+    static ByteBuffer allocateBuffer(
+        final int bufferSize)
+    {
+        if (bufferSize < MAX_RECORD_BYTES)
+        {
+            throw new IllegalArgumentException(
+                "Buffer size too small: " + bufferSize);
+        }
+
+        return ByteBuffer.allocateDirect(bufferSize)
+            .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    static byte tag(
+        final int type,
+        final boolean present)
+    {
+        return (byte) (type << 1 | (present ? 1 : 0));
+    }
+
+    private static void checkCount(
+        final int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+    }
+
+    private boolean fill(
+        final int bytes)
+        throws IOException
+    {
+        if (buffer.remaining() >= bytes)
+        {
+            return true;
+        }
+
+        buffer.compact();
+
+        try
+        {
+            while (buffer.position() < bytes && !endOfInput)
+            {
+                endOfInput = channel.read(buffer) < 0;
+            }
+        }
+        finally
+        {
+            buffer.flip();
+        }
+
+        return buffer.remaining() >= bytes;
+    }
+
+    private boolean readTag(
+        final int type,
+        final int valueBytes)
+        throws IOException
+    {
+        final byte tag = buffer.get(buffer.position());
+
+        if (tag == tag(type, false))
+        {
+            buffer.get();
+
+            return false;
+        }
+
+        if (tag != tag(type, true))
+        {
+            throw new IOException("Unexpected record tag: " + tag);
+        }
+
+        buffer.get();
+
+        if (!fill(valueBytes))
+        {
+            throw new EOFException("Truncated record");
+        }
+
+        return true;
+    }
+}
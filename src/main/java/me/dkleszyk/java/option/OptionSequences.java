@@ -0,0 +1,367 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+import static me.dkleszyk.java.option.Options.noneUnchecked;
+import static me.dkleszyk.java.option.Options.someNonNull;
+
+/**
+ * Provides methods for combining collections of options into a single option
+ * that is empty if any of them is empty.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class OptionSequences
+{
+    private static final int CANCELLATION_CHECK_MASK = 63;
+
+    private static final int LEAF_SIZE = 1 << 11;
+
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    private OptionSequences()
+    {
+    }
+
+    /**
+     * Returns an option containing a list of the values contained in
+     * {@code options}, in order, or {@link Option#none()} if any of
+     * {@code options} is empty. Large lists are processed in parallel on the
+     * common fork-join pool, and processing stops as soon as an empty option is
+     * found.
+     *
+     * @param <T>     The value type of the options.
+     * @param options The options to sequence.
+     *
+     * @return The option containing the new, modifiable list of values.
+     */
+    public static <T> Option<List<T>> parallelSequence(
+        final List<? extends Option<? extends T>> options)
+    {
+        return parallelTraverse(options, Function.identity());
+    }
+
+    /**
+     * Returns an option containing a list of the values contained in the
+     * options returned by applying {@code mapper} to each of {@code values}, in
+     * order, or {@link Option#none()} if {@code mapper} returns an empty option
+     * for any of them. Large lists are processed in parallel on the common
+     * fork-join pool, and no further values are mapped once an empty option is
+     * found.
+     *
+     * @param <A>    The type of the values to map.
+     * @param <T>    The value type of the mapped options.
+     * @param values The values to map.
+     * @param mapper The function with which to map each value. This may be
+     *               invoked concurrently.
+     *
+     * @return The option containing the new, modifiable list of mapped values.
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, T> Option<List<T>> parallelTraverse(
+        final List<? extends A> values,
+        final Function<? super A, ? extends Option<? extends T>> mapper)
+    {
+        final int size = values.size();
+
+        if (size < PARALLEL_THRESHOLD)
+        {
+            return traverse(values, mapper);
+        }
+
+        final List<? extends A> source = values instanceof RandomAccess ?
+            values :
+            (List<? extends A>) Arrays.asList(values.toArray());
+        final Object[] results = new Object[size];
+        final TraverseTask<A, T> task =
+            new TraverseTask<>(source, mapper, results, 0, size, null);
+
+        ForkJoinPool.commonPool().invoke(task);
+
+        return task.failed ?
+            noneUnchecked() :
+            someNonNull((List<T>) new ArrayList<>(Arrays.asList(results)));
+    }
+
+    /**
+     * Returns an option containing a list of the values contained in
+     * {@code options}, in order, or {@link Option#none()} if any of
+     * {@code options} is empty. Iteration stops at the first empty option.
+     *
+     * @param <T>     The value type of the options.
+     * @param options The options to sequence.
+     *
+     * @return The option containing the new, modifiable list of values.
+     */
+    public static <T> Option<List<T>> sequence(
+        final Iterable<? extends Option<? extends T>> options)
+    {
+        final ArrayList<T> values = new ArrayList<>(sizeHint(options));
+
+        for (final Option<? extends T> option : options)
+        {
+            if (option.isNone())
+            {
+                return noneUnchecked();
+            }
+
+            values.add(option.get());
+        }
+
+        return someNonNull(values);
+    }
+
+    /**
+     * Returns an option containing an array of the values contained in
+     * {@code options}, in order, or {@link Option#none()} if any of
+     * {@code options} is empty. Iteration stops at the first empty option, and
+     * the values are not boxed.
+     *
+     * @param options The options to sequence.
+     *
+     * @return The option containing the new array of values.
+     */
+    public static Option<double[]> sequenceDouble(
+        final Collection<? extends DoubleOption> options)
+    {
+        final double[] values = new double[options.size()];
+        int i = 0;
+
+        for (final DoubleOption option : options)
+        {
+            if (option.isNone())
+            {
+                return noneUnchecked();
+            }
+
+            values[i++] = option.getAsDouble();
+        }
+
+        return someNonNull(i == values.length ?
+            values :
+            Arrays.copyOf(values, i));
+    }
+
+    /**
+     * Returns an option containing an array of the values contained in
+     * {@code options}, in order, or {@link Option#none()} if any of
+     * {@code options} is empty. Iteration stops at the first empty option, and
+     * the values are not boxed.
+     *
+     * @param options The options to sequence.
+     *
+     * @return The option containing the new array of values.
+     */
+    public static Option<int[]> sequenceInt(
+        final Collection<? extends IntOption> options)
+    {
+        final int[] values = new int[options.size()];
+        int i = 0;
+
+        for (final IntOption option : options)
+        {
+            if (option.isNone())
+            {
+                return noneUnchecked();
+            }
+
+            values[i++] = option.getAsInt();
+        }
+
+        return someNonNull(i == values.length ?
+            values :
+            Arrays.copyOf(values, i));
+    }
+
+    /**
+     * Returns an option containing an array of the values contained in
+     * {@code options}, in order, or {@link Option#none()} if any of
+     * {@code options} is empty. Iteration stops at the first empty option, and
+     * the values are not boxed.
+     *
+     * @param options The options to sequence.
+     *
+     * @return The option containing the new array of values.
+     */
+    public static Option<long[]> sequenceLong(
+        final Collection<? extends LongOption> options)
+    {
+        final long[] values = new long[options.size()];
+        int i = 0;
+
+        for (final LongOption option : options)
+        {
+            if (option.isNone())
+            {
+                return noneUnchecked();
+            }
+
+            values[i++] = option.getAsLong();
+        }
+
+        return someNonNull(i == values.length ?
+            values :
+            Arrays.copyOf(values, i));
+    }
+
+    /**
+     * Returns an option containing a list of the values contained in the
+     * options returned by applying {@code mapper} to each of {@code values}, in
+     * order, or {@link Option#none()} if {@code mapper} returns an empty option
+     * for any of them. No further values are mapped once an empty option is
+     * found.
+     *
+     * @param <A>    The type of the values to map.
+     * @param <T>    The value type of the mapped options.
+     * @param values The values to map.
+     * @param mapper The function with which to map each value.
+     *
+     * @return The option containing the new, modifiable list of mapped values.
+     */
+    public static <A, T> Option<List<T>> traverse(
+        final Iterable<? extends A> values,
+        final Function<? super A, ? extends Option<? extends T>> mapper)
+    {
+        final ArrayList<T> results = new ArrayList<>(sizeHint(values));
+
+        for (final A value : values)
+        {
+            final Option<? extends T> option = mapper.apply(value);
+
+            if (option.isNone())
+            {
+                return noneUnchecked();
+            }
+
+            results.add(option.get());
+        }
+
+        return someNonNull(results);
+    }
+
+    private static int sizeHint(
+        final Iterable<?> iterable)
+    {
+        return iterable instanceof Collection<?> collection ?
+            collection.size() :
+            10;
+    }
+
+    /**
+     * Maps a range of a list into a shared result array, splitting the range
+     * until it is small enough to process directly. The first empty option
+     * found marks the root task as failed, which stops all other subtasks at
+     * their next check.
+     */
+    private static final class TraverseTask<A, T>
+        extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        volatile boolean failed;
+
+        private final int from;
+
+        private final Function<? super A, ? extends Option<? extends T>> mapper;
+
+        private final Object[] results;
+
+        private final TraverseTask<A, T> root;
+
+        private final int to;
+
+        private final List<? extends A> values;
+
+        TraverseTask(
+            final List<? extends A> values,
+            final Function<? super A, ? extends Option<? extends T>> mapper,
+            final Object[] results,
+            final int from,
+            final int to,
+            final TraverseTask<A, T> root)
+        {
+            this.values = values;
+            this.mapper = mapper;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.root = root == null ?
+                this :
+                root;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (root.failed)
+            {
+                return;
+            }
+
+            if (to - from > LEAF_SIZE)
+            {
+                final int middle = (from + to) >>> 1;
+
+                invokeAll(subtask(from, middle), subtask(middle, to));
+
+                return;
+            }
+
+            for (int i = from; i < to; i++)
+            {
+                final Option<? extends T> option = mapper.apply(values.get(i));
+
+                if (option.isNone())
+                {
+                    root.failed = true;
+
+                    return;
+                }
+
+                results[i] = option.get();
+
+                if ((i & CANCELLATION_CHECK_MASK) == 0 && root.failed)
+                {
+                    return;
+                }
+            }
+        }
+
+        private TraverseTask<A, T> subtask(
+            final int from,
+            final int to)
+        {
+            return new TraverseTask<>(values, mapper, results, from, to, root);
+        }
+    }
+}
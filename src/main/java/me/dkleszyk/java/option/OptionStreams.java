@@ -0,0 +1,480 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.Spliterator;
+import java.util.function.*;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Provides methods for flattening streams of options into streams of their
+ * values.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class OptionStreams
+{
+    /**
+     * The characteristics of a source spliterator that also hold for the
+     * values of its non-empty options.
+     */
+    private static final int RETAINED =
+        Spliterator.CONCURRENT | Spliterator.DISTINCT | Spliterator.IMMUTABLE
+        | Spliterator.NONNULL | Spliterator.ORDERED;
+
+    private OptionStreams()
+    {
+    }
+
+    /**
+     * Returns an adapter for {@link Stream#mapMulti(BiConsumer)} that passes on
+     * the value of each non-empty option. This is equivalent to
+     * {@code Option::ifSome}.
+     *
+     * @param <T> The value type of the options.
+     *
+     * @return The adapter.
+     */
+    public static <T> BiConsumer<Option<T>, Consumer<T>> someMapper()
+    {
+        return Option::ifSome;
+    }
+
+    /**
+     * Returns an adapter for {@link Stream#mapMultiToDouble(BiConsumer)} that
+     * passes on the value of each non-empty option. This is equivalent to
+     * {@code DoubleOption::ifSomeDouble}.
+     *
+     * @return The adapter.
+     */
+    public static BiConsumer<DoubleOption, DoubleConsumer> someDoubleMapper()
+    {
+        return DoubleOption::ifSomeDouble;
+    }
+
+    /**
+     * Returns an adapter for {@link Stream#mapMultiToInt(BiConsumer)} that
+     * passes on the value of each non-empty option. This is equivalent to
+     * {@code IntOption::ifSomeInt}.
+     *
+     * @return The adapter.
+     */
+    public static BiConsumer<IntOption, IntConsumer> someIntMapper()
+    {
+        return IntOption::ifSomeInt;
+    }
+
+    /**
+     * Returns an adapter for {@link Stream#mapMultiToLong(BiConsumer)} that
+     * passes on the value of each non-empty option. This is equivalent to
+     * {@code LongOption::ifSomeLong}.
+     *
+     * @return The adapter.
+     */
+    public static BiConsumer<LongOption, LongConsumer> someLongMapper()
+    {
+        return LongOption::ifSomeLong;
+    }
+
+    /**
+     * Returns a stream of the values of the non-empty options in
+     * {@code options}. Empty options are skipped as the stream is traversed,
+     * without creating a stream for each option, and the returned stream splits
+     * as {@code options} does.
+     *
+     * @param <T>     The value type of the options.
+     * @param options The stream of options.
+     *
+     * @return The stream of values.
+     */
+    public static <T> Stream<T> somes(
+        final Stream<? extends Option<? extends T>> options)
+    {
+        return StreamSupport.stream(
+            new SomeSpliterator<T>(options.spliterator()),
+            options.isParallel())
+            .onClose(options::close);
+    }
+
+    /**
+     * Returns a stream of the values of the non-empty options in
+     * {@code options}. Empty options are skipped as the stream is traversed,
+     * without creating a stream for each option, and the values are not boxed.
+     * The returned stream splits as {@code options} does.
+     *
+     * @param options The stream of options.
+     *
+     * @return The stream of values.
+     */
+    public static DoubleStream somesDouble(
+        final Stream<? extends DoubleOption> options)
+    {
+        return StreamSupport.doubleStream(
+            new SomeDoubleSpliterator(options.spliterator()),
+            options.isParallel())
+            .onClose(options::close);
+    }
+
+    /**
+     * Returns a stream of the values of the non-empty options in
+     * {@code options}. Empty options are skipped as the stream is traversed,
+     * without creating a stream for each option, and the values are not boxed.
+     * The returned stream splits as {@code options} does.
+     *
+     * @param options The stream of options.
+     *
+     * @return The stream of values.
+     */
+    public static IntStream somesInt(
+        final Stream<? extends IntOption> options)
+    {
+        return StreamSupport.intStream(
+            new SomeIntSpliterator(options.spliterator()),
+            options.isParallel())
+            .onClose(options::close);
+    }
+
+    /**
+     * Returns a stream of the values of the non-empty options in
+     * {@code options}. Empty options are skipped as the stream is traversed,
+     * without creating a stream for each option, and the values are not boxed.
+     * The returned stream splits as {@code options} does.
+     *
+     * @param options The stream of options.
+     *
+     * @return The stream of values.
+     */
+    public static LongStream somesLong(
+        final Stream<? extends LongOption> options)
+    {
+        return StreamSupport.longStream(
+            new SomeLongSpliterator(options.spliterator()),
+            options.isParallel())
+            .onClose(options::close);
+    }
+
+    private static int characteristics(
+        final Spliterator<?> source,
+        final int retained)
+    {
+        return source.characteristics() & retained;
+    }
+
+    private static final class SomeSpliterator<T>
+        implements Spliterator<T>, Consumer<Option<? extends T>>
+    {
+        private Consumer<? super T> action;
+
+        private boolean found;
+
+        private final Spliterator<? extends Option<? extends T>> source;
+
+        SomeSpliterator(
+            final Spliterator<? extends Option<? extends T>> source)
+        {
+            this.source = source;
+        }
+
+        @Override
+        public void accept(
+            final Option<? extends T> option)
+        {
+            if (option.isSome())
+            {
+                found = true;
+                action.accept(option.get());
+            }
+        }
+
+        @Override
+        public int characteristics()
+        {
+            // Values may be null, and are no longer sized or sorted
+            return OptionStreams.characteristics(source, RETAINED & ~NONNULL);
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return source.estimateSize();
+        }
+
+        @Override
+        public void forEachRemaining(
+            final Consumer<? super T> action)
+        {
+            this.action = action;
+            source.forEachRemaining(this);
+        }
+
+        @Override
+        public boolean tryAdvance(
+            final Consumer<? super T> action)
+        {
+            this.action = action;
+            found = false;
+
+            while (!found && source.tryAdvance(this))
+            {
+                // Skip empty options
+            }
+
+            return found;
+        }
+
+        @Override
+        public Spliterator<T> trySplit()
+        {
+            final Spliterator<? extends Option<? extends T>> prefix =
+                source.trySplit();
+
+            return prefix == null ?
+                null :
+                new SomeSpliterator<>(prefix);
+        }
+    }
+
+    private static final class SomeDoubleSpliterator
+        implements Spliterator.OfDouble, Consumer<DoubleOption>
+    {
+        private DoubleConsumer action;
+
+        private boolean found;
+
+        private final Spliterator<? extends DoubleOption> source;
+
+        SomeDoubleSpliterator(
+            final Spliterator<? extends DoubleOption> source)
+        {
+            this.source = source;
+        }
+
+        @Override
+        public void accept(
+            final DoubleOption option)
+        {
+            if (option.isSome())
+            {
+                found = true;
+                action.accept(option.getAsDouble());
+            }
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return OptionStreams.characteristics(source, RETAINED);
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return source.estimateSize();
+        }
+
+        @Override
+        public void forEachRemaining(
+            final DoubleConsumer action)
+        {
+            this.action = action;
+            source.forEachRemaining(this);
+        }
+
+        @Override
+        public boolean tryAdvance(
+            final DoubleConsumer action)
+        {
+            this.action = action;
+            found = false;
+
+            while (!found && source.tryAdvance(this))
+            {
+                // Skip empty options
+            }
+
+            return found;
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit()
+        {
+            final Spliterator<? extends DoubleOption> prefix =
+                source.trySplit();
+
+            return prefix == null ?
+                null :
+                new SomeDoubleSpliterator(prefix);
+        }
+    }
+
+    private static final class SomeIntSpliterator
+        implements Spliterator.OfInt, Consumer<IntOption>
+    {
+        private IntConsumer action;
+
+        private boolean found;
+
+        private final Spliterator<? extends IntOption> source;
+
+        SomeIntSpliterator(
+            final Spliterator<? extends IntOption> source)
+        {
+            this.source = source;
+        }
+
+        @Override
+        public void accept(
+            final IntOption option)
+        {
+            if (option.isSome())
+            {
+                found = true;
+                action.accept(option.getAsInt());
+            }
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return OptionStreams.characteristics(source, RETAINED);
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return source.estimateSize();
+        }
+
+        @Override
+        public void forEachRemaining(
+            final IntConsumer action)
+        {
+            this.action = action;
+            source.forEachRemaining(this);
+        }
+
+        @Override
+        public boolean tryAdvance(
+            final IntConsumer action)
+        {
+            this.action = action;
+            found = false;
+
+            while (!found && source.tryAdvance(this))
+            {
+                // Skip empty options
+            }
+
+            return found;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit()
+        {
+            final Spliterator<? extends IntOption> prefix =
+                source.trySplit();
+
+            return prefix == null ?
+                null :
+                new SomeIntSpliterator(prefix);
+        }
+    }
+
+    private static final class SomeLongSpliterator
+        implements Spliterator.OfLong, Consumer<LongOption>
+    {
+        private LongConsumer action;
+
+        private boolean found;
+
+        private final Spliterator<? extends LongOption> source;
+
+        SomeLongSpliterator(
+            final Spliterator<? extends LongOption> source)
+        {
+            this.source = source;
+        }
+
+        @Override
+        public void accept(
+            final LongOption option)
+        {
+            if (option.isSome())
+            {
+                found = true;
+                action.accept(option.getAsLong());
+            }
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return OptionStreams.characteristics(source, RETAINED);
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return source.estimateSize();
+        }
+
+        @Override
+        public void forEachRemaining(
+            final LongConsumer action)
+        {
+            this.action = action;
+            source.forEachRemaining(this);
+        }
+
+        @Override
+        public boolean tryAdvance(
+            final LongConsumer action)
+        {
+            this.action = action;
+            found = false;
+
+            while (!found && source.tryAdvance(this))
+            {
+                // Skip empty options
+            }
+
+            return found;
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit()
+        {
+            final Spliterator<? extends LongOption> prefix =
+                source.trySplit();
+
+            return prefix == null ?
+                null :
+                new SomeLongSpliterator(prefix);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * Writes options as tagged records to a blocking channel or an output stream,
+ * to be read by {@link OptionReader}.
+ * <p>
+ * Each record is a tag byte, which identifies the value type and whether the
+ * option contains a value, followed by the little-endian value, if any.
+ * Records are collected in a reusable direct buffer and written in large
+ * blocks, when the buffer is full and when the writer is flushed or closed.
+ * <p>
+ * Instances are not safe for use by multiple threads without external
+ * synchronization.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class OptionWriter
+    implements Closeable, Flushable
+{
+    private final ByteBuffer buffer;
+
+    private final WritableByteChannel channel;
+
+    /**
+     * Creates a writer for the specified output stream.
+     *
+     * @param out The output stream to which to write.
+     *
+     * @throws NullPointerException {@code out} is {@code null}.
+     */
+    public OptionWriter(
+        final OutputStream out)
+    {
+        this(Channels.newChannel(out));
+    }
+
+    /**
+     * Creates a writer for the specified channel.
+     *
+     * @param channel The channel to which to write.
+     *
+     * @throws NullPointerException {@code channel} is {@code null}.
+     */
+    public OptionWriter(
+        final WritableByteChannel channel)
+    {
+        this(channel, OptionReader.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a writer for the specified channel with a buffer of the
+     * specified size.
+     *
+     * @param channel    The channel to which to write.
+     * @param bufferSize The size of the buffer, in bytes.
+     *
+     * @throws NullPointerException     {@code channel} is {@code null}.
+     * @throws IllegalArgumentException {@code bufferSize} is too small to hold
+     *                                  a record.
+     */
+    public OptionWriter(
+        final WritableByteChannel channel,
+        final int bufferSize)
+    {
+        this.channel = Objects.requireNonNull(channel);
+        this.buffer = OptionReader.allocateBuffer(bufferSize);
+    }
+
+    /**
+     * Writes any buffered records and closes the underlying channel.
+     *
+     * @throws IOException An I/O error occurs.
+     */
+    @Override
+    public void close()
+        throws IOException
+    {
+        try
+        {
+            flush();
+        }
+        finally
+        {
+            channel.close();
+        }
+    }
+
+    /**
+     * Writes any buffered records to the underlying channel.
+     *
+     * @throws IOException An I/O error occurs.
+     */
+    @Override
+    public void flush()
+        throws IOException
+    {
+        buffer.flip();
+
+        try
+        {
+            while (buffer.hasRemaining())
+            {
+                channel.write(buffer);
+            }
+        }
+        finally
+        {
+            buffer.compact();
+        }
+    }
+
+    /**
+     * Writes a record holding the specified option.
+     *
+     * @param option The option to write.
+     *
+     * @throws NullPointerException {@code option} is {@code null}.
+     * @throws IOException          An I/O error occurs.
+     */
+    public void write(
+        final DoubleOption option)
+        throws IOException
+    {
+        if (option.isSome())
+        {
+            writeDouble(true, option.getAsDouble());
+        }
+        else
+        {
+            writeDouble(false, 0);
+        }
+    }
+
+    /**
+     * Writes a record holding the {@code double}-valued option specified in
+     * unboxed form, without allocating.
+     *
+     * @param present Whether the option contains a value.
+     * @param value   The value of the option; ignored if {@code present} is
+     *                {@code false}.
+     *
+     * @throws IOException An I/O error occurs.
+     */
+    public void writeDouble(
+        final boolean present,
+        final double value)
+        throws IOException
+    {
+        reserve(OptionReader.MAX_RECORD_BYTES);
+        buffer.put(OptionReader.tag(AbstractOptionColumn.TYPE_DOUBLE, present));
+
+        if (present)
+        {
+            buffer.putDouble(value);
+        }
+    }
+
+    /**
+     * Writes a record holding the specified option.
+     *
+     * @param option The option to write.
+     *
+     * @throws NullPointerException {@code option} is {@code null}.
+     * @throws IOException          An I/O error occurs.
+     */
+    public void write(
+        final IntOption option)
+        throws IOException
+    {
+        if (option.isSome())
+        {
+            writeInt(true, option.getAsInt());
+        }
+        else
+        {
+            writeInt(false, 0);
+        }
+    }
+
+    /**
+     * Writes a record holding the {@code int}-valued option specified in
+     * unboxed form, without allocating.
+     *
+     * @param present Whether the option contains a value.
+     * @param value   The value of the option; ignored if {@code present} is
+     *                {@code false}.
+     *
+     * @throws IOException An I/O error occurs.
+     */
+    public void writeInt(
+        final boolean present,
+        final int value)
+        throws IOException
+    {
+        reserve(OptionReader.MAX_RECORD_BYTES);
+        buffer.put(OptionReader.tag(AbstractOptionColumn.TYPE_INT, present));
+
+        if (present)
+        {
+            buffer.putInt(value);
+        }
+    }
+
+    /**
+     * Writes a record holding the specified option.
+     *
+     * @param option The option to write.
+     *
+     * @throws NullPointerException {@code option} is {@code null}.
+     * @throws IOException          An I/O error occurs.
+     */
+    public void write(
+        final LongOption option)
+        throws IOException
+    {
+        if (option.isSome())
+        {
+            writeLong(true, option.getAsLong());
+        }
+        else
+        {
+            writeLong(false, 0);
+        }
+    }
+
+    /**
+     * Writes a record holding the {@code long}-valued option specified in
+     * unboxed form, without allocating.
+     *
+     * @param present Whether the option contains a value.
+     * @param value   The value of the option; ignored if {@code present} is
+     *                {@code false}.
+     *
+     * @throws IOException An I/O error occurs.
+     */
+    public void writeLong(
+        final boolean present,
+        final long value)
+        throws IOException
+    {
+        reserve(OptionReader.MAX_RECORD_BYTES);
+        buffer.put(OptionReader.tag(AbstractOptionColumn.TYPE_LONG, present));
+
+        if (present)
+        {
+            buffer.putLong(value);
+        }
+    }
+
+    private void reserve(
+        final int bytes)
+        throws IOException
+    {
+        if (buffer.remaining() < bytes)
+        {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An immutable bitmap recording which positions of a sparse column hold a
+ * value, with a rank index that maps each such position to the index of its
+ * value in the column's dense value array.
+ * <p>
+ * The rank index samples the number of set bits before every block of
+ * {@value #BLOCK_WORDS} words, costing one {@code int} per 512 positions, so
+ * {@link #rank(int)} reads one sample and at most {@value #BLOCK_WORDS} words.
+ * {@link #select(int)} binary searches the samples and then scans one block.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+final class PresenceIndex
+{
+    static final int BLOCK_WORDS = 8;
+
+    private static final int BLOCK_SHIFT = 3;
+
+    private final int[] blockRanks;
+
+    private final int size;
+
+    private final long[] words;
+
+    PresenceIndex(
+        final long[] words,
+        final int size)
+    {
+        final int wordCount = (size + Long.SIZE - 1) >>> 6;
+        final int blockCount = (wordCount + BLOCK_WORDS - 1) >>> BLOCK_SHIFT;
+
+        this.words = Arrays.copyOf(words, wordCount);
+        this.size = size;
+        this.blockRanks = new int[blockCount + 1];
+
+        int rank = 0;
+
+        for (int i = 0; i < wordCount; i++)
+        {
+            if ((i & (BLOCK_WORDS - 1)) == 0)
+            {
+                blockRanks[i >>> BLOCK_SHIFT] = rank;
+            }
+
+            rank += Long.bitCount(this.words[i]);
+        }
+
+        blockRanks[blockCount] = rank;
+    }
+
+    boolean contains(
+        final int index)
+    {
+        Objects.checkIndex(index, size);
+
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    int count()
+    {
+        return blockRanks[blockRanks.length - 1];
+    }
+
+    int next(
+        final int fromIndex)
+    {
+        if (fromIndex >= size)
+        {
+            return -1;
+        }
+
+        int w = fromIndex >>> 6;
+        long word = words[w] & (-1L << fromIndex);
+
+        while (word == 0)
+        {
+            w++;
+
+            if (w == words.length)
+            {
+                return -1;
+            }
+
+            word = words[w];
+        }
+
+        return (w << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    int rank(
+        final int index)
+    {
+        final int w = index >>> 6;
+        int rank = blockRanks[w >>> BLOCK_SHIFT];
+
+        for (int i = w & -BLOCK_WORDS; i < w; i++)
+        {
+            rank += Long.bitCount(words[i]);
+        }
+
+        if ((index & 63) != 0)
+        {
+            rank += Long.bitCount(words[w] & ((1L << index) - 1));
+        }
+
+        return rank;
+    }
+
+    int select(
+        final int rank)
+    {
+        Objects.checkIndex(rank, count());
+
+        // Finds the last block whose first set bit has a rank no greater than
+        // the one sought; any empty blocks before it are skipped over.
+        int low = 0;
+        int high = blockRanks.length - 2;
+
+        while (low < high)
+        {
+            final int mid = (low + high + 1) >>> 1;
+
+            if (blockRanks[mid] <= rank)
+            {
+                low = mid;
+            }
+            else
+            {
+                high = mid - 1;
+            }
+        }
+
+        int remaining = rank - blockRanks[low];
+
+        for (int w = low << BLOCK_SHIFT;; w++)
+        {
+            long word = words[w];
+            final int count = Long.bitCount(word);
+
+            if (remaining < count)
+            {
+                for (; remaining > 0; remaining--)
+                {
+                    word &= word - 1;
+                }
+
+                return (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+
+            remaining -= count;
+        }
+    }
+
+    int size()
+    {
+        return size;
+    }
+}
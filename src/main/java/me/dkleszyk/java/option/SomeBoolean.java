@@ -24,10 +24,12 @@
 package me.dkleszyk.java.option;
 
 import java.io.Serializable;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.function.*;
 import java.util.stream.Stream;
 import me.dkleszyk.java.function.extra.primitive.*;
+import me.dkleszyk.java.option.function.*;
 
 import static me.dkleszyk.java.option.Options.noneUnchecked;
 import static me.dkleszyk.java.option.Options.someNonNull;
@@ -163,6 +165,17 @@ final class SomeBoolean
             noneUnchecked();
     }
 
+    @Override
+    public <A, B> BooleanOption filter(
+        final TriPredicate<? super A, ? super B, ? super Boolean> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return predicate.test(arg1, arg2, boxedValue()) ?
+            this :
+            noneUnchecked();
+    }
+
     @Override
     public BooleanOption filterBoolean(
         final BooleanUnaryOperator predicate)
@@ -255,6 +268,15 @@ final class SomeBoolean
         return mapper.apply(arg, boxedValue());
     }
 
+    @Override
+    public <A, B, O extends Option<?>> O flatMap(
+        final TriFunction<? super A, ? super B, ? super Boolean, ? extends O> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return mapper.apply(arg1, arg2, boxedValue());
+    }
+
     @Override
     public <O extends Option<?>> O flatMapBoolean(
         final BooleanFunction<? extends O> mapper)
@@ -425,6 +447,12 @@ final class SomeBoolean
         return true;
     }
 
+    @Override
+    public Iterator<Boolean> iterator()
+    {
+        return OptionIterators.of(boxedValue());
+    }
+
     @Override
     public <T> Option<T> map(
         final Function<? super Boolean, ? extends T> mapper)
@@ -440,6 +468,15 @@ final class SomeBoolean
         return someNullable(mapper.apply(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B, T> Option<T> map(
+        final TriFunction<? super A, ? super B, ? super Boolean, ? extends T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNullable(mapper.apply(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public <T> Option<T> mapBoolean(
         final BooleanFunction<? extends T> mapper)
@@ -571,6 +608,15 @@ final class SomeBoolean
         return someNonNull(mapper.applyAsDouble(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B> DoubleOption mapToDouble(
+        final ToDoubleTriFunction<? super A, ? super B, ? super Boolean> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsDouble(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public FloatOption mapToFloat(
         final ToFloatFunction<? super Boolean> mapper)
@@ -601,6 +647,15 @@ final class SomeBoolean
         return someNonNull(mapper.applyAsInt(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B> IntOption mapToInt(
+        final ToIntTriFunction<? super A, ? super B, ? super Boolean> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsInt(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public LongOption mapToLong(
         final ToLongFunction<? super Boolean> mapper)
@@ -616,6 +671,15 @@ final class SomeBoolean
         return someNonNull(mapper.applyAsLong(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B> LongOption mapToLong(
+        final ToLongTriFunction<? super A, ? super B, ? super Boolean> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsLong(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public ShortOption mapToShort(
         final ToShortFunction<? super Boolean> mapper)
@@ -646,6 +710,15 @@ final class SomeBoolean
         return predicate.test(arg, boxedValue());
     }
 
+    @Override
+    public <A, B> boolean matches(
+        final TriPredicate<? super A, ? super B, ? super Boolean> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return predicate.test(arg1, arg2, boxedValue());
+    }
+
     @Override
     public boolean matchesBoolean(
         final BooleanUnaryOperator predicate)
@@ -689,6 +762,15 @@ final class SomeBoolean
         return boxedValue();
     }
 
+    @Override
+    public <A, B> Boolean orElseGet(
+        final BiFunction<? super A, ? super B, ? extends Boolean> supplier,
+        final A arg1,
+        final B arg2)
+    {
+        return boxedValue();
+    }
+
     @Override
     public Boolean orElseThrow()
     {
@@ -758,6 +840,27 @@ final class SomeBoolean
         return String.format("BooleanOption[%s]", boxedValue());
     }
 
+    @Override
+    public <U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final BiFunction<? super Boolean, ? super U, ? extends R> combiner)
+    {
+        return other.isSome() ?
+            someNullable(combiner.apply(boxedValue(), other.get())) :
+            noneUnchecked();
+    }
+
+    @Override
+    public <A, U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final TriFunction<? super A, ? super Boolean, ? super U, ? extends R> combiner,
+        final A arg)
+    {
+        return other.isSome() ?
+            someNullable(combiner.apply(arg, boxedValue(), other.get())) :
+            noneUnchecked();
+    }
+
     private Boolean boxedValue()
     {
         return (Boolean) value;
@@ -25,10 +25,12 @@ package me.dkleszyk.java.option;
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.function.*;
 import java.util.stream.Stream;
 import me.dkleszyk.java.function.extra.primitive.*;
+import me.dkleszyk.java.option.function.*;
 
 import static me.dkleszyk.java.option.Options.noneUnchecked;
 import static me.dkleszyk.java.option.Options.someNonNull;
@@ -156,6 +158,17 @@ final class SomeByte
             noneUnchecked();
     }
 
+    @Override
+    public <A, B> ByteOption filter(
+        final TriPredicate<? super A, ? super B, ? super Byte> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return predicate.test(arg1, arg2, boxedValue()) ?
+            this :
+            noneUnchecked();
+    }
+
     @Override
     public ByteOption filterByte(
         final BytePredicate predicate)
@@ -248,6 +261,15 @@ final class SomeByte
         return mapper.apply(arg, boxedValue());
     }
 
+    @Override
+    public <A, B, O extends Option<?>> O flatMap(
+        final TriFunction<? super A, ? super B, ? super Byte, ? extends O> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return mapper.apply(arg1, arg2, boxedValue());
+    }
+
     @Override
     public <O extends Option<?>> O flatMapByte(
         final ByteFunction<? extends O> mapper)
@@ -418,6 +440,12 @@ final class SomeByte
         return true;
     }
 
+    @Override
+    public Iterator<Byte> iterator()
+    {
+        return OptionIterators.of(boxedValue());
+    }
+
     @Override
     public <T> Option<T> map(
         final Function<? super Byte, ? extends T> mapper)
@@ -433,6 +461,15 @@ final class SomeByte
         return someNullable(mapper.apply(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B, T> Option<T> map(
+        final TriFunction<? super A, ? super B, ? super Byte, ? extends T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNullable(mapper.apply(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public <T> Option<T> mapByte(
         final ByteFunction<? extends T> mapper)
@@ -564,6 +601,15 @@ final class SomeByte
         return someNonNull(mapper.applyAsDouble(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B> DoubleOption mapToDouble(
+        final ToDoubleTriFunction<? super A, ? super B, ? super Byte> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsDouble(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public FloatOption mapToFloat(
         final ToFloatFunction<? super Byte> mapper)
@@ -594,6 +640,15 @@ final class SomeByte
         return someNonNull(mapper.applyAsInt(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B> IntOption mapToInt(
+        final ToIntTriFunction<? super A, ? super B, ? super Byte> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsInt(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public LongOption mapToLong(
         final ToLongFunction<? super Byte> mapper)
@@ -609,6 +664,15 @@ final class SomeByte
         return someNonNull(mapper.applyAsLong(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B> LongOption mapToLong(
+        final ToLongTriFunction<? super A, ? super B, ? super Byte> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsLong(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public ShortOption mapToShort(
         final ToShortFunction<? super Byte> mapper)
@@ -639,6 +703,15 @@ final class SomeByte
         return predicate.test(arg, boxedValue());
     }
 
+    @Override
+    public <A, B> boolean matches(
+        final TriPredicate<? super A, ? super B, ? super Byte> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return predicate.test(arg1, arg2, boxedValue());
+    }
+
     @Override
     public boolean matchesByte(
         final BytePredicate predicate)
@@ -682,6 +755,15 @@ final class SomeByte
         return boxedValue();
     }
 
+    @Override
+    public <A, B> Byte orElseGet(
+        final BiFunction<? super A, ? super B, ? extends Byte> supplier,
+        final A arg1,
+        final B arg2)
+    {
+        return boxedValue();
+    }
+
     @Override
     public Byte orElseThrow()
     {
@@ -751,6 +833,27 @@ final class SomeByte
         return String.format("ByteOption[%s]", boxedValue());
     }
 
+    @Override
+    public <U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final BiFunction<? super Byte, ? super U, ? extends R> combiner)
+    {
+        return other.isSome() ?
+            someNullable(combiner.apply(boxedValue(), other.get())) :
+            noneUnchecked();
+    }
+
+    @Override
+    public <A, U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final TriFunction<? super A, ? super Byte, ? super U, ? extends R> combiner,
+        final A arg)
+    {
+        return other.isSome() ?
+            someNullable(combiner.apply(arg, boxedValue(), other.get())) :
+            noneUnchecked();
+    }
+
     private Byte boxedValue()
     {
         return (Byte) value;
@@ -25,10 +25,12 @@ package me.dkleszyk.java.option;
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.function.*;
 import java.util.stream.Stream;
 import me.dkleszyk.java.function.extra.primitive.*;
+import me.dkleszyk.java.option.function.*;
 
 import static me.dkleszyk.java.option.Options.noneUnchecked;
 import static me.dkleszyk.java.option.Options.someNonNull;
@@ -178,6 +180,17 @@ final class SomeChar
             noneUnchecked();
     }
 
+    @Override
+    public <A, B> CharOption filter(
+        final TriPredicate<? super A, ? super B, ? super Character> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return predicate.test(arg1, arg2, boxedValue()) ?
+            this :
+            noneUnchecked();
+    }
+
     @Override
     public CharOption filterChar(
         final CharPredicate predicate)
@@ -270,6 +283,15 @@ final class SomeChar
         return mapper.apply(arg, boxedValue());
     }
 
+    @Override
+    public <A, B, O extends Option<?>> O flatMap(
+        final TriFunction<? super A, ? super B, ? super Character, ? extends O> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return mapper.apply(arg1, arg2, boxedValue());
+    }
+
     @Override
     public <O extends Option<?>> O flatMapChar(
         final CharFunction<? extends O> mapper)
@@ -440,6 +462,12 @@ final class SomeChar
         return true;
     }
 
+    @Override
+    public Iterator<Character> iterator()
+    {
+        return OptionIterators.of(boxedValue());
+    }
+
     @Override
     public <T> Option<T> map(
         final Function<? super Character, ? extends T> mapper)
@@ -455,6 +483,15 @@ final class SomeChar
         return someNullable(mapper.apply(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B, T> Option<T> map(
+        final TriFunction<? super A, ? super B, ? super Character, ? extends T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNullable(mapper.apply(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public <T> Option<T> mapChar(
         final CharFunction<? extends T> mapper)
@@ -586,6 +623,15 @@ final class SomeChar
         return someNonNull(mapper.applyAsDouble(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B> DoubleOption mapToDouble(
+        final ToDoubleTriFunction<? super A, ? super B, ? super Character> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsDouble(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public FloatOption mapToFloat(
         final ToFloatFunction<? super Character> mapper)
@@ -616,6 +662,15 @@ final class SomeChar
         return someNonNull(mapper.applyAsInt(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B> IntOption mapToInt(
+        final ToIntTriFunction<? super A, ? super B, ? super Character> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsInt(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public LongOption mapToLong(
         final ToLongFunction<? super Character> mapper)
@@ -631,6 +686,15 @@ final class SomeChar
         return someNonNull(mapper.applyAsLong(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B> LongOption mapToLong(
+        final ToLongTriFunction<? super A, ? super B, ? super Character> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsLong(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public ShortOption mapToShort(
         final ToShortFunction<? super Character> mapper)
@@ -661,6 +725,15 @@ final class SomeChar
         return predicate.test(arg, boxedValue());
     }
 
+    @Override
+    public <A, B> boolean matches(
+        final TriPredicate<? super A, ? super B, ? super Character> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return predicate.test(arg1, arg2, boxedValue());
+    }
+
     @Override
     public boolean matchesChar(
         final CharPredicate predicate)
@@ -704,6 +777,15 @@ final class SomeChar
         return boxedValue();
     }
 
+    @Override
+    public <A, B> Character orElseGet(
+        final BiFunction<? super A, ? super B, ? extends Character> supplier,
+        final A arg1,
+        final B arg2)
+    {
+        return boxedValue();
+    }
+
     @Override
     public Character orElseThrow()
     {
@@ -773,6 +855,27 @@ final class SomeChar
         return String.format("CharOption[%s]", boxedValue());
     }
 
+    @Override
+    public <U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final BiFunction<? super Character, ? super U, ? extends R> combiner)
+    {
+        return other.isSome() ?
+            someNullable(combiner.apply(boxedValue(), other.get())) :
+            noneUnchecked();
+    }
+
+    @Override
+    public <A, U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final TriFunction<? super A, ? super Character, ? super U, ? extends R> combiner,
+        final A arg)
+    {
+        return other.isSome() ?
+            someNullable(combiner.apply(arg, boxedValue(), other.get())) :
+            noneUnchecked();
+    }
+
     private Character boxedValue()
     {
         return boxedValue != null ?
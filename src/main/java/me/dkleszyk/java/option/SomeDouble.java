@@ -25,12 +25,15 @@ package me.dkleszyk.java.option;
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.OptionalDouble;
+import java.util.PrimitiveIterator;
 import java.util.function.*;
 import java.util.stream.DoubleStream;
 import java.util.stream.Stream;
 import me.dkleszyk.java.function.extra.primitive.*;
+import me.dkleszyk.java.option.function.*;
 
 import static me.dkleszyk.java.option.Options.noneUnchecked;
 import static me.dkleszyk.java.option.Options.someNonNull;
@@ -110,6 +113,12 @@ final class SomeDouble
         return supplier.apply(arg);
     }
 
+    @Override
+    public PrimitiveIterator.OfDouble doubleIterator()
+    {
+        return OptionIterators.of(value);
+    }
+
     @Override
     public double doubleOrElse(
         final double value)
@@ -186,6 +195,17 @@ final class SomeDouble
             noneUnchecked();
     }
 
+    @Override
+    public <A, B> DoubleOption filter(
+        final TriPredicate<? super A, ? super B, ? super Double> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return predicate.test(arg1, arg2, boxedValue()) ?
+            this :
+            noneUnchecked();
+    }
+
     @Override
     public DoubleOption filterDouble(
         final DoublePredicate predicate)
@@ -195,6 +215,17 @@ final class SomeDouble
             noneUnchecked();
     }
 
+    @Override
+    public <A, B> DoubleOption filterDouble(
+        final ObjObjDoublePredicate<? super A, ? super B> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return predicate.test(arg1, arg2, value) ?
+            this :
+            noneUnchecked();
+    }
+
     @Override
     public BooleanOption filterToBoolean()
     {
@@ -278,6 +309,15 @@ final class SomeDouble
         return mapper.apply(arg, boxedValue());
     }
 
+    @Override
+    public <A, B, O extends Option<?>> O flatMap(
+        final TriFunction<? super A, ? super B, ? super Double, ? extends O> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return mapper.apply(arg1, arg2, boxedValue());
+    }
+
     @Override
     public <O extends Option<?>> O flatMapDouble(
         final DoubleFunction<? extends O> mapper)
@@ -448,6 +488,21 @@ final class SomeDouble
         return true;
     }
 
+    @Override
+    public Iterator<Double> iterator()
+    {
+        return doubleIterator();
+    }
+
+    @Override
+    public DoubleOption log()
+    {
+        // Also rejects NaN
+        return value > 0.0d ?
+            someNonNull(Math.log(value)) :
+            noneUnchecked();
+    }
+
     @Override
     public <T> Option<T> map(
         final Function<? super Double, ? extends T> mapper)
@@ -463,6 +518,15 @@ final class SomeDouble
         return someNullable(mapper.apply(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B, T> Option<T> map(
+        final TriFunction<? super A, ? super B, ? super Double, ? extends T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNullable(mapper.apply(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public <T> Option<T> mapDouble(
         final DoubleFunction<? extends T> mapper)
@@ -470,6 +534,15 @@ final class SomeDouble
         return someNullable(mapper.apply(value));
     }
 
+    @Override
+    public <A, B, T> Option<T> mapDouble(
+        final ObjObjDoubleFunction<? super A, ? super B, ? extends T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNullable(mapper.apply(arg1, arg2, value));
+    }
+
     @Override
     public BooleanOption mapDoubleToBoolean(
         final DoublePredicate mapper)
@@ -506,6 +579,15 @@ final class SomeDouble
         return someNonNull(mapper.applyAsDouble(arg, value));
     }
 
+    @Override
+    public <A, B> DoubleOption mapDoubleToDouble(
+        final ObjObjDoubleToDoubleFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsDouble(arg1, arg2, value));
+    }
+
     @Override
     public FloatOption mapDoubleToFloat(
         final DoubleToFloatFunction mapper)
@@ -520,6 +602,15 @@ final class SomeDouble
         return someNonNull(mapper.applyAsInt(value));
     }
 
+    @Override
+    public <A, B> IntOption mapDoubleToInt(
+        final ObjObjDoubleToIntFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsInt(arg1, arg2, value));
+    }
+
     @Override
     public LongOption mapDoubleToLong(
         final DoubleToLongFunction mapper)
@@ -527,6 +618,15 @@ final class SomeDouble
         return someNonNull(mapper.applyAsLong(value));
     }
 
+    @Override
+    public <A, B> LongOption mapDoubleToLong(
+        final ObjObjDoubleToLongFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsLong(arg1, arg2, value));
+    }
+
     @Override
     public ShortOption mapDoubleToShort(
         final DoubleToShortFunction mapper)
@@ -594,6 +694,15 @@ final class SomeDouble
         return someNonNull(mapper.applyAsDouble(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B> DoubleOption mapToDouble(
+        final ToDoubleTriFunction<? super A, ? super B, ? super Double> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsDouble(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public FloatOption mapToFloat(
         final ToFloatFunction<? super Double> mapper)
@@ -624,6 +733,15 @@ final class SomeDouble
         return someNonNull(mapper.applyAsInt(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B> IntOption mapToInt(
+        final ToIntTriFunction<? super A, ? super B, ? super Double> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsInt(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public LongOption mapToLong(
         final ToLongFunction<? super Double> mapper)
@@ -639,6 +757,15 @@ final class SomeDouble
         return someNonNull(mapper.applyAsLong(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B> LongOption mapToLong(
+        final ToLongTriFunction<? super A, ? super B, ? super Double> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsLong(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public ShortOption mapToShort(
         final ToShortFunction<? super Double> mapper)
@@ -669,6 +796,15 @@ final class SomeDouble
         return predicate.test(arg, boxedValue());
     }
 
+    @Override
+    public <A, B> boolean matches(
+        final TriPredicate<? super A, ? super B, ? super Double> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return predicate.test(arg1, arg2, boxedValue());
+    }
+
     @Override
     public boolean matchesDouble(
         final DoublePredicate predicate)
@@ -712,6 +848,15 @@ final class SomeDouble
         return boxedValue();
     }
 
+    @Override
+    public <A, B> Double orElseGet(
+        final BiFunction<? super A, ? super B, ? extends Double> supplier,
+        final A arg1,
+        final B arg2)
+    {
+        return boxedValue();
+    }
+
     @Override
     public Double orElseThrow()
     {
@@ -763,6 +908,15 @@ final class SomeDouble
         return this;
     }
 
+    @Override
+    public DoubleOption sqrt()
+    {
+        // Also rejects NaN
+        return value >= 0.0d ?
+            someNonNull(Math.sqrt(value)) :
+            noneUnchecked();
+    }
+
     @Override
     public Stream<Double> stream()
     {
@@ -787,6 +941,48 @@ final class SomeDouble
         return String.format("DoubleOption[%s]", boxedValue());
     }
 
+    @Override
+    public <U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final BiFunction<? super Double, ? super U, ? extends R> combiner)
+    {
+        return other.isSome() ?
+            someNullable(combiner.apply(boxedValue(), other.get())) :
+            noneUnchecked();
+    }
+
+    @Override
+    public <A, U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final TriFunction<? super A, ? super Double, ? super U, ? extends R> combiner,
+        final A arg)
+    {
+        return other.isSome() ?
+            someNullable(combiner.apply(arg, boxedValue(), other.get())) :
+            noneUnchecked();
+    }
+
+    @Override
+    public DoubleOption zipDouble(
+        final DoubleOption other,
+        final DoubleBinaryOperator combiner)
+    {
+        return other.isSome() ?
+            someNonNull(combiner.applyAsDouble(value, other.getAsDouble())) :
+            noneUnchecked();
+    }
+
+    @Override
+    public <A> DoubleOption zipDouble(
+        final DoubleOption other,
+        final ObjDoubleBinaryOperator<? super A> combiner,
+        final A arg)
+    {
+        return other.isSome() ?
+            someNonNull(combiner.applyAsDouble(arg, value, other.getAsDouble())) :
+            noneUnchecked();
+    }
+
     private Double boxedValue()
     {
         return boxedValue != null ?
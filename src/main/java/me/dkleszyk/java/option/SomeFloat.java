@@ -25,10 +25,12 @@ package me.dkleszyk.java.option;
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.function.*;
 import java.util.stream.Stream;
 import me.dkleszyk.java.function.extra.primitive.*;
+import me.dkleszyk.java.option.function.*;
 
 import static me.dkleszyk.java.option.Options.noneUnchecked;
 import static me.dkleszyk.java.option.Options.someNonNull;
@@ -135,6 +137,17 @@ final class SomeFloat
             noneUnchecked();
     }
 
+    @Override
+    public <A, B> FloatOption filter(
+        final TriPredicate<? super A, ? super B, ? super Float> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return predicate.test(arg1, arg2, boxedValue()) ?
+            this :
+            noneUnchecked();
+    }
+
     @Override
     public FloatOption filterFloat(
         final FloatPredicate predicate)
@@ -227,6 +240,15 @@ final class SomeFloat
         return mapper.apply(arg, boxedValue());
     }
 
+    @Override
+    public <A, B, O extends Option<?>> O flatMap(
+        final TriFunction<? super A, ? super B, ? super Float, ? extends O> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return mapper.apply(arg1, arg2, boxedValue());
+    }
+
     @Override
     public <O extends Option<?>> O flatMapFloat(
         final FloatFunction<? extends O> mapper)
@@ -440,6 +462,12 @@ final class SomeFloat
         return true;
     }
 
+    @Override
+    public Iterator<Float> iterator()
+    {
+        return OptionIterators.of(boxedValue());
+    }
+
     @Override
     public <T> Option<T> map(
         final Function<? super Float, ? extends T> mapper)
@@ -455,6 +483,15 @@ final class SomeFloat
         return someNullable(mapper.apply(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B, T> Option<T> map(
+        final TriFunction<? super A, ? super B, ? super Float, ? extends T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNullable(mapper.apply(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public <T> Option<T> mapFloat(
         final FloatFunction<? extends T> mapper)
@@ -586,6 +623,15 @@ final class SomeFloat
         return someNonNull(mapper.applyAsDouble(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B> DoubleOption mapToDouble(
+        final ToDoubleTriFunction<? super A, ? super B, ? super Float> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsDouble(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public FloatOption mapToFloat(
         final ToFloatFunction<? super Float> mapper)
@@ -616,6 +662,15 @@ final class SomeFloat
         return someNonNull(mapper.applyAsInt(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B> IntOption mapToInt(
+        final ToIntTriFunction<? super A, ? super B, ? super Float> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsInt(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public LongOption mapToLong(
         final ToLongFunction<? super Float> mapper)
@@ -631,6 +686,15 @@ final class SomeFloat
         return someNonNull(mapper.applyAsLong(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B> LongOption mapToLong(
+        final ToLongTriFunction<? super A, ? super B, ? super Float> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsLong(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public ShortOption mapToShort(
         final ToShortFunction<? super Float> mapper)
@@ -661,6 +725,15 @@ final class SomeFloat
         return predicate.test(arg, boxedValue());
     }
 
+    @Override
+    public <A, B> boolean matches(
+        final TriPredicate<? super A, ? super B, ? super Float> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return predicate.test(arg1, arg2, boxedValue());
+    }
+
     @Override
     public boolean matchesFloat(
         final FloatPredicate predicate)
@@ -704,6 +777,15 @@ final class SomeFloat
         return boxedValue();
     }
 
+    @Override
+    public <A, B> Float orElseGet(
+        final BiFunction<? super A, ? super B, ? extends Float> supplier,
+        final A arg1,
+        final B arg2)
+    {
+        return boxedValue();
+    }
+
     @Override
     public Float orElseThrow()
     {
@@ -773,6 +855,27 @@ final class SomeFloat
         return String.format("FloatOption[%s]", boxedValue());
     }
 
+    @Override
+    public <U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final BiFunction<? super Float, ? super U, ? extends R> combiner)
+    {
+        return other.isSome() ?
+            someNullable(combiner.apply(boxedValue(), other.get())) :
+            noneUnchecked();
+    }
+
+    @Override
+    public <A, U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final TriFunction<? super A, ? super Float, ? super U, ? extends R> combiner,
+        final A arg)
+    {
+        return other.isSome() ?
+            someNullable(combiner.apply(arg, boxedValue(), other.get())) :
+            noneUnchecked();
+    }
+
     private Float boxedValue()
     {
         return boxedValue != null ?
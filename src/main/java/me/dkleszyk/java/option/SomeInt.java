@@ -25,12 +25,15 @@ package me.dkleszyk.java.option;
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
 import java.util.function.*;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import me.dkleszyk.java.function.extra.primitive.*;
+import me.dkleszyk.java.option.function.*;
 
 import static me.dkleszyk.java.option.Options.noneUnchecked;
 import static me.dkleszyk.java.option.Options.someNonNull;
@@ -88,6 +91,18 @@ final class SomeInt
         return new SomeInt(i, value);
     }
 
+    @Override
+    public IntOption addExact(
+        final int addend)
+    {
+        final int sum = value + addend;
+
+        // Overflow iff both operands differ in sign from the result
+        return ((value ^ sum) & (addend ^ sum)) < 0 ?
+            noneUnchecked() :
+            someNonNull(sum);
+    }
+
     @Override
     public <O extends Option<?>> O and(
         final O option)
@@ -137,6 +152,17 @@ final class SomeInt
             noneUnchecked();
     }
 
+    @Override
+    public <A, B> IntOption filter(
+        final TriPredicate<? super A, ? super B, ? super Integer> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return predicate.test(arg1, arg2, boxedValue()) ?
+            this :
+            noneUnchecked();
+    }
+
     @Override
     public IntOption filterInt(
         final IntPredicate predicate)
@@ -146,6 +172,17 @@ final class SomeInt
             noneUnchecked();
     }
 
+    @Override
+    public <A, B> IntOption filterInt(
+        final ObjObjIntPredicate<? super A, ? super B> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return predicate.test(arg1, arg2, value) ?
+            this :
+            noneUnchecked();
+    }
+
     @Override
     public BooleanOption filterToBoolean()
     {
@@ -229,6 +266,15 @@ final class SomeInt
         return mapper.apply(arg, boxedValue());
     }
 
+    @Override
+    public <A, B, O extends Option<?>> O flatMap(
+        final TriFunction<? super A, ? super B, ? super Integer, ? extends O> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return mapper.apply(arg1, arg2, boxedValue());
+    }
+
     @Override
     public <O extends Option<?>> O flatMapInt(
         final IntFunction<? extends O> mapper)
@@ -236,6 +282,18 @@ final class SomeInt
         return mapper.apply(value);
     }
 
+    @Override
+    public IntOption floorDiv(
+        final int divisor)
+    {
+        if (divisor == 0 || (value == Integer.MIN_VALUE && divisor == -1))
+        {
+            return noneUnchecked();
+        }
+
+        return someNonNull(Math.floorDiv(value, divisor));
+    }
+
     @Override
     public Integer get()
     {
@@ -387,6 +445,12 @@ final class SomeInt
         ifSome(ifSome, ifSomeArg);
     }
 
+    @Override
+    public PrimitiveIterator.OfInt intIterator()
+    {
+        return OptionIterators.of(value);
+    }
+
     @Override
     public int intOrElse(
         final int value)
@@ -448,6 +512,12 @@ final class SomeInt
         return true;
     }
 
+    @Override
+    public Iterator<Integer> iterator()
+    {
+        return intIterator();
+    }
+
     @Override
     public <T> Option<T> map(
         final Function<? super Integer, ? extends T> mapper)
@@ -463,6 +533,15 @@ final class SomeInt
         return someNullable(mapper.apply(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B, T> Option<T> map(
+        final TriFunction<? super A, ? super B, ? super Integer, ? extends T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNullable(mapper.apply(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public <T> Option<T> mapInt(
         final IntFunction<? extends T> mapper)
@@ -470,6 +549,15 @@ final class SomeInt
         return someNullable(mapper.apply(value));
     }
 
+    @Override
+    public <A, B, T> Option<T> mapInt(
+        final ObjObjIntFunction<? super A, ? super B, ? extends T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNullable(mapper.apply(arg1, arg2, value));
+    }
+
     @Override
     public BooleanOption mapIntToBoolean(
         final IntPredicate mapper)
@@ -498,6 +586,15 @@ final class SomeInt
         return someNonNull(mapper.applyAsDouble(value));
     }
 
+    @Override
+    public <A, B> DoubleOption mapIntToDouble(
+        final ObjObjIntToDoubleFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsDouble(arg1, arg2, value));
+    }
+
     @Override
     public FloatOption mapIntToFloat(
         final IntToFloatFunction mapper)
@@ -520,6 +617,15 @@ final class SomeInt
         return someNonNull(mapper.applyAsInt(arg, value));
     }
 
+    @Override
+    public <A, B> IntOption mapIntToInt(
+        final ObjObjIntToIntFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsInt(arg1, arg2, value));
+    }
+
     @Override
     public LongOption mapIntToLong(
         final IntToLongFunction mapper)
@@ -527,6 +633,15 @@ final class SomeInt
         return someNonNull(mapper.applyAsLong(value));
     }
 
+    @Override
+    public <A, B> LongOption mapIntToLong(
+        final ObjObjIntToLongFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsLong(arg1, arg2, value));
+    }
+
     @Override
     public ShortOption mapIntToShort(
         final IntToShortFunction mapper)
@@ -594,6 +709,15 @@ final class SomeInt
         return someNonNull(mapper.applyAsDouble(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B> DoubleOption mapToDouble(
+        final ToDoubleTriFunction<? super A, ? super B, ? super Integer> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsDouble(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public FloatOption mapToFloat(
         final ToFloatFunction<? super Integer> mapper)
@@ -624,6 +748,15 @@ final class SomeInt
         return someNonNull(mapper.applyAsInt(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B> IntOption mapToInt(
+        final ToIntTriFunction<? super A, ? super B, ? super Integer> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsInt(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public LongOption mapToLong(
         final ToLongFunction<? super Integer> mapper)
@@ -639,6 +772,15 @@ final class SomeInt
         return someNonNull(mapper.applyAsLong(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B> LongOption mapToLong(
+        final ToLongTriFunction<? super A, ? super B, ? super Integer> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsLong(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public ShortOption mapToShort(
         final ToShortFunction<? super Integer> mapper)
@@ -669,6 +811,15 @@ final class SomeInt
         return predicate.test(arg, boxedValue());
     }
 
+    @Override
+    public <A, B> boolean matches(
+        final TriPredicate<? super A, ? super B, ? super Integer> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return predicate.test(arg1, arg2, boxedValue());
+    }
+
     @Override
     public boolean matchesInt(
         final IntPredicate predicate)
@@ -676,6 +827,25 @@ final class SomeInt
         return predicate.test(value);
     }
 
+    @Override
+    public IntOption multiplyExact(
+        final int multiplier)
+    {
+        final long product = (long) value * multiplier;
+
+        return (int) product != product ?
+            noneUnchecked() :
+            someNonNull((int) product);
+    }
+
+    @Override
+    public ShortOption narrowToShort()
+    {
+        return (short) value != value ?
+            noneUnchecked() :
+            someNonNull((short) value);
+    }
+
     @Override
     public Option<Integer> or(
         final Option<? extends Integer> option)
@@ -712,6 +882,15 @@ final class SomeInt
         return boxedValue();
     }
 
+    @Override
+    public <A, B> Integer orElseGet(
+        final BiFunction<? super A, ? super B, ? extends Integer> supplier,
+        final A arg1,
+        final B arg2)
+    {
+        return boxedValue();
+    }
+
     @Override
     public Integer orElseThrow()
     {
@@ -769,6 +948,19 @@ final class SomeInt
         return Stream.of(boxedValue());
     }
 
+    @Override
+    public IntOption subtractExact(
+        final int subtrahend)
+    {
+        final int difference = value - subtrahend;
+
+        // Overflow iff the operands differ in sign and the result differs in
+        // sign from the minuend
+        return ((value ^ subtrahend) & (value ^ difference)) < 0 ?
+            noneUnchecked() :
+            someNonNull(difference);
+    }
+
     @Override
     public Optional<Integer> toOptional()
     {
@@ -787,6 +979,48 @@ final class SomeInt
         return String.format("IntOption[%s]", boxedValue());
     }
 
+    @Override
+    public <U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final BiFunction<? super Integer, ? super U, ? extends R> combiner)
+    {
+        return other.isSome() ?
+            someNullable(combiner.apply(boxedValue(), other.get())) :
+            noneUnchecked();
+    }
+
+    @Override
+    public <A, U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final TriFunction<? super A, ? super Integer, ? super U, ? extends R> combiner,
+        final A arg)
+    {
+        return other.isSome() ?
+            someNullable(combiner.apply(arg, boxedValue(), other.get())) :
+            noneUnchecked();
+    }
+
+    @Override
+    public IntOption zipInt(
+        final IntOption other,
+        final IntBinaryOperator combiner)
+    {
+        return other.isSome() ?
+            someNonNull(combiner.applyAsInt(value, other.getAsInt())) :
+            noneUnchecked();
+    }
+
+    @Override
+    public <A> IntOption zipInt(
+        final IntOption other,
+        final ObjIntBinaryOperator<? super A> combiner,
+        final A arg)
+    {
+        return other.isSome() ?
+            someNonNull(combiner.applyAsInt(arg, value, other.getAsInt())) :
+            noneUnchecked();
+    }
+
     private Integer boxedValue()
     {
         return boxedValue != null ?
@@ -25,12 +25,15 @@ package me.dkleszyk.java.option;
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.PrimitiveIterator;
 import java.util.function.*;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import me.dkleszyk.java.function.extra.primitive.*;
+import me.dkleszyk.java.option.function.*;
 
 import static me.dkleszyk.java.option.Options.noneUnchecked;
 import static me.dkleszyk.java.option.Options.someNonNull;
@@ -88,6 +91,18 @@ final class SomeLong
         return new SomeLong(l, value);
     }
 
+    @Override
+    public LongOption addExact(
+        final long addend)
+    {
+        final long sum = value + addend;
+
+        // Overflow iff both operands differ in sign from the result
+        return ((value ^ sum) & (addend ^ sum)) < 0 ?
+            noneUnchecked() :
+            someNonNull(sum);
+    }
+
     @Override
     public <O extends Option<?>> O and(
         final O option)
@@ -137,6 +152,17 @@ final class SomeLong
             noneUnchecked();
     }
 
+    @Override
+    public <A, B> LongOption filter(
+        final TriPredicate<? super A, ? super B, ? super Long> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return predicate.test(arg1, arg2, boxedValue()) ?
+            this :
+            noneUnchecked();
+    }
+
     @Override
     public LongOption filterLong(
         final LongPredicate predicate)
@@ -146,6 +172,17 @@ final class SomeLong
             noneUnchecked();
     }
 
+    @Override
+    public <A, B> LongOption filterLong(
+        final ObjObjLongPredicate<? super A, ? super B> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return predicate.test(arg1, arg2, value) ?
+            this :
+            noneUnchecked();
+    }
+
     @Override
     public BooleanOption filterToBoolean()
     {
@@ -229,6 +266,15 @@ final class SomeLong
         return mapper.apply(arg, boxedValue());
     }
 
+    @Override
+    public <A, B, O extends Option<?>> O flatMap(
+        final TriFunction<? super A, ? super B, ? super Long, ? extends O> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return mapper.apply(arg1, arg2, boxedValue());
+    }
+
     @Override
     public <O extends Option<?>> O flatMapLong(
         final LongFunction<? extends O> mapper)
@@ -236,6 +282,18 @@ final class SomeLong
         return mapper.apply(value);
     }
 
+    @Override
+    public LongOption floorDiv(
+        final long divisor)
+    {
+        if (divisor == 0 || (value == Long.MIN_VALUE && divisor == -1))
+        {
+            return noneUnchecked();
+        }
+
+        return someNonNull(Math.floorDiv(value, divisor));
+    }
+
     @Override
     public Long get()
     {
@@ -399,6 +457,18 @@ final class SomeLong
         return true;
     }
 
+    @Override
+    public Iterator<Long> iterator()
+    {
+        return longIterator();
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong longIterator()
+    {
+        return OptionIterators.of(value);
+    }
+
     @Override
     public long longOrElse(
         final long value)
@@ -463,6 +533,15 @@ final class SomeLong
         return someNullable(mapper.apply(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B, T> Option<T> map(
+        final TriFunction<? super A, ? super B, ? super Long, ? extends T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNullable(mapper.apply(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public <T> Option<T> mapLong(
         final LongFunction<? extends T> mapper)
@@ -470,6 +549,15 @@ final class SomeLong
         return someNullable(mapper.apply(value));
     }
 
+    @Override
+    public <A, B, T> Option<T> mapLong(
+        final ObjObjLongFunction<? super A, ? super B, ? extends T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNullable(mapper.apply(arg1, arg2, value));
+    }
+
     @Override
     public BooleanOption mapLongToBoolean(
         final LongPredicate mapper)
@@ -498,6 +586,15 @@ final class SomeLong
         return someNonNull(mapper.applyAsDouble(value));
     }
 
+    @Override
+    public <A, B> DoubleOption mapLongToDouble(
+        final ObjObjLongToDoubleFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsDouble(arg1, arg2, value));
+    }
+
     @Override
     public FloatOption mapLongToFloat(
         final LongToFloatFunction mapper)
@@ -512,6 +609,15 @@ final class SomeLong
         return someNonNull(mapper.applyAsInt(value));
     }
 
+    @Override
+    public <A, B> IntOption mapLongToInt(
+        final ObjObjLongToIntFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsInt(arg1, arg2, value));
+    }
+
     @Override
     public LongOption mapLongToLong(
         final LongUnaryOperator mapper)
@@ -527,6 +633,15 @@ final class SomeLong
         return someNonNull(mapper.applyAsLong(arg, value));
     }
 
+    @Override
+    public <A, B> LongOption mapLongToLong(
+        final ObjObjLongToLongFunction<? super A, ? super B> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsLong(arg1, arg2, value));
+    }
+
     @Override
     public ShortOption mapLongToShort(
         final LongToShortFunction mapper)
@@ -594,6 +709,15 @@ final class SomeLong
         return someNonNull(mapper.applyAsDouble(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B> DoubleOption mapToDouble(
+        final ToDoubleTriFunction<? super A, ? super B, ? super Long> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsDouble(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public FloatOption mapToFloat(
         final ToFloatFunction<? super Long> mapper)
@@ -624,6 +748,15 @@ final class SomeLong
         return someNonNull(mapper.applyAsInt(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B> IntOption mapToInt(
+        final ToIntTriFunction<? super A, ? super B, ? super Long> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsInt(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public LongOption mapToLong(
         final ToLongFunction<? super Long> mapper)
@@ -639,6 +772,15 @@ final class SomeLong
         return someNonNull(mapper.applyAsLong(arg, boxedValue()));
     }
 
+    @Override
+    public <A, B> LongOption mapToLong(
+        final ToLongTriFunction<? super A, ? super B, ? super Long> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsLong(arg1, arg2, boxedValue()));
+    }
+
     @Override
     public ShortOption mapToShort(
         final ToShortFunction<? super Long> mapper)
@@ -669,6 +811,15 @@ final class SomeLong
         return predicate.test(arg, boxedValue());
     }
 
+    @Override
+    public <A, B> boolean matches(
+        final TriPredicate<? super A, ? super B, ? super Long> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return predicate.test(arg1, arg2, boxedValue());
+    }
+
     @Override
     public boolean matchesLong(
         final LongPredicate predicate)
@@ -676,6 +827,36 @@ final class SomeLong
         return predicate.test(value);
     }
 
+    @Override
+    public LongOption multiplyExact(
+        final long multiplier)
+    {
+        final long high = Math.multiplyHigh(value, multiplier);
+        final long product = value * multiplier;
+
+        // The full product fits in a long iff the high word is just the sign
+        // extension of the low word
+        return high != (product >> 63) ?
+            noneUnchecked() :
+            someNonNull(product);
+    }
+
+    @Override
+    public IntOption narrowToInt()
+    {
+        return (int) value != value ?
+            noneUnchecked() :
+            someNonNull((int) value);
+    }
+
+    @Override
+    public ShortOption narrowToShort()
+    {
+        return (short) value != value ?
+            noneUnchecked() :
+            someNonNull((short) value);
+    }
+
     @Override
     public Option<Long> or(
         final Option<? extends Long> option)
@@ -712,6 +893,15 @@ final class SomeLong
         return boxedValue();
     }
 
+    @Override
+    public <A, B> Long orElseGet(
+        final BiFunction<? super A, ? super B, ? extends Long> supplier,
+        final A arg1,
+        final B arg2)
+    {
+        return boxedValue();
+    }
+
     @Override
     public Long orElseThrow()
     {
@@ -769,6 +959,19 @@ final class SomeLong
         return Stream.of(boxedValue());
     }
 
+    @Override
+    public LongOption subtractExact(
+        final long subtrahend)
+    {
+        final long difference = value - subtrahend;
+
+        // Overflow iff the operands differ in sign and the result differs in
+        // sign from the minuend
+        return ((value ^ subtrahend) & (value ^ difference)) < 0 ?
+            noneUnchecked() :
+            someNonNull(difference);
+    }
+
     @Override
     public Optional<Long> toOptional()
     {
@@ -787,6 +990,48 @@ final class SomeLong
         return String.format("LongOption[%s]", boxedValue());
     }
 
+    @Override
+    public <U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final BiFunction<? super Long, ? super U, ? extends R> combiner)
+    {
+        return other.isSome() ?
+            someNullable(combiner.apply(boxedValue(), other.get())) :
+            noneUnchecked();
+    }
+
+    @Override
+    public <A, U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final TriFunction<? super A, ? super Long, ? super U, ? extends R> combiner,
+        final A arg)
+    {
+        return other.isSome() ?
+            someNullable(combiner.apply(arg, boxedValue(), other.get())) :
+            noneUnchecked();
+    }
+
+    @Override
+    public LongOption zipLong(
+        final LongOption other,
+        final LongBinaryOperator combiner)
+    {
+        return other.isSome() ?
+            someNonNull(combiner.applyAsLong(value, other.getAsLong())) :
+            noneUnchecked();
+    }
+
+    @Override
+    public <A> LongOption zipLong(
+        final LongOption other,
+        final ObjLongBinaryOperator<? super A> combiner,
+        final A arg)
+    {
+        return other.isSome() ?
+            someNonNull(combiner.applyAsLong(arg, value, other.getAsLong())) :
+            noneUnchecked();
+    }
+
     private Long boxedValue()
     {
         return boxedValue != null ?
@@ -25,10 +25,12 @@ package me.dkleszyk.java.option;
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.function.*;
 import java.util.stream.Stream;
 import me.dkleszyk.java.function.extra.primitive.*;
+import me.dkleszyk.java.option.function.*;
 
 import static me.dkleszyk.java.option.Options.noneUnchecked;
 import static me.dkleszyk.java.option.Options.someNonNull;
@@ -98,6 +100,17 @@ final class SomeNull<T>
             noneUnchecked();
     }
 
+    @Override
+    public <A, B> Option<T> filter(
+        final TriPredicate<? super A, ? super B, ? super T> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return predicate.test(arg1, arg2, value()) ?
+            this :
+            noneUnchecked();
+    }
+
     @Override
     public BooleanOption filterToBoolean()
     {
@@ -174,6 +187,15 @@ final class SomeNull<T>
         return mapper.apply(arg, value());
     }
 
+    @Override
+    public <A, B, O extends Option<?>> O flatMap(
+        final TriFunction<? super A, ? super B, ? super T, ? extends O> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return mapper.apply(arg1, arg2, value());
+    }
+
     @Override
     public T get()
     {
@@ -271,6 +293,12 @@ final class SomeNull<T>
         return true;
     }
 
+    @Override
+    public Iterator<T> iterator()
+    {
+        return OptionIterators.of((T) null);
+    }
+
     @Override
     public <U> Option<U> map(
         final Function<? super T, ? extends U> mapper)
@@ -286,6 +314,15 @@ final class SomeNull<T>
         return someNullable(mapper.apply(arg, value()));
     }
 
+    @Override
+    public <A, B, U> Option<U> map(
+        final TriFunction<? super A, ? super B, ? super T, ? extends U> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNullable(mapper.apply(arg1, arg2, value()));
+    }
+
     @Override
     public BooleanOption mapToBoolean(
         final Predicate<? super T> mapper)
@@ -346,6 +383,15 @@ final class SomeNull<T>
         return someNonNull(mapper.applyAsDouble(arg, value()));
     }
 
+    @Override
+    public <A, B> DoubleOption mapToDouble(
+        final ToDoubleTriFunction<? super A, ? super B, ? super T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsDouble(arg1, arg2, value()));
+    }
+
     @Override
     public FloatOption mapToFloat(
         final ToFloatFunction<? super T> mapper)
@@ -376,6 +422,15 @@ final class SomeNull<T>
         return someNonNull(mapper.applyAsInt(arg, value()));
     }
 
+    @Override
+    public <A, B> IntOption mapToInt(
+        final ToIntTriFunction<? super A, ? super B, ? super T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsInt(arg1, arg2, value()));
+    }
+
     @Override
     public LongOption mapToLong(
         final ToLongFunction<? super T> mapper)
@@ -391,6 +446,15 @@ final class SomeNull<T>
         return someNonNull(mapper.applyAsLong(arg, value()));
     }
 
+    @Override
+    public <A, B> LongOption mapToLong(
+        final ToLongTriFunction<? super A, ? super B, ? super T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsLong(arg1, arg2, value()));
+    }
+
     @Override
     public ShortOption mapToShort(
         ToShortFunction<? super T> mapper)
@@ -421,6 +485,15 @@ final class SomeNull<T>
         return predicate.test(arg, value());
     }
 
+    @Override
+    public <A, B> boolean matches(
+        final TriPredicate<? super A, ? super B, ? super T> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return predicate.test(arg1, arg2, value());
+    }
+
     @Override
     public Option<T> or(
         final Option<? extends T> option)
@@ -450,6 +523,15 @@ final class SomeNull<T>
         return this.value();
     }
 
+    @Override
+    public <A, B> T orElseGet(
+        final BiFunction<? super A, ? super B, ? extends T> supplier,
+        final A arg1,
+        final B arg2)
+    {
+        return value();
+    }
+
     @Override
     public T orElseThrow()
     {
@@ -505,6 +587,27 @@ final class SomeNull<T>
         return "Option[null]";
     }
 
+    @Override
+    public <U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final BiFunction<? super T, ? super U, ? extends R> combiner)
+    {
+        return other.isSome() ?
+            someNullable(combiner.apply(value(), other.get())) :
+            noneUnchecked();
+    }
+
+    @Override
+    public <A, U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final TriFunction<? super A, ? super T, ? super U, ? extends R> combiner,
+        final A arg)
+    {
+        return other.isSome() ?
+            someNullable(combiner.apply(arg, value(), other.get())) :
+            noneUnchecked();
+    }
+
     private Object readResolve()
         throws ObjectStreamException
     {
@@ -24,10 +24,12 @@
 package me.dkleszyk.java.option;
 
 import java.io.Serializable;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.function.*;
 import java.util.stream.Stream;
 import me.dkleszyk.java.function.extra.primitive.*;
+import me.dkleszyk.java.option.function.*;
 
 import static me.dkleszyk.java.option.Options.noneUnchecked;
 import static me.dkleszyk.java.option.Options.someNonNull;
@@ -107,6 +109,17 @@ final class SomeReference<T>
             noneUnchecked();
     }
 
+    @Override
+    public <A, B> Option<T> filter(
+        final TriPredicate<? super A, ? super B, ? super T> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return predicate.test(arg1, arg2, value) ?
+            this :
+            noneUnchecked();
+    }
+
     @Override
     public BooleanOption filterToBoolean()
     {
@@ -190,6 +203,15 @@ final class SomeReference<T>
         return mapper.apply(arg, value);
     }
 
+    @Override
+    public <A, B, O extends Option<?>> O flatMap(
+        final TriFunction<? super A, ? super B, ? super T, ? extends O> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return mapper.apply(arg1, arg2, value);
+    }
+
     @Override
     public T get()
     {
@@ -287,6 +309,12 @@ final class SomeReference<T>
         return true;
     }
 
+    @Override
+    public Iterator<T> iterator()
+    {
+        return OptionIterators.of(value);
+    }
+
     @Override
     public <U> Option<U> map(
         final Function<? super T, ? extends U> mapper)
@@ -302,6 +330,15 @@ final class SomeReference<T>
         return someNullable(mapper.apply(arg, value));
     }
 
+    @Override
+    public <A, B, U> Option<U> map(
+        final TriFunction<? super A, ? super B, ? super T, ? extends U> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNullable(mapper.apply(arg1, arg2, value));
+    }
+
     @Override
     public BooleanOption mapToBoolean(
         final Predicate<? super T> mapper)
@@ -362,6 +399,15 @@ final class SomeReference<T>
         return someNonNull(mapper.applyAsDouble(arg, value));
     }
 
+    @Override
+    public <A, B> DoubleOption mapToDouble(
+        final ToDoubleTriFunction<? super A, ? super B, ? super T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsDouble(arg1, arg2, value));
+    }
+
     @Override
     public FloatOption mapToFloat(
         final ToFloatFunction<? super T> mapper)
@@ -392,6 +438,15 @@ final class SomeReference<T>
         return someNonNull(mapper.applyAsInt(arg, value));
     }
 
+    @Override
+    public <A, B> IntOption mapToInt(
+        final ToIntTriFunction<? super A, ? super B, ? super T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsInt(arg1, arg2, value));
+    }
+
     @Override
     public LongOption mapToLong(
         final ToLongFunction<? super T> mapper)
@@ -407,6 +462,15 @@ final class SomeReference<T>
         return someNonNull(mapper.applyAsLong(arg, value));
     }
 
+    @Override
+    public <A, B> LongOption mapToLong(
+        final ToLongTriFunction<? super A, ? super B, ? super T> mapper,
+        final A arg1,
+        final B arg2)
+    {
+        return someNonNull(mapper.applyAsLong(arg1, arg2, value));
+    }
+
     @Override
     public ShortOption mapToShort(
         final ToShortFunction<? super T> mapper)
@@ -437,6 +501,15 @@ final class SomeReference<T>
         return predicate.test(arg, value);
     }
 
+    @Override
+    public <A, B> boolean matches(
+        final TriPredicate<? super A, ? super B, ? super T> predicate,
+        final A arg1,
+        final B arg2)
+    {
+        return predicate.test(arg1, arg2, value);
+    }
+
     @Override
     public Option<T> or(
         final Option<? extends T> option)
@@ -466,6 +539,15 @@ final class SomeReference<T>
         return this.value;
     }
 
+    @Override
+    public <A, B> T orElseGet(
+        final BiFunction<? super A, ? super B, ? extends T> supplier,
+        final A arg1,
+        final B arg2)
+    {
+        return value;
+    }
+
     @Override
     public T orElseThrow()
     {
@@ -519,4 +601,25 @@ final class SomeReference<T>
     {
         return String.format("Option[%s]", value);
     }
+
+    @Override
+    public <U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final BiFunction<? super T, ? super U, ? extends R> combiner)
+    {
+        return other.isSome() ?
+            someNullable(combiner.apply(value, other.get())) :
+            noneUnchecked();
+    }
+
+    @Override
+    public <A, U, R> Option<R> zip(
+        final Option<? extends U> other,
+        final TriFunction<? super A, ? super T, ? super U, ? extends R> combiner,
+        final A arg)
+    {
+        return other.isSome() ?
+            someNullable(combiner.apply(arg, value, other.get())) :
+            noneUnchecked();
+    }
 }
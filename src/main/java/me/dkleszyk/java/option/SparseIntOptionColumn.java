@@ -0,0 +1,303 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.Arrays;
+import me.dkleszyk.java.option.function.IntIntConsumer;
+
+import static me.dkleszyk.java.option.Options.noneUnchecked;
+import static me.dkleszyk.java.option.Options.someNonNull;
+
+/**
+ * A column of {@link IntOption} values suited to columns that are mostly empty.
+ * Only the values are stored, contiguously and in order of position; which
+ * positions hold a value is recorded by a bitmap with a rank index, so the
+ * column costs about 1.1 bits per position plus the values themselves, and
+ * {@link #get(int)} runs in constant time.
+ * <p>
+ * Instances are immutable and are created with a {@link Builder}.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public final class SparseIntOptionColumn
+{
+    private final PresenceIndex presence;
+
+    private final int[] values;
+
+    private SparseIntOptionColumn(
+        final PresenceIndex presence,
+        final int[] values)
+    {
+        this.presence = presence;
+        this.values = values;
+    }
+
+    /**
+     * Returns a builder with which to create a column.
+     *
+     * @return A new, empty builder.
+     */
+    public static Builder builder()
+    {
+        return new Builder();
+    }
+
+    /**
+     * Performs the specified action for each position of this column that
+     * holds a value, in order of position. Empty positions are skipped
+     * without being examined individually.
+     *
+     * @param action The action to perform with each position and its value.
+     *
+     * @throws NullPointerException {@code action} is {@code null}.
+     */
+    public void forEachSome(
+        final IntIntConsumer action)
+    {
+        int n = 0;
+
+        for (int i = presence.next(0); i >= 0; i = presence.next(i + 1))
+        {
+            action.accept(i, values[n]);
+            n++;
+        }
+    }
+
+    /**
+     * Returns the option at the specified position.
+     *
+     * @param index The position of the option.
+     *
+     * @return The option at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException {@code index} is negative or not less
+     *                                   than {@link #size()}.
+     */
+    public IntOption get(
+        final int index)
+    {
+        return presence.contains(index) ?
+            someNonNull(values[presence.rank(index)]) :
+            noneUnchecked();
+    }
+
+    /**
+     * Returns the value at the specified position if there is one; otherwise,
+     * returns the specified value.
+     *
+     * @param index The position of the value.
+     * @param value The value to return if the position is empty.
+     *
+     * @return The value at {@code index} if there is one; otherwise,
+     *         {@code value}.
+     *
+     * @throws IndexOutOfBoundsException {@code index} is negative or not less
+     *                                   than {@link #size()}.
+     */
+    public int getOrElse(
+        final int index,
+        final int value)
+    {
+        return presence.contains(index) ?
+            values[presence.rank(index)] :
+            value;
+    }
+
+    /**
+     * Returns whether the specified position holds a value.
+     *
+     * @param index The position to examine.
+     *
+     * @return {@code true} if {@code index} holds a value; otherwise,
+     *         {@code false}.
+     *
+     * @throws IndexOutOfBoundsException {@code index} is negative or not less
+     *                                   than {@link #size()}.
+     */
+    public boolean isSome(
+        final int index)
+    {
+        return presence.contains(index);
+    }
+
+    /**
+     * Returns the first position at or after the specified one that holds a
+     * value.
+     *
+     * @param fromIndex The position from which to search.
+     *
+     * @return The first position at or after {@code fromIndex} that holds a
+     *         value, or {@code -1} if there is none.
+     *
+     * @throws IndexOutOfBoundsException {@code fromIndex} is negative.
+     */
+    public int nextSome(
+        final int fromIndex)
+    {
+        if (fromIndex < 0)
+        {
+            throw new IndexOutOfBoundsException(
+                "Negative index: " + fromIndex);
+        }
+
+        return presence.next(fromIndex);
+    }
+
+    /**
+     * Returns the position of the specified value, counting only the
+     * positions that hold a value.
+     *
+     * @param n The ordinal of the value, starting from {@code 0}.
+     *
+     * @return The position of value {@code n}.
+     *
+     * @throws IndexOutOfBoundsException {@code n} is negative or not less
+     *                                   than {@link #someCount()}.
+     */
+    public int positionOfSome(
+        final int n)
+    {
+        return presence.select(n);
+    }
+
+    /**
+     * Returns the number of positions in this column.
+     *
+     * @return The number of positions in this column.
+     */
+    public int size()
+    {
+        return presence.size();
+    }
+
+    /**
+     * Returns the number of positions in this column that hold a value.
+     *
+     * @return The number of positions in this column that hold a value.
+     */
+    public int someCount()
+    {
+        return values.length;
+    }
+
+    /**
+     * A builder of {@link SparseIntOptionColumn} instances. Options are
+     * appended in order of position.
+     */
+    public static final class Builder
+    {
+        private int size;
+
+        private int someCount;
+
+        private int[] values = new int[0];
+
+        private long[] words = new long[1];
+
+        private Builder()
+        {
+        }
+
+        /**
+         * Appends the specified option.
+         *
+         * @param option The option to append.
+         *
+         * @return This builder.
+         *
+         * @throws NullPointerException {@code option} is {@code null}.
+         */
+        public Builder add(
+            final IntOption option)
+        {
+            return option.isSome() ?
+                addSome(option.getAsInt()) :
+                addNone();
+        }
+
+        /**
+         * Appends an empty option.
+         *
+         * @return This builder.
+         */
+        public Builder addNone()
+        {
+            return advance();
+        }
+
+        /**
+         * Appends an option containing the specified value.
+         *
+         * @param value The value to append.
+         *
+         * @return This builder.
+         */
+        public Builder addSome(
+            final int value)
+        {
+            if (someCount == values.length)
+            {
+                values = Arrays.copyOf(
+                    values,
+                    Math.max(8, someCount + (someCount >>> 1)));
+            }
+
+            values[someCount++] = value;
+            words[size >>> 6] |= 1L << size;
+
+            return advance();
+        }
+
+        /**
+         * Creates a column containing the options appended so far. The
+         * builder may continue to be used afterwards.
+         *
+         * @return The new column.
+         */
+        public SparseIntOptionColumn build()
+        {
+            return new SparseIntOptionColumn(
+                new PresenceIndex(words, size),
+                Arrays.copyOf(values, someCount));
+        }
+
+        private Builder advance()
+        {
+            if (size == Integer.MAX_VALUE)
+            {
+                throw new IllegalStateException("Column is full");
+            }
+
+            size++;
+
+            if ((size & 63) == 0 && (size >>> 6) == words.length)
+            {
+                words = Arrays.copyOf(words, words.length << 1);
+            }
+
+            return this;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option.function;
+
+/**
+ * Represents a function that accepts two object-valued arguments and a
+ * {@code double}-valued argument, and produces a result.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ *
+ * @param <T> The type of the first argument to the function.
+ * @param <U> The type of the second argument to the function.
+ * @param <R> The type of the result of the function.
+ */
+@FunctionalInterface
+public interface ObjObjDoubleFunction<T, U, R>
+{
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param t     The first function argument.
+     * @param u     The second function argument.
+     * @param value The third function argument.
+     *
+     * @return The function result.
+     */
+    R apply(
+        final T t,
+        final U u,
+        final double value);
+}
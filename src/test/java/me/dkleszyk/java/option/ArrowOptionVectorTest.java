@@ -0,0 +1,139 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link ArrowOptionVector}.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class ArrowOptionVectorTest
+{
+    private static final int LENGTH = 1_000;
+
+    @Test
+    public void testBufferLayout()
+    {
+        final IntOption[] options = {
+            Option.some(1),
+            Option.maybe((Integer) null),
+            Option.some(3)
+        };
+        final ArrowOptionVector vector = ArrowOptionVector.fromInts(options);
+
+        assertEquals(3, vector.length());
+        assertEquals(1, vector.nullCount());
+        assertEquals(2, vector.bufferCount());
+
+        final ByteBuffer validity = vector.buffer(0);
+        final ByteBuffer values = vector.buffer(1);
+        assertEquals(0b101, validity.get(0));
+        assertEquals(64, validity.capacity());
+        assertEquals(1, values.getInt(0));
+        assertEquals(3, values.getInt(8));
+        assertEquals(64, values.capacity());
+        assertEquals(0, values.alignmentOffset(0, 64));
+        assertEquals(0, vector.someNullBitmap().capacity());
+    }
+
+    @Test
+    public void testRoundTrip()
+    {
+        final Random random = new Random(47);
+        final IntOption[] ints = new IntOption[LENGTH];
+        final LongOption[] longs = new LongOption[LENGTH];
+        final DoubleOption[] doubles = new DoubleOption[LENGTH];
+        final BooleanOption[] booleans = new BooleanOption[LENGTH];
+        @SuppressWarnings("unchecked")
+        final Option<String>[] strings = new Option[LENGTH];
+
+        for (int i = 0; i < LENGTH; i++)
+        {
+            final boolean some = random.nextInt(4) != 0;
+            ints[i] = some ?
+                Option.some(random.nextInt()) :
+                Option.maybe((Integer) null);
+            longs[i] = some ?
+                Option.some(random.nextLong()) :
+                Option.maybe((Long) null);
+            doubles[i] = some ?
+                Option.some(random.nextDouble()) :
+                Option.maybe((Double) null);
+            booleans[i] = some ?
+                Option.some(random.nextBoolean()) :
+                Option.maybe((Boolean) null);
+            strings[i] = some ?
+                Option.some("é" + random.nextInt(100)) :
+                random.nextBoolean() ?
+                    Option.none() :
+                    Option.someNullable((String) null);
+        }
+
+        assertArrayEquals(ints, ArrowOptionVector.fromInts(ints).toInts());
+        assertArrayEquals(
+            longs,
+            ArrowOptionVector.fromLongs(longs).toLongs());
+        assertArrayEquals(
+            doubles,
+            ArrowOptionVector.fromDoubles(doubles).toDoubles());
+        assertArrayEquals(
+            booleans,
+            ArrowOptionVector.fromBooleans(booleans).toBooleans());
+        assertArrayEquals(
+            strings,
+            ArrowOptionVector.fromStrings(strings).toStrings());
+    }
+
+    @Test
+    public void testWrap()
+    {
+        final ByteBuffer values = ByteBuffer.allocate(16)
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .putLong(0, 7)
+            .putLong(8, 9);
+        final ArrowOptionVector vector = ArrowOptionVector.wrap(
+            2,
+            0,
+            null,
+            ByteBuffer.allocate(0),
+            values);
+
+        assertArrayEquals(
+            new LongOption[] { Option.some(7L), Option.some(9L) },
+            vector.toLongs());
+        assertThrows(IllegalArgumentException.class, vector::toStrings);
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ArrowOptionVector.wrap(-1, 0, null));
+    }
+}
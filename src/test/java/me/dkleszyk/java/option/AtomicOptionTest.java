@@ -0,0 +1,165 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link AtomicOption}, {@link AtomicIntOption} and
+ * {@link AtomicLongOption}.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class AtomicOptionTest
+{
+    private static final int INCREMENTS = 10_000;
+
+    private static final int THREADS = 4;
+
+    private static final IntOption NO_INT = Option.maybe((Integer) null);
+
+    private static final LongOption NO_LONG = Option.maybe((Long) null);
+
+    @Test
+    public void testAtomicIntOption()
+        throws Exception
+    {
+        final AtomicIntOption atomic = new AtomicIntOption();
+        assertSame(NO_INT, atomic.get());
+        assertTrue(atomic.compareAndSet(NO_INT, Option.some(1_000)));
+        assertFalse(atomic.compareAndSet(NO_INT, Option.some(2)));
+        assertEquals(Option.some(1_000), atomic.getAndSet(NO_INT));
+        assertSame(NO_INT, atomic.get());
+
+        atomic.setInt(0);
+        concurrently(() -> atomic.accumulateAndGet(1, Integer::sum));
+        assertEquals(Option.some(THREADS * INCREMENTS), atomic.get());
+
+        assertThrows(NullPointerException.class, () -> atomic.set(null));
+        assertThrows(
+            NullPointerException.class,
+            () -> atomic.updateAndGet(o -> null));
+        assertEquals(Option.some(THREADS * INCREMENTS), atomic.get());
+    }
+
+    @Test
+    public void testAtomicLongOption()
+        throws Exception
+    {
+        final AtomicLongOption atomic = new AtomicLongOption(0);
+        concurrently(() -> atomic.getAndAccumulate(1, Long::sum));
+        assertEquals(Option.some((long) THREADS * INCREMENTS), atomic.get());
+
+        assertEquals(
+            Option.some(Long.MAX_VALUE),
+            atomic.updateAndGet(o -> Option.some(Long.MAX_VALUE)));
+        assertTrue(atomic.compareAndSet(Option.some(Long.MAX_VALUE), NO_LONG));
+        atomic.clear();
+        assertSame(NO_LONG, atomic.get());
+
+        assertThrows(
+            NullPointerException.class,
+            () -> atomic.updateAndGet(o -> null));
+        assertThrows(
+            NullPointerException.class,
+            () -> atomic.getAndUpdate((a, o) -> null, "x"));
+        assertSame(NO_LONG, atomic.get());
+    }
+
+    @Test
+    public void testAtomicOption()
+        throws Exception
+    {
+        final AtomicOption<Integer> atomic = new AtomicOption<>();
+        assertSame(Option.none(), atomic.get());
+
+        atomic.set(Option.some(0));
+        concurrently(() -> atomic.updateAndGet(o -> o.map(v -> v + 1)));
+        assertEquals(Option.some(THREADS * INCREMENTS), atomic.get());
+
+        final Option<Integer> current = atomic.get();
+        assertFalse(atomic.compareAndSet(Option.some(-1), Option.none()));
+        assertTrue(atomic.compareAndSet(current, Option.none()));
+
+        assertThrows(NullPointerException.class, () -> atomic.set(null));
+        assertThrows(
+            NullPointerException.class,
+            () -> atomic.updateAndGet(o -> null));
+        assertThrows(
+            NullPointerException.class,
+            () -> atomic.getAndUpdate((a, o) -> null, "x"));
+        assertThrows(
+            NullPointerException.class,
+            () -> atomic.accumulateAndGet(Option.none(), (o, x) -> null));
+        assertThrows(
+            NullPointerException.class,
+            () -> atomic.getAndAccumulate(Option.none(), (o, x) -> null));
+        assertSame(Option.none(), atomic.get());
+    }
+
+    private static void concurrently(
+        final Runnable increment)
+        throws InterruptedException, ExecutionException
+    {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        try
+        {
+            final List<Future<?>> futures = new ArrayList<>();
+
+            for (int t = 0; t < THREADS; t++)
+            {
+                futures.add(executor.submit(() ->
+                {
+                    for (int i = 0; i < INCREMENTS; i++)
+                    {
+                        increment.run();
+                    }
+
+                }));
+            }
+
+            for (final Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+}
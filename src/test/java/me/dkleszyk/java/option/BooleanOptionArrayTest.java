@@ -0,0 +1,137 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link BooleanOptionArray}.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class BooleanOptionArrayTest
+{
+    private static final int LENGTH = 1_000;
+
+    @Test
+    public void testKleeneLogic()
+    {
+        final Random random = new Random(44);
+        final BooleanOption[] x = randomOptions(random);
+        final BooleanOption[] y = randomOptions(random);
+
+        final BooleanOptionArray and = array(x);
+        and.and(array(y));
+        final BooleanOptionArray or = array(x);
+        or.or(array(y));
+        final BooleanOptionArray not = array(x);
+        not.not();
+
+        int trues = 0;
+        int nones = 0;
+
+        for (int i = 0; i < LENGTH; i++)
+        {
+            assertSame(kleeneAnd(x[i], y[i]), and.get(i));
+            assertSame(
+                kleeneNot(kleeneAnd(kleeneNot(x[i]), kleeneNot(y[i]))),
+                or.get(i));
+            assertSame(kleeneNot(x[i]), not.get(i));
+            trues += x[i].booleanOrElse(false) ? 1 : 0;
+            nones += x[i].isNone() ? 1 : 0;
+        }
+
+        final BooleanOptionArray original = array(x);
+        assertEquals(trues, original.countTrue());
+        assertEquals(nones, original.countNone());
+        assertEquals(LENGTH - trues - nones, original.countFalse());
+    }
+
+    @Test
+    public void testLengthMismatch()
+    {
+        final BooleanOptionArray array = new BooleanOptionArray(3);
+
+        assertSame(Option.none(), array.get(2));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> array.and(new BooleanOptionArray(4)));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(3));
+    }
+
+    private static BooleanOptionArray array(
+        final BooleanOption[] options)
+    {
+        final BooleanOptionArray array = new BooleanOptionArray(options.length);
+
+        for (int i = 0; i < options.length; i++)
+        {
+            array.set(i, options[i]);
+        }
+
+        return array;
+    }
+
+    private static BooleanOption kleeneAnd(
+        final BooleanOption x,
+        final BooleanOption y)
+    {
+        if (x.equals(Option.some(false)) || y.equals(Option.some(false)))
+        {
+            return Option.some(false);
+        }
+
+        return x.isSome() && y.isSome() ?
+            Option.some(true) :
+            Option.maybe((Boolean) null);
+    }
+
+    private static BooleanOption kleeneNot(
+        final BooleanOption x)
+    {
+        return x.isSome() ?
+            Option.some(!x.getAsBoolean()) :
+            x;
+    }
+
+    private static BooleanOption[] randomOptions(
+        final Random random)
+    {
+        final BooleanOption[] options = new BooleanOption[LENGTH];
+
+        for (int i = 0; i < LENGTH; i++)
+        {
+            options[i] = random.nextInt(3) == 0 ?
+                Option.maybe((Boolean) null) :
+                Option.some(random.nextBoolean());
+        }
+
+        return options;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import me.dkleszyk.java.option.DelimitedOptionReader.ColumnType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link DelimitedOptionReader}.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class DelimitedOptionReaderTest
+{
+    private static final String CSV =
+        "id,count,price,flag,name,ignored\r\n"
+        + "1,10,1.5,true,é,x\r\n"
+        + "2,,abc,maybe,,x\n"
+        + "x,9223372036854775807,-2e3,FALSE\n"
+        + "2147483648,-9223372036854775809\n";
+
+    private static final DelimitedOptionReader READER =
+        DelimitedOptionReader.builder()
+            .header(true)
+            .addColumn(ColumnType.INT)
+            .addColumn(ColumnType.LONG)
+            .addColumn(ColumnType.DOUBLE)
+            .addColumn(ColumnType.BOOLEAN)
+            .addColumn(ColumnType.STRING)
+            .addColumn(ColumnType.SKIP)
+            .build();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testInvalidDelimiter()
+    {
+        final DelimitedOptionReader.Builder builder =
+            DelimitedOptionReader.builder();
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> builder.delimiter('\n'));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> builder.delimiter('\r'));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> builder.delimiter('§'));
+    }
+
+    @Test
+    public void testLongBounds()
+    {
+        final String csv = "-9223372036854775808\n+5\n-\n+\n";
+        final DelimitedOptionReader reader = DelimitedOptionReader.builder()
+            .addColumn(ColumnType.LONG)
+            .build();
+
+        for (final DelimitedOptionColumns columns : new DelimitedOptionColumns[]
+            {
+                reader.read(csv),
+                reader.read(csv.getBytes(StandardCharsets.UTF_8))
+            })
+        {
+            final LongOptionColumn longs = columns.longColumn(0);
+
+            assertEquals(Option.some(Long.MIN_VALUE), longs.get(0));
+            assertEquals(Option.some(5L), longs.get(1));
+            assertEquals(Option.none(), longs.get(2));
+            assertEquals(Option.none(), longs.get(3));
+        }
+    }
+
+    @Test
+    public void testReadBytes()
+    {
+        check(READER.read(CSV.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testReadCharSequence()
+    {
+        check(READER.read(CSV));
+    }
+
+    @Test
+    public void testReadFile()
+        throws IOException
+    {
+        final Path file = directory.resolve("options.csv");
+        Files.writeString(file, CSV);
+        check(READER.read(file));
+    }
+
+    @Test
+    public void testTabDelimited()
+    {
+        final DelimitedOptionColumns columns = DelimitedOptionReader.builder()
+            .delimiter('\t')
+            .addColumn(ColumnType.INT)
+            .addColumn(ColumnType.INT)
+            .build()
+            .read("1\t2\n\t3");
+
+        assertEquals(2, columns.rowCount());
+        assertEquals(Option.some(2), columns.intColumn(1).get(0));
+        assertEquals(Option.none(), columns.intColumn(0).get(1));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> columns.longColumn(0));
+    }
+
+    private static void check(
+        final DelimitedOptionColumns columns)
+    {
+        assertEquals(4, columns.rowCount());
+        assertEquals(6, columns.columnCount());
+
+        final IntOptionColumn ints = columns.intColumn(0);
+        assertEquals(Option.some(1), ints.get(0));
+        assertEquals(Option.some(2), ints.get(1));
+        assertEquals(Option.none(), ints.get(2));
+        assertEquals(Option.none(), ints.get(3));
+
+        final LongOptionColumn longs = columns.longColumn(1);
+        assertEquals(Option.some(10L), longs.get(0));
+        assertEquals(Option.none(), longs.get(1));
+        assertEquals(Option.some(Long.MAX_VALUE), longs.get(2));
+        assertEquals(Option.none(), longs.get(3));
+
+        final DoubleOptionColumn doubles = columns.doubleColumn(2);
+        assertEquals(Option.some(1.5), doubles.get(0));
+        assertEquals(Option.none(), doubles.get(1));
+        assertEquals(Option.some(-2e3), doubles.get(2));
+        assertEquals(Option.none(), doubles.get(3));
+
+        final BooleanOptionArray booleans = columns.booleanColumn(3);
+        assertEquals(Option.some(true), booleans.get(0));
+        assertEquals(Option.none(), booleans.get(1));
+        assertEquals(Option.some(false), booleans.get(2));
+        assertEquals(Option.none(), booleans.get(3));
+
+        final SparseOptionColumn<String> strings = columns.stringColumn(4);
+        assertEquals(Option.some("é"), strings.get(0));
+        assertEquals(Option.none(), strings.get(1));
+        assertEquals(Option.none(), strings.get(3));
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link ExpiringOption}.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class ExpiringOptionTest
+{
+    private static final Duration LONG_TTL = Duration.ofHours(1);
+
+    private static final int THREADS = 8;
+
+    @Test
+    public void testFailedFirstLoadIsRetried()
+    {
+        final AtomicInteger calls = new AtomicInteger();
+        final ExpiringOption<String> cell = ExpiringOption.of(
+            () ->
+            {
+                if (calls.incrementAndGet() == 1)
+                {
+                    throw new IllegalStateException("Backend unavailable");
+                }
+
+                return Option.some("value");
+            },
+            LONG_TTL,
+            LONG_TTL,
+            Runnable::run);
+
+        assertThrows(IllegalStateException.class, cell::get);
+        assertEquals(Option.some("value"), cell.get());
+        assertEquals(Option.some("value"), cell.get());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testInitialLoadIsSingleFlight()
+        throws Exception
+    {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExpiringOption<String> cell = ExpiringOption.of(
+            () ->
+            {
+                calls.incrementAndGet();
+
+                try
+                {
+                    release.await();
+                }
+                catch (final InterruptedException ex)
+                {
+                    Thread.currentThread().interrupt();
+                }
+
+                return Option.some("value");
+            },
+            LONG_TTL,
+            LONG_TTL,
+            Runnable::run);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        try
+        {
+            final List<Future<Option<String>>> results = new ArrayList<>();
+
+            for (int i = 0; i < THREADS; i++)
+            {
+                results.add(executor.submit(cell::get));
+            }
+
+            Thread.sleep(50);
+            release.countDown();
+
+            for (final Future<Option<String>> result : results)
+            {
+                assertEquals(Option.some("value"), result.get());
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testRefreshIsSingleFlight()
+    {
+        final AtomicInteger calls = new AtomicInteger();
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+        final ExpiringOption<Integer> cell = ExpiringOption.of(
+            () -> Option.some(calls.incrementAndGet()),
+            Duration.ZERO,
+            Duration.ZERO,
+            tasks::add);
+
+        assertEquals(Option.some(1), cell.get());
+
+        for (int i = 0; i < 10; i++)
+        {
+            assertEquals(Option.some(1), cell.get());
+        }
+
+        assertEquals(1, tasks.size());
+        tasks.remove().run();
+        assertEquals(Option.some(2), cell.get());
+        assertEquals(1, tasks.size());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testSeparateTtls()
+    {
+        final Queue<Option<String>> results = new ArrayDeque<>(List.of(
+            Option.none(),
+            Option.some("a"),
+            Option.some("b")));
+        final ExpiringOption<String> cell = ExpiringOption.of(
+            results::remove,
+            LONG_TTL,
+            Duration.ZERO,
+            Runnable::run);
+
+        // The empty option expires at once, and is returned while the
+        // reload runs
+        assertSame(Option.none(), cell.get());
+        assertSame(Option.none(), cell.get());
+
+        // The option with a value does not expire
+        assertEquals(Option.some("a"), cell.get());
+        assertEquals(Option.some("a"), cell.get());
+        assertEquals(1, results.size());
+
+        cell.invalidate();
+        assertEquals(Option.some("a"), cell.get());
+        assertEquals(Option.some("b"), cell.get());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link IntIntOptionMap} and the other primitive-keyed option maps.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class IntIntOptionMapTest
+{
+    @Test
+    public void testAgainstHashMap()
+    {
+        // A small key range produces long probe runs, collisions and
+        // wrap-around, which exercises the backward-shift deletion.
+        final Random random = new Random(41);
+        final IntIntOptionMap map = new IntIntOptionMap(0);
+        final Map<Integer, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < 200_000; i++)
+        {
+            final int key = random.nextInt(512) - 256;
+            final int value = random.nextInt();
+
+            switch (random.nextInt(4))
+            {
+                case 0:
+                case 1:
+                    assertEquals(
+                        Option.maybe(expected.put(key, value)),
+                        map.put(key, value));
+
+                    break;
+                case 2:
+                    assertEquals(
+                        Option.maybe(expected.remove(key)),
+                        map.remove(key));
+
+                    break;
+                default:
+                    assertEquals(Option.maybe(expected.get(key)), map.get(key));
+                    assertEquals(
+                        expected.getOrDefault(key, -1).intValue(),
+                        map.getOrElse(key, -1));
+                    assertEquals(
+                        expected.containsKey(key),
+                        map.containsKey(key));
+
+                    break;
+            }
+
+            assertEquals(expected.size(), map.size());
+        }
+
+        for (int key = -256; key < 256; key++)
+        {
+            assertEquals(Option.maybe(expected.get(key)), map.get(key));
+        }
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertTrue(map.get(0).isNone());
+    }
+
+    @Test
+    public void testGet()
+    {
+        final IntIntOptionMap map = new IntIntOptionMap();
+        map.put(7, 1);
+
+        assertSame(Option.some(1), map.get(7));
+        assertSame(Option.none(), map.get(8));
+        assertEquals(-1, map.getOrElse(8, -1));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new IntIntOptionMap(-1));
+    }
+
+    @Test
+    public void testLongObjectOptionMap()
+    {
+        final LongObjectOptionMap<String> map = new LongObjectOptionMap<>();
+
+        assertTrue(map.put(0L, null).isNone());
+        assertTrue(map.put(Long.MIN_VALUE, "a").isNone());
+        assertEquals(Option.someNullable((String) null), map.get(0L));
+        assertEquals(Option.some("a"), map.put(Long.MIN_VALUE, "b"));
+        assertEquals("b", map.getOrElse(Long.MIN_VALUE, "c"));
+        assertEquals("c", map.getOrElse(1L, "c"));
+        assertEquals(Option.someNullable((String) null), map.remove(0L));
+        assertFalse(map.containsKey(0L));
+        assertEquals(1, map.size());
+    }
+}
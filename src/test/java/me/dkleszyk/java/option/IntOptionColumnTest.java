@@ -0,0 +1,117 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link IntOptionColumn} and the other off-heap columns.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class IntOptionColumnTest
+{
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testDirect()
+    {
+        final IntOptionColumn column = IntOptionColumn.allocateDirect(100);
+        column.setInt(3, 7);
+        column.set(99, Option.some(-1));
+        column.setInt(50, 1);
+        column.setNone(50);
+
+        assertEquals(100, column.length());
+        assertSame(Option.some(7), column.get(3));
+        assertSame(Option.none(), column.get(4));
+        assertFalse(column.isSome(50));
+        assertEquals(-1, column.getAsInt(99));
+        assertEquals(5, column.getOrElse(0, 5));
+        assertThrows(NoSuchElementException.class, () -> column.getAsInt(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> column.get(100));
+    }
+
+    @Test
+    public void testFile()
+        throws Exception
+    {
+        final Path path = directory.resolve("column");
+        final LongOptionColumn created = LongOptionColumn.create(path, 1_000);
+
+        for (int i = 0; i < 1_000; i += 3)
+        {
+            created.setLong(i, i * 1_000_000_000L);
+        }
+
+        final LongOptionColumn opened = LongOptionColumn.open(path);
+        assertEquals(1_000, opened.length());
+
+        for (int i = 0; i < 1_000; i++)
+        {
+            assertEquals(
+                i % 3 == 0 ?
+                    Option.some(i * 1_000_000_000L) :
+                    Option.maybe((Long) null),
+                opened.get(i));
+        }
+
+        assertThrows(ReadOnlyBufferException.class, () -> opened.setNone(0));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> IntOptionColumn.open(path));
+    }
+
+    @Test
+    public void testWrap()
+    {
+        final DoubleOptionColumn column = DoubleOptionColumn.allocateDirect(9);
+        column.setDouble(8, 0.5);
+
+        final ByteBuffer copy = ByteBuffer.allocate(1_000);
+        copy.position(10);
+        copy.put(column.buffer.duplicate().clear());
+        copy.position(10);
+
+        final DoubleOptionColumn wrapped = DoubleOptionColumn.wrap(copy);
+        assertTrue(wrapped.isSome(8));
+        assertEquals(0.5, wrapped.getAsDouble(8));
+        assertEquals(10, copy.position());
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> DoubleOptionColumn.wrap(ByteBuffer.allocate(16)));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link IntOptionCursor}.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class IntOptionCursorTest
+{
+    private static final int LENGTH = 1_000;
+
+    @Test
+    public void testBehavesAsSnapshot()
+    {
+        final Random random = new Random(50);
+        final int[] values = new int[LENGTH];
+        final long[] presence = new long[(LENGTH + 63) >>> 6];
+
+        for (int i = 0; i < LENGTH; i++)
+        {
+            values[i] = random.nextInt();
+
+            if (random.nextInt(4) != 0)
+            {
+                presence[i >>> 6] |= 1L << i;
+            }
+        }
+
+        final IntOptionCursor cursor = new IntOptionCursor(values, presence);
+
+        for (int i = 0; i < LENGTH; i++)
+        {
+            final IntOption expected =
+                (presence[i >>> 6] & 1L << i) != 0 ?
+                    Option.some(values[i]) :
+                    Option.maybe((Integer) null);
+
+            assertSame(cursor, cursor.moveTo(i));
+            assertEquals(i, cursor.index());
+            assertEquals(expected, cursor.snapshot());
+            assertEquals(expected.isSome(), cursor.isSome());
+            assertEquals(expected.intOrElse(0), cursor.intOrElse(0));
+            assertEquals(expected.hashCode(), cursor.hashCode());
+            assertEquals(expected.toString(), cursor.toString());
+            assertEquals(expected.addExact(1), cursor.addExact(1));
+            assertEquals(
+                expected.filter(v -> v > 0),
+                cursor.filter(v -> v > 0));
+            assertEquals(expected.map(v -> v / 2), cursor.map(v -> v / 2));
+            assertFalse(cursor.equals(expected));
+        }
+    }
+
+    @Test
+    public void testDoesNotEscape()
+    {
+        final IntOptionCursor cursor =
+            new IntOptionCursor(new int[] { 1_000, 2_000 }, new long[] { 3 });
+        final IntOption first = cursor.moveTo(0).or(Option.some(0));
+
+        assertNotSame(cursor, first);
+        assertEquals(Option.some(1_000), first);
+        assertEquals(Option.some(2_000), cursor.moveTo(1).snapshot());
+        assertEquals(Option.some(1_000), first);
+    }
+
+    @Test
+    public void testPositioning()
+    {
+        final IntOptionCursor cursor =
+            new IntOptionCursor(new int[] { 7 }, new long[] { 0 });
+
+        assertEquals(-1, cursor.index());
+        assertFalse(cursor.isSome());
+        assertSame(Option.maybe((Integer) null), cursor.moveTo(0).snapshot());
+        assertThrows(IndexOutOfBoundsException.class, () -> cursor.moveTo(1));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new IntOptionCursor(new int[65], new long[1]));
+    }
+}
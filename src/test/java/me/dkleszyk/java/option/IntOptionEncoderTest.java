@@ -0,0 +1,162 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.function.LongSupplier;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link IntOptionEncoder} and the other compressed encodings.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class IntOptionEncoderTest
+{
+    private static final int SIZE = 10_000;
+
+    @Test
+    public void testCompression()
+    {
+        final Random random = new Random(46);
+        final IntOptionEncoder encoder = new IntOptionEncoder();
+
+        for (int i = 0; i < SIZE; i++)
+        {
+            if (random.nextInt(100) == 0)
+            {
+                encoder.addSome(1_000 + random.nextInt(16));
+            }
+            else
+            {
+                encoder.addNone();
+            }
+        }
+
+        // About 100 runs of each kind and 100 four-bit values
+        assertTrue(encoder.encode().length < 400);
+    }
+
+    @Test
+    public void testEmptyAndCached()
+    {
+        final byte[] empty = new IntOptionEncoder().encode();
+        assertFalse(new IntOptionDecoder(ByteBuffer.wrap(empty)).hasNext());
+
+        final byte[] one = new IntOptionEncoder().addSome(1).encode();
+        assertSame(
+            Option.some(1),
+            new IntOptionDecoder(ByteBuffer.wrap(one)).next());
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new LongOptionDecoder(ByteBuffer.wrap(one)));
+    }
+
+    @Test
+    public void testIntRoundTrip()
+    {
+        final Random random = new Random(46);
+        final IntOption[] expected = new IntOption[SIZE];
+        final IntOptionEncoder encoder = new IntOptionEncoder();
+
+        for (int i = 0; i < SIZE; i++)
+        {
+            expected[i] = random.nextInt(4) == 0 ?
+                Option.maybe((Integer) null) :
+                Option.some(random.nextInt());
+            encoder.add(expected[i]);
+        }
+
+        final IntOptionDecoder decoder =
+            new IntOptionDecoder(ByteBuffer.wrap(encoder.encode()));
+
+        for (int i = 0; i < SIZE / 2; i++)
+        {
+            assertEquals(expected[i], decoder.next());
+        }
+
+        final int[] values = new int[SIZE];
+        final boolean[] somes = new boolean[SIZE];
+        assertEquals(SIZE / 2, decoder.read(values, somes, 1, SIZE - 1));
+
+        for (int i = SIZE / 2; i < SIZE; i++)
+        {
+            final int j = i - SIZE / 2 + 1;
+            assertEquals(expected[i].isSome(), somes[j]);
+
+            if (somes[j])
+            {
+                assertEquals(expected[i].getAsInt(), values[j]);
+            }
+        }
+
+        assertFalse(decoder.hasNext());
+        assertThrows(NoSuchElementException.class, decoder::next);
+    }
+
+    @Test
+    public void testLongRoundTrip()
+    {
+        final Random random = new Random(46);
+        final long[] counter = { Long.MAX_VALUE - 5_000 };
+        final LongSupplier[] distributions =
+        {
+            () -> random.nextLong(),
+            () -> counter[0] += random.nextInt(3),
+            () -> 7L,
+            () -> random.nextBoolean() ? Long.MIN_VALUE : Long.MAX_VALUE
+        };
+
+        for (final LongSupplier distribution : distributions)
+        {
+            final LongOption[] expected = new LongOption[SIZE];
+            final LongOptionEncoder encoder = new LongOptionEncoder();
+
+            for (int i = 0; i < SIZE; i++)
+            {
+                expected[i] = (i / 300) % 3 == 0 ?
+                    Option.maybe((Long) null) :
+                    Option.some(distribution.getAsLong());
+                encoder.add(expected[i]);
+            }
+
+            final LongOptionDecoder decoder =
+                new LongOptionDecoder(ByteBuffer.wrap(encoder.encode()));
+            assertEquals(SIZE, decoder.remaining());
+
+            for (int i = 0; i < SIZE; i++)
+            {
+                assertEquals(expected[i], decoder.next());
+            }
+        }
+    }
+}
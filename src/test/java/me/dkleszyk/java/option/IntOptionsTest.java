@@ -0,0 +1,118 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link IntOptions} and the other packed option types.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class IntOptionsTest
+{
+    private static final int[] VALUES =
+    {
+        0, 1, -1, 127, -128, 65535, Integer.MIN_VALUE, Integer.MAX_VALUE
+    };
+
+    @Test
+    public void testMapIntToInt()
+    {
+        assertEquals(
+            IntOptions.some(-6),
+            IntOptions.mapIntToInt(IntOptions.some(3), x -> -2 * x));
+        assertEquals(
+            IntOptions.some(7),
+            IntOptions.mapIntToInt(IntOptions.some(3), (a, x) -> a - x, 10));
+        assertTrue(
+            IntOptions.isNone(
+                IntOptions.mapIntToInt(IntOptions.none(), x -> x + 1)));
+    }
+
+    @Test
+    public void testNone()
+    {
+        final long none = IntOptions.none();
+
+        assertTrue(IntOptions.isNone(none));
+        assertFalse(IntOptions.isSome(none));
+        assertEquals(5, IntOptions.intOrElse(none, 5));
+        assertThrows(
+            NoSuchElementException.class,
+            () -> IntOptions.getAsInt(none));
+        assertSame(Option.none(), IntOptions.unpack(none));
+        assertEquals(none, IntOptions.pack(IntOptions.unpack(none)));
+    }
+
+    @Test
+    public void testOtherTypes()
+    {
+        assertEquals(
+            Option.some((short) -2),
+            ShortOptions.unpack(ShortOptions.some((short) -2)));
+        assertEquals(
+            Option.some(Character.MAX_VALUE),
+            CharOptions.unpack(CharOptions.some(Character.MAX_VALUE)));
+        assertEquals(
+            Option.some((byte) -128),
+            ByteOptions.unpack(ByteOptions.some((byte) -128)));
+        assertEquals(
+            Option.some(false),
+            BooleanOptions.unpack(BooleanOptions.some(false)));
+        assertEquals(
+            Float.floatToRawIntBits(Float.intBitsToFloat(0x7FC0_1234)),
+            Float.floatToRawIntBits(
+                FloatOptions.getAsFloat(
+                    FloatOptions.some(Float.intBitsToFloat(0x7FC0_1234)))));
+        assertTrue(FloatOptions.isSome(FloatOptions.some(0.0f)));
+        assertTrue(BooleanOptions.isNone(ShortOptions.none()));
+    }
+
+    @Test
+    public void testSome()
+    {
+        for (final int value : VALUES)
+        {
+            final long bits = IntOptions.some(value);
+
+            assertTrue(IntOptions.isSome(bits));
+            assertEquals(value, IntOptions.getAsInt(bits));
+            assertEquals(value, IntOptions.intOrElse(bits, ~value));
+            assertEquals(Option.some(value), IntOptions.unpack(bits));
+            assertEquals(bits, IntOptions.pack(Option.some(value)));
+        }
+
+        assertSame(
+            IntOptions.unpack(IntOptions.some(1)),
+            IntOptions.unpack(IntOptions.some(1)));
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link LazyOption} and {@link LazyIntOption}.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class LazyOptionTest
+{
+    private static final int THREADS = 8;
+
+    @Test
+    public void testConcurrentUsersWaitForOneEvaluation()
+        throws InterruptedException
+    {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final LazyOption<String> lazy = LazyOption.of(() ->
+        {
+            calls.incrementAndGet();
+            entered.countDown();
+            awaitUninterruptibly(release);
+
+            return Option.some("value");
+        });
+
+        final List<Thread> threads = new ArrayList<>();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        for (int i = 0; i < THREADS; i++)
+        {
+            final Thread thread = new Thread(() ->
+            {
+                if (!"value".equals(lazy.get()))
+                {
+                    failure.set(new AssertionError("Wrong value"));
+                }
+
+            });
+            thread.setUncaughtExceptionHandler((t, ex) -> failure.set(ex));
+            threads.add(thread);
+            thread.start();
+        }
+
+        entered.await();
+
+        // Wait until every other thread has parked on the waiter stack
+        for (final Thread thread : threads)
+        {
+            while (thread.isAlive()
+                && thread.getState() != Thread.State.WAITING)
+            {
+                Thread.onSpinWait();
+            }
+        }
+
+        assertFalse(lazy.isEvaluated());
+        release.countDown();
+
+        for (final Thread thread : threads)
+        {
+            thread.join();
+        }
+
+        assertNull(failure.get());
+        assertEquals(1, calls.get());
+        assertTrue(lazy.isEvaluated());
+    }
+
+    @Test
+    public void testEquality()
+    {
+        final LazyIntOption lazy = LazyIntOption.of(() -> Option.some(1));
+        final LazyIntOption other = LazyIntOption.of(() -> Option.some(1));
+        final IntOption eager = Option.some(1);
+
+        assertEquals(lazy, lazy);
+        assertEquals(lazy, other);
+        assertEquals(other, lazy);
+        assertEquals(lazy.hashCode(), other.hashCode());
+        assertNotEquals(lazy, eager);
+        assertNotEquals(eager, lazy);
+        assertNotEquals(lazy, LazyIntOption.of(() -> Option.some(2)));
+    }
+
+    @Test
+    public void testFailureIsCached()
+    {
+        final AtomicInteger calls = new AtomicInteger();
+        final IllegalStateException failure = new IllegalStateException();
+        final LazyOption<String> lazy = LazyOption.of(() ->
+        {
+            calls.incrementAndGet();
+
+            throw failure;
+        });
+
+        assertSame(
+            failure,
+            assertThrows(IllegalStateException.class, lazy::get));
+        assertSame(
+            failure,
+            assertThrows(IllegalStateException.class, lazy::isSome));
+        assertEquals(1, calls.get());
+        assertFalse(lazy.isEvaluated());
+    }
+
+    @Test
+    public void testNullSupplied()
+    {
+        final LazyOption<String> lazy = LazyOption.of(() -> null);
+
+        assertThrows(NullPointerException.class, lazy::isSome);
+        assertThrows(NullPointerException.class, lazy::isSome);
+    }
+
+    @Test
+    public void testReentrantUse()
+    {
+        final AtomicReference<LazyOption<String>> self =
+            new AtomicReference<>();
+        self.set(LazyOption.of(() -> self.get().or(Option.some("x"))));
+
+        assertThrows(IllegalStateException.class, () -> self.get().get());
+    }
+
+    private static void awaitUninterruptibly(
+        final CountDownLatch latch)
+    {
+        while (true)
+        {
+            try
+            {
+                latch.await();
+
+                return;
+            }
+            catch (final InterruptedException ex)
+            {
+                // Retry
+            }
+        }
+    }
+}
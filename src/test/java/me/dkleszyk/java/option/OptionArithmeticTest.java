@@ -0,0 +1,122 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for the checked arithmetic of {@link IntOption}, {@link LongOption}
+ * and {@link DoubleOption}.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class OptionArithmeticTest
+{
+    private static final DoubleOption NO_DOUBLE = Option.maybe((Double) null);
+
+    private static final IntOption NO_INT = Option.maybe((Integer) null);
+
+    private static final LongOption NO_LONG = Option.maybe((Long) null);
+
+    private static final ShortOption NO_SHORT = Option.maybe((Short) null);
+
+    @Test
+    public void testDoubleDomain()
+    {
+        assertEquals(Option.some(3.0), Option.some(9.0).sqrt());
+        assertEquals(Option.some(-0.0), Option.some(-0.0).sqrt());
+        assertSame(NO_DOUBLE, Option.some(-1.0).sqrt());
+        assertSame(NO_DOUBLE, Option.some(Double.NaN).sqrt());
+        assertEquals(
+            Option.some(Double.POSITIVE_INFINITY),
+            Option.some(Double.POSITIVE_INFINITY).sqrt());
+
+        assertEquals(Option.some(0.0), Option.some(1.0).log());
+        assertSame(NO_DOUBLE, Option.some(0.0).log());
+        assertSame(NO_DOUBLE, Option.some(-0.0).log());
+        assertSame(NO_DOUBLE, Option.some(-1.0).log());
+        assertSame(NO_DOUBLE, Option.some(Double.NaN).log());
+        assertSame(NO_DOUBLE, NO_DOUBLE.sqrt());
+        assertSame(NO_DOUBLE, NO_DOUBLE.log());
+    }
+
+    @Test
+    public void testIntOverflow()
+    {
+        final IntOption max = Option.some(Integer.MAX_VALUE);
+        final IntOption min = Option.some(Integer.MIN_VALUE);
+
+        assertSame(NO_INT, max.addExact(1));
+        assertEquals(Option.some(-1), min.addExact(Integer.MAX_VALUE));
+        assertSame(NO_INT, min.subtractExact(1));
+        assertEquals(
+            Option.some(Integer.MAX_VALUE),
+            Option.some(-1).subtractExact(Integer.MIN_VALUE));
+        assertSame(NO_INT, max.multiplyExact(2));
+        assertSame(NO_INT, min.multiplyExact(-1));
+        assertEquals(Option.some(-Integer.MAX_VALUE), max.multiplyExact(-1));
+
+        assertSame(NO_INT, min.floorDiv(-1));
+        assertSame(NO_INT, Option.some(1).floorDiv(0));
+        assertEquals(Option.some(-2), Option.some(-3).floorDiv(2));
+        assertSame(NO_INT, NO_INT.addExact(1));
+
+        assertSame(NO_SHORT, Option.some(Short.MAX_VALUE + 1).narrowToShort());
+        assertEquals(
+            Option.some(Short.MIN_VALUE),
+            Option.some((int) Short.MIN_VALUE).narrowToShort());
+    }
+
+    @Test
+    public void testLongOverflow()
+    {
+        final LongOption max = Option.some(Long.MAX_VALUE);
+        final LongOption min = Option.some(Long.MIN_VALUE);
+
+        assertSame(NO_LONG, max.addExact(1));
+        assertSame(NO_LONG, min.subtractExact(1));
+        assertSame(NO_LONG, max.multiplyExact(2));
+        assertSame(NO_LONG, min.multiplyExact(-1));
+        assertSame(NO_LONG, Option.some(1L << 32).multiplyExact(1L << 31));
+        assertEquals(
+            Option.some(1L << 62),
+            Option.some(1L << 31).multiplyExact(1L << 31));
+        assertEquals(
+            Option.some(Long.MIN_VALUE),
+            Option.some(-(1L << 32)).multiplyExact(1L << 31));
+
+        assertSame(NO_LONG, min.floorDiv(-1));
+        assertSame(NO_LONG, Option.some(1L).floorDiv(0));
+        assertEquals(Option.some(-2L), Option.some(-3L).floorDiv(2));
+
+        assertSame(NO_INT, Option.some(1L << 31).narrowToInt());
+        assertEquals(
+            Option.some(Integer.MIN_VALUE),
+            Option.some((long) Integer.MIN_VALUE).narrowToInt());
+        assertSame(NO_SHORT, Option.some(1L << 15).narrowToShort());
+    }
+}
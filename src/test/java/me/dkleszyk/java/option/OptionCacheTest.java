@@ -0,0 +1,163 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link OptionCache} and {@link IntKeyOptionCache}.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class OptionCacheTest
+{
+    private static final Duration FOREVER = Duration.ofDays(365);
+
+    @Test
+    public void testBounds()
+    {
+        final OptionCache<Integer, Integer> cache =
+            OptionCache.create(16, FOREVER, 16, FOREVER);
+
+        for (int i = 0; i < 1000; i++)
+        {
+            cache.computeIfAbsent(i, Option::some);
+        }
+
+        final AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 1000; i++)
+        {
+            cache.computeIfAbsent(i, (k) ->
+            {
+                loads.incrementAndGet();
+
+                return Option.some(k);
+            });
+        }
+
+        assertTrue(loads.get() >= 1000 - 16);
+        assertTrue(cache.evictionCount() >= 1000 - 16);
+    }
+
+    @Test
+    public void testIntKeys()
+    {
+        final IntKeyOptionCache<String> cache =
+            IntKeyOptionCache.create(64, FOREVER, 64, FOREVER);
+        final AtomicInteger loads = new AtomicInteger();
+
+        for (int round = 0; round < 3; round++)
+        {
+            for (int i = -10; i < 10; i++)
+            {
+                final Option<String> option = cache.computeIfAbsent(i, (k) ->
+                {
+                    loads.incrementAndGet();
+
+                    return k < 0 ?
+                        Option.none() :
+                        Option.some(Integer.toString(k));
+                });
+
+                assertEquals(
+                    i < 0 ?
+                        Option.none() :
+                        Option.some(Integer.toString(i)),
+                    option);
+            }
+        }
+
+        assertEquals(20, loads.get());
+        assertEquals(20, cache.missCount());
+        assertEquals(40, cache.hitCount());
+        assertEquals(20, cache.noneHitCount());
+    }
+
+    @Test
+    public void testNegativeCaching()
+    {
+        final OptionCache<String, String> cache =
+            OptionCache.create(16, FOREVER, 16, Duration.ZERO);
+        final AtomicInteger loads = new AtomicInteger();
+        final Option<String> some = Option.some("value");
+
+        for (int i = 0; i < 3; i++)
+        {
+            assertSame(some, cache.computeIfAbsent("some", (k) ->
+            {
+                loads.incrementAndGet();
+
+                return some;
+            }));
+            assertSame(Option.none(), cache.computeIfAbsent("none", (k) ->
+            {
+                loads.incrementAndGet();
+
+                return Option.none();
+            }));
+        }
+
+        assertEquals(4, loads.get());
+        assertEquals(2, cache.hitCount());
+
+        cache.invalidate("some");
+        cache.computeIfAbsent("some", (k) ->
+        {
+            loads.incrementAndGet();
+
+            return some;
+        });
+
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    public void testReplacesSameKeyAfterEarlierWayIsFreed()
+    {
+        final OptionCache<String, String> cache =
+            OptionCache.create(4, FOREVER, 4, FOREVER);
+
+        cache.computeIfAbsent("a", Option::some);
+        cache.computeIfAbsent("b", (k) ->
+        {
+            cache.computeIfAbsent(k, Option::some);
+            cache.invalidate("a");
+
+            return Option.some(k);
+        });
+
+        cache.computeIfAbsent("c", Option::some);
+        cache.computeIfAbsent("d", Option::some);
+        cache.computeIfAbsent("e", Option::some);
+
+        assertEquals(0, cache.evictionCount());
+    }
+}
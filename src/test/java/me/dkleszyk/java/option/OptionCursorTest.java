@@ -0,0 +1,314 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Tests for {@link OptionCursor}, {@link LongOptionCursor} and
+ * {@link DoubleOptionCursor}, comparing each cursor with its snapshot.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class OptionCursorTest
+{
+    private static final int LENGTH = 1_000;
+
+    @Test
+    public void testDoubleCursorBehavesAsSnapshot()
+    {
+        final Random random = new Random(50);
+        final double[] values = new double[LENGTH];
+        final long[] presence = presence(random);
+
+        for (int i = 0; i < LENGTH; i++)
+        {
+            values[i] = i % 100 == 0 ?
+                Double.NaN :
+                random.nextGaussian();
+        }
+
+        final DoubleOptionCursor cursor =
+            new DoubleOptionCursor(values, presence);
+
+        for (int i = 0; i < LENGTH; i++)
+        {
+            final DoubleOption expected = cursor.moveTo(i).snapshot();
+
+            assertFalse(cursor.equals(expected));
+            assertEquals(expected, cursor.snapshot());
+            assertEquals(expected.hashCode(), cursor.hashCode());
+            assertEquals(expected.toString(), cursor.toString());
+            assertEquals(expected.isSome(), cursor.isSome());
+            assertEquals(
+                expected.doubleOrElse(-1.0),
+                cursor.doubleOrElse(-1.0));
+            assertEquals(
+                expected.doubleOrElseGet((a) -> -a, 2.0),
+                cursor.doubleOrElseGet((a) -> -a, 2.0));
+            assertEquals(
+                expected.filter((a, v) -> v > a, 0.0),
+                cursor.filter((a, v) -> v > a, 0.0));
+            assertEquals(
+                expected.filterDouble((a, b, v) -> v > a + b, 0.1, 0.2),
+                cursor.filterDouble((a, b, v) -> v > a + b, 0.1, 0.2));
+            assertEquals(
+                expected.mapDouble((a, b, v) -> a + v + b, "x", "y"),
+                cursor.mapDouble((a, b, v) -> a + v + b, "x", "y"));
+            assertEquals(
+                expected.mapDoubleToDouble((v, a) -> v * a, 2.0),
+                cursor.mapDoubleToDouble((v, a) -> v * a, 2.0));
+            assertEquals(
+                expected.mapDoubleToDouble((a, b, v) -> v * a - b, 2.0, 1.0),
+                cursor.mapDoubleToDouble((a, b, v) -> v * a - b, 2.0, 1.0));
+            assertEquals(
+                expected.matchesDouble(Double::isNaN),
+                cursor.matchesDouble(Double::isNaN));
+            assertEquals(
+                seen((seen) -> expected.ifSomeDouble(List::add, seen)),
+                seen((seen) -> cursor.ifSomeDouble(List::add, seen)));
+        }
+    }
+
+    @Test
+    public void testEquality()
+    {
+        final String[] values = { "a", "a", "b", "c" };
+        final long[] presence = { 0b1011 };
+        final OptionCursor<String> strings =
+            new OptionCursor<>(values, presence);
+        final OptionCursor<String> others =
+            new OptionCursor<>(values, presence);
+
+        assertEquals(strings, strings);
+        assertEquals(strings, others);
+
+        strings.moveTo(0);
+
+        assertEquals(strings, strings);
+        assertEquals(strings, others.moveTo(1));
+        assertNotEquals(strings, others.moveTo(2));
+        assertNotEquals(strings, others.moveTo(3));
+        assertEquals(strings.moveTo(2), others.moveTo(2));
+        assertNotEquals(strings, Option.none());
+        assertEquals(Option.none(), strings.snapshot());
+        assertNotEquals(strings.moveTo(3), Option.some("c"));
+        assertEquals(Option.some("c"), strings.snapshot());
+        assertNotEquals(Option.some("a"), strings.snapshot());
+
+        final IntOptionCursor ints =
+            new IntOptionCursor(new int[] { 1, 1 }, new long[] { 1 });
+        final IntOptionCursor otherInts =
+            new IntOptionCursor(new int[] { 1, 1 }, new long[] { 3 });
+
+        assertEquals(ints, ints);
+        assertEquals(ints.moveTo(0), otherInts.moveTo(0));
+        assertNotEquals(ints.moveTo(1), otherInts.moveTo(1));
+        assertNotEquals(ints, Option.maybe((Integer) null));
+        assertEquals(Option.maybe((Integer) null), ints.snapshot());
+
+        final LongOptionCursor longs =
+            new LongOptionCursor(new long[] { 5, 6 }, new long[] { 3 });
+        final LongOptionCursor otherLongs =
+            new LongOptionCursor(new long[] { 5, 6 }, new long[] { 3 });
+
+        assertEquals(longs.moveTo(0), longs);
+        assertEquals(longs, otherLongs.moveTo(0));
+        assertNotEquals(longs, otherLongs.moveTo(1));
+        assertNotEquals(longs, Option.some(5L));
+        assertEquals(Option.some(5L), longs.snapshot());
+
+        final DoubleOptionCursor doubles = new DoubleOptionCursor(
+            new double[] { Double.NaN, 0.0 },
+            new long[] { 3 });
+        final DoubleOptionCursor otherDoubles = new DoubleOptionCursor(
+            new double[] { Double.NaN, 0.0 },
+            new long[] { 3 });
+
+        assertEquals(doubles.moveTo(0), doubles);
+        assertEquals(doubles, otherDoubles.moveTo(0));
+        assertNotEquals(doubles, otherDoubles.moveTo(1));
+        assertNotEquals(doubles, Option.some(Double.NaN));
+        assertEquals(Option.some(Double.NaN), doubles.snapshot());
+    }
+
+    @Test
+    public void testLongCursorBehavesAsSnapshot()
+    {
+        final Random random = new Random(50);
+        final long[] values = new long[LENGTH];
+        final long[] presence = presence(random);
+
+        for (int i = 0; i < LENGTH; i++)
+        {
+            values[i] = random.nextLong();
+        }
+
+        values[0] = Long.MIN_VALUE;
+        values[1] = Long.MAX_VALUE;
+
+        final LongOptionCursor cursor = new LongOptionCursor(values, presence);
+
+        for (int i = 0; i < LENGTH; i++)
+        {
+            final LongOption expected = cursor.moveTo(i).snapshot();
+
+            assertFalse(cursor.equals(expected));
+            assertEquals(expected, cursor.snapshot());
+            assertEquals(expected.hashCode(), cursor.hashCode());
+            assertEquals(expected.toString(), cursor.toString());
+            assertEquals(expected.isSome(), cursor.isSome());
+            assertEquals(expected.longOrElse(-1L), cursor.longOrElse(-1L));
+            assertEquals(
+                expected.longOrElseGet(Long::parseLong, "-2"),
+                cursor.longOrElseGet(Long::parseLong, "-2"));
+            assertEquals(
+                expected.filter((a, v) -> v > a, 0L),
+                cursor.filter((a, v) -> v > a, 0L));
+            assertEquals(
+                expected.filterLong((a, b, v) -> v % a == b, 3L, 1L),
+                cursor.filterLong((a, b, v) -> v % a == b, 3L, 1L));
+            assertEquals(
+                expected.mapLong((a, b, v) -> a + v + b, "x", "y"),
+                cursor.mapLong((a, b, v) -> a + v + b, "x", "y"));
+            assertEquals(
+                expected.mapLongToLong((v, a) -> v ^ a, 0xFFL),
+                cursor.mapLongToLong((v, a) -> v ^ a, 0xFFL));
+            assertEquals(
+                expected.mapLongToLong((a, b, v) -> v / a + b, 7L, 1L),
+                cursor.mapLongToLong((a, b, v) -> v / a + b, 7L, 1L));
+            assertEquals(
+                expected.matchesLong((v) -> v < 0),
+                cursor.matchesLong((v) -> v < 0));
+            assertEquals(
+                seen((seen) -> expected.ifSomeLong(List::add, seen)),
+                seen((seen) -> cursor.ifSomeLong(List::add, seen)));
+        }
+    }
+
+    @Test
+    public void testObjectCursorBehavesAsSnapshot()
+    {
+        final Random random = new Random(50);
+        final String[] values = new String[LENGTH];
+        final long[] presence = presence(random);
+
+        for (int i = 0; i < LENGTH; i++)
+        {
+            values[i] = Integer.toString(random.nextInt(100));
+        }
+
+        final OptionCursor<String> cursor =
+            new OptionCursor<>(values, presence);
+
+        for (int i = 0; i < LENGTH; i++)
+        {
+            final Option<String> expected = cursor.moveTo(i).snapshot();
+
+            assertFalse(cursor.equals(expected));
+            assertEquals(expected, cursor.snapshot());
+            assertEquals(expected.hashCode(), cursor.hashCode());
+            assertEquals(expected.toString(), cursor.toString());
+            assertEquals(expected.isSome(), cursor.isSome());
+            assertEquals(expected.orElse("-"), cursor.orElse("-"));
+            assertEquals(
+                expected.orElseGet((a) -> a + "!", "x"),
+                cursor.orElseGet((a) -> a + "!", "x"));
+            assertEquals(
+                expected.orElseGet((a, b) -> a + b, "x", "y"),
+                cursor.orElseGet((a, b) -> a + b, "x", "y"));
+            assertEquals(
+                expected.filter((a, v) -> v.startsWith(a), "1"),
+                cursor.filter((a, v) -> v.startsWith(a), "1"));
+            assertEquals(
+                expected.filter((a, b, v) -> v.length() == a + b, 1, 0),
+                cursor.filter((a, b, v) -> v.length() == a + b, 1, 0));
+            assertEquals(
+                expected.map((a, v) -> a + v, "x"),
+                cursor.map((a, v) -> a + v, "x"));
+            assertEquals(
+                expected.map((a, b, v) -> a + v + b, "x", "y"),
+                cursor.map((a, b, v) -> a + v + b, "x", "y"));
+            assertEquals(
+                expected.<String, Option<String>>flatMap(
+                    (a, v) -> Option.some(a + v),
+                    "x"),
+                cursor.<String, Option<String>>flatMap(
+                    (a, v) -> Option.some(a + v),
+                    "x"));
+            assertEquals(
+                expected.<Integer, Integer, IntOption>flatMap(
+                    (a, b, v) -> Option.some(v.length() + a + b),
+                    1,
+                    2),
+                cursor.<Integer, Integer, IntOption>flatMap(
+                    (a, b, v) -> Option.some(v.length() + a + b),
+                    1,
+                    2));
+            assertEquals(
+                expected.matches((a, v) -> v.equals(a), "7"),
+                cursor.matches((a, v) -> v.equals(a), "7"));
+            assertEquals(
+                expected.matches((a, b, v) -> v.length() > a + b, 0, 1),
+                cursor.matches((a, b, v) -> v.length() > a + b, 0, 1));
+            assertEquals(
+                seen((seen) -> expected.ifSome(List::add, seen)),
+                seen((seen) -> cursor.ifSome(List::add, seen)));
+        }
+    }
+
+    private static long[] presence(
+        final Random random)
+    {
+        final long[] presence = new long[(LENGTH + 63) >>> 6];
+
+        for (int i = 0; i < LENGTH; i++)
+        {
+            if (random.nextInt(4) != 0)
+            {
+                presence[i >>> 6] |= 1L << i;
+            }
+        }
+
+        return presence;
+    }
+
+    private static List<Object> seen(
+        final Consumer<List<Object>> ifSome)
+    {
+        final List<Object> seen = new ArrayList<>();
+
+        ifSome.accept(seen);
+
+        return seen;
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link OptionFutures}.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class OptionFuturesTest
+{
+    private static final int REQUESTS = 100;
+
+    private static final long WORK_NANOS = 200_000;
+
+    @Test
+    public void testAllSome()
+        throws Exception
+    {
+        try (final Backend backend = new Backend())
+        {
+            final List<CompletableFuture<Option<Integer>>> futures =
+                backend.submitAll((i) -> Option.some(i));
+
+            final CompletableFuture<Option<List<Integer>>> result =
+                OptionFutures.allSome(futures);
+
+            backend.start();
+
+            assertEquals(
+                Option.some(backend.range()),
+                result.get(5, TimeUnit.SECONDS));
+            assertEquals(REQUESTS, backend.work.get());
+        }
+    }
+
+    @Test
+    public void testAllSomeCancelsOnNone()
+        throws Exception
+    {
+        try (final Backend backend = new Backend())
+        {
+            final CompletableFuture<Option<List<Integer>>> result =
+                OptionFutures.traverseAsync(
+                    backend.range(),
+                    (i) -> backend.submit(() -> i == 10 ?
+                        Option.none() :
+                        Option.some(i)));
+
+            backend.start();
+
+            assertSame(Option.none(), result.get(5, TimeUnit.SECONDS));
+
+            backend.drain();
+
+            // The backend runs requests in order, so at least some of those
+            // after the empty result find their futures cancelled and skip
+            // their work; how many depends on how quickly the cancellation
+            // overtakes the backend
+            assertTrue(backend.work.get() >= 11);
+            assertTrue(backend.work.get() < REQUESTS);
+        }
+    }
+
+    @Test
+    public void testFirstSome()
+        throws Exception
+    {
+        try (final Backend backend = new Backend())
+        {
+            final List<CompletableFuture<Option<Integer>>> futures =
+                backend.submitAll((i) -> i < 5 ?
+                    Option.none() :
+                    Option.some(i));
+
+            final CompletableFuture<Option<Integer>> result =
+                OptionFutures.firstSome(futures);
+
+            backend.start();
+
+            assertEquals(Option.some(5), result.get(5, TimeUnit.SECONDS));
+
+            backend.drain();
+
+            // The cancellations may be made by this thread while the backend
+            // keeps running, so which futures are cancelled is not fixed
+            assertTrue(backend.work.get() >= 6);
+            assertTrue(backend.work.get() < REQUESTS);
+            assertTrue(
+                futures.stream().anyMatch(CompletableFuture::isCancelled));
+        }
+    }
+
+    @Test
+    public void testFirstSomeAllNone()
+        throws Exception
+    {
+        try (final Backend backend = new Backend())
+        {
+            final List<CompletableFuture<Option<Object>>> futures =
+                backend.submitAll((i) -> Option.none());
+            final CompletableFuture<Option<Object>> result =
+                OptionFutures.firstSome(futures);
+
+            backend.start();
+
+            assertSame(Option.none(), result.get(5, TimeUnit.SECONDS));
+            assertEquals(REQUESTS, backend.work.get());
+        }
+    }
+
+    /**
+     * A fake backend that serves requests in order on a single thread once it
+     * is started, and skips requests whose futures have already been
+     * completed.
+     */
+    private static final class Backend
+        implements AutoCloseable
+    {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        final CountDownLatch started = new CountDownLatch(1);
+
+        final AtomicInteger work = new AtomicInteger();
+
+        Backend()
+        {
+            executor.execute(() ->
+            {
+                try
+                {
+                    started.await();
+                }
+                catch (final InterruptedException ex)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        @Override
+        public void close()
+        {
+            executor.shutdownNow();
+        }
+
+        void drain()
+            throws Exception
+        {
+            executor.submit(() ->
+            {
+            }).get(5, TimeUnit.SECONDS);
+        }
+
+        void start()
+        {
+            started.countDown();
+        }
+
+        List<Integer> range()
+        {
+            final List<Integer> range = new ArrayList<>();
+
+            for (int i = 0; i < REQUESTS; i++)
+            {
+                range.add(i);
+            }
+
+            return range;
+        }
+
+        <T> CompletableFuture<Option<T>> submit(
+            final Supplier<Option<T>> request)
+        {
+            final CompletableFuture<Option<T>> future =
+                new CompletableFuture<>();
+
+            executor.execute(() ->
+            {
+                if (!future.isDone())
+                {
+                    work.incrementAndGet();
+                    LockSupport.parkNanos(WORK_NANOS);
+                    future.complete(request.get());
+                }
+            });
+
+            return future;
+        }
+
+        <T> List<CompletableFuture<Option<T>>> submitAll(
+            final IntFunction<Option<T>> request)
+        {
+            final List<CompletableFuture<Option<T>>> futures =
+                new ArrayList<>();
+
+            for (int i = 0; i < REQUESTS; i++)
+            {
+                final int index = i;
+
+                futures.add(submit(() -> request.apply(index)));
+            }
+
+            return futures;
+        }
+    }
+}
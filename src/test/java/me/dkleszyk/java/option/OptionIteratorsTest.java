@@ -0,0 +1,125 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests for {@link OptionIterators}.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class OptionIteratorsTest
+{
+    @Test
+    public void testEmptyIterators()
+    {
+        final PrimitiveIterator.OfInt ints = OptionIterators.emptyIntIterator();
+
+        assertFalse(ints.hasNext());
+        assertThrows(NoSuchElementException.class, ints::nextInt);
+        ints.forEachRemaining((int i) -> fail());
+        assertFalse(OptionIterators.emptyIntIterator().hasNext());
+        assertFalse(OptionIterators.emptyLongIterator().hasNext());
+        assertThrows(
+            NoSuchElementException.class,
+            OptionIterators.emptyLongIterator()::nextLong);
+        assertFalse(OptionIterators.emptyDoubleIterator().hasNext());
+        assertThrows(
+            NoSuchElementException.class,
+            OptionIterators.emptyDoubleIterator()::nextDouble);
+    }
+
+    @Test
+    public void testForEachRemaining()
+    {
+        final List<Object> values = new ArrayList<>();
+
+        OptionIterators.of("a").forEachRemaining(values::add);
+        OptionIterators.of(1).forEachRemaining((int i) -> values.add(i));
+        OptionIterators.of(2L).forEachRemaining((long l) -> values.add(l));
+        OptionIterators.of(0.5).forEachRemaining((double d) -> values.add(d));
+
+        assertEquals(List.of("a", 1, 2L, 0.5), values);
+
+        final PrimitiveIterator.OfInt ints = OptionIterators.of(1);
+
+        ints.nextInt();
+        ints.forEachRemaining((int i) -> fail());
+        assertFalse(ints.hasNext());
+    }
+
+    @Test
+    public void testOptionIterators()
+    {
+        final Iterator<Integer> boxed = Option.some(3).iterator();
+
+        assertEquals(3, boxed.next());
+        assertFalse(boxed.hasNext());
+        assertFalse(Option.maybe((Integer) null).intIterator().hasNext());
+        assertEquals(4L, Option.some(4L).longIterator().nextLong());
+        assertFalse(Option.none().iterator().hasNext());
+    }
+
+    @Test
+    public void testSingleValue()
+    {
+        final Iterator<String> strings = OptionIterators.of((String) null);
+
+        assertTrue(strings.hasNext());
+        assertNull(strings.next());
+        assertFalse(strings.hasNext());
+        assertThrows(NoSuchElementException.class, strings::next);
+
+        final PrimitiveIterator.OfInt ints = OptionIterators.of(7);
+
+        assertTrue(ints.hasNext());
+        assertEquals(7, ints.nextInt());
+        assertThrows(NoSuchElementException.class, ints::nextInt);
+
+        final PrimitiveIterator.OfLong longs = OptionIterators.of(7L);
+
+        assertEquals(7L, longs.nextLong());
+        assertFalse(longs.hasNext());
+        assertThrows(NoSuchElementException.class, longs::nextLong);
+
+        final PrimitiveIterator.OfDouble doubles = OptionIterators.of(0.5);
+
+        assertEquals(0.5, doubles.nextDouble());
+        assertFalse(doubles.hasNext());
+        assertThrows(NoSuchElementException.class, doubles::nextDouble);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for {@link OptionLookups}.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class OptionLookupsTest
+{
+    private static final Option<String> NULL =
+        Option.someNullable((String) null);
+
+    @Test
+    public void testArrays()
+    {
+        final String[] strings = { "a", null };
+
+        assertEquals(Option.some("a"), OptionLookups.get(strings, 0));
+        assertEquals(NULL, OptionLookups.get(strings, 1));
+        assertSame(Option.none(), OptionLookups.get(strings, 2));
+        assertSame(Option.none(), OptionLookups.get(strings, -1));
+
+        final int[] ints = { 7 };
+        assertEquals(Option.some(7), OptionLookups.get(ints, 0));
+        assertSame(Option.maybe((Integer) null), OptionLookups.get(ints, 1));
+        assertEquals(Option.some(2L), OptionLookups.get(new long[] { 2 }, 0));
+        assertEquals(
+            Option.some(0.5),
+            OptionLookups.get(new double[] { 0.5 }, 0));
+        assertEquals(
+            Option.some(true),
+            OptionLookups.get(new boolean[] { true }, 0));
+        assertSame(
+            Option.maybe((Character) null),
+            OptionLookups.get(new char[0], 0));
+    }
+
+    @Test
+    public void testListsAndMaps()
+    {
+        final List<String> list = Arrays.asList("a", null);
+        assertEquals(Option.some("a"), OptionLookups.get(list, 0));
+        assertEquals(NULL, OptionLookups.get(list, 1));
+        assertSame(Option.none(), OptionLookups.get(list, 2));
+
+        final Map<String, String> map = new HashMap<>();
+        map.put("a", "b");
+        map.put("n", null);
+        assertEquals(Option.some("b"), OptionLookups.get(map, "a"));
+        assertEquals(NULL, OptionLookups.get(map, "n"));
+        assertSame(Option.none(), OptionLookups.get(map, "z"));
+
+        final TreeMap<Integer, String> tree = new TreeMap<>();
+        tree.put(10, "ten");
+        tree.put(20, null);
+        assertEquals(Option.some("ten"), OptionLookups.floor(tree, 15));
+        assertEquals(NULL, OptionLookups.ceiling(tree, 15));
+        assertSame(Option.none(), OptionLookups.floor(tree, 5));
+        assertSame(Option.none(), OptionLookups.ceiling(tree, 25));
+    }
+
+    @Test
+    public void testQueues()
+    {
+        final ArrayDeque<String> deque = new ArrayDeque<>(List.of("a", "b"));
+
+        assertEquals(Option.some("a"), OptionLookups.peekFirst(deque));
+        assertEquals(Option.some("a"), OptionLookups.poll(deque));
+        assertEquals(Option.some("b"), OptionLookups.poll(deque));
+        assertSame(Option.none(), OptionLookups.poll(deque));
+        assertSame(Option.none(), OptionLookups.peekFirst(deque));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link OptionMap}.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class OptionMapTest
+{
+    @Test
+    public void testAgainstHashMap()
+    {
+        final Random random = new Random(42);
+        final OptionMap<String, Integer> map = new OptionMap<>(0);
+        final Map<String, Option<Integer>> expected = new HashMap<>();
+
+        for (int i = 0; i < 100_000; i++)
+        {
+            final String key = Integer.toString(random.nextInt(300));
+
+            switch (random.nextInt(4))
+            {
+                case 0:
+                    final Option<Integer> option = switch (random.nextInt(3))
+                    {
+                        case 0 -> Option.none();
+                        case 1 -> Option.someNullable(null);
+                        default -> Option.some(random.nextInt(1000));
+                    };
+                    assertEquals(
+                        Objects.requireNonNullElse(
+                            expected.put(key, option),
+                            Option.none()),
+                        map.put(key, option));
+
+                    break;
+                case 1:
+                    assertEquals(
+                        Objects.requireNonNullElse(
+                            expected.remove(key),
+                            Option.none()),
+                        map.remove(key));
+
+                    break;
+                default:
+                    assertEquals(
+                        expected.getOrDefault(key, Option.none()),
+                        map.get(key));
+                    assertEquals(
+                        expected.containsKey(key),
+                        map.containsKey(key));
+
+                    break;
+            }
+
+            assertEquals(expected.size(), map.size());
+        }
+    }
+
+    @Test
+    public void testMissingKeys()
+    {
+        final OptionMap<String, String> map = new OptionMap<>();
+
+        assertSame(Option.none(), map.put("key", Option.some("a")));
+        assertEquals(Option.some("a"), map.put("key", Option.none()));
+        assertSame(Option.none(), map.remove("key"));
+        assertSame(Option.none(), map.remove("key"));
+        assertFalse(map.containsKey("key"));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testStates()
+    {
+        final OptionMap<String, String> map = new OptionMap<>();
+        map.put("none", Option.none());
+        map.put("null", Option.someNullable(null));
+        map.put("value", Option.some("v"));
+
+        assertSame(Option.none(), map.get("unknown"));
+        assertFalse(map.containsKey("unknown"));
+        assertTrue(map.containsKey("none"));
+        assertSame(Option.none(), map.get("none"));
+        assertSame(Option.someNullable(null), map.get("null"));
+        assertEquals(Option.some("v"), map.get("value"));
+
+        assertTrue(map.isNone("none"));
+        assertFalse(map.isNone("unknown"));
+        assertTrue(map.isSome("null"));
+        assertFalse(map.isSome("none"));
+
+        assertEquals("x", map.getOrElse("none", "x"));
+        assertNull(map.getOrElse("null", "x"));
+        assertEquals("v", map.getOrElse("value", "x"));
+
+        final List<String> seen = new ArrayList<>();
+        map.ifSome("value", seen::add);
+        map.ifSome("none", seen::add);
+        map.ifSome("null", List::add, seen);
+        assertEquals(List.of("v"), seen.subList(0, 1));
+        assertEquals(2, seen.size());
+        assertNull(seen.get(1));
+    }
+}
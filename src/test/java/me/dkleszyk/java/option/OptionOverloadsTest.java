@@ -0,0 +1,138 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the overloads of {@link Option} and its primitive specializations
+ * that pass two extra arguments to their functions.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class OptionOverloadsTest
+{
+    private static final IntOption NO_INT = Option.maybe((Integer) null);
+
+    private static final DoubleOption NO_DOUBLE = Option.maybe((Double) null);
+
+    private static final LongOption NO_LONG = Option.maybe((Long) null);
+
+    @Test
+    public void testDoubleOverloads()
+    {
+        final DoubleOption some = Option.some(1.5);
+
+        assertEquals(
+            Option.some(4.5),
+            some.mapDoubleToDouble((a, b, v) -> a * v + b, 2.0, 1.5));
+        assertEquals(
+            Option.some(3),
+            some.mapDoubleToInt((a, b, v) -> (int) (a * v), 2, "x"));
+        assertEquals(
+            Option.some(3L),
+            some.mapDoubleToLong((a, b, v) -> (long) (a * v), 2L, "x"));
+        assertEquals(
+            Option.some("x1.5"),
+            some.mapDouble((a, b, v) -> a + v, "x", 0));
+        assertSame(some, some.filterDouble((a, b, v) -> v > a, 1.0, 0));
+        assertSame(
+            NO_DOUBLE,
+            some.filterDouble((a, b, v) -> v > a, 2.0, 0));
+        assertSame(
+            NO_DOUBLE,
+            NO_DOUBLE.mapDoubleToDouble((a, b, v) -> v, 0, 0));
+    }
+
+    @Test
+    public void testIntOverloads()
+    {
+        final IntOption some = Option.some(1_000);
+
+        assertEquals(
+            Option.some(2_001),
+            some.mapIntToInt((a, b, v) -> a * v + b, 2, 1));
+        assertEquals(
+            Option.some(500.0),
+            some.mapIntToDouble((a, b, v) -> v / a, 2.0, "x"));
+        assertEquals(
+            Option.some(2_000L),
+            some.mapIntToLong((a, b, v) -> a * v, 2L, "x"));
+        assertEquals(
+            Option.some("x1000y"),
+            some.mapInt((a, b, v) -> a + v + b, "x", "y"));
+        assertSame(some, some.filterInt((a, b, v) -> v > a + b, 1, 2));
+        assertSame(NO_INT, some.filterInt((a, b, v) -> v < a + b, 1, 2));
+        assertSame(NO_INT, NO_INT.mapIntToInt((a, b, v) -> v, 0, 0));
+    }
+
+    @Test
+    public void testLongOverloads()
+    {
+        final LongOption some = Option.some(Long.MAX_VALUE);
+
+        assertEquals(
+            Option.some(Long.MAX_VALUE - 3),
+            some.mapLongToLong((a, b, v) -> v - a - b, 1L, 2L));
+        assertSame(
+            some,
+            some.filterLong((a, b, v) -> v == a, Long.MAX_VALUE, 0));
+        assertSame(NO_LONG, NO_LONG.mapLongToLong((a, b, v) -> v, 0, 0));
+    }
+
+    @Test
+    public void testObjectOverloads()
+    {
+        final Option<String> some = Option.some("abc");
+        final Option<String> none = Option.none();
+
+        assertEquals(
+            Option.some("xabcy"),
+            some.map((a, b, v) -> a + v + b, "x", "y"));
+        assertEquals(
+            Option.some(5),
+            some.mapToInt((a, b, v) -> v.length() + a + b, 1, 1));
+        assertEquals(
+            Option.some(6L),
+            some.mapToLong((a, b, v) -> v.length() * a * b, 1L, 2L));
+        assertEquals(
+            Option.some(1.5),
+            some.mapToDouble((a, b, v) -> v.length() / a - b, 2.0, 0.0));
+        assertEquals(
+            Option.some("bc"),
+            some.flatMap((a, b, v) -> Option.some(v.substring(a, b)), 1, 3));
+        assertSame(some, some.filter((a, b, v) -> v.startsWith(a), "a", 0));
+        assertSame(none, some.filter((a, b, v) -> v.startsWith(a), "b", 0));
+        assertTrue(some.matches((a, b, v) -> v.length() == a + b, 1, 2));
+        assertFalse(none.matches((a, b, v) -> true, 1, 2));
+        assertEquals("abc", some.orElseGet((a, b) -> a + b, "x", "y"));
+        assertEquals("xy", none.orElseGet((a, b) -> a + b, "x", "y"));
+        assertSame(none, none.map((a, b, v) -> v, 0, 0));
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link OptionParsers}.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class OptionParsersTest
+{
+    private static final String[] INVALID_NUMBERS =
+    {
+        "", "+", "-", "--1", "+-1", "1-", " 1", "1 ", "1x", "0x10"
+    };
+
+    private static final String[] VALID_DOUBLES =
+    {
+        "0", "-0", "+0.0", "1", "1.", ".5", "-.5", "3.141592653589793",
+        "1e10", "1E-10", "1.5e+3", "123456789012345678901234567890",
+        "0.000000000000000000000000000001", "1e400", "-1e400", "1e-400",
+        "4.9e-324", "2.2250738585072014E-308", "1.7976931348623157E308",
+        "9007199254740993", "0.1", "0.3", "NaN", "-Infinity", "+Infinity"
+    };
+
+    @Test
+    public void testParseBoolean()
+    {
+        assertEquals(Option.some(true), OptionParsers.parseBoolean("TrUe"));
+        assertEquals(Option.some(false), OptionParsers.parseBoolean("false"));
+        assertTrue(OptionParsers.parseBoolean("yes").isNone());
+        assertTrue(OptionParsers.parseBoolean("tru").isNone());
+                assertEquals(
+            Option.some(true),
+            OptionParsers.parseBoolean(ascii("x,true,y"), 2, 6));
+        assertEquals(
+            Option.some(false),
+            OptionParsers.parseBoolean(
+                ByteBuffer.allocateDirect(5).put(ascii("FALSE")),
+                0,
+                5));
+    }
+
+    @Test
+    public void testParseDouble()
+    {
+        for (final String s : VALID_DOUBLES)
+        {
+            assertDouble(Double.parseDouble(s), s);
+        }
+
+        final Random random = new Random(0);
+
+        for (int i = 0; i < 10_000; i++)
+        {
+            final double value = Double.longBitsToDouble(random.nextLong());
+
+            final String decimal =
+                Long.toString(random.nextLong() >> random.nextInt(64))
+                + "." + Math.abs(random.nextInt()) + "e"
+                + (random.nextInt(80) - 40);
+
+            assertDouble(value, Double.toString(value));
+            assertDouble(Double.parseDouble(decimal), decimal);
+        }
+
+        for (final String s : new String[]
+        {
+            "", ".", "e5", "1e", "1e+", "1.2.3", "Inf", "nan", "1d", "0x1p3",
+            " 1", "1 ", "--1"
+        })
+        {
+            assertTrue(OptionParsers.parseDouble(s).isNone(), s);
+            assertTrue(OptionParsers.parseDouble(ascii(s), 0, s.length())
+                .isNone(), s);
+        }
+    }
+
+    @Test
+    public void testParseInt()
+    {
+        for (final String s : new String[]
+        {
+            "0", "-0", "+7", "2147483647", "-2147483648", "000123"
+        })
+        {
+            assertEquals(Option.some(Integer.parseInt(s)),
+                OptionParsers.parseInt(s));
+            assertEquals(Option.some(Integer.parseInt(s)),
+                OptionParsers.parseInt(ascii(s), 0, s.length(), 10));
+        }
+
+        for (final String s : INVALID_NUMBERS)
+        {
+            assertTrue(OptionParsers.parseInt(s).isNone(), s);
+            assertTrue(OptionParsers.parseInt(ascii(s), 0, s.length(), 10)
+                .isNone(), s);
+        }
+
+        assertTrue(OptionParsers.parseInt("2147483648").isNone());
+        assertTrue(OptionParsers.parseInt("-2147483649").isNone());
+        assertEquals(Option.some(255), OptionParsers.parseInt("fF", 0, 2, 16));
+        assertEquals(
+            Option.some(-42),
+            OptionParsers.parseInt(
+                ByteBuffer.wrap(ascii("..-42..")).position(3),
+                2,
+                5,
+                10));
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> OptionParsers.parseInt("1", 0, 2, 10));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> OptionParsers.parseInt("1", 0, 1, 37));
+    }
+
+    @Test
+    public void testParseLong()
+    {
+        for (final String s : new String[]
+        {
+            "0", "-1", "9223372036854775807", "-9223372036854775808"
+        })
+        {
+            assertEquals(Option.some(Long.parseLong(s)),
+                OptionParsers.parseLong(s));
+            assertEquals(Option.some(Long.parseLong(s)),
+                OptionParsers.parseLong(ascii(s), 0, s.length(), 10));
+        }
+
+        for (final String s : INVALID_NUMBERS)
+        {
+            assertTrue(OptionParsers.parseLong(s).isNone(), s);
+        }
+
+        assertTrue(OptionParsers.parseLong("9223372036854775808").isNone());
+        assertTrue(OptionParsers.parseLong("-9223372036854775809").isNone());
+        assertEquals(
+            Option.some(Long.MIN_VALUE),
+            OptionParsers.parseLong(
+                "-1000000000000000000000000000000000000000000000000000000000000000",
+                0,
+                65,
+                2));
+    }
+
+    private static byte[] ascii(
+        final String s)
+    {
+        return s.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static void assertDouble(
+        final double expected,
+        final String s)
+    {
+        final byte[] bytes = ascii(s);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+
+        direct.put(bytes);
+
+        assertEquals(Option.some(expected), OptionParsers.parseDouble(s), s);
+        assertEquals(
+            Option.some(expected),
+            OptionParsers.parseDouble(bytes, 0, bytes.length),
+            s);
+        assertEquals(
+            Option.some(expected),
+            OptionParsers.parseDouble(direct, 0, bytes.length),
+            s);
+    }
+}
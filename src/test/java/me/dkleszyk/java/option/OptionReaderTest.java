@@ -0,0 +1,152 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link OptionReader} and {@link OptionWriter}.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class OptionReaderTest
+{
+    private static final int LENGTH = 10_000;
+
+    @Test
+    public void testBatchedRoundTrip()
+        throws IOException
+    {
+        final Random random = new Random(48);
+        final List<IntOption> expected = new ArrayList<>();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OptionWriter writer =
+            new OptionWriter(Channels.newChannel(out), 64))
+        {
+            for (int i = 0; i < LENGTH; i++)
+            {
+                final IntOption option = random.nextInt(3) != 0 ?
+                    Option.some(random.nextInt()) :
+                    Option.maybe((Integer) null);
+                expected.add(option);
+                writer.write(option);
+            }
+        }
+
+        final List<IntOption> actual = new ArrayList<>();
+        try (OptionReader reader = new OptionReader(
+            Channels.newChannel(
+                new ByteArrayInputStream(out.toByteArray())),
+            100))
+        {
+            int count;
+            int total = 0;
+
+            while ((count = reader.readInts(
+                (present, value) -> actual.add(present ?
+                    Option.some(value) :
+                    Option.maybe((Integer) null)),
+                333)) != 0)
+            {
+                total += count;
+            }
+
+            assertEquals(LENGTH, total);
+        }
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testNonBlockingChannel()
+        throws IOException
+    {
+        final Pipe pipe = Pipe.open();
+
+        try (Pipe.SourceChannel source = pipe.source();
+            Pipe.SinkChannel sink = pipe.sink())
+        {
+            source.configureBlocking(false);
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> new OptionReader(source));
+        }
+    }
+
+    @Test
+    public void testSingleReads()
+        throws IOException
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OptionWriter writer = new OptionWriter(out))
+        {
+            writer.write(Option.some(1L));
+            writer.writeDouble(false, 0);
+            writer.writeInt(true, 7);
+        }
+
+        try (OptionReader reader =
+            new OptionReader(new ByteArrayInputStream(out.toByteArray())))
+        {
+            assertEquals(Option.some(1L), reader.readLong());
+            assertSame(Option.maybe((Double) null), reader.readDouble());
+            assertThrows(IOException.class, reader::readLong);
+            assertEquals(Option.some(7), reader.readInt());
+            assertFalse(reader.hasNext());
+            assertThrows(EOFException.class, reader::readInt);
+        }
+    }
+
+    @Test
+    public void testTruncatedRecord()
+        throws IOException
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OptionWriter writer = new OptionWriter(out))
+        {
+            writer.writeLong(true, 1);
+        }
+
+        final byte[] bytes = out.toByteArray();
+        try (OptionReader reader = new OptionReader(
+            new ByteArrayInputStream(bytes, 0, bytes.length - 1)))
+        {
+            assertThrows(EOFException.class, reader::readLong);
+        }
+    }
+}
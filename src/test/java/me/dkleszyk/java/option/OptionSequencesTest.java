@@ -0,0 +1,171 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link OptionSequences}.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class OptionSequencesTest
+{
+    private static final int LARGE = 1 << 17;
+
+    @Test
+    public void testParallelSequence()
+    {
+        final List<Option<Integer>> options = IntStream.range(0, LARGE)
+            .mapToObj(Option::some)
+            .collect(Collectors.toList());
+        final List<Integer> values = IntStream.range(0, LARGE)
+            .boxed()
+            .collect(Collectors.toList());
+
+        assertEquals(
+            Option.some(values),
+            OptionSequences.parallelSequence(options));
+        assertEquals(
+            Option.some(values),
+            OptionSequences.parallelSequence(new LinkedList<>(options)));
+
+        options.set(LARGE - 1, Option.none());
+
+        assertSame(Option.none(), OptionSequences.parallelSequence(options));
+        assertEquals(
+            Option.some(Arrays.asList(1, 2)),
+            OptionSequences.parallelSequence(
+                Arrays.asList(Option.some(1), Option.some(2))));
+    }
+
+    @Test
+    public void testParallelTraverseShortCircuits()
+    {
+        final List<Integer> values = IntStream.range(0, LARGE)
+            .boxed()
+            .collect(Collectors.toList());
+        final AtomicInteger calls = new AtomicInteger();
+
+        assertSame(
+            Option.none(),
+            OptionSequences.parallelTraverse(values, (i) ->
+            {
+                calls.incrementAndGet();
+
+                return i == 0 ?
+                    Option.none() :
+                    Option.some(i);
+            }));
+        assertTrue(calls.get() < LARGE);
+    }
+
+    @Test
+    public void testPrimitiveSequences()
+    {
+        assertArrayEquals(
+            new int[] { 1, 2 },
+            OptionSequences.sequenceInt(
+                Arrays.asList(Option.some(1), Option.some(2))).get());
+        assertSame(
+            Option.none(),
+            OptionSequences.sequenceInt(
+                Arrays.asList(Option.some(1), Option.maybe((Integer) null))));
+        assertArrayEquals(
+            new long[] { 1, 2 },
+            OptionSequences.sequenceLong(
+                Arrays.asList(Option.some(1L), Option.some(2L))).get());
+        assertSame(
+            Option.none(),
+            OptionSequences.sequenceLong(
+                Arrays.asList(Option.maybe((Long) null), Option.some(2L))));
+        assertArrayEquals(
+            new double[] { 0.5, 1.5 },
+            OptionSequences.sequenceDouble(
+                Arrays.asList(Option.some(0.5), Option.some(1.5))).get());
+        assertSame(
+            Option.none(),
+            OptionSequences.sequenceDouble(
+                Arrays.asList(Option.maybe((Double) null))));
+        assertArrayEquals(
+            new int[0],
+            OptionSequences.sequenceInt(new ArrayList<IntOption>()).get());
+    }
+
+    @Test
+    public void testSequence()
+    {
+        assertEquals(
+            Option.some(Arrays.asList("a", null)),
+            OptionSequences.sequence(
+                Arrays.asList(
+                    Option.some("a"),
+                    Option.someNullable((String) null))));
+        assertSame(
+            Option.none(),
+            OptionSequences.sequence(
+                Arrays.asList(Option.some("a"), Option.<String>none())));
+        final Iterable<Option<String>> iterable =
+            () -> Arrays.asList(Option.some("a"), Option.some("b")).iterator();
+
+        assertEquals(
+            Option.some(Arrays.asList("a", "b")),
+            OptionSequences.sequence(iterable));
+    }
+
+    @Test
+    public void testTraverseShortCircuits()
+    {
+        final AtomicInteger calls = new AtomicInteger();
+
+        assertSame(
+            Option.none(),
+            OptionSequences.traverse(Arrays.asList(1, -1, 2), (i) ->
+            {
+                calls.incrementAndGet();
+
+                return i < 0 ?
+                    Option.none() :
+                    Option.some(i);
+            }));
+        assertEquals(2, calls.get());
+        assertEquals(
+            Option.some(Arrays.asList("1", "2")),
+            OptionSequences.traverse(
+                Arrays.asList(1, 2),
+                (i) -> Option.some(Integer.toString(i))));
+    }
+}
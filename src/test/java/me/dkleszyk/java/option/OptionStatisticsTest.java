@@ -0,0 +1,135 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.IntSummaryStatistics;
+import java.util.LongSummaryStatistics;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link IntOptionStatistics}, {@link LongOptionStatistics},
+ * {@link DoubleOptionStatistics} and the collectors in
+ * {@link OptionCollectors} that produce them.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class OptionStatisticsTest
+{
+    @Test
+    public void testCollectors()
+    {
+        final IntOptionStatistics ints = Stream.of("1", "x", "3", "y")
+            .parallel()
+            .collect(OptionCollectors.summarizingInt(OptionParsers::parseInt));
+
+        assertEquals(2, ints.getCount());
+        assertEquals(2, ints.getNoneCount());
+        assertEquals(4, ints.getOptionCount());
+        assertEquals(4, ints.getSum());
+
+        final LongOptionStatistics longs = Stream.of(
+            Option.some(1L),
+            Option.maybe((Long) null))
+            .collect(OptionCollectors.summarizingLong());
+
+        assertEquals(1, longs.getNoneCount());
+        assertEquals(1, longs.getMax());
+
+        final DoubleOptionStatistics doubles = Stream.of(
+            Option.some(0.5),
+            Option.maybe((Double) null))
+            .collect(OptionCollectors.summarizingDouble());
+
+        assertEquals(1, doubles.getNoneCount());
+        assertEquals(0.5, doubles.getSum());
+    }
+
+    @Test
+    public void testCombineDouble()
+    {
+        final DoubleOptionStatistics statistics = new DoubleOptionStatistics();
+        final DoubleOptionStatistics other = new DoubleOptionStatistics();
+        final DoubleSummaryStatistics plain = new DoubleSummaryStatistics();
+
+        statistics.accept(Option.some(1.0));
+        other.accept(Option.some(2.0));
+        other.accept(Option.maybe((Double) null));
+        plain.accept(4.0);
+
+        statistics.combine((DoubleSummaryStatistics) other);
+        statistics.combine(plain);
+
+        assertEquals(3, statistics.getCount());
+        assertEquals(1, statistics.getNoneCount());
+        assertEquals(4, statistics.getOptionCount());
+        assertEquals(7.0, statistics.getSum());
+    }
+
+    @Test
+    public void testCombineInt()
+    {
+        final IntOptionStatistics statistics = new IntOptionStatistics();
+        final IntOptionStatistics other = new IntOptionStatistics();
+        final IntSummaryStatistics plain = new IntSummaryStatistics();
+
+        statistics.accept(Option.some(1));
+        other.accept(Option.some(2));
+        other.accept(Option.maybe((Integer) null));
+        plain.accept(4);
+
+        statistics.combine((IntSummaryStatistics) other);
+        statistics.combine(plain);
+        statistics.combine(other);
+
+        assertEquals(4, statistics.getCount());
+        assertEquals(2, statistics.getNoneCount());
+        assertEquals(6, statistics.getOptionCount());
+        assertEquals(9, statistics.getSum());
+    }
+
+    @Test
+    public void testCombineLong()
+    {
+        final LongOptionStatistics statistics = new LongOptionStatistics();
+        final LongOptionStatistics other = new LongOptionStatistics();
+        final LongSummaryStatistics plain = new LongSummaryStatistics();
+
+        statistics.accept(Option.maybe((Long) null));
+        other.accept(Option.some(2L));
+        other.accept(Option.maybe((Long) null));
+        plain.accept(4L);
+
+        statistics.combine((LongSummaryStatistics) other);
+        statistics.combine(plain);
+
+        assertEquals(2, statistics.getCount());
+        assertEquals(2, statistics.getNoneCount());
+        assertEquals(4, statistics.getOptionCount());
+        assertEquals(6, statistics.getSum());
+    }
+}
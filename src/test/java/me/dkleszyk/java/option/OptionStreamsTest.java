@@ -0,0 +1,154 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link OptionStreams}.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class OptionStreamsTest
+{
+    @Test
+    public void testMappers()
+    {
+        assertEquals(
+            Arrays.asList("a", null),
+            Stream.of(
+                Option.some("a"),
+                Option.<String>none(),
+                Option.someNullable((String) null))
+                .mapMulti(OptionStreams.<String>someMapper())
+                .collect(Collectors.toList()));
+        assertArrayEquals(
+            new int[] { 1, 3 },
+            Stream.of(
+                Option.some(1),
+                Option.maybe((Integer) null),
+                Option.some(3))
+                .mapMultiToInt(OptionStreams.someIntMapper())
+                .toArray());
+        assertArrayEquals(
+            new long[] { 2 },
+            Stream.of(Option.maybe((Long) null), Option.some(2L))
+                .mapMultiToLong(OptionStreams.someLongMapper())
+                .toArray());
+        assertArrayEquals(
+            new double[] { 0.5 },
+            Stream.of(Option.some(0.5), Option.maybe((Double) null))
+                .mapMultiToDouble(OptionStreams.someDoubleMapper())
+                .toArray());
+    }
+
+    @Test
+    public void testParallel()
+    {
+        final List<IntOption> options = IntStream.range(0, 10_000)
+            .mapToObj((i) -> i % 3 == 0 ?
+                Option.maybe((Integer) null) :
+                Option.some(i))
+            .collect(Collectors.toList());
+        final int[] expected = IntStream.range(0, 10_000)
+            .filter((i) -> i % 3 != 0)
+            .toArray();
+
+        assertArrayEquals(
+            expected,
+            OptionStreams.somesInt(options.parallelStream()).toArray());
+        assertEquals(
+            Arrays.stream(expected).boxed().collect(Collectors.toList()),
+            OptionStreams.somes(options.parallelStream())
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testSomes()
+    {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final Stream<Option<String>> options = Stream.of(
+            Option.<String>none(),
+            Option.some("a"),
+            Option.<String>none(),
+            Option.someNullable((String) null),
+            Option.<String>none())
+            .onClose(() -> closed.set(true));
+
+        try (final Stream<String> values = OptionStreams.somes(options))
+        {
+            final Iterator<String> iterator = values.iterator();
+
+            assertTrue(iterator.hasNext());
+            assertEquals("a", iterator.next());
+            assertTrue(iterator.hasNext());
+            assertNull(iterator.next());
+            assertFalse(iterator.hasNext());
+        }
+
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void testSomesPrimitive()
+    {
+        final Spliterator.OfInt ints = OptionStreams.somesInt(
+            Stream.of(Option.some(1), Option.maybe((Integer) null)))
+            .spliterator();
+
+        assertFalse(ints.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(ints.tryAdvance((int i) -> assertEquals(1, i)));
+        assertFalse(ints.tryAdvance((int i) -> assertEquals(1, i)));
+        assertArrayEquals(
+            new long[] { 1, 2 },
+            OptionStreams.somesLong(
+                Stream.of(
+                    Option.some(1L),
+                    Option.maybe((Long) null),
+                    Option.some(2L)))
+                .toArray());
+        assertArrayEquals(
+            new double[] { 0.5 },
+            OptionStreams.somesDouble(
+                Stream.of(Option.maybe((Double) null), Option.some(0.5)))
+                .toArray());
+        assertEquals(
+            0,
+            OptionStreams.somesDouble(Stream.<DoubleOption>empty()).count());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for the {@code zip} operations of {@link Option} and its primitive
+ * specializations.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class OptionZipTest
+{
+    private static final IntOption NO_INT = Option.maybe((Integer) null);
+
+    @Test
+    public void testZip()
+    {
+        final Option<String> a = Option.some("a");
+        final Option<Integer> one = Option.some(1);
+        final Option<String> none = Option.none();
+
+        assertEquals(Option.some("a1"), a.zip(one, (x, y) -> x + y));
+        assertSame(none, a.zip(Option.none(), (x, y) -> x + y));
+        assertSame(none, none.zip(one, (x, y) -> x + y));
+        assertEquals(
+            Option.someNullable((String) null),
+            a.zip(one, (x, y) -> null));
+        assertEquals(
+            Option.some("-a1"),
+            a.zip(one, (p, x, y) -> p + x + y, "-"));
+    }
+
+    @Test
+    public void testZipPrimitive()
+    {
+        assertEquals(
+            Option.some(3),
+            Option.some(1).zipInt(Option.some(2), Integer::sum));
+        assertSame(NO_INT, Option.some(1).zipInt(NO_INT, Integer::sum));
+        assertSame(NO_INT, NO_INT.zipInt(Option.some(2), Integer::sum));
+        assertEquals(
+            Option.some(7),
+            Option.some(1).zipInt(Option.some(2), (p, x, y) -> p + x + y, 4));
+        assertEquals(
+            Option.some(3L),
+            Option.some(1L).zipLong(Option.some(2L), Long::sum));
+        assertEquals(
+            Option.some(0.5),
+            Option.some(1.0).zipDouble(Option.some(2.0), (x, y) -> x / y));
+        assertSame(
+            Option.maybe((Double) null),
+            Option.some(1.0).zipDouble(
+                Option.maybe((Double) null),
+                (x, y) -> x / y));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2022 David Kleszyk <dkleszyk@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package me.dkleszyk.java.option;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link SparseIntOptionColumn} and the other sparse columns.
+ *
+ * @author David Kleszyk <dkleszyk@gmail.com>
+ */
+public class SparseIntOptionColumnTest
+{
+    private static final double[] DENSITIES =
+    {
+        0.0, 0.001, 0.05, 0.5, 0.95, 1.0
+    };
+
+    @Test
+    public void testAgainstDense()
+    {
+        final Random random = new Random(43);
+
+        for (final double density : DENSITIES)
+        {
+            for (final int size : new int[] { 0, 1, 63, 64, 513, 20_000 })
+            {
+                final IntOption[] expected = new IntOption[size];
+                final SparseIntOptionColumn.Builder builder =
+                    SparseIntOptionColumn.builder();
+
+                for (int i = 0; i < size; i++)
+                {
+                    expected[i] = random.nextDouble() < density ?
+                        Option.some(random.nextInt()) :
+                        Option.maybe((Integer) null);
+                    builder.add(expected[i]);
+                }
+
+                final SparseIntOptionColumn column = builder.build();
+                final List<Integer> positions = new ArrayList<>();
+                assertEquals(size, column.size());
+
+                for (int i = 0; i < size; i++)
+                {
+                    assertEquals(expected[i], column.get(i));
+                    assertEquals(
+                        expected[i].intOrElse(-1),
+                        column.getOrElse(i, -1));
+
+                    if (expected[i].isSome())
+                    {
+                        assertEquals(
+                            i,
+                            column.positionOfSome(positions.size()));
+                        positions.add(i);
+                    }
+                }
+
+                assertEquals(positions.size(), column.someCount());
+
+                final List<Integer> visited = new ArrayList<>();
+                column.forEachSome((i, value) ->
+                {
+                    assertEquals(expected[i].getAsInt(), value);
+                    visited.add(i);
+                });
+                assertEquals(positions, visited);
+
+                final List<Integer> scanned = new ArrayList<>();
+
+                for (int i = column.nextSome(0); i >= 0;
+                    i = column.nextSome(i + 1))
+                {
+                    scanned.add(i);
+                }
+
+                assertEquals(positions, scanned);
+            }
+        }
+    }
+
+    @Test
+    public void testBounds()
+    {
+        final SparseIntOptionColumn column = SparseIntOptionColumn.builder()
+            .addNone()
+            .addSome(1)
+            .build();
+
+        assertSame(Option.none(), column.get(0));
+        assertSame(Option.some(1), column.get(1));
+        assertEquals(-1, column.nextSome(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> column.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> column.get(-1));
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> column.positionOfSome(1));
+    }
+
+    @Test
+    public void testSparseOptionColumn()
+    {
+        final SparseOptionColumn<String> column =
+            SparseOptionColumn.<String>builder()
+                .addSome(null)
+                .add(Option.none())
+                .add(Option.some("a"))
+                .build();
+
+        assertEquals(Option.someNullable(null), column.get(0));
+        assertSame(Option.none(), column.get(1));
+        assertEquals("a", column.getOrElse(2, "b"));
+        assertEquals(2, column.someCount());
+    }
+}